@@ -35,6 +35,14 @@ public class KernelServicePortalBuilder {
    * The event filter to be applied for the built portal.
    */
   private Predicate<Object> eventFilter = new ClassMatcher(Object.class);
+  /**
+   * Whether the built portal fetches events for modified objects with their current states only.
+   */
+  private boolean currentStatesOnly;
+  /**
+   * Whether the built portal has events pushed by the kernel instead of fetching them.
+   */
+  private boolean eventPush;
 
   /**
    * Creates a new instance.
@@ -111,6 +119,64 @@ public class KernelServicePortalBuilder {
     return this;
   }
 
+  /**
+   * Indicates whether the built portal fetches events for modified objects with their current
+   * states only.
+   *
+   * @return Whether the built portal fetches events for modified objects with their current states
+   * only.
+   */
+  public boolean isCurrentStatesOnly() {
+    return currentStatesOnly;
+  }
+
+  /**
+   * Sets whether the built portal fetches events for modified objects with their current states
+   * only.
+   * <p>
+   * With current states only, events for modified objects transferred from the kernel do not
+   * contain the objects' previous states, reducing the amount of data transferred. The previous
+   * states are restored from the object states the portal has seen before, instead, with the
+   * current state being used for objects it has not seen, yet. This is suitable for clients that
+   * are interested only in the current states of objects.
+   * </p>
+   *
+   * @param currentStatesOnly Whether the built portal fetches events for modified objects with
+   * their current states only.
+   * @return This instance.
+   */
+  public KernelServicePortalBuilder setCurrentStatesOnly(boolean currentStatesOnly) {
+    this.currentStatesOnly = currentStatesOnly;
+    return this;
+  }
+
+  /**
+   * Indicates whether the built portal has events pushed by the kernel instead of fetching them.
+   *
+   * @return Whether the built portal has events pushed by the kernel.
+   */
+  public boolean isEventPush() {
+    return eventPush;
+  }
+
+  /**
+   * Sets whether the built portal has events pushed by the kernel instead of fetching them.
+   * <p>
+   * With events being pushed, they are transferred as soon as they are emitted in the kernel,
+   * without the client having to poll for them, and the client does not have to make round-trips
+   * to the kernel while no events occur. This requires the kernel to be able to connect to the
+   * client's host. If it is not, or if pushing events fails later on, the built portal falls back
+   * to fetching events.
+   * </p>
+   *
+   * @param eventPush Whether the built portal has events pushed by the kernel.
+   * @return This instance.
+   */
+  public KernelServicePortalBuilder setEventPush(boolean eventPush) {
+    this.eventPush = eventPush;
+    return this;
+  }
+
   /**
    * Builds and returns a {@link KernelServicePortal} with the configured parameters.
    *
@@ -126,7 +192,9 @@ public class KernelServicePortalBuilder {
         userName,
         password,
         socketFactoryProvider,
-        eventFilter
+        eventFilter,
+        currentStatesOnly,
+        eventPush
     );
   }
 }
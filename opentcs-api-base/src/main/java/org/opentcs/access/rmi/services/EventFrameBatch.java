@@ -0,0 +1,91 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A batch of event frames pushed to a client, along with the points of time at which the
+ * respective events were emitted in the kernel.
+ * <p>
+ * An empty batch is pushed to a client to indicate that the connection is still alive while no
+ * events occur.
+ * </p>
+ *
+ * @see RemoteEventSink
+ */
+public class EventFrameBatch
+    implements
+      Serializable {
+
+  /**
+   * The frames.
+   */
+  private final ArrayList<byte[]> frames;
+  /**
+   * The points of time (in ms since the epoch) at which the respective events were emitted.
+   */
+  private final long[] emissionTimes;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param frames The frames.
+   * @param emissionTimes The points of time (in ms since the epoch, according to the kernel's
+   * clock) at which the respective events were emitted. Must have the same length as the list of
+   * frames.
+   */
+  public EventFrameBatch(
+      @Nonnull
+      List<byte[]> frames,
+      @Nonnull
+      long[] emissionTimes
+  ) {
+    requireNonNull(frames, "frames");
+    requireNonNull(emissionTimes, "emissionTimes");
+    checkArgument(
+        frames.size() == emissionTimes.length,
+        "Number of frames (%s) differs from number of emission times (%s)",
+        frames.size(),
+        emissionTimes.length
+    );
+    this.frames = new ArrayList<>(frames);
+    this.emissionTimes = emissionTimes.clone();
+  }
+
+  /**
+   * Returns the frames.
+   *
+   * @return The frames.
+   */
+  @Nonnull
+  public List<byte[]> getFrames() {
+    return Collections.unmodifiableList(frames);
+  }
+
+  /**
+   * Returns the point of time at which the event with the given index was emitted.
+   *
+   * @param index The event's index.
+   * @return The point of time (in ms since the epoch, according to the kernel's clock).
+   */
+  public long getEmissionTime(int index) {
+    return emissionTimes[index];
+  }
+
+  /**
+   * Indicates whether this batch does not contain any frames.
+   *
+   * @return {@code true} if, and only if, this batch does not contain any frames.
+   */
+  public boolean isEmpty() {
+    return frames.isEmpty();
+  }
+}
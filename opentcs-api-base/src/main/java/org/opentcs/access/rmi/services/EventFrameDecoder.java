@@ -0,0 +1,154 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+
+/**
+ * Restores events from the frames fetched from a remote kernel client portal.
+ * <p>
+ * With frames containing the objects' current states only (see {@link EventFrames}), the previous
+ * states of modified objects are not part of the frames. In this case, the decoder keeps the last
+ * known state of every object it has seen and uses it as the previous state. If an object's state
+ * is not known, yet (e.g. because the object has not been modified since the client logged in, or
+ * because the client missed events), its current state is used as the previous state, too.
+ * </p>
+ * <p>
+ * Consecutive modifications of the same object are merged into a single event, just like the
+ * kernel does for clients fetching events via
+ * {@link RemoteKernelServicePortal#fetchEvents(org.opentcs.access.rmi.ClientID, long)}.
+ * </p>
+ */
+class EventFrameDecoder {
+
+  /**
+   * Whether the frames to be decoded contain the objects' current states only.
+   */
+  private final boolean currentStatesOnly;
+  /**
+   * The last known states of objects, mapped to the objects' references.
+   */
+  private final Map<TCSObjectReference<?>, TCSObject<?>> knownStates = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param currentStatesOnly Whether the frames to be decoded contain the objects' current states
+   * only.
+   */
+  EventFrameDecoder(boolean currentStatesOnly) {
+    this.currentStatesOnly = currentStatesOnly;
+  }
+
+  /**
+   * Indicates whether the frames to be decoded contain the objects' current states only.
+   *
+   * @return Whether the frames to be decoded contain the objects' current states only.
+   */
+  boolean isCurrentStatesOnly() {
+    return currentStatesOnly;
+  }
+
+  /**
+   * Restores the events from the given frames.
+   *
+   * @param frames The frames.
+   * @return The events.
+   * @throws IllegalArgumentException If a frame could not be deserialized.
+   */
+  @Nonnull
+  synchronized List<Object> decode(
+      @Nonnull
+      List<byte[]> frames
+  )
+      throws IllegalArgumentException {
+    requireNonNull(frames, "frames");
+
+    List<Object> events = new ArrayList<>(frames.size());
+    for (byte[] frame : frames) {
+      Object event = toEvent(EventFrames.decode(frame));
+      if (!tryMergeWithPreviousEvent(events, event)) {
+        events.add(event);
+      }
+    }
+    return events;
+  }
+
+  /**
+   * Discards all known object states.
+   */
+  synchronized void reset() {
+    knownStates.clear();
+  }
+
+  private Object toEvent(Object content) {
+    if (content instanceof EventFrames.ModifiedObjectState modifiedState) {
+      TCSObject<?> currentState = modifiedState.getCurrentObjectState();
+      TCSObject<?> previousState = knownStates.put(currentState.getReference(), currentState);
+      return new TCSObjectEvent(
+          currentState,
+          previousState != null ? previousState : currentState,
+          TCSObjectEvent.Type.OBJECT_MODIFIED
+      );
+    }
+
+    if (content instanceof MissedEventsEvent) {
+      // The known states may be outdated, now.
+      knownStates.clear();
+    }
+    else if (currentStatesOnly && content instanceof TCSObjectEvent objectEvent) {
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+        knownStates.remove(objectEvent.getPreviousObjectState().getReference());
+      }
+      else {
+        knownStates.put(
+            objectEvent.getCurrentObjectState().getReference(),
+            objectEvent.getCurrentObjectState()
+        );
+      }
+    }
+
+    return content;
+  }
+
+  private boolean tryMergeWithPreviousEvent(List<Object> events, Object event) {
+    if (events.isEmpty()
+        || !(event instanceof TCSObjectEvent currentEvent)
+        || !(events.getLast() instanceof TCSObjectEvent previousEvent)) {
+      return false;
+    }
+
+    if (currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
+        || previousEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
+      return false;
+    }
+
+    if (!Objects.equals(
+        currentEvent.getCurrentObjectState().getReference(),
+        previousEvent.getCurrentObjectState().getReference()
+    )) {
+      return false;
+    }
+
+    events.set(
+        events.size() - 1,
+        new TCSObjectEvent(
+            currentEvent.getCurrentObjectState(),
+            previousEvent.getPreviousObjectState(),
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+
+    return true;
+  }
+}
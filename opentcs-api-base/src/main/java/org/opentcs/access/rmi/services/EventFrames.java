@@ -0,0 +1,141 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+
+/**
+ * Converts events to and from frames, i.e. their serialized representations that are transferred
+ * to remote clients.
+ * <p>
+ * Every frame is an object stream of its own. This way, a frame does not depend on any other
+ * frames, so it needs to be created only once per event and can be transferred to any client,
+ * regardless of the events the client has received before.
+ * </p>
+ * <p>
+ * Frames can be created either with the complete events or with the objects' current states only.
+ * With current states only, frames for {@link TCSObjectEvent}s of type
+ * {@link TCSObjectEvent.Type#OBJECT_MODIFIED} do not contain the object's previous state, as the
+ * receiver is expected to know it already (see {@link EventFrameDecoder}). Frames for all other
+ * events are the same in both cases.
+ * </p>
+ */
+public final class EventFrames {
+
+  /**
+   * Prevents instantiation.
+   */
+  private EventFrames() {
+  }
+
+  /**
+   * Creates a frame for the given event.
+   *
+   * @param event The event.
+   * @param currentStatesOnly Whether to create a frame with the object's current state only.
+   * @return The frame.
+   * @throws UncheckedIOException If the event could not be serialized.
+   */
+  @Nonnull
+  public static byte[] encode(
+      @Nonnull
+      Object event,
+      boolean currentStatesOnly
+  )
+      throws UncheckedIOException {
+    requireNonNull(event, "event");
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(currentStatesOnly ? toCurrentStateContent(event) : event);
+    }
+    catch (IOException exc) {
+      throw new UncheckedIOException("Could not serialize event", exc);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Checks whether frames for the given event differ depending on whether they are created with
+   * current states only.
+   *
+   * @param event The event.
+   * @return {@code true} if, and only if, the given event is a {@link TCSObjectEvent} of type
+   * {@link TCSObjectEvent.Type#OBJECT_MODIFIED}.
+   */
+  public static boolean isModification(Object event) {
+    return event instanceof TCSObjectEvent objectEvent
+        && objectEvent.getType() == TCSObjectEvent.Type.OBJECT_MODIFIED;
+  }
+
+  /**
+   * Restores the content of the given frame.
+   *
+   * @param frame The frame.
+   * @return The content, i.e. either an event or a {@link ModifiedObjectState}.
+   * @throws IllegalArgumentException If the frame could not be deserialized.
+   */
+  static Object decode(
+      @Nonnull
+      byte[] frame
+  )
+      throws IllegalArgumentException {
+    requireNonNull(frame, "frame");
+
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(frame))) {
+      return in.readObject();
+    }
+    catch (IOException | ClassNotFoundException exc) {
+      throw new IllegalArgumentException("Could not deserialize event frame", exc);
+    }
+  }
+
+  private static Object toCurrentStateContent(Object event) {
+    if (!isModification(event)) {
+      return event;
+    }
+    return new ModifiedObjectState(((TCSObjectEvent) event).getCurrentObjectState());
+  }
+
+  /**
+   * The content of a frame for a modified object created with current states only.
+   */
+  static class ModifiedObjectState
+      implements
+        Serializable {
+
+    /**
+     * The object's current state.
+     */
+    private final TCSObject<?> currentObjectState;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param currentObjectState The object's current state.
+     */
+    ModifiedObjectState(TCSObject<?> currentObjectState) {
+      this.currentObjectState = requireNonNull(currentObjectState, "currentObjectState");
+    }
+
+    /**
+     * Returns the object's current state.
+     *
+     * @return The object's current state.
+     */
+    TCSObject<?> getCurrentObjectState() {
+      return currentObjectState;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+/**
+ * Collects statistics about the latency of events pushed by the kernel, i.e. the amount of time
+ * that passed between an event's emission in the kernel and its arrival at the client.
+ * <p>
+ * Note that the latencies are computed using the kernel's and the client's clocks, so they are
+ * only meaningful if the clocks are synchronized.
+ * </p>
+ */
+public class EventLatencyStatistics {
+
+  /**
+   * The number of events recorded.
+   */
+  private long eventCount;
+  /**
+   * The sum of the latencies recorded (in ms).
+   */
+  private long totalLatency;
+  /**
+   * The maximum latency recorded (in ms).
+   */
+  private long maxLatency;
+
+  /**
+   * Creates a new instance.
+   */
+  public EventLatencyStatistics() {
+  }
+
+  /**
+   * Records the latency of a single event.
+   *
+   * @param latency The latency (in ms).
+   */
+  public synchronized void record(long latency) {
+    // Clocks that are slightly off may result in negative latencies, which we do not care about.
+    long effectiveLatency = Math.max(latency, 0);
+    eventCount++;
+    totalLatency += effectiveLatency;
+    maxLatency = Math.max(maxLatency, effectiveLatency);
+  }
+
+  /**
+   * Returns the number of events recorded.
+   *
+   * @return The number of events recorded.
+   */
+  public synchronized long getEventCount() {
+    return eventCount;
+  }
+
+  /**
+   * Returns the average latency of the events recorded.
+   *
+   * @return The average latency (in ms), or 0, if no events have been recorded.
+   */
+  public synchronized double getAverageLatency() {
+    return eventCount == 0 ? 0.0 : (double) totalLatency / eventCount;
+  }
+
+  /**
+   * Returns the maximum latency of the events recorded.
+   *
+   * @return The maximum latency (in ms).
+   */
+  public synchronized long getMaxLatency() {
+    return maxLatency;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "EventLatencyStatistics{"
+        + "eventCount=" + eventCount
+        + ", averageLatency=" + getAverageLatency()
+        + ", maxLatency=" + maxLatency
+        + '}';
+  }
+}
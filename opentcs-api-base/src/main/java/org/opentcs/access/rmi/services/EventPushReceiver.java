@@ -0,0 +1,120 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives event frames pushed by the kernel and keeps them until they are taken by the client.
+ * <p>
+ * The number of frames kept is bounded. If it is reached, deliveries block until frames have been
+ * taken, which in turn makes the kernel hold back further events for the client.
+ * </p>
+ */
+class EventPushReceiver
+    implements
+      RemoteEventSink {
+
+  /**
+   * The frames received but not taken, yet.
+   */
+  private final BlockingQueue<byte[]> frames;
+  /**
+   * Collects statistics about the latency of the events received.
+   */
+  private final EventLatencyStatistics latencyStatistics;
+  /**
+   * The point of time (in ms since the epoch) at which the last batch was received.
+   */
+  private volatile long lastDeliveryTime = System.currentTimeMillis();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of frames kept.
+   * @param latencyStatistics Collects statistics about the latency of the events received.
+   */
+  EventPushReceiver(
+      int capacity,
+      @Nonnull
+      EventLatencyStatistics latencyStatistics
+  ) {
+    this.frames = new ArrayBlockingQueue<>(
+        checkInRange(capacity, 1, Integer.MAX_VALUE, "capacity")
+    );
+    this.latencyStatistics = requireNonNull(latencyStatistics, "latencyStatistics");
+  }
+
+  @Override
+  public void deliverEventFrames(EventFrameBatch batch)
+      throws RemoteException {
+    requireNonNull(batch, "batch");
+
+    long receptionTime = System.currentTimeMillis();
+    lastDeliveryTime = receptionTime;
+    List<byte[]> batchFrames = batch.getFrames();
+    for (int i = 0; i < batchFrames.size(); i++) {
+      latencyStatistics.record(receptionTime - batch.getEmissionTime(i));
+    }
+
+    try {
+      for (byte[] frame : batchFrames) {
+        frames.put(frame);
+      }
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+      throw new RemoteException("Interrupted while receiving event frames", exc);
+    }
+    lastDeliveryTime = System.currentTimeMillis();
+  }
+
+  /**
+   * Returns the frames received but not taken, yet.
+   * If there are no such frames, blocks until a frame arrives, or for the specified amount of time
+   * to pass, whichever occurs first.
+   *
+   * @param timeout The maximum amount of time (in ms) to wait for a frame to arrive.
+   * @return The frames, in the order in which they were received.
+   */
+  @Nonnull
+  List<byte[]> takeFrames(long timeout) {
+    List<byte[]> result = new ArrayList<>();
+    frames.drainTo(result);
+    if (!result.isEmpty() || timeout <= 0) {
+      return result;
+    }
+
+    try {
+      byte[] frame = frames.poll(timeout, TimeUnit.MILLISECONDS);
+      if (frame != null) {
+        result.add(frame);
+        frames.drainTo(result);
+      }
+    }
+    catch (InterruptedException exc) {
+      Thread.currentThread().interrupt();
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether nothing has been delivered to this receiver for the given amount of time, i.e.
+   * whether the kernel apparently stopped pushing events.
+   *
+   * @param timeout The amount of time (in ms).
+   * @return {@code true} if, and only if, nothing has been delivered for the given amount of time.
+   */
+  boolean isStale(long timeout) {
+    return System.currentTimeMillis() - lastDeliveryTime > timeout;
+  }
+}
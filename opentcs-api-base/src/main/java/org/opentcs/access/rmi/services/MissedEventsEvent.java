@@ -0,0 +1,54 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static org.opentcs.util.Assertions.checkInRange;
+
+import java.io.Serializable;
+
+/**
+ * Indicates that a remote client missed events because it did not keep up with them, i.e. the
+ * kernel discarded the events before the client fetched them.
+ * <p>
+ * This event takes the place of the missed events. A client receiving it cannot rely on having
+ * seen every change of the kernel's objects and should resynchronize with the kernel, e.g. by
+ * fetching the current states of the objects it is interested in.
+ * </p>
+ */
+public class MissedEventsEvent
+    implements
+      Serializable {
+
+  /**
+   * The number of events missed.
+   */
+  private final long missedEventCount;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param missedEventCount The number of events missed. Must be at least 1.
+   */
+  public MissedEventsEvent(long missedEventCount) {
+    this.missedEventCount = checkInRange(
+        missedEventCount,
+        1,
+        Long.MAX_VALUE,
+        "missedEventCount"
+    );
+  }
+
+  /**
+   * Returns the number of events missed.
+   *
+   * @return The number of events missed.
+   */
+  public long getMissedEventCount() {
+    return missedEventCount;
+  }
+
+  @Override
+  public String toString() {
+    return "MissedEventsEvent{" + "missedEventCount=" + missedEventCount + '}';
+  }
+}
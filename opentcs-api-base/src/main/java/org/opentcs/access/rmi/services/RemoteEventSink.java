@@ -0,0 +1,31 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+
+/**
+ * Receives events pushed by the kernel via RMI.
+ * <p>
+ * Instances are exported by clients and registered with the kernel via
+ * {@link RemoteKernelServicePortal#subscribeEventPush(org.opentcs.access.rmi.ClientID,
+ * RemoteEventSink, boolean)}.
+ * The kernel delivers at most one batch to a sink at a time, i.e. it waits for a call to
+ * {@link #deliverEventFrames(EventFrameBatch)} to return before delivering the next batch. A sink
+ * may thus slow down the delivery by blocking until it is able to accept more events.
+ * </p>
+ */
+public interface RemoteEventSink
+    extends
+      Remote {
+
+  /**
+   * Delivers the given batch of event frames.
+   *
+   * @param batch The batch. May be empty, indicating that the kernel is still alive.
+   * @throws RemoteException If there was an RMI-related problem.
+   */
+  void deliverEventFrames(EventFrameBatch batch)
+      throws RemoteException;
+}
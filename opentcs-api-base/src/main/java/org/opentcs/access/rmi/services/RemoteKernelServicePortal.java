@@ -10,6 +10,7 @@ import org.opentcs.access.CredentialsException;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelServicePortal;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Declares the methods provided by the {@link KernelServicePortal} via RMI.
@@ -41,6 +42,75 @@ public interface RemoteKernelServicePortal
   List<Object> fetchEvents(ClientID clientId, long timeout)
       throws RemoteException;
 
+  /**
+   * Fetches events in the form of frames, i.e. serialized events, that are shared by all clients
+   * and thus need to be serialized only once.
+   * <p>
+   * This default implementation fetches the events via {@link #fetchEvents(ClientID, long)} and
+   * serializes them with the complete events, which clients can restore regardless of
+   * {@code currentStatesOnly}.
+   * </p>
+   *
+   * @param clientId The client's identification object.
+   * @param timeout The maximum amount of time (in ms) to wait for an event to arrive.
+   * @param currentStatesOnly Whether frames for modified objects should contain the objects'
+   * current states only (see {@link EventFrames}).
+   * @return The frames.
+   * @throws RemoteException If there was an RMI-related problem.
+   */
+  @ScheduledApiChange(when = "7.0", details = "Default implementation will be removed.")
+  default List<byte[]> fetchEventFrames(ClientID clientId, long timeout, boolean currentStatesOnly)
+      throws RemoteException {
+    return fetchEvents(clientId, timeout).stream()
+        .map(event -> EventFrames.encode(event, false))
+        .toList();
+  }
+
+  /**
+   * Subscribes the given sink to have events pushed to it, as an alternative to fetching them.
+   * <p>
+   * Events not fetched by the client, yet, are pushed to the sink, too. A previous subscription of
+   * the client is replaced. If delivering events to the sink fails, the subscription is cancelled
+   * and the client is expected to resort to fetching events.
+   * </p>
+   * <p>
+   * This default implementation does not support pushing events and always throws an
+   * {@link UnsupportedOperationException}.
+   * </p>
+   *
+   * @param clientId The client's identification object.
+   * @param sink The sink.
+   * @param currentStatesOnly Whether frames for modified objects should contain the objects'
+   * current states only (see {@link EventFrames}).
+   * @throws UnsupportedOperationException If pushing events is not supported.
+   * @throws RemoteException If there was an RMI-related problem.
+   */
+  @ScheduledApiChange(when = "7.0", details = "Default implementation will be removed.")
+  default void subscribeEventPush(
+      ClientID clientId,
+      RemoteEventSink sink,
+      boolean currentStatesOnly
+  )
+      throws UnsupportedOperationException,
+        RemoteException {
+    throw new UnsupportedOperationException("Pushing events is not supported.");
+  }
+
+  /**
+   * Cancels the client's subscription for having events pushed to it, if any.
+   * <p>
+   * This default implementation does nothing, as there are no subscriptions without support for
+   * pushing events.
+   * </p>
+   *
+   * @param clientId The client's identification object.
+   * @throws RemoteException If there was an RMI-related problem.
+   */
+  @ScheduledApiChange(when = "7.0", details = "Default implementation will be removed.")
+  default void unsubscribeEventPush(ClientID clientId)
+      throws RemoteException {
+  }
+
   void publishEvent(ClientID clientId, Object event)
       throws RemoteException;
 }
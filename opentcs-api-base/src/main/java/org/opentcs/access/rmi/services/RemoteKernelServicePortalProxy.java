@@ -16,10 +16,12 @@ import static org.opentcs.access.rmi.services.RegistrationName.REMOTE_TRANSPORT_
 import static org.opentcs.access.rmi.services.RegistrationName.REMOTE_VEHICLE_SERVICE;
 
 import jakarta.annotation.Nonnull;
+import java.rmi.NoSuchObjectException;
 import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
+import java.rmi.server.UnicastRemoteObject;
 import java.util.List;
 import java.util.function.Predicate;
 import org.opentcs.access.CredentialsException;
@@ -55,6 +57,20 @@ public class RemoteKernelServicePortalProxy
    * This class' logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(RemoteKernelServicePortalProxy.class);
+  /**
+   * The maximum number of pushed event frames kept until they are fetched.
+   */
+  private static final int EVENT_PUSH_CAPACITY = 10000;
+  /**
+   * The maximum amount of time (in ms) without any delivery after which pushing events is
+   * considered to have failed.
+   * Must be considerably greater than the kernel's interval for keep-alive deliveries.
+   */
+  private static final long EVENT_PUSH_TIMEOUT = 10000;
+  /**
+   * The interval (in ms) in which statistics about the latency of pushed events are logged.
+   */
+  private static final long LATENCY_LOG_INTERVAL = 60000;
   /**
    * The user name used with the remote portal.
    */
@@ -71,6 +87,26 @@ public class RemoteKernelServicePortalProxy
    * The event filter to be applied to events on the server side (before polling).
    */
   private final Predicate<Object> eventFilter;
+  /**
+   * Restores the events from the frames fetched from the remote portal.
+   */
+  private final EventFrameDecoder eventFrameDecoder;
+  /**
+   * Whether to have events pushed by the remote portal instead of fetching them.
+   */
+  private final boolean eventPush;
+  /**
+   * Collects statistics about the latency of pushed events.
+   */
+  private final EventLatencyStatistics eventLatencyStatistics = new EventLatencyStatistics();
+  /**
+   * Receives the events pushed by the remote portal, or {@code null}, if events are fetched.
+   */
+  private volatile EventPushReceiver eventPushReceiver;
+  /**
+   * The point of time (in ms since the epoch) at which latency statistics were logged last.
+   */
+  private long lastLatencyLogTime = System.currentTimeMillis();
   /**
    * The plant model service.
    */
@@ -135,11 +171,65 @@ public class RemoteKernelServicePortalProxy
       SocketFactoryProvider socketFactoryProvider,
       @Nonnull
       Predicate<Object> eventFilter
+  ) {
+    this(userName, password, socketFactoryProvider, eventFilter, false);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param userName The user name used with the remote portal.
+   * @param password The password used with the remote portal.
+   * @param socketFactoryProvider Provides socket factories used for RMI.
+   * @param eventFilter The event filter to be applied to events on the server side.
+   * @param currentStatesOnly Whether events for modified objects are to be fetched with the
+   * objects' current states only (see {@link EventFrames}).
+   */
+  public RemoteKernelServicePortalProxy(
+      @Nonnull
+      String userName,
+      @Nonnull
+      String password,
+      @Nonnull
+      SocketFactoryProvider socketFactoryProvider,
+      @Nonnull
+      Predicate<Object> eventFilter,
+      boolean currentStatesOnly
+  ) {
+    this(userName, password, socketFactoryProvider, eventFilter, currentStatesOnly, false);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param userName The user name used with the remote portal.
+   * @param password The password used with the remote portal.
+   * @param socketFactoryProvider Provides socket factories used for RMI.
+   * @param eventFilter The event filter to be applied to events on the server side.
+   * @param currentStatesOnly Whether events for modified objects are to be fetched with the
+   * objects' current states only (see {@link EventFrames}).
+   * @param eventPush Whether to have events pushed by the remote portal instead of fetching them.
+   * If the remote portal cannot push events to the client (e.g. because the client is not
+   * reachable from the kernel's host), events are fetched, nevertheless.
+   */
+  public RemoteKernelServicePortalProxy(
+      @Nonnull
+      String userName,
+      @Nonnull
+      String password,
+      @Nonnull
+      SocketFactoryProvider socketFactoryProvider,
+      @Nonnull
+      Predicate<Object> eventFilter,
+      boolean currentStatesOnly,
+      boolean eventPush
   ) {
     this.userName = requireNonNull(userName, "userName");
     this.password = requireNonNull(password, "password");
     this.socketFactoryProvider = requireNonNull(socketFactoryProvider, "socketFactoryProvider");
     this.eventFilter = requireNonNull(eventFilter, "eventFilter");
+    this.eventFrameDecoder = new EventFrameDecoder(currentStatesOnly);
+    this.eventPush = eventPush;
   }
 
   @Override
@@ -177,6 +267,8 @@ public class RemoteKernelServicePortalProxy
           );
 
       setRemoteService((RemoteKernelServicePortal) registry.lookup(REMOTE_KERNEL_CLIENT_PORTAL));
+      // Object states known from a previous session may be outdated.
+      eventFrameDecoder.reset();
       // Login and save the client ID.
       setClientId(getRemoteService().login(userName, password, eventFilter));
       // Get notified when a service call on us fails.
@@ -184,6 +276,10 @@ public class RemoteKernelServicePortalProxy
 
       // Look up the remote services with the RMI registry and update the other service logins.
       updateServiceLogins(registry);
+
+      if (eventPush) {
+        subscribeEventPush();
+      }
     }
     catch (RemoteException | NotBoundException exc) {
       resetServiceLogins();
@@ -229,14 +325,35 @@ public class RemoteKernelServicePortalProxy
       throws KernelRuntimeException {
     checkServiceAvailability();
 
+    EventPushReceiver receiver = eventPushReceiver;
+    if (receiver != null) {
+      return eventFrameDecoder.decode(takePushedFrames(receiver, timeout));
+    }
+
     try {
-      return getRemoteService().fetchEvents(getClientId(), timeout);
+      return eventFrameDecoder.decode(
+          getRemoteService().fetchEventFrames(
+              getClientId(),
+              timeout,
+              eventFrameDecoder.isCurrentStatesOnly()
+          )
+      );
     }
     catch (RemoteException ex) {
       throw findSuitableExceptionFor(ex);
     }
   }
 
+  /**
+   * Returns statistics about the latency of the events pushed by the remote portal.
+   *
+   * @return Statistics about the latency of the events pushed by the remote portal.
+   */
+  @Nonnull
+  public EventLatencyStatistics getEventLatencyStatistics() {
+    return eventLatencyStatistics;
+  }
+
   @Override
   public void publishEvent(Object event)
       throws KernelRuntimeException {
@@ -372,7 +489,79 @@ public class RemoteKernelServicePortalProxy
         .setServiceListener(this);
   }
 
+  private void subscribeEventPush() {
+    EventPushReceiver receiver = new EventPushReceiver(
+        EVENT_PUSH_CAPACITY,
+        eventLatencyStatistics
+    );
+    try {
+      UnicastRemoteObject.exportObject(
+          receiver,
+          0,
+          socketFactoryProvider.getClientSocketFactory(),
+          socketFactoryProvider.getServerSocketFactory()
+      );
+      getRemoteService().subscribeEventPush(
+          getClientId(),
+          receiver,
+          eventFrameDecoder.isCurrentStatesOnly()
+      );
+      eventPushReceiver = receiver;
+    }
+    catch (RemoteException | IllegalStateException | UnsupportedOperationException exc) {
+      LOG.warn("Could not subscribe for pushed events, fetching events instead.", exc);
+      unexport(receiver);
+    }
+  }
+
+  private List<byte[]> takePushedFrames(EventPushReceiver receiver, long timeout) {
+    List<byte[]> frames = receiver.takeFrames(timeout);
+    logLatencyStatisticsIfDue();
+    if (!frames.isEmpty() || !receiver.isStale(EVENT_PUSH_TIMEOUT)) {
+      return frames;
+    }
+
+    LOG.warn(
+        "No events pushed for more than {} ms, fetching events instead.",
+        EVENT_PUSH_TIMEOUT
+    );
+    try {
+      getRemoteService().unsubscribeEventPush(getClientId());
+    }
+    catch (RemoteException exc) {
+      throw findSuitableExceptionFor(exc);
+    }
+    finally {
+      eventPushReceiver = null;
+      unexport(receiver);
+    }
+    // Frames that were delivered until the receiver was unexported are still to be processed.
+    return receiver.takeFrames(0);
+  }
+
+  private void logLatencyStatisticsIfDue() {
+    long now = System.currentTimeMillis();
+    if (now - lastLatencyLogTime >= LATENCY_LOG_INTERVAL) {
+      lastLatencyLogTime = now;
+      LOG.debug("Latency of pushed events: {}", eventLatencyStatistics);
+    }
+  }
+
+  private void unexport(EventPushReceiver receiver) {
+    try {
+      UnicastRemoteObject.unexportObject(receiver, true);
+    }
+    catch (NoSuchObjectException exc) {
+      LOG.debug("Event push receiver not exported.", exc);
+    }
+  }
+
   private void resetServiceLogins() {
+    EventPushReceiver receiver = eventPushReceiver;
+    if (receiver != null) {
+      eventPushReceiver = null;
+      unexport(receiver);
+    }
     this.setClientId(null).setRemoteService(null).setServiceListener(null);
     plantModelService.setClientId(null).setRemoteService(null).setServiceListener(null);
     transportOrderService.setClientId(null).setRemoteService(null).setServiceListener(null);
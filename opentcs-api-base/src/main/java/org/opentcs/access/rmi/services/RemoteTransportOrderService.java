@@ -4,14 +4,17 @@ package org.opentcs.access.rmi.services;
 
 import java.rmi.Remote;
 import java.rmi.RemoteException;
+import java.util.List;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.annotations.ScheduledApiChange;
 
 /**
  * Declares the methods provided by the {@link TransportOrderService} via RMI.
@@ -39,6 +42,15 @@ public interface RemoteTransportOrderService
   TransportOrder createTransportOrder(ClientID clientId, TransportOrderCreationTO to)
       throws RemoteException;
 
+  @ScheduledApiChange(when = "7.0", details = "Default implementation will be removed.")
+  default List<TransportOrderCreationResult> createTransportOrders(
+      ClientID clientId,
+      List<TransportOrderCreationTO> tos
+  )
+      throws RemoteException {
+    throw new UnsupportedOperationException("Not yet implemented.");
+  }
+
   void markOrderSequenceComplete(ClientID clientId, TCSObjectReference<OrderSequence> ref)
       throws RemoteException;
 
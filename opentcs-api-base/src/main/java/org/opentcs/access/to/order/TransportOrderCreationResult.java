@@ -0,0 +1,139 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.to.order;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.Serializable;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * The result of an attempt to create a transport order as part of a batch.
+ */
+public class TransportOrderCreationResult
+    implements
+      Serializable {
+
+  /**
+   * The name requested with the transfer object describing the transport order.
+   */
+  @Nonnull
+  private final String requestedName;
+  /**
+   * The transport order created, or {@code null}, if creating it failed.
+   */
+  @Nullable
+  private final TransportOrder transportOrder;
+  /**
+   * The reason for the failure, or {@code null}, if the transport order was created.
+   */
+  @Nullable
+  private final String failureReason;
+
+  private TransportOrderCreationResult(
+      @Nonnull
+      String requestedName,
+      @Nullable
+      TransportOrder transportOrder,
+      @Nullable
+      String failureReason
+  ) {
+    this.requestedName = requireNonNull(requestedName, "requestedName");
+    this.transportOrder = transportOrder;
+    this.failureReason = failureReason;
+  }
+
+  /**
+   * Creates a result for a transport order that was created successfully.
+   *
+   * @param requestedName The name requested with the transfer object.
+   * @param transportOrder The transport order created.
+   * @return The result.
+   */
+  @Nonnull
+  public static TransportOrderCreationResult success(
+      @Nonnull
+      String requestedName,
+      @Nonnull
+      TransportOrder transportOrder
+  ) {
+    return new TransportOrderCreationResult(
+        requestedName,
+        requireNonNull(transportOrder, "transportOrder"),
+        null
+    );
+  }
+
+  /**
+   * Creates a result for a transport order that could not be created.
+   *
+   * @param requestedName The name requested with the transfer object.
+   * @param failureReason The reason for the failure.
+   * @return The result.
+   */
+  @Nonnull
+  public static TransportOrderCreationResult failure(
+      @Nonnull
+      String requestedName,
+      @Nonnull
+      String failureReason
+  ) {
+    return new TransportOrderCreationResult(
+        requestedName,
+        null,
+        requireNonNull(failureReason, "failureReason")
+    );
+  }
+
+  /**
+   * Returns the name requested with the transfer object describing the transport order.
+   * (If the transfer object requested the name to be completed by the kernel, the name of the
+   * transport order created may differ from this.)
+   *
+   * @return The name requested.
+   */
+  @Nonnull
+  public String getRequestedName() {
+    return requestedName;
+  }
+
+  /**
+   * Indicates whether the transport order was created.
+   *
+   * @return {@code true} if, and only if, the transport order was created.
+   */
+  public boolean isSuccessful() {
+    return transportOrder != null;
+  }
+
+  /**
+   * Returns the transport order created.
+   *
+   * @return The transport order created, or {@code null}, if creating it failed.
+   */
+  @Nullable
+  public TransportOrder getTransportOrder() {
+    return transportOrder;
+  }
+
+  /**
+   * Returns the reason for the failure to create the transport order.
+   *
+   * @return The reason for the failure, or {@code null}, if the transport order was created.
+   */
+  @Nullable
+  public String getFailureReason() {
+    return failureReason;
+  }
+
+  @Override
+  public String toString() {
+    return "TransportOrderCreationResult{"
+        + "requestedName=" + requestedName
+        + ", transportOrder=" + transportOrder
+        + ", failureReason=" + failureReason
+        + '}';
+  }
+}
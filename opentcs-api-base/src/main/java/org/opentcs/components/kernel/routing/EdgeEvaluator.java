@@ -7,6 +7,10 @@ import org.opentcs.data.model.Vehicle;
 
 /**
  * Computes the weight of edges in the routing graph.
+ * <p>
+ * Note that routing graphs for different routing groups may be computed concurrently, so
+ * implementations are expected to be thread-safe.
+ * </p>
  */
 public interface EdgeEvaluator {
 
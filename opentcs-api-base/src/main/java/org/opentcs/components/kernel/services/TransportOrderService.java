@@ -2,8 +2,14 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.components.kernel.services;
 
+import static java.util.Objects.requireNonNull;
+import static java.util.Objects.requireNonNullElse;
+
+import java.util.ArrayList;
+import java.util.List;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
@@ -54,6 +60,47 @@ public interface TransportOrderService
         ObjectExistsException,
         KernelRuntimeException;
 
+  /**
+   * Creates a batch of new transport orders.
+   * <p>
+   * The transport orders are created in the given order, as with
+   * {@link #createTransportOrder(TransportOrderCreationTO)}, so a transport order may depend on or
+   * be wrapped by objects created before it within the same batch. Failing to create one of the
+   * transport orders does not affect the creation of the others.
+   * </p>
+   * <p>
+   * Note that the default implementation of this method simply creates the transport orders one
+   * after the other. Implementations are expected to create them in one go instead, e.g. without
+   * other modifications happening in between.
+   * </p>
+   *
+   * @param tos Describe the transport orders to be created.
+   * @return The results of the creation attempts, in the order of the given transfer objects.
+   * @throws KernelRuntimeException In case there is an exception executing this method.
+   */
+  default List<TransportOrderCreationResult> createTransportOrders(
+      List<TransportOrderCreationTO> tos
+  )
+      throws KernelRuntimeException {
+    requireNonNull(tos, "tos");
+
+    List<TransportOrderCreationResult> results = new ArrayList<>(tos.size());
+    for (TransportOrderCreationTO to : tos) {
+      try {
+        results.add(TransportOrderCreationResult.success(to.getName(), createTransportOrder(to)));
+      }
+      catch (KernelRuntimeException | IllegalArgumentException exc) {
+        results.add(
+            TransportOrderCreationResult.failure(
+                to.getName(),
+                requireNonNullElse(exc.getMessage(), exc.getClass().getName())
+            )
+        );
+      }
+    }
+    return results;
+  }
+
   /**
    * Marks an order sequence as complete by setting its complete flag.
    *
@@ -189,7 +189,9 @@ public abstract class TCSObject<E extends TCSObject<E>>
    */
   @Override
   public int hashCode() {
-    return Objects.hash(getName(), getClass().getName());
+    // Equivalent to Objects.hash(getName(), getClass().getName()), but without allocating an array
+    // for the varargs call, as this is called very frequently with TCSObjects used as map keys.
+    return 31 * (31 + getName().hashCode()) + getClass().getName().hashCode();
   }
 
   /**
@@ -0,0 +1,323 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.io;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+import static org.opentcs.util.Assertions.checkState;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A connection to a remote side, e.g. a vehicle or a peripheral device, using blocking I/O on
+ * virtual threads.
+ * <p>
+ * Once opened, a connection keeps trying to (re-)establish the connection to the remote side
+ * until it is closed. While connected, incoming data is read and decoded on a virtual thread, with
+ * the decoded messages being passed to the listener in the order they were received. Outgoing
+ * messages are encoded on the calling thread and written on another virtual thread, so sending a
+ * message does not block. Buffers for both directions are taken from the given buffer pool.
+ * </p>
+ * <p>
+ * Note that the listener is called on the connection's virtual thread and should therefore return
+ * quickly, e.g. by handing messages over to the communication adapter's executor.
+ * </p>
+ *
+ * @param <I> The type of incoming messages.
+ * @param <O> The type of outgoing messages.
+ */
+public class BlockingIoConnection<I, O> {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(BlockingIoConnection.class);
+  /**
+   * The connection's name, e.g. the name of the vehicle connected to.
+   */
+  private final String name;
+  /**
+   * Establishes connections to the remote side.
+   */
+  private final ChannelConnector connector;
+  /**
+   * Decodes incoming and encodes outgoing messages.
+   */
+  private final FrameCodec<I, O> codec;
+  /**
+   * Provides buffers for reading and writing.
+   */
+  private final ByteBufferPool bufferPool;
+  /**
+   * Is notified about incoming messages and connection state changes.
+   */
+  private final Listener<I> listener;
+  /**
+   * The time to wait before trying to re-establish a connection, in milliseconds.
+   */
+  private final long reconnectDelay;
+  /**
+   * Buffers containing encoded outgoing messages, waiting to be written.
+   */
+  private final BlockingQueue<ByteBuffer> outgoingBuffers = new LinkedBlockingQueue<>();
+  /**
+   * The virtual thread establishing connections and reading incoming data.
+   */
+  private volatile Thread readerThread;
+  /**
+   * The channel of the current connection, or {@code null}, if not connected.
+   */
+  private volatile ByteChannel channel;
+  /**
+   * Whether this connection has been closed.
+   */
+  private volatile boolean closed;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name The connection's name, e.g. the name of the vehicle connected to.
+   * @param connector Establishes connections to the remote side.
+   * @param codec Decodes incoming and encodes outgoing messages.
+   * @param bufferPool Provides buffers for reading and writing. The buffers' capacity limits the
+   * size of incoming and outgoing frames.
+   * @param listener Is notified about incoming messages and connection state changes.
+   * @param reconnectDelay The time to wait before trying to re-establish a connection, in
+   * milliseconds.
+   */
+  public BlockingIoConnection(
+      @Nonnull
+      String name,
+      @Nonnull
+      ChannelConnector connector,
+      @Nonnull
+      FrameCodec<I, O> codec,
+      @Nonnull
+      ByteBufferPool bufferPool,
+      @Nonnull
+      Listener<I> listener,
+      long reconnectDelay
+  ) {
+    this.name = requireNonNull(name, "name");
+    this.connector = requireNonNull(connector, "connector");
+    this.codec = requireNonNull(codec, "codec");
+    this.bufferPool = requireNonNull(bufferPool, "bufferPool");
+    this.listener = requireNonNull(listener, "listener");
+    this.reconnectDelay = checkInRange(reconnectDelay, 0, Long.MAX_VALUE, "reconnectDelay");
+  }
+
+  /**
+   * Starts establishing the connection to the remote side.
+   * This method does not block, i.e. it does not wait for the connection to be established.
+   *
+   * @throws IllegalStateException If this connection has already been opened before.
+   */
+  public synchronized void open()
+      throws IllegalStateException {
+    checkState(readerThread == null, "%s: Connection has already been opened.", name);
+
+    readerThread = Thread.ofVirtual().name(name + "-reader").start(this::run);
+  }
+
+  /**
+   * Closes this connection.
+   * A closed connection cannot be opened again.
+   */
+  public synchronized void close() {
+    closed = true;
+    if (readerThread != null) {
+      readerThread.interrupt();
+    }
+  }
+
+  /**
+   * Checks whether the connection to the remote side is currently established.
+   *
+   * @return {@code true} if, and only if, the connection is currently established.
+   */
+  public boolean isConnected() {
+    return channel != null;
+  }
+
+  /**
+   * Encodes the given message and queues it for being sent to the remote side.
+   *
+   * @param message The message.
+   * @throws IOException If the connection to the remote side is not established.
+   * @throws IllegalArgumentException If the message cannot be encoded.
+   * @throws BufferOverflowException If the encoded message does not fit into a buffer.
+   */
+  public void send(
+      @Nonnull
+      O message
+  )
+      throws IOException,
+        IllegalArgumentException,
+        BufferOverflowException {
+    requireNonNull(message, "message");
+    if (!isConnected()) {
+      throw new IOException(name + ": Not connected.");
+    }
+
+    ByteBuffer buffer = bufferPool.acquire();
+    try {
+      codec.encode(message, buffer);
+    }
+    catch (RuntimeException exc) {
+      bufferPool.release(buffer);
+      throw exc;
+    }
+    buffer.flip();
+    outgoingBuffers.add(buffer);
+  }
+
+  private void run() {
+    while (!closed) {
+      try {
+        runSession(connector.connect());
+      }
+      catch (IOException | RuntimeException exc) {
+        if (closed) {
+          break;
+        }
+        LOG.warn("{}: Connection failed or lost.", name, exc);
+      }
+
+      try {
+        Thread.sleep(reconnectDelay);
+      }
+      catch (InterruptedException exc) {
+        break;
+      }
+    }
+    LOG.debug("{}: Connection closed.", name);
+  }
+
+  private void runSession(ByteChannel sessionChannel)
+      throws IOException {
+    discardOutgoingBuffers();
+    channel = sessionChannel;
+    Thread writerThread = Thread.ofVirtual()
+        .name(name + "-writer")
+        .start(() -> writeOutgoing(sessionChannel));
+    try {
+      LOG.debug("{}: Connected.", name);
+      listener.onConnected();
+      readIncoming(sessionChannel);
+    }
+    finally {
+      channel = null;
+      writerThread.interrupt();
+      try {
+        // Ensure the writer thread does not take any buffers meant for the next session.
+        writerThread.join();
+      }
+      catch (InterruptedException exc) {
+        // The connection is being closed, so there will be no next session.
+        Thread.currentThread().interrupt();
+      }
+      closeQuietly(sessionChannel);
+      discardOutgoingBuffers();
+      LOG.debug("{}: Disconnected.", name);
+      listener.onDisconnected();
+    }
+  }
+
+  private void readIncoming(ByteChannel sessionChannel)
+      throws IOException {
+    ByteBuffer buffer = bufferPool.acquire();
+    try {
+      while (sessionChannel.read(buffer) >= 0) {
+        buffer.flip();
+        for (I message = codec.decode(buffer); message != null; message = codec.decode(buffer)) {
+          listener.onIncomingMessage(message);
+        }
+        buffer.compact();
+        if (!buffer.hasRemaining()) {
+          throw new IOException(name + ": Incoming frame exceeds buffer capacity.");
+        }
+      }
+    }
+    finally {
+      bufferPool.release(buffer);
+    }
+  }
+
+  private void writeOutgoing(ByteChannel sessionChannel) {
+    try {
+      while (true) {
+        ByteBuffer buffer = outgoingBuffers.take();
+        try {
+          while (buffer.hasRemaining()) {
+            sessionChannel.write(buffer);
+          }
+        }
+        finally {
+          bufferPool.release(buffer);
+        }
+      }
+    }
+    catch (InterruptedException exc) {
+      // The session has ended.
+    }
+    catch (IOException exc) {
+      LOG.debug("{}: Writing failed, closing channel.", name, exc);
+      // Closing the channel makes the reader thread end the session.
+      closeQuietly(sessionChannel);
+    }
+  }
+
+  private void discardOutgoingBuffers() {
+    for (ByteBuffer buffer = outgoingBuffers.poll();
+        buffer != null;
+        buffer = outgoingBuffers.poll()) {
+      bufferPool.release(buffer);
+    }
+  }
+
+  private void closeQuietly(ByteChannel sessionChannel) {
+    try {
+      sessionChannel.close();
+    }
+    catch (IOException exc) {
+      LOG.debug("{}: Exception closing channel.", name, exc);
+    }
+  }
+
+  /**
+   * Is notified about incoming messages and connection state changes.
+   * All methods are called on the connection's virtual thread.
+   *
+   * @param <I> The type of incoming messages.
+   */
+  public interface Listener<I> {
+
+    /**
+     * Called after the connection to the remote side has been established.
+     */
+    void onConnected();
+
+    /**
+     * Called for every incoming message, in the order they were received.
+     *
+     * @param message The message.
+     */
+    void onIncomingMessage(
+        @Nonnull
+        I message
+    );
+
+    /**
+     * Called after the connection to the remote side has been lost or closed.
+     */
+    void onDisconnected();
+  }
+}
@@ -0,0 +1,86 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.io;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A pool of direct byte buffers with a fixed capacity.
+ * <p>
+ * Since allocating direct buffers is comparatively expensive, buffers that are no longer used
+ * should be released to the pool, so they can be reused. This class is thread-safe, i.e. a single
+ * instance may be shared between multiple connections.
+ * </p>
+ */
+public class ByteBufferPool {
+
+  /**
+   * The capacity of buffers.
+   */
+  private final int bufferCapacity;
+  /**
+   * The buffers available for reuse.
+   */
+  private final BlockingQueue<ByteBuffer> availableBuffers;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param bufferCapacity The capacity of buffers, in bytes.
+   * @param maxPooledBuffers The maximum number of buffers to keep for reuse.
+   */
+  public ByteBufferPool(int bufferCapacity, int maxPooledBuffers) {
+    this.bufferCapacity = checkInRange(bufferCapacity, 1, Integer.MAX_VALUE, "bufferCapacity");
+    this.availableBuffers = new ArrayBlockingQueue<>(
+        checkInRange(maxPooledBuffers, 1, Integer.MAX_VALUE, "maxPooledBuffers")
+    );
+  }
+
+  /**
+   * Returns the capacity of buffers provided by this pool.
+   *
+   * @return The capacity of buffers, in bytes.
+   */
+  public int getBufferCapacity() {
+    return bufferCapacity;
+  }
+
+  /**
+   * Returns a cleared buffer, either from the pool or a newly allocated one.
+   *
+   * @return A cleared buffer.
+   */
+  @Nonnull
+  public ByteBuffer acquire() {
+    ByteBuffer buffer = availableBuffers.poll();
+    return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferCapacity);
+  }
+
+  /**
+   * Returns the given buffer to the pool.
+   * The buffer must not be used by the caller any more after this.
+   * If the pool is already full, the buffer is discarded.
+   *
+   * @param buffer The buffer.
+   * @throws IllegalArgumentException If the given buffer was not acquired from this pool.
+   */
+  public void release(
+      @Nonnull
+      ByteBuffer buffer
+  )
+      throws IllegalArgumentException {
+    requireNonNull(buffer, "buffer");
+    if (!buffer.isDirect() || buffer.capacity() != bufferCapacity) {
+      throw new IllegalArgumentException("Buffer was not acquired from this pool.");
+    }
+
+    buffer.clear();
+    availableBuffers.offer(buffer);
+  }
+}
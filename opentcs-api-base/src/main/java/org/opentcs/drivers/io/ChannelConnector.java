@@ -0,0 +1,23 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.io;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.channels.ByteChannel;
+
+/**
+ * Establishes connections to a remote side, e.g. a vehicle or a peripheral device.
+ */
+public interface ChannelConnector {
+
+  /**
+   * Establishes a new connection to the remote side, blocking until the connection is established.
+   *
+   * @return A channel for the new connection, in blocking mode.
+   * @throws IOException If the connection could not be established.
+   */
+  @Nonnull
+  ByteChannel connect()
+      throws IOException;
+}
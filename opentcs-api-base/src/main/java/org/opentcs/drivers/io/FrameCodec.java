@@ -0,0 +1,59 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.io;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Splits a stream of bytes into frames and converts these to messages, and vice versa.
+ * <p>
+ * Implementations are expected to be stateless, i.e. a single instance may be used for multiple
+ * connections at the same time.
+ * </p>
+ *
+ * @param <I> The type of incoming messages, i.e. messages received from the remote side.
+ * @param <O> The type of outgoing messages, i.e. messages sent to the remote side.
+ */
+public interface FrameCodec<I, O> {
+
+  /**
+   * Decodes the next incoming message from the given buffer, if it contains a complete frame.
+   * <p>
+   * The buffer's content between its position and its limit is to be decoded. If it starts with a
+   * complete frame, the buffer's position is to be set to the end of that frame. Otherwise, the
+   * buffer's position is to be left unchanged.
+   * </p>
+   *
+   * @param buffer The buffer.
+   * @return The decoded message, or {@code null}, if the buffer does not (yet) contain a complete
+   * frame.
+   * @throws IllegalArgumentException If the buffer starts with data that cannot be decoded.
+   */
+  @Nullable
+  I decode(
+      @Nonnull
+      ByteBuffer buffer
+  )
+      throws IllegalArgumentException;
+
+  /**
+   * Encodes the given outgoing message as a frame and puts it into the given buffer, starting at
+   * the buffer's position.
+   *
+   * @param message The message.
+   * @param buffer The buffer.
+   * @throws IllegalArgumentException If the message cannot be encoded.
+   * @throws BufferOverflowException If the encoded message does not fit into the buffer.
+   */
+  void encode(
+      @Nonnull
+      O message,
+      @Nonnull
+      ByteBuffer buffer
+  )
+      throws IllegalArgumentException,
+        BufferOverflowException;
+}
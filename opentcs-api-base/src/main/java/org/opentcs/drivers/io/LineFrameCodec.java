@@ -0,0 +1,99 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.io;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * A codec for text messages, with each frame being terminated by a line feed character.
+ * <p>
+ * A carriage return preceding the line feed of an incoming frame is not considered part of the
+ * message.
+ * </p>
+ */
+public class LineFrameCodec
+    implements
+      FrameCodec<String, String> {
+
+  /**
+   * The line feed character.
+   */
+  private static final byte LF = '\n';
+  /**
+   * The carriage return character.
+   */
+  private static final byte CR = '\r';
+  /**
+   * The charset of messages.
+   */
+  private final Charset charset;
+  /**
+   * The maximum length of a frame, in bytes, including the line terminator.
+   */
+  private final int maxFrameLength;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param charset The charset of messages.
+   * @param maxFrameLength The maximum length of a frame, in bytes, including the line terminator.
+   */
+  public LineFrameCodec(
+      @Nonnull
+      Charset charset,
+      int maxFrameLength
+  ) {
+    this.charset = requireNonNull(charset, "charset");
+    this.maxFrameLength = checkInRange(maxFrameLength, 1, Integer.MAX_VALUE, "maxFrameLength");
+  }
+
+  @Override
+  @Nullable
+  public String decode(
+      @Nonnull
+      ByteBuffer buffer
+  )
+      throws IllegalArgumentException {
+    requireNonNull(buffer, "buffer");
+
+    int start = buffer.position();
+    for (int i = start; i < buffer.limit(); i++) {
+      checkArgument(i - start < maxFrameLength, "Frame exceeds %s bytes", maxFrameLength);
+      if (buffer.get(i) == LF) {
+        int end = (i > start && buffer.get(i - 1) == CR) ? i - 1 : i;
+        byte[] bytes = new byte[end - start];
+        buffer.get(bytes);
+        buffer.position(i + 1);
+        return new String(bytes, charset);
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void encode(
+      @Nonnull
+      String message,
+      @Nonnull
+      ByteBuffer buffer
+  )
+      throws IllegalArgumentException,
+        BufferOverflowException {
+    requireNonNull(message, "message");
+    requireNonNull(buffer, "buffer");
+    checkArgument(message.indexOf(LF) < 0, "Message contains a line feed: %s", message);
+
+    byte[] bytes = message.getBytes(charset);
+    checkArgument(bytes.length < maxFrameLength, "Frame exceeds %s bytes", maxFrameLength);
+    buffer.put(bytes);
+    buffer.put(LF);
+  }
+}
@@ -0,0 +1,109 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.io;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.Pipe;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Establishes in-process connections, e.g. to a simulated remote side in tests.
+ * <p>
+ * For every connection established via {@link #connect()}, the channel for the remote side of the
+ * connection can be retrieved via {@link #awaitRemoteChannel(long, TimeUnit)}. Data written to
+ * either of the two channels can be read from the other one.
+ * </p>
+ */
+public class LocalChannelConnector
+    implements
+      ChannelConnector {
+
+  /**
+   * The channels for the remote sides of established connections, not yet retrieved.
+   */
+  private final BlockingQueue<ByteChannel> remoteChannels = new LinkedBlockingQueue<>();
+
+  /**
+   * Creates a new instance.
+   */
+  public LocalChannelConnector() {
+  }
+
+  @Override
+  @Nonnull
+  public ByteChannel connect()
+      throws IOException {
+    Pipe toRemote = Pipe.open();
+    Pipe fromRemote = Pipe.open();
+    remoteChannels.add(new PipeChannel(toRemote.source(), fromRemote.sink()));
+    return new PipeChannel(fromRemote.source(), toRemote.sink());
+  }
+
+  /**
+   * Returns the channel for the remote side of the next connection established, waiting for the
+   * connection to be established if necessary.
+   *
+   * @param timeout How long to wait for the connection to be established.
+   * @param unit The unit of the timeout.
+   * @return The channel for the remote side of the connection, or {@code null}, if no connection
+   * was established before the timeout elapsed.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  @Nullable
+  public ByteChannel awaitRemoteChannel(long timeout, TimeUnit unit)
+      throws InterruptedException {
+    return remoteChannels.poll(timeout, unit);
+  }
+
+  /**
+   * A channel reading from one pipe and writing to another one.
+   */
+  private static class PipeChannel
+      implements
+        ByteChannel {
+
+    private final Pipe.SourceChannel source;
+    private final Pipe.SinkChannel sink;
+
+    PipeChannel(Pipe.SourceChannel source, Pipe.SinkChannel sink) {
+      this.source = requireNonNull(source, "source");
+      this.sink = requireNonNull(sink, "sink");
+    }
+
+    @Override
+    public int read(ByteBuffer dst)
+        throws IOException {
+      return source.read(dst);
+    }
+
+    @Override
+    public int write(ByteBuffer src)
+        throws IOException {
+      return sink.write(src);
+    }
+
+    @Override
+    public boolean isOpen() {
+      return source.isOpen() && sink.isOpen();
+    }
+
+    @Override
+    public void close()
+        throws IOException {
+      try {
+        source.close();
+      }
+      finally {
+        sink.close();
+      }
+    }
+  }
+}
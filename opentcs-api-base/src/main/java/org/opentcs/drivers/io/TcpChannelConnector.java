@@ -0,0 +1,74 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.io;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Establishes TCP connections to a remote side.
+ */
+public class TcpChannelConnector
+    implements
+      ChannelConnector {
+
+  /**
+   * The host to connect to.
+   */
+  private final String host;
+  /**
+   * The port to connect to.
+   */
+  private final int port;
+  /**
+   * The timeout for establishing a connection, in milliseconds.
+   */
+  private final int connectTimeout;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param host The host to connect to.
+   * @param port The port to connect to.
+   * @param connectTimeout The timeout for establishing a connection, in milliseconds (0 for no
+   * timeout).
+   */
+  public TcpChannelConnector(
+      @Nonnull
+      String host,
+      int port,
+      int connectTimeout
+  ) {
+    this.host = requireNonNull(host, "host");
+    this.port = checkInRange(port, 1, 65535, "port");
+    this.connectTimeout = checkInRange(connectTimeout, 0, Integer.MAX_VALUE, "connectTimeout");
+  }
+
+  @Override
+  @Nonnull
+  public ByteChannel connect()
+      throws IOException {
+    SocketChannel channel = SocketChannel.open();
+    try {
+      channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+      channel.socket().connect(new InetSocketAddress(host, port), connectTimeout);
+      return channel;
+    }
+    catch (IOException exc) {
+      channel.close();
+      throw exc;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "TcpChannelConnector{" + "host=" + host + ", port=" + port + '}';
+  }
+}
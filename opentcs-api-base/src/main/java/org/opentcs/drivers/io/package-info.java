@@ -0,0 +1,7 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+/**
+ * Components for communicating with vehicles and peripheral devices via blocking I/O on virtual
+ * threads.
+ */
+package org.opentcs.drivers.io;
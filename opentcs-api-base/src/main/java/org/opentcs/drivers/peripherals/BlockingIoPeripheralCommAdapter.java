@@ -0,0 +1,268 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.peripherals;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.util.concurrent.Executor;
+import org.opentcs.drivers.io.BlockingIoConnection;
+import org.opentcs.drivers.io.ByteBufferPool;
+import org.opentcs.drivers.io.ChannelConnector;
+import org.opentcs.drivers.io.FrameCodec;
+import org.opentcs.util.event.EventHandler;
+
+/**
+ * A base class for peripheral communication adapters exchanging messages with a peripheral device
+ * via blocking I/O on virtual threads.
+ * <p>
+ * When the adapter is enabled, a {@link BlockingIoConnection} to the peripheral device is opened,
+ * which keeps trying to (re-)establish the connection until the adapter is disabled. Incoming
+ * messages are decoded on the connection's virtual thread and then processed via
+ * {@link #processIncomingMessage(Object)} on the given executor, in the order they were received.
+ * Outgoing messages can be sent via {@link #send(Object)} without blocking.
+ * </p>
+ *
+ * @param <I> The type of messages received from the peripheral device.
+ * @param <O> The type of messages sent to the peripheral device.
+ */
+public abstract class BlockingIoPeripheralCommAdapter<I, O>
+    extends
+      BasicPeripheralCommAdapter {
+
+  /**
+   * The executor to process incoming messages and connection state changes on.
+   */
+  private final Executor executor;
+  /**
+   * Establishes connections to the peripheral device.
+   */
+  private final ChannelConnector connector;
+  /**
+   * Decodes incoming and encodes outgoing messages.
+   */
+  private final FrameCodec<I, O> codec;
+  /**
+   * Provides buffers for reading and writing.
+   */
+  private final ByteBufferPool bufferPool;
+  /**
+   * The time to wait before trying to re-establish a connection, in milliseconds.
+   */
+  private final long reconnectDelay;
+  /**
+   * The current connection to the peripheral device, or {@code null}, if the adapter is not
+   * enabled.
+   */
+  private volatile BlockingIoConnection<I, O> connection;
+  /**
+   * The listener for the current connection, or {@code null}, if the adapter is not enabled.
+   */
+  private ConnectionListener connectionListener;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param processModel A model of the peripheral device's and its communication adapter's
+   * attributes.
+   * @param eventHandler The handler used to send events to.
+   * @param executor The executor to process incoming messages and connection state changes on.
+   * This should be the executor the adapter's other tasks are executed on, e.g. the kernel
+   * executor.
+   * @param connector Establishes connections to the peripheral device.
+   * @param codec Decodes incoming and encodes outgoing messages.
+   * @param bufferPool Provides buffers for reading and writing. May be shared by multiple adapters.
+   * @param reconnectDelay The time to wait before trying to re-establish a connection, in
+   * milliseconds.
+   */
+  public BlockingIoPeripheralCommAdapter(
+      PeripheralProcessModel processModel,
+      EventHandler eventHandler,
+      @Nonnull
+      Executor executor,
+      @Nonnull
+      ChannelConnector connector,
+      @Nonnull
+      FrameCodec<I, O> codec,
+      @Nonnull
+      ByteBufferPool bufferPool,
+      long reconnectDelay
+  ) {
+    super(processModel, eventHandler);
+    this.executor = requireNonNull(executor, "executor");
+    this.connector = requireNonNull(connector, "connector");
+    this.codec = requireNonNull(codec, "codec");
+    this.bufferPool = requireNonNull(bufferPool, "bufferPool");
+    this.reconnectDelay = checkInRange(reconnectDelay, 0, Long.MAX_VALUE, "reconnectDelay");
+  }
+
+  @Override
+  protected synchronized void connectPeripheral() {
+    if (connection != null) {
+      return;
+    }
+
+    connectionListener = new ConnectionListener();
+    connection = new BlockingIoConnection<>(
+        getProcessModel().getLocation().getName(),
+        connector,
+        codec,
+        bufferPool,
+        connectionListener,
+        reconnectDelay
+    );
+    connectionListener.bindTo(connection);
+    connection.open();
+  }
+
+  @Override
+  protected synchronized void disconnectPeripheral() {
+    if (connection == null) {
+      return;
+    }
+
+    connection.close();
+    connection = null;
+    // Notifications from the closed connection are ignored from now on, so notify about the
+    // connection being lost here, before a new connection may be established.
+    ConnectionListener closedConnectionListener = connectionListener;
+    connectionListener = null;
+    executor.execute(closedConnectionListener::notifyDisconnected);
+  }
+
+  /**
+   * Sends the given message to the peripheral device.
+   * This method does not block, i.e. it does not wait for the message to be actually written.
+   *
+   * @param message The message.
+   * @throws IOException If the connection to the peripheral device is not established.
+   * @throws IllegalArgumentException If the message cannot be encoded.
+   * @throws BufferOverflowException If the encoded message does not fit into a buffer.
+   */
+  protected void send(
+      @Nonnull
+      O message
+  )
+      throws IOException,
+        IllegalArgumentException,
+        BufferOverflowException {
+    BlockingIoConnection<I, O> currentConnection = connection;
+    if (currentConnection == null) {
+      throw new IOException(getProcessModel().getLocation().getName() + ": Not connected.");
+    }
+    currentConnection.send(message);
+  }
+
+  /**
+   * Called on the executor after the connection to the peripheral device has been established.
+   * <p>
+   * <em>Overriding methods are expected to call this implementation, too.</em>
+   * </p>
+   */
+  protected void onConnected() {
+    setProcessModel(getProcessModel().withCommAdapterConnected(true));
+    sendProcessModelChangedEvent(PeripheralProcessModel.Attribute.COMM_ADAPTER_CONNECTED);
+  }
+
+  /**
+   * Called on the executor after the connection to the peripheral device has been lost.
+   * <p>
+   * <em>Overriding methods are expected to call this implementation, too.</em>
+   * </p>
+   */
+  protected void onDisconnected() {
+    setProcessModel(getProcessModel().withCommAdapterConnected(false));
+    sendProcessModelChangedEvent(PeripheralProcessModel.Attribute.COMM_ADAPTER_CONNECTED);
+  }
+
+  /**
+   * Processes a message received from the peripheral device.
+   * Called on the executor for every incoming message, in the order they were received.
+   *
+   * @param message The message.
+   */
+  protected abstract void processIncomingMessage(
+      @Nonnull
+      I message
+  );
+
+  /**
+   * Hands notifications from the connection over to the executor.
+   */
+  private class ConnectionListener
+      implements
+        BlockingIoConnection.Listener<I> {
+
+    /**
+     * The connection this listener is notified by.
+     */
+    private volatile BlockingIoConnection<I, O> boundConnection;
+    /**
+     * Whether this adapter has been notified about the connection being established and not about
+     * it being lost since. Accessed on the executor only.
+     */
+    private boolean connectionNotified;
+
+    ConnectionListener() {
+    }
+
+    /**
+     * Binds this listener to the given connection. Must be called before the connection is opened.
+     *
+     * @param connection The connection.
+     */
+    void bindTo(BlockingIoConnection<I, O> connection) {
+      boundConnection = connection;
+    }
+
+    @Override
+    public void onConnected() {
+      executor.execute(() -> {
+        // Ignore notifications from connections that have been replaced or closed in the meantime.
+        if (isCurrent()) {
+          connectionNotified = true;
+          BlockingIoPeripheralCommAdapter.this.onConnected();
+        }
+      });
+    }
+
+    @Override
+    public void onIncomingMessage(
+        @Nonnull
+        I message
+    ) {
+      executor.execute(() -> {
+        if (isCurrent()) {
+          processIncomingMessage(message);
+        }
+      });
+    }
+
+    @Override
+    public void onDisconnected() {
+      executor.execute(() -> {
+        if (isCurrent()) {
+          notifyDisconnected();
+        }
+      });
+    }
+
+    /**
+     * Notifies this adapter about the connection being lost, if it has been notified about the
+     * connection being established before.
+     */
+    void notifyDisconnected() {
+      if (connectionNotified) {
+        connectionNotified = false;
+        BlockingIoPeripheralCommAdapter.this.onDisconnected();
+      }
+    }
+
+    private boolean isCurrent() {
+      return boundConnection != null && boundConnection == connection;
+    }
+  }
+}
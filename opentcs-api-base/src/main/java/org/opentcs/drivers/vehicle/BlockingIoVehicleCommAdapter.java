@@ -0,0 +1,263 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.vehicle;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.util.concurrent.ScheduledExecutorService;
+import org.opentcs.drivers.io.BlockingIoConnection;
+import org.opentcs.drivers.io.ByteBufferPool;
+import org.opentcs.drivers.io.ChannelConnector;
+import org.opentcs.drivers.io.FrameCodec;
+
+/**
+ * A base class for communication adapters exchanging messages with a vehicle via blocking I/O on
+ * virtual threads.
+ * <p>
+ * When the adapter is enabled, a {@link BlockingIoConnection} to the vehicle is opened, which keeps
+ * trying to (re-)establish the connection until the adapter is disabled. Incoming messages are
+ * decoded on the connection's virtual thread and then processed via
+ * {@link #processIncomingMessage(Object)} on this adapter's executor, in the order they were
+ * received. Outgoing messages can be sent via {@link #send(Object)} without blocking.
+ * </p>
+ *
+ * @param <I> The type of messages received from the vehicle.
+ * @param <O> The type of messages sent to the vehicle.
+ */
+public abstract class BlockingIoVehicleCommAdapter<I, O>
+    extends
+      BasicVehicleCommAdapter {
+
+  /**
+   * Establishes connections to the vehicle.
+   */
+  private final ChannelConnector connector;
+  /**
+   * Decodes incoming and encodes outgoing messages.
+   */
+  private final FrameCodec<I, O> codec;
+  /**
+   * Provides buffers for reading and writing.
+   */
+  private final ByteBufferPool bufferPool;
+  /**
+   * The time to wait before trying to re-establish a connection, in milliseconds.
+   */
+  private final long reconnectDelay;
+  /**
+   * The current connection to the vehicle, or {@code null}, if the adapter is not enabled.
+   */
+  private volatile BlockingIoConnection<I, O> connection;
+  /**
+   * The listener for the current connection, or {@code null}, if the adapter is not enabled.
+   */
+  private ConnectionListener connectionListener;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param vehicleModel An observable model of the vehicle's and its comm adapter's attributes.
+   * @param commandsCapacity The number of commands this comm adapter accepts. Must be at least 1.
+   * @param rechargeOperation The string to recognize as a recharge operation.
+   * @param executor The executor to run tasks (including the processing of incoming messages) on.
+   * @param connector Establishes connections to the vehicle.
+   * @param codec Decodes incoming and encodes outgoing messages.
+   * @param bufferPool Provides buffers for reading and writing. May be shared by multiple adapters.
+   * @param reconnectDelay The time to wait before trying to re-establish a connection, in
+   * milliseconds.
+   */
+  public BlockingIoVehicleCommAdapter(
+      VehicleProcessModel vehicleModel,
+      int commandsCapacity,
+      String rechargeOperation,
+      ScheduledExecutorService executor,
+      @Nonnull
+      ChannelConnector connector,
+      @Nonnull
+      FrameCodec<I, O> codec,
+      @Nonnull
+      ByteBufferPool bufferPool,
+      long reconnectDelay
+  ) {
+    super(vehicleModel, commandsCapacity, rechargeOperation, executor);
+    this.connector = requireNonNull(connector, "connector");
+    this.codec = requireNonNull(codec, "codec");
+    this.bufferPool = requireNonNull(bufferPool, "bufferPool");
+    this.reconnectDelay = checkInRange(reconnectDelay, 0, Long.MAX_VALUE, "reconnectDelay");
+  }
+
+  @Override
+  protected synchronized void connectVehicle() {
+    if (connection != null) {
+      return;
+    }
+
+    connectionListener = new ConnectionListener();
+    connection = new BlockingIoConnection<>(
+        getName(),
+        connector,
+        codec,
+        bufferPool,
+        connectionListener,
+        reconnectDelay
+    );
+    connectionListener.bindTo(connection);
+    connection.open();
+  }
+
+  @Override
+  protected synchronized void disconnectVehicle() {
+    if (connection == null) {
+      return;
+    }
+
+    connection.close();
+    connection = null;
+    // Notifications from the closed connection are ignored from now on, so notify about the
+    // connection being lost here, before a new connection may be established.
+    ConnectionListener closedConnectionListener = connectionListener;
+    connectionListener = null;
+    getExecutor().execute(closedConnectionListener::notifyDisconnected);
+  }
+
+  @Override
+  protected boolean isVehicleConnected() {
+    BlockingIoConnection<I, O> currentConnection = connection;
+    return currentConnection != null && currentConnection.isConnected();
+  }
+
+  /**
+   * Sends the given message to the vehicle.
+   * This method does not block, i.e. it does not wait for the message to be actually written.
+   *
+   * @param message The message.
+   * @throws IOException If the connection to the vehicle is not established.
+   * @throws IllegalArgumentException If the message cannot be encoded.
+   * @throws BufferOverflowException If the encoded message does not fit into a buffer.
+   */
+  protected void send(
+      @Nonnull
+      O message
+  )
+      throws IOException,
+        IllegalArgumentException,
+        BufferOverflowException {
+    BlockingIoConnection<I, O> currentConnection = connection;
+    if (currentConnection == null) {
+      throw new IOException(getName() + ": Not connected.");
+    }
+    currentConnection.send(message);
+  }
+
+  /**
+   * Called on this adapter's executor after the connection to the vehicle has been established.
+   * <p>
+   * <em>Overriding methods are expected to call this implementation, too.</em>
+   * </p>
+   */
+  protected void onConnected() {
+    getProcessModel().setCommAdapterConnected(true);
+  }
+
+  /**
+   * Called on this adapter's executor after the connection to the vehicle has been lost.
+   * <p>
+   * <em>Overriding methods are expected to call this implementation, too.</em>
+   * </p>
+   */
+  protected void onDisconnected() {
+    getProcessModel().setCommAdapterConnected(false);
+  }
+
+  /**
+   * Processes a message received from the vehicle.
+   * Called on this adapter's executor for every incoming message, in the order they were received.
+   *
+   * @param message The message.
+   */
+  protected abstract void processIncomingMessage(
+      @Nonnull
+      I message
+  );
+
+  /**
+   * Hands notifications from the connection over to this adapter's executor.
+   */
+  private class ConnectionListener
+      implements
+        BlockingIoConnection.Listener<I> {
+
+    /**
+     * The connection this listener is notified by.
+     */
+    private volatile BlockingIoConnection<I, O> boundConnection;
+    /**
+     * Whether this adapter has been notified about the connection being established and not about
+     * it being lost since. Accessed on the executor only.
+     */
+    private boolean connectionNotified;
+
+    ConnectionListener() {
+    }
+
+    /**
+     * Binds this listener to the given connection. Must be called before the connection is opened.
+     *
+     * @param connection The connection.
+     */
+    void bindTo(BlockingIoConnection<I, O> connection) {
+      boundConnection = connection;
+    }
+
+    @Override
+    public void onConnected() {
+      getExecutor().execute(() -> {
+        // Ignore notifications from connections that have been replaced or closed in the meantime.
+        if (isCurrent()) {
+          connectionNotified = true;
+          BlockingIoVehicleCommAdapter.this.onConnected();
+        }
+      });
+    }
+
+    @Override
+    public void onIncomingMessage(
+        @Nonnull
+        I message
+    ) {
+      getExecutor().execute(() -> {
+        if (isCurrent()) {
+          processIncomingMessage(message);
+        }
+      });
+    }
+
+    @Override
+    public void onDisconnected() {
+      getExecutor().execute(() -> {
+        if (isCurrent()) {
+          notifyDisconnected();
+        }
+      });
+    }
+
+    /**
+     * Notifies this adapter about the connection being lost, if it has been notified about the
+     * connection being established before.
+     */
+    void notifyDisconnected() {
+      if (connectionNotified) {
+        connectionNotified = false;
+        BlockingIoVehicleCommAdapter.this.onDisconnected();
+      }
+    }
+
+    private boolean isCurrent() {
+      return boundConnection != null && boundConnection == connection;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.vehicle;
+
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Provides executors for tasks that concern only a single vehicle, e.g. the tasks of a vehicle's
+ * communication adapter.
+ * <p>
+ * All tasks for the same vehicle are executed on the same executor, in the order they were
+ * submitted. Depending on the kernel's configuration, tasks for different vehicles may be executed
+ * concurrently with each other, but never concurrently with tasks executed by the kernel executor.
+ * Tasks executed by the kernel executor must therefore not wait for tasks submitted to an executor
+ * provided here, and vice versa.
+ * </p>
+ */
+public interface VehicleExecutorProvider {
+
+  /**
+   * Returns the executor to run tasks for the vehicle with the given name on.
+   *
+   * @param vehicleName The name of the vehicle.
+   * @return The executor to run tasks for the vehicle on.
+   */
+  @Nonnull
+  ScheduledExecutorService getExecutor(
+      @Nonnull
+      String vehicleName
+  );
+}
@@ -0,0 +1,147 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.access.rmi.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Tests for {@link EventFrameDecoder}.
+ */
+class EventFrameDecoderTest {
+
+  @Test
+  void restoreEventsFromFramesWithCompleteEvents() {
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    EventFrameDecoder decoder = new EventFrameDecoder(false);
+
+    List<Object> events = decoder.decode(
+        List.of(
+            EventFrames.encode(
+                new TCSObjectEvent(vehicleA, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED),
+                false
+            )
+        )
+    );
+
+    assertThat(events).hasSize(1);
+    TCSObjectEvent event = (TCSObjectEvent) events.get(0);
+    assertThat(event.getCurrentObjectState()).isEqualTo(vehicleA);
+    assertThat(((Vehicle) event.getPreviousObjectState()).getEnergyLevel()).isEqualTo(100);
+    assertThat(((Vehicle) event.getCurrentObjectState()).getEnergyLevel()).isEqualTo(42);
+  }
+
+  @Test
+  void restorePreviousStatesFromKnownStatesWithCurrentStatesOnly() {
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(41);
+    EventFrameDecoder decoder = new EventFrameDecoder(true);
+
+    List<Object> events = decoder.decode(
+        List.of(
+            EventFrames.encode(
+                new TCSObjectEvent(vehicleA, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED),
+                true
+            )
+        )
+    );
+    // Without a known state, the current state is used as the previous one, too.
+    TCSObjectEvent event = (TCSObjectEvent) events.get(0);
+    assertThat(((Vehicle) event.getPreviousObjectState()).getEnergyLevel()).isEqualTo(42);
+
+    events = decoder.decode(
+        List.of(
+            EventFrames.encode(
+                new TCSObjectEvent(vehicleB, vehicleA, TCSObjectEvent.Type.OBJECT_MODIFIED),
+                true
+            )
+        )
+    );
+    event = (TCSObjectEvent) events.get(0);
+    assertThat(((Vehicle) event.getPreviousObjectState()).getEnergyLevel()).isEqualTo(42);
+    assertThat(((Vehicle) event.getCurrentObjectState()).getEnergyLevel()).isEqualTo(41);
+  }
+
+  @Test
+  void discardKnownStatesAfterMissedEvents() {
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(41);
+    EventFrameDecoder decoder = new EventFrameDecoder(true);
+    decoder.decode(
+        List.of(
+            EventFrames.encode(
+                new TCSObjectEvent(vehicleA, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED),
+                true
+            )
+        )
+    );
+
+    List<Object> events = decoder.decode(
+        List.of(
+            EventFrames.encode(new MissedEventsEvent(3), false),
+            EventFrames.encode(
+                new TCSObjectEvent(vehicleB, vehicleA, TCSObjectEvent.Type.OBJECT_MODIFIED),
+                true
+            )
+        )
+    );
+
+    assertThat(events).hasSize(2);
+    assertThat(events.get(0)).isInstanceOf(MissedEventsEvent.class);
+    // The state known before the missed events is not used as the previous state.
+    TCSObjectEvent event = (TCSObjectEvent) events.get(1);
+    assertThat(((Vehicle) event.getPreviousObjectState()).getEnergyLevel()).isEqualTo(41);
+  }
+
+  @Test
+  void mergeConsecutiveModificationsOfSameObject() {
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(41);
+    EventFrameDecoder decoder = new EventFrameDecoder(false);
+
+    List<Object> events = decoder.decode(
+        List.of(
+            EventFrames.encode(
+                new TCSObjectEvent(vehicleA, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED),
+                false
+            ),
+            EventFrames.encode(
+                new TCSObjectEvent(vehicleB, vehicleA, TCSObjectEvent.Type.OBJECT_MODIFIED),
+                false
+            )
+        )
+    );
+
+    assertThat(events).hasSize(1);
+    TCSObjectEvent event = (TCSObjectEvent) events.get(0);
+    assertThat(((Vehicle) event.getPreviousObjectState()).getEnergyLevel()).isEqualTo(100);
+    assertThat(((Vehicle) event.getCurrentObjectState()).getEnergyLevel()).isEqualTo(41);
+  }
+
+  @Test
+  void restoreFramesIndependentlyOfEachOther() {
+    byte[] frame1 = EventFrames.encode("event-1", false);
+    byte[] frame2 = EventFrames.encode("event-2", false);
+    EventFrameDecoder decoder = new EventFrameDecoder(false);
+
+    assertThat(decoder.decode(List.of(frame2))).containsExactly("event-2");
+    assertThat(decoder.decode(List.of(frame1, frame2))).containsExactly("event-1", "event-2");
+  }
+
+  @Test
+  void rejectInvalidFrames() {
+    EventFrameDecoder decoder = new EventFrameDecoder(false);
+
+    assertThatThrownBy(() -> decoder.decode(List.of(new byte[]{1, 2, 3})))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,149 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BlockingIoConnection}.
+ */
+class BlockingIoConnectionTest {
+
+  private LocalChannelConnector connector;
+  private RecordingListener listener;
+  private BlockingIoConnection<String, String> connection;
+
+  @BeforeEach
+  void setUp() {
+    connector = new LocalChannelConnector();
+    listener = new RecordingListener();
+    connection = new BlockingIoConnection<>(
+        "vehicle-1",
+        connector,
+        new LineFrameCodec(StandardCharsets.UTF_8, 64),
+        new ByteBufferPool(64, 4),
+        listener,
+        10
+    );
+  }
+
+  @AfterEach
+  void tearDown() {
+    connection.close();
+  }
+
+  @Test
+  void receiveIncomingMessagesInOrder()
+      throws Exception {
+    connection.open();
+    ByteChannel remoteChannel = connector.awaitRemoteChannel(5, TimeUnit.SECONDS);
+    assertThat(listener.awaitNotification()).isEqualTo("connected");
+
+    // The second message is split across two writes.
+    write(remoteChannel, "first\nsec");
+    write(remoteChannel, "ond\n");
+
+    assertThat(listener.awaitNotification()).isEqualTo("first");
+    assertThat(listener.awaitNotification()).isEqualTo("second");
+  }
+
+  @Test
+  void sendOutgoingMessages()
+      throws Exception {
+    connection.open();
+    ByteChannel remoteChannel = connector.awaitRemoteChannel(5, TimeUnit.SECONDS);
+    assertThat(listener.awaitNotification()).isEqualTo("connected");
+
+    connection.send("first");
+    connection.send("second");
+
+    assertThat(read(remoteChannel, 13)).isEqualTo("first\nsecond\n");
+  }
+
+  @Test
+  void reconnectAfterConnectionLoss()
+      throws Exception {
+    connection.open();
+    ByteChannel remoteChannel = connector.awaitRemoteChannel(5, TimeUnit.SECONDS);
+    assertThat(listener.awaitNotification()).isEqualTo("connected");
+
+    remoteChannel.close();
+
+    assertThat(listener.awaitNotification()).isEqualTo("disconnected");
+    assertThat(connector.awaitRemoteChannel(5, TimeUnit.SECONDS)).isNotNull();
+    assertThat(listener.awaitNotification()).isEqualTo("connected");
+  }
+
+  @Test
+  void disconnectWhenClosed()
+      throws Exception {
+    connection.open();
+    assertThat(connector.awaitRemoteChannel(5, TimeUnit.SECONDS)).isNotNull();
+    assertThat(listener.awaitNotification()).isEqualTo("connected");
+    assertThat(connection.isConnected()).isTrue();
+
+    connection.close();
+
+    assertThat(listener.awaitNotification()).isEqualTo("disconnected");
+    assertThat(connection.isConnected()).isFalse();
+  }
+
+  private void write(ByteChannel channel, String content)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private String read(ByteChannel channel, int length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      channel.read(buffer);
+    }
+    buffer.flip();
+    return StandardCharsets.UTF_8.decode(buffer).toString();
+  }
+
+  private static class RecordingListener
+      implements
+        BlockingIoConnection.Listener<String> {
+
+    private final BlockingQueue<String> notifications = new LinkedBlockingQueue<>();
+
+    RecordingListener() {
+    }
+
+    @Override
+    public void onConnected() {
+      notifications.add("connected");
+    }
+
+    @Override
+    public void onIncomingMessage(String message) {
+      notifications.add(message);
+    }
+
+    @Override
+    public void onDisconnected() {
+      notifications.add("disconnected");
+    }
+
+    String awaitNotification()
+        throws InterruptedException {
+      return notifications.poll(5, TimeUnit.SECONDS);
+    }
+  }
+}
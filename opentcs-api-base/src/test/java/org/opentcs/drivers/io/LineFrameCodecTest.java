@@ -0,0 +1,61 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.drivers.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LineFrameCodec}.
+ */
+class LineFrameCodecTest {
+
+  private LineFrameCodec codec;
+
+  @BeforeEach
+  void setUp() {
+    codec = new LineFrameCodec(StandardCharsets.UTF_8, 16);
+  }
+
+  @Test
+  void decodeCompleteFrames() {
+    ByteBuffer buffer = bufferOf("first\nsecond\r\nthi");
+
+    assertThat(codec.decode(buffer)).isEqualTo("first");
+    assertThat(codec.decode(buffer)).isEqualTo("second");
+    assertThat(codec.decode(buffer)).isNull();
+    assertThat(buffer.remaining()).isEqualTo(3);
+  }
+
+  @Test
+  void rejectFramesExceedingMaximumLength() {
+    ByteBuffer buffer = bufferOf("this frame is far too long\n");
+
+    assertThatThrownBy(() -> codec.decode(buffer)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void encodeMessageWithLineTerminator() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    codec.encode("message", buffer);
+
+    buffer.flip();
+    assertThat(StandardCharsets.UTF_8.decode(buffer).toString()).isEqualTo("message\n");
+  }
+
+  @Test
+  void rejectMessagesContainingLineFeed() {
+    assertThatThrownBy(() -> codec.encode("mess\nage", ByteBuffer.allocate(16)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private ByteBuffer bufferOf(String content) {
+    return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -45,11 +45,9 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.opentcs.common.LoopbackAdapterConstants;
-import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Triple;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.Route.Step;
@@ -61,6 +59,7 @@ import org.opentcs.drivers.vehicle.SimVehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleCommAdapter;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterEvent;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterMessage;
+import org.opentcs.drivers.vehicle.VehicleExecutorProvider;
 import org.opentcs.drivers.vehicle.VehicleProcessModel;
 import org.opentcs.drivers.vehicle.management.VehicleProcessModelTO;
 import org.opentcs.util.ExplainedBoolean;
@@ -132,7 +131,7 @@ public class LoopbackCommunicationAdapter
    * @param configuration This class's configuration.
    * @param mapValueExtractor Extracts values from maps.
    * @param vehicle The vehicle this adapter is associated with.
-   * @param kernelExecutor The kernel's executor.
+   * @param vehicleExecutorProvider Provides the executor to run the vehicle's tasks on.
    */
   @Inject
   public LoopbackCommunicationAdapter(
@@ -140,14 +139,13 @@ public class LoopbackCommunicationAdapter
       MapValueExtractor mapValueExtractor,
       @Assisted
       Vehicle vehicle,
-      @KernelExecutor
-      ScheduledExecutorService kernelExecutor
+      VehicleExecutorProvider vehicleExecutorProvider
   ) {
     super(
         new LoopbackVehicleModel(vehicle),
         configuration.commandQueueCapacity(),
         configuration.rechargeOperation(),
-        kernelExecutor
+        vehicleExecutorProvider.getExecutor(vehicle.getName())
     );
     this.vehicle = requireNonNull(vehicle, "vehicle");
     this.configuration = requireNonNull(configuration, "configuration");
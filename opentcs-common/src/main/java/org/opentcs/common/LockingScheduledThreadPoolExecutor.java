@@ -0,0 +1,62 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.common;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * Extends the {@link LoggingScheduledThreadPoolExecutor} by holding a lock while executing each
+ * task.
+ * <p>
+ * Sharing the two locks of a {@link ReadWriteLock} between multiple executors allows tasks of
+ * executors holding the read lock to be executed concurrently with each other, while tasks of
+ * executors holding the write lock are executed exclusively.
+ * </p>
+ */
+public class LockingScheduledThreadPoolExecutor
+    extends
+      LoggingScheduledThreadPoolExecutor {
+
+  /**
+   * The lock to hold while executing a task.
+   */
+  private final Lock lock;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param corePoolSize The number of threads to keep in the pool.
+   * @param threadFactory The factory to use when the executor creates a new thread.
+   * @param lock The lock to hold while executing a task.
+   * @throws IllegalArgumentException If {@code corePoolSize < 0}
+   * @throws NullPointerException If {@code threadFactory} or {@code lock} is null
+   */
+  public LockingScheduledThreadPoolExecutor(
+      int corePoolSize,
+      ThreadFactory threadFactory,
+      Lock lock
+  ) {
+    super(corePoolSize, threadFactory);
+    this.lock = requireNonNull(lock, "lock");
+  }
+
+  @Override
+  protected void beforeExecute(Thread t, Runnable r) {
+    lock.lock();
+    super.beforeExecute(t, r);
+  }
+
+  @Override
+  protected void afterExecute(Runnable r, Throwable t) {
+    try {
+      super.afterExecute(r, t);
+    }
+    finally {
+      lock.unlock();
+    }
+  }
+}
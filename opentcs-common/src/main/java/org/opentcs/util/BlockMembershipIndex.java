@@ -0,0 +1,136 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.TCSResourceReference;
+
+/**
+ * An immutable index mapping resources to the blocks they are members of.
+ * <p>
+ * Looking up the blocks containing a resource via this index costs time proportional to the
+ * number of blocks the resource is a member of, instead of the number of blocks in the model.
+ * </p>
+ */
+public class BlockMembershipIndex {
+
+  /**
+   * An index without any blocks.
+   */
+  private static final BlockMembershipIndex EMPTY = new BlockMembershipIndex(Set.of());
+  /**
+   * Maps resource references to the blocks containing them.
+   */
+  private final Map<TCSResourceReference<?>, Set<Block>> blocksByMember;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param blocks The blocks to be indexed.
+   */
+  public BlockMembershipIndex(
+      @Nonnull
+      Collection<Block> blocks
+  ) {
+    requireNonNull(blocks, "blocks");
+
+    Map<TCSResourceReference<?>, Set<Block>> index = new HashMap<>();
+    for (Block block : blocks) {
+      for (TCSResourceReference<?> member : block.getMembers()) {
+        index.computeIfAbsent(member, ref -> new HashSet<>()).add(block);
+      }
+    }
+
+    this.blocksByMember = index.entrySet().stream()
+        .collect(
+            Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> Set.copyOf(entry.getValue()))
+        );
+  }
+
+  /**
+   * Returns an index without any blocks.
+   *
+   * @return An index without any blocks.
+   */
+  @Nonnull
+  public static BlockMembershipIndex empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Returns the blocks the referenced resource is a member of.
+   *
+   * @param resource A reference to the resource.
+   * @return The (unmodifiable) set of blocks the referenced resource is a member of. May be empty.
+   */
+  @Nonnull
+  public Set<Block> getBlocksContaining(
+      @Nonnull
+      TCSResourceReference<?> resource
+  ) {
+    requireNonNull(resource, "resource");
+
+    return blocksByMember.getOrDefault(resource, Set.of());
+  }
+
+  /**
+   * Returns the blocks of the given type that any of the referenced resources is a member of.
+   *
+   * @param resources References to the resources.
+   * @param type The block type to filter by.
+   * @return The set of blocks of the given type that any of the referenced resources is a member
+   * of. May be empty.
+   */
+  @Nonnull
+  public Set<Block> getBlocksContaining(
+      @Nonnull
+      Collection<? extends TCSResourceReference<?>> resources,
+      @Nonnull
+      Block.Type type
+  ) {
+    requireNonNull(resources, "resources");
+    requireNonNull(type, "type");
+
+    Set<Block> result = new HashSet<>();
+    for (TCSResourceReference<?> resource : resources) {
+      for (Block block : getBlocksContaining(resource)) {
+        if (block.getType() == type) {
+          result.add(block);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns references to the given resources plus references to all members of blocks that
+   * contain any of the given resources.
+   *
+   * @param resources References to the resources to be expanded.
+   * @return The expanded set of resource references.
+   */
+  @Nonnull
+  public Set<TCSResourceReference<?>> expand(
+      @Nonnull
+      Collection<? extends TCSResourceReference<?>> resources
+  ) {
+    requireNonNull(resources, "resources");
+
+    Set<TCSResourceReference<?>> result = new HashSet<>(resources);
+    for (TCSResourceReference<?> resource : resources) {
+      for (Block block : getBlocksContaining(resource)) {
+        result.addAll(block.getMembers());
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,81 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.model.Block;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+
+/**
+ * Tests for {@link BlockMembershipIndex}.
+ */
+class BlockMembershipIndexTest {
+
+  private Point pointA;
+  private Point pointB;
+  private Point pointC;
+  private Path pathAB;
+  private Block singleVehicleBlock;
+  private Block sameDirectionBlock;
+  private BlockMembershipIndex index;
+
+  @BeforeEach
+  void setUp() {
+    pointA = new Point("A");
+    pointB = new Point("B");
+    pointC = new Point("C");
+    pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference());
+
+    singleVehicleBlock = new Block("block-1")
+        .withType(Block.Type.SINGLE_VEHICLE_ONLY)
+        .withMembers(Set.of(pointA.getReference(), pathAB.getReference()));
+    sameDirectionBlock = new Block("block-2")
+        .withType(Block.Type.SAME_DIRECTION_ONLY)
+        .withMembers(Set.of(pointA.getReference(), pointB.getReference()));
+
+    index = new BlockMembershipIndex(List.of(singleVehicleBlock, sameDirectionBlock));
+  }
+
+  @Test
+  void returnsAllBlocksContainingResource() {
+    assertThat(index.getBlocksContaining(pointA.getReference()))
+        .containsExactlyInAnyOrder(singleVehicleBlock, sameDirectionBlock);
+    assertThat(index.getBlocksContaining(pathAB.getReference()))
+        .containsExactly(singleVehicleBlock);
+  }
+
+  @Test
+  void returnsNoBlocksForResourceNotInAnyBlock() {
+    assertThat(index.getBlocksContaining(pointC.getReference())).isEmpty();
+    assertThat(BlockMembershipIndex.empty().getBlocksContaining(pointA.getReference())).isEmpty();
+  }
+
+  @Test
+  void filtersBlocksByType() {
+    assertThat(
+        index.getBlocksContaining(
+            Set.of(pointB.getReference(), pathAB.getReference()),
+            Block.Type.SINGLE_VEHICLE_ONLY
+        )
+    ).containsExactly(singleVehicleBlock);
+    assertThat(
+        index.getBlocksContaining(Set.of(pathAB.getReference()), Block.Type.SAME_DIRECTION_ONLY)
+    ).isEmpty();
+  }
+
+  @Test
+  void expandsResourcesToBlockMembers() {
+    assertThat(index.expand(Set.of(pathAB.getReference())))
+        .containsExactlyInAnyOrder(pathAB.getReference(), pointA.getReference());
+    assertThat(index.expand(Set.of(pointB.getReference())))
+        .containsExactlyInAnyOrder(pointA.getReference(), pointB.getReference());
+    assertThat(index.expand(Set.of(pointC.getReference())))
+        .containsExactly(pointC.getReference());
+  }
+}
@@ -4,6 +4,9 @@ package org.opentcs.kernel.extensions.servicewebapi;
 
 import jakarta.inject.Singleton;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.kernel.extensions.servicewebapi.v1.OrderSequenceQueryIndex;
+import org.opentcs.kernel.extensions.servicewebapi.v1.PeripheralJobQueryIndex;
+import org.opentcs.kernel.extensions.servicewebapi.v1.TransportOrderQueryIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +44,14 @@ public class ServiceWebApiModule
     bind(ServiceWebApiConfiguration.class)
         .toInstance(configuration);
 
+    // The query indexes are maintained by the request handler and used by the object handlers, so
+    // they need to be shared.
+    bind(TransportOrderQueryIndex.class).in(Singleton.class);
+    bind(OrderSequenceQueryIndex.class).in(Singleton.class);
+    bind(PeripheralJobQueryIndex.class).in(Singleton.class);
+    // All handlers share the snapshot reader's threads.
+    bind(KernelSnapshotReader.class).in(Singleton.class);
+
     extensionsBinderAllModes().addBinding()
         .to(ServiceWebApi.class)
         .in(Singleton.class);
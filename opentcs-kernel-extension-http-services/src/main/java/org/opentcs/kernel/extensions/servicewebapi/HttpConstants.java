@@ -11,6 +11,10 @@ public class HttpConstants {
    * Name of the header that is expected to contain the API access keys.
    */
   public static final String HEADER_NAME_ACCESS_KEY = "X-Api-Access-Key";
+  /**
+   * Name of the header containing the cursor for retrieving the next page of a paginated response.
+   */
+  public static final String HEADER_NAME_NEXT_CURSOR = "X-Next-Cursor";
   /**
    * Content type for plain text.
    */
@@ -19,6 +23,10 @@ public class HttpConstants {
    * Content type for JSON structures.
    */
   public static final String CONTENT_TYPE_APPLICATION_JSON_UTF8 = "application/json; charset=utf-8";
+  /**
+   * Content type for CBOR (Concise Binary Object Representation) structures.
+   */
+  public static final String CONTENT_TYPE_APPLICATION_CBOR = "application/cbor";
 
   /**
    * Prevents instantiation.
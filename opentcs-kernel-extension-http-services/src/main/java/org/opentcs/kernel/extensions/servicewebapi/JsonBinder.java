@@ -2,14 +2,29 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel.extensions.servicewebapi;
 
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
 
 /**
  * Binds JSON strings to objects and vice versa.
+ * <p>
+ * For responses, objects may alternatively be written in CBOR, which represents the same data as
+ * the JSON output in a more compact binary form.
+ * </p>
  */
 public class JsonBinder {
 
@@ -20,6 +35,13 @@ public class JsonBinder {
       = new ObjectMapper()
           .registerModule(new JavaTimeModule())
           .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  /**
+   * Maps objects to their CBOR representations.
+   */
+  private final ObjectMapper cborMapper
+      = new CBORMapper()
+          .registerModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
 
   /**
    * Creates a new instance.
@@ -68,6 +90,88 @@ public class JsonBinder {
     }
   }
 
+  /**
+   * Writes the given object to the given output stream in the given encoding, without creating
+   * the whole representation in memory first.
+   *
+   * @param object The object to be written.
+   * @param encoding The encoding to write the object in.
+   * @param outputStream The output stream to write to. It is not closed by this method.
+   * @throws UncheckedIOException In case there was a problem writing to the output stream.
+   */
+  public void writeValue(
+      @Nonnull
+      Object object,
+      @Nonnull
+      ResponseEncoding encoding,
+      @Nonnull
+      OutputStream outputStream
+  )
+      throws UncheckedIOException {
+    requireNonNull(object, "object");
+    requireNonNull(outputStream, "outputStream");
+
+    ObjectMapper mapper = mapperFor(encoding);
+    try (JsonGenerator generator = createGenerator(mapper, encoding, outputStream)) {
+      mapper.writer().writeValue(generator, object);
+    }
+    catch (IOException exc) {
+      throw new UncheckedIOException("Could not write " + encoding + " output", exc);
+    }
+  }
+
+  /**
+   * Writes the given objects to the given output stream as an array in the given encoding, one
+   * after the other, without creating the representation of the whole array in memory first.
+   * <p>
+   * If a set of field names is given, only these fields of the objects are written. (This applies
+   * to the objects' top-level fields only.)
+   * </p>
+   *
+   * @param objects The objects to be written.
+   * @param fields The names of the objects' fields to be written, or {@code null}, if all fields
+   * are to be written.
+   * @param encoding The encoding to write the objects in.
+   * @param outputStream The output stream to write to. It is not closed by this method.
+   * @throws UncheckedIOException In case there was a problem writing to the output stream.
+   */
+  public void writeArray(
+      @Nonnull
+      Iterable<?> objects,
+      @Nullable
+      Set<String> fields,
+      @Nonnull
+      ResponseEncoding encoding,
+      @Nonnull
+      OutputStream outputStream
+  )
+      throws UncheckedIOException {
+    requireNonNull(objects, "objects");
+    requireNonNull(outputStream, "outputStream");
+
+    ObjectMapper mapper = mapperFor(encoding);
+    // Leave flushing to the generator's buffer instead of flushing after every array element.
+    ObjectWriter writer = mapper.writer()
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (JsonGenerator generator = createGenerator(mapper, encoding, outputStream)) {
+      generator.writeStartArray();
+      for (Object object : objects) {
+        if (fields == null) {
+          writer.writeValue(generator, object);
+        }
+        else {
+          ObjectNode node = mapper.valueToTree(object);
+          node.retain(fields);
+          writer.writeValue(generator, node);
+        }
+      }
+      generator.writeEndArray();
+    }
+    catch (IOException exc) {
+      throw new UncheckedIOException("Could not write " + encoding + " output", exc);
+    }
+  }
+
   /**
    * Maps the given throwable to a JSON string.
    *
@@ -89,4 +193,23 @@ public class JsonBinder {
     }
   }
 
+  private ObjectMapper mapperFor(ResponseEncoding encoding) {
+    requireNonNull(encoding, "encoding");
+
+    return encoding == ResponseEncoding.CBOR ? cborMapper : objectMapper;
+  }
+
+  private JsonGenerator createGenerator(
+      ObjectMapper mapper,
+      ResponseEncoding encoding,
+      OutputStream outputStream
+  )
+      throws IOException {
+    JsonGenerator generator = mapper.getFactory().createGenerator(outputStream);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    if (encoding == ResponseEncoding.JSON) {
+      generator.useDefaultPrettyPrinter();
+    }
+    return generator;
+  }
 }
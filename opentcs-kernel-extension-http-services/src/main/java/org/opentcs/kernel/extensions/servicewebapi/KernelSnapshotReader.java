@@ -0,0 +1,98 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
+
+/**
+ * Reads data from the kernel without involving the kernel executor, leaving any further processing
+ * to the calling thread.
+ * <p>
+ * The kernel's services modify objects only while holding the kernel's global sync object. Reading
+ * while holding it, too, ensures that all objects read with a single call reflect the same state
+ * of the kernel. As the objects read are immutable, they can be converted and serialized after the
+ * call, without blocking the kernel any longer.
+ * </p>
+ * <p>
+ * Reading happens on a few dedicated platform threads: Request handlers run on virtual threads,
+ * which would pin their carrier threads while waiting for the global sync object.
+ * </p>
+ * <p>
+ * This is meant for read-only requests only. Requests modifying data should still be executed via
+ * the {@link KernelExecutorWrapper}.
+ * </p>
+ */
+public class KernelSnapshotReader {
+
+  /**
+   * The number of threads reading from the kernel.
+   * As reading requires the global sync object, more threads would not read more concurrently.
+   */
+  private static final int READER_THREAD_COUNT = 2;
+  /**
+   * The kernel's global sync object.
+   */
+  private final Object globalSyncObject;
+  /**
+   * Executes the readers.
+   */
+  private final ExecutorService readerExecutor = Executors.newFixedThreadPool(
+      READER_THREAD_COUNT,
+      Thread.ofPlatform().name("webApiSnapshotReader-", 0).daemon().factory()
+  );
+
+  /**
+   * Creates a new instance.
+   *
+   * @param globalSyncObject The kernel's global sync object.
+   */
+  @Inject
+  public KernelSnapshotReader(
+      @GlobalSyncObject
+      Object globalSyncObject
+  ) {
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+  }
+
+  /**
+   * Calls the given reader while no modifications happen in the kernel and returns its result.
+   * The reader should only fetch the required objects and leave any further processing to the
+   * caller.
+   *
+   * @param <T> The reader's return type.
+   * @param reader The reader.
+   * @return The result of the reader.
+   * @throws IllegalStateException In case waiting for the reader was unexpectedly interrupted.
+   * @throws RuntimeException In case an exception was thrown from the reader.
+   */
+  public <T> T read(Supplier<T> reader)
+      throws IllegalStateException,
+        RuntimeException {
+    requireNonNull(reader, "reader");
+
+    try {
+      return readerExecutor.submit(() -> {
+        synchronized (globalSyncObject) {
+          return reader.get();
+        }
+      }).get();
+    }
+    catch (InterruptedException exc) {
+      throw new IllegalStateException("Unexpectedly interrupted");
+    }
+    catch (ExecutionException exc) {
+      if (exc.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exc.getCause();
+      }
+      throw new KernelRuntimeException(exc.getCause());
+    }
+  }
+}
@@ -0,0 +1,85 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * The encodings in which response bodies can be written.
+ */
+public enum ResponseEncoding {
+
+  /**
+   * (Pretty-printed) JSON.
+   */
+  JSON(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8),
+  /**
+   * CBOR (Concise Binary Object Representation), a compact binary encoding of the same data model
+   * as JSON.
+   */
+  CBOR(HttpConstants.CONTENT_TYPE_APPLICATION_CBOR);
+
+  private final String contentType;
+
+  ResponseEncoding(String contentType) {
+    this.contentType = contentType;
+  }
+
+  /**
+   * Returns the content type of response bodies written in this encoding.
+   *
+   * @return The content type.
+   */
+  @Nonnull
+  public String getContentType() {
+    return contentType;
+  }
+
+  /**
+   * Returns the encoding to be used for a response, based on the given value of a request's
+   * {@code Accept} header.
+   * <p>
+   * CBOR is used only if it is explicitly accepted by the client. In all other cases, JSON is used.
+   * </p>
+   *
+   * @param acceptHeader The value of the request's {@code Accept} header, or {@code null}, if the
+   * request does not have one.
+   * @return The encoding to be used for the response.
+   */
+  @Nonnull
+  public static ResponseEncoding forAcceptHeader(
+      @Nullable
+      String acceptHeader
+  ) {
+    if (acceptHeader == null) {
+      return JSON;
+    }
+
+    for (String mediaRange : acceptHeader.split(",")) {
+      // Clients accepting CBOR at all are expected to prefer it, so quality values are only
+      // considered for excluding it.
+      String[] parts = mediaRange.split(";");
+      if (parts[0].trim().equalsIgnoreCase(HttpConstants.CONTENT_TYPE_APPLICATION_CBOR)
+          && !isExcluded(parts)) {
+        return CBOR;
+      }
+    }
+    return JSON;
+  }
+
+  private static boolean isExcluded(String[] mediaRangeParts) {
+    for (int i = 1; i < mediaRangeParts.length; i++) {
+      String parameter = mediaRangeParts[i].trim();
+      if (parameter.startsWith("q=")) {
+        try {
+          return Double.parseDouble(parameter.substring(2)) <= 0.0;
+        }
+        catch (NumberFormatException exc) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+}
@@ -104,6 +104,9 @@ public class ServiceWebApi
 
     Consumer<JavalinConfig> config = cfg -> {
       cfg.showJavalinBanner = false;
+      // Handle requests on virtual threads, so that requests blocking while waiting for the kernel
+      // executor do not limit the number of requests that can be handled concurrently.
+      cfg.useVirtualThreads = true;
       cfg.router.apiBuilder(v1RequestHandler.createRoutes());
       if (configuration.maxRequestBodySize() <= 0) {
         LOG.warn(
@@ -115,6 +118,15 @@ public class ServiceWebApi
         cfg.http.maxRequestSize = configuration.maxRequestBodySize() * 1024L * 1024L;
       }
 
+      if (configuration.compressResponses()) {
+        // Compress response bodies for clients accepting gzip. Bodies are compressed while being
+        // written to the connection, so they do not need to be kept in memory as a whole.
+        cfg.http.gzipOnlyCompression();
+      }
+      else {
+        cfg.http.disableCompression();
+      }
+
       if (configuration.useSsl()) {
         cfg.registerPlugin(
             new SslPlugin(ssl -> {
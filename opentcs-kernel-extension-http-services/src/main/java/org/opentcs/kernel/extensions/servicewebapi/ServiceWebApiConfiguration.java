@@ -51,7 +51,7 @@ public interface ServiceWebApiConfiguration {
   @ConfigurationEntry(
       type = "Integer",
       description = "Maximum number of status events to be kept.",
-      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_NEW_PLANT_MODEL,
       orderKey = "4"
   )
   int statusEventsCapacity();
@@ -71,4 +71,12 @@ public interface ServiceWebApiConfiguration {
       orderKey = "6"
   )
   int maxRequestBodySize();
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = "Whether to compress responses (using gzip) for clients accepting that.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "7"
+  )
+  boolean compressResponses();
 }
@@ -0,0 +1,83 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of objects retrieved with an {@link ObjectQuery}.
+ *
+ * @param <T> The type of objects on the page.
+ */
+public class ObjectPage<T> {
+
+  /**
+   * The objects on this page.
+   */
+  private final List<T> objects;
+  /**
+   * The cursor to be used for retrieving the next page, or {@code null}, if this is the last page.
+   */
+  private final String nextCursor;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objects The objects on this page.
+   * @param nextCursor The cursor to be used for retrieving the next page, or {@code null}, if this
+   * is the last page.
+   */
+  public ObjectPage(
+      @Nonnull
+      List<T> objects,
+      @Nullable
+      String nextCursor
+  ) {
+    this.objects = List.copyOf(requireNonNull(objects, "objects"));
+    this.nextCursor = nextCursor;
+  }
+
+  /**
+   * Returns the objects on this page.
+   *
+   * @return The objects on this page.
+   */
+  @Nonnull
+  public List<T> getObjects() {
+    return objects;
+  }
+
+  /**
+   * Returns the cursor to be used for retrieving the next page.
+   *
+   * @return The cursor to be used for retrieving the next page, or {@code null}, if this is the
+   * last page.
+   */
+  @Nullable
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  /**
+   * Returns a page with the same cursor and the objects on this page mapped using the given
+   * function.
+   *
+   * @param <R> The type of the mapped objects.
+   * @param mapper The function to map the objects with.
+   * @return A page with the mapped objects.
+   */
+  @Nonnull
+  public <R> ObjectPage<R> map(
+      @Nonnull
+      Function<? super T, ? extends R> mapper
+  ) {
+    requireNonNull(mapper, "mapper");
+
+    return new ObjectPage<>(objects.stream().<R>map(mapper).toList(), nextCursor);
+  }
+}
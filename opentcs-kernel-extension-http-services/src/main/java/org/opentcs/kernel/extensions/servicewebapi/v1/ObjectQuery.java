@@ -0,0 +1,295 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.opentcs.data.TCSObject;
+
+/**
+ * Describes which objects to retrieve via an {@link ObjectQueryIndex}.
+ * <p>
+ * All criteria are optional; the objects retrieved are those matching all of the criteria set.
+ * The objects are always retrieved in the lexicographic order of their names.
+ * </p>
+ *
+ * @param <T> The type of objects to retrieve.
+ */
+public class ObjectQuery<T extends TCSObject<T>> {
+
+  /**
+   * The states of the objects to retrieve. Not filtered if empty.
+   */
+  private final Set<String> states;
+  /**
+   * The type of the objects to retrieve. Not filtered if {@code null}.
+   */
+  private final String type;
+  /**
+   * The name of the vehicle processing the objects to retrieve. Not filtered if {@code null}.
+   */
+  private final String vehicle;
+  /**
+   * The earliest creation time (inclusive) of the objects to retrieve. Not filtered if
+   * {@code null}.
+   */
+  private final Instant createdFrom;
+  /**
+   * The latest creation time (exclusive) of the objects to retrieve. Not filtered if {@code null}.
+   */
+  private final Instant createdTo;
+  /**
+   * The point of time since which (inclusive) the objects to retrieve must have been updated.
+   * Not filtered if {@code null}.
+   */
+  private final Instant updatedSince;
+  /**
+   * The name after which (exclusive) to start retrieving objects. Not filtered if {@code null}.
+   */
+  private final String cursor;
+  /**
+   * The maximum number of objects to retrieve.
+   */
+  private final int limit;
+  /**
+   * An additional filter the objects to retrieve must pass.
+   */
+  private final Predicate<? super T> filter;
+
+  /**
+   * Creates a new instance that matches all objects.
+   */
+  public ObjectQuery() {
+    this(Set.of(), null, null, null, null, null, null, Integer.MAX_VALUE, object -> true);
+  }
+
+  private ObjectQuery(
+      @Nonnull
+      Set<String> states,
+      @Nullable
+      String type,
+      @Nullable
+      String vehicle,
+      @Nullable
+      Instant createdFrom,
+      @Nullable
+      Instant createdTo,
+      @Nullable
+      Instant updatedSince,
+      @Nullable
+      String cursor,
+      int limit,
+      @Nonnull
+      Predicate<? super T> filter
+  ) {
+    this.states = requireNonNull(states, "states");
+    this.type = type;
+    this.vehicle = vehicle;
+    this.createdFrom = createdFrom;
+    this.createdTo = createdTo;
+    this.updatedSince = updatedSince;
+    this.cursor = cursor;
+    this.limit = checkInRange(limit, 1, Integer.MAX_VALUE, "limit");
+    this.filter = requireNonNull(filter, "filter");
+  }
+
+  @Nonnull
+  public Set<String> getStates() {
+    return states;
+  }
+
+  public ObjectQuery<T> withStates(
+      @Nonnull
+      Set<String> states
+  ) {
+    return new ObjectQuery<T>(
+        Set.copyOf(states),
+        type,
+        vehicle,
+        createdFrom,
+        createdTo,
+        updatedSince,
+        cursor,
+        limit,
+        filter
+    );
+  }
+
+  @Nullable
+  public String getType() {
+    return type;
+  }
+
+  public ObjectQuery<T> withType(
+      @Nullable
+      String type
+  ) {
+    return new ObjectQuery<T>(
+        states,
+        type,
+        vehicle,
+        createdFrom,
+        createdTo,
+        updatedSince,
+        cursor,
+        limit,
+        filter
+    );
+  }
+
+  @Nullable
+  public String getVehicle() {
+    return vehicle;
+  }
+
+  public ObjectQuery<T> withVehicle(
+      @Nullable
+      String vehicle
+  ) {
+    return new ObjectQuery<T>(
+        states,
+        type,
+        vehicle,
+        createdFrom,
+        createdTo,
+        updatedSince,
+        cursor,
+        limit,
+        filter
+    );
+  }
+
+  @Nullable
+  public Instant getCreatedFrom() {
+    return createdFrom;
+  }
+
+  public ObjectQuery<T> withCreatedFrom(
+      @Nullable
+      Instant createdFrom
+  ) {
+    return new ObjectQuery<T>(
+        states,
+        type,
+        vehicle,
+        createdFrom,
+        createdTo,
+        updatedSince,
+        cursor,
+        limit,
+        filter
+    );
+  }
+
+  @Nullable
+  public Instant getCreatedTo() {
+    return createdTo;
+  }
+
+  public ObjectQuery<T> withCreatedTo(
+      @Nullable
+      Instant createdTo
+  ) {
+    return new ObjectQuery<T>(
+        states,
+        type,
+        vehicle,
+        createdFrom,
+        createdTo,
+        updatedSince,
+        cursor,
+        limit,
+        filter
+    );
+  }
+
+  @Nullable
+  public Instant getUpdatedSince() {
+    return updatedSince;
+  }
+
+  public ObjectQuery<T> withUpdatedSince(
+      @Nullable
+      Instant updatedSince
+  ) {
+    return new ObjectQuery<T>(
+        states,
+        type,
+        vehicle,
+        createdFrom,
+        createdTo,
+        updatedSince,
+        cursor,
+        limit,
+        filter
+    );
+  }
+
+  @Nullable
+  public String getCursor() {
+    return cursor;
+  }
+
+  public ObjectQuery<T> withCursor(
+      @Nullable
+      String cursor
+  ) {
+    return new ObjectQuery<T>(
+        states,
+        type,
+        vehicle,
+        createdFrom,
+        createdTo,
+        updatedSince,
+        cursor,
+        limit,
+        filter
+    );
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public ObjectQuery<T> withLimit(int limit) {
+    return new ObjectQuery<T>(
+        states,
+        type,
+        vehicle,
+        createdFrom,
+        createdTo,
+        updatedSince,
+        cursor,
+        limit,
+        filter
+    );
+  }
+
+  @Nonnull
+  public Predicate<? super T> getFilter() {
+    return filter;
+  }
+
+  public ObjectQuery<T> withFilter(
+      @Nonnull
+      Predicate<? super T> filter
+  ) {
+    return new ObjectQuery<T>(
+        states,
+        type,
+        vehicle,
+        createdFrom,
+        createdTo,
+        updatedSince,
+        cursor,
+        limit,
+        filter
+    );
+  }
+}
@@ -0,0 +1,545 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Keeps objects of a specific type indexed by their names and a few attributes, allowing them to
+ * be queried page by page without scanning all of them.
+ * <p>
+ * When initialized, the index is filled with the objects currently existing in the kernel. After
+ * that, it is kept up to date via the events emitted by the kernel. The point of time at which the
+ * index last learned about an object's state is used as the object's update time.
+ * </p>
+ * <p>
+ * Queries are answered in batches of objects matching the indexed criteria. Only collecting a
+ * batch requires the index's lock, so a query's additional filter, which may be arbitrarily
+ * expensive, is applied without blocking updates of the index.
+ * </p>
+ *
+ * @param <T> The type of objects indexed.
+ */
+public abstract class ObjectQueryIndex<T extends TCSObject<T>>
+    implements
+      Lifecycle,
+      EventHandler {
+
+  /**
+   * The type of objects indexed.
+   */
+  private final Class<T> clazz;
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * The service we use to fetch the objects initially.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Guards the indexes.
+   */
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  /**
+   * The entries for all objects, by object name.
+   */
+  private final NavigableMap<String, Entry<T>> entriesByName = new TreeMap<>();
+  /**
+   * The names of objects, by object state.
+   */
+  private final Map<String, NavigableSet<String>> namesByState = new HashMap<>();
+  /**
+   * The names of objects, by object type.
+   */
+  private final Map<String, NavigableSet<String>> namesByType = new HashMap<>();
+  /**
+   * The names of objects, by the name of the vehicle processing them.
+   */
+  private final Map<String, NavigableSet<String>> namesByVehicle = new HashMap<>();
+  /**
+   * The names of objects, by creation time.
+   */
+  private final NavigableMap<Instant, Set<String>> namesByCreationTime = new TreeMap<>();
+  /**
+   * The names of objects, by update time.
+   */
+  private final NavigableMap<Instant, Set<String>> namesByUpdateTime = new TreeMap<>();
+  /**
+   * The names of objects removed while the index was being filled initially.
+   */
+  private final Set<String> removedWhileLoading = new HashSet<>();
+  /**
+   * Whether the index is being filled initially.
+   */
+  private boolean loading;
+  /**
+   * Whether this instance is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clazz The type of objects indexed.
+   * @param eventSource Where we register for application events.
+   * @param objectService The service we use to fetch the objects initially.
+   */
+  protected ObjectQueryIndex(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      EventSource eventSource,
+      @Nonnull
+      TCSObjectService objectService
+  ) {
+    this.clazz = requireNonNull(clazz, "clazz");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.objectService = requireNonNull(objectService, "objectService");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    // Subscribe before fetching the existing objects, so we don't miss any modifications.
+    eventSource.subscribe(this);
+
+    lock.writeLock().lock();
+    try {
+      loading = true;
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+
+    // Kernel extensions are initialized on the kernel executor, so fetch the objects directly.
+    Set<T> objects = objectService.fetchObjects(clazz);
+    Instant loadTime = Instant.now();
+
+    lock.writeLock().lock();
+    try {
+      for (T object : objects) {
+        // Objects modified or removed since we fetched them are already up to date.
+        if (!entriesByName.containsKey(object.getName())
+            && !removedWhileLoading.contains(object.getName())) {
+          add(object, loadTime);
+        }
+      }
+      removedWhileLoading.clear();
+      loading = false;
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+
+    lock.writeLock().lock();
+    try {
+      entriesByName.clear();
+      namesByState.clear();
+      namesByType.clear();
+      namesByVehicle.clear();
+      namesByCreationTime.clear();
+      namesByUpdateTime.clear();
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)
+        || !clazz.isInstance(objectEvent.getCurrentOrPreviousObjectState())) {
+      return;
+    }
+
+    String name = objectEvent.getCurrentOrPreviousObjectState().getName();
+    lock.writeLock().lock();
+    try {
+      remove(name);
+      if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+        if (loading) {
+          removedWhileLoading.add(name);
+        }
+      }
+      else {
+        add(clazz.cast(objectEvent.getCurrentObjectState()), Instant.now());
+      }
+    }
+    finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the objects matching the given query.
+   *
+   * @param query The query.
+   * @return The page of objects matching the query, in the lexicographic order of their names.
+   */
+  @Nonnull
+  public ObjectPage<T> query(
+      @Nonnull
+      ObjectQuery<T> query
+  ) {
+    requireNonNull(query, "query");
+
+    // Collect one more object than requested to find out whether there is a next page. If the
+    // filter rejects objects, grow the batches so the candidates need to be determined only a few
+    // times.
+    int batchSize = (int) Math.min((long) query.getLimit() + 1, Integer.MAX_VALUE);
+    List<T> result = new ArrayList<>();
+    String position = query.getCursor();
+    boolean exhausted = false;
+    while (!exhausted) {
+      List<T> batch = collectBatch(query, position, batchSize);
+      exhausted = batch.size() < batchSize;
+
+      for (T object : batch) {
+        position = object.getName();
+        if (!query.getFilter().test(object)) {
+          continue;
+        }
+        if (result.size() == query.getLimit()) {
+          // There is at least one more matching object, so there is a next page.
+          return new ObjectPage<>(result, result.get(result.size() - 1).getName());
+        }
+        result.add(object);
+      }
+      batchSize = (int) Math.min(2L * batchSize, Integer.MAX_VALUE);
+    }
+    return new ObjectPage<>(result, null);
+  }
+
+  /**
+   * Returns the state of the given object, as used for the index.
+   *
+   * @param object The object.
+   * @return The state of the given object, or {@code null}, if objects of this type do not have a
+   * state.
+   */
+  @Nullable
+  protected abstract String stateOf(
+      @Nonnull
+      T object
+  );
+
+  /**
+   * Returns the type of the given object, as used for the index.
+   *
+   * @param object The object.
+   * @return The type of the given object, or {@code null}, if objects of this type do not have a
+   * type.
+   */
+  @Nullable
+  protected abstract String typeOf(
+      @Nonnull
+      T object
+  );
+
+  /**
+   * Returns the name of the vehicle processing the given object, as used for the index.
+   *
+   * @param object The object.
+   * @return The name of the vehicle processing the given object, or {@code null}, if no vehicle is
+   * processing it.
+   */
+  @Nullable
+  protected abstract String vehicleOf(
+      @Nonnull
+      T object
+  );
+
+  /**
+   * Returns the creation time of the given object.
+   *
+   * @param object The object.
+   * @return The creation time of the given object.
+   */
+  @Nonnull
+  protected abstract Instant creationTimeOf(
+      @Nonnull
+      T object
+  );
+
+  /**
+   * Returns the objects matching the given query's indexed criteria, i.e. without applying the
+   * query's filter.
+   *
+   * @param query The query.
+   * @param position The name of the object after which to start, or {@code null}, to start with
+   * the first one.
+   * @param batchSize The maximum number of objects to return.
+   * @return The objects, in the lexicographic order of their names.
+   */
+  private List<T> collectBatch(
+      ObjectQuery<T> query,
+      @Nullable
+      String position,
+      int batchSize
+  ) {
+    lock.readLock().lock();
+    try {
+      NavigableSet<String> candidates = candidateNames(query);
+      if (position != null) {
+        candidates = candidates.tailSet(position, false);
+      }
+
+      List<T> result = new ArrayList<>();
+      Iterator<String> iter = candidates.iterator();
+      while (iter.hasNext() && result.size() < batchSize) {
+        Entry<T> entry = entriesByName.get(iter.next());
+        if (matchesIndexedCriteria(entry, query)) {
+          result.add(entry.object());
+        }
+      }
+      return result;
+    }
+    finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the names of the objects that may match the given query, using the most selective
+   * index applicable.
+   * Whether an object actually matches the query still needs to be checked for every candidate.
+   */
+  private NavigableSet<String> candidateNames(ObjectQuery<T> query) {
+    NavigableSet<String> result = null;
+
+    if (!query.getStates().isEmpty()) {
+      result = smaller(result, namesForKeys(namesByState, query.getStates()));
+    }
+    if (query.getType() != null) {
+      result = smaller(result, namesForKeys(namesByType, Set.of(query.getType())));
+    }
+    if (query.getVehicle() != null) {
+      result = smaller(result, namesForKeys(namesByVehicle, Set.of(query.getVehicle())));
+    }
+
+    // The number of names within a time range is not known in advance, so only collect them as
+    // long as this results in fewer candidates.
+    // If there are no other candidates, the names in a large range are not collected, either, as
+    // iterating over all names finds enough matching objects quickly then.
+    if (query.getCreatedFrom() != null || query.getCreatedTo() != null) {
+      NavigableMap<Instant, Set<String>> range = namesByCreationTime;
+      if (query.getCreatedFrom() != null) {
+        range = range.tailMap(query.getCreatedFrom(), true);
+      }
+      if (query.getCreatedTo() != null) {
+        range = range.headMap(query.getCreatedTo(), false);
+      }
+      result = smaller(result, namesInRange(range, sizeLimit(result, query)));
+    }
+    if (query.getUpdatedSince() != null) {
+      result = smaller(
+          result,
+          namesInRange(
+              namesByUpdateTime.tailMap(query.getUpdatedSince(), true),
+              sizeLimit(result, query)
+          )
+      );
+    }
+
+    return result == null ? entriesByName.navigableKeySet() : result;
+  }
+
+  private NavigableSet<String> smaller(
+      @Nullable
+      NavigableSet<String> current,
+      @Nullable
+      NavigableSet<String> candidate
+  ) {
+    if (candidate == null) {
+      return current;
+    }
+    if (current == null) {
+      return candidate;
+    }
+    return candidate.size() < current.size() ? candidate : current;
+  }
+
+  /**
+   * Returns the number of names within a time range from which on they should not be collected as
+   * candidates.
+   * <p>
+   * Without other candidates, the alternative to collecting the R names within a range is
+   * iterating over all N names, in which case about (limit + 1) * N / R names need to be checked
+   * to fill a page. Limiting R to the square root of (limit + 1) * N bounds the effort for both
+   * alternatives by that value.
+   * </p>
+   */
+  private int sizeLimit(
+      @Nullable
+      NavigableSet<String> current,
+      ObjectQuery<T> query
+  ) {
+    if (current != null) {
+      return current.size();
+    }
+    return (int) Math.min(
+        Math.sqrt(((double) query.getLimit() + 1) * entriesByName.size()),
+        Integer.MAX_VALUE
+    );
+  }
+
+  private NavigableSet<String> namesForKeys(
+      Map<String, NavigableSet<String>> index,
+      Set<String> keys
+  ) {
+    if (keys.size() == 1) {
+      return index.getOrDefault(keys.iterator().next(), Collections.emptyNavigableSet());
+    }
+
+    NavigableSet<String> result = new TreeSet<>();
+    for (String key : keys) {
+      result.addAll(index.getOrDefault(key, Collections.emptyNavigableSet()));
+    }
+    return result;
+  }
+
+  @Nullable
+  private NavigableSet<String> namesInRange(
+      NavigableMap<Instant, Set<String>> range,
+      int sizeLimit
+  ) {
+    NavigableSet<String> result = new TreeSet<>();
+    for (Set<String> names : range.values()) {
+      result.addAll(names);
+      if (result.size() >= sizeLimit) {
+        return null;
+      }
+    }
+    return result;
+  }
+
+  private boolean matchesIndexedCriteria(Entry<T> entry, ObjectQuery<T> query) {
+    T object = entry.object();
+
+    if (!query.getStates().isEmpty() && !query.getStates().contains(stateOf(object))) {
+      return false;
+    }
+    if (query.getType() != null && !query.getType().equals(typeOf(object))) {
+      return false;
+    }
+    if (query.getVehicle() != null && !query.getVehicle().equals(vehicleOf(object))) {
+      return false;
+    }
+    if (query.getCreatedFrom() != null
+        && creationTimeOf(object).isBefore(query.getCreatedFrom())) {
+      return false;
+    }
+    if (query.getCreatedTo() != null && !creationTimeOf(object).isBefore(query.getCreatedTo())) {
+      return false;
+    }
+    return query.getUpdatedSince() == null || !entry.updateTime().isBefore(query.getUpdatedSince());
+  }
+
+  private void add(T object, Instant updateTime) {
+    String name = object.getName();
+    entriesByName.put(name, new Entry<>(object, updateTime));
+    addName(namesByState, stateOf(object), name);
+    addName(namesByType, typeOf(object), name);
+    addName(namesByVehicle, vehicleOf(object), name);
+    namesByCreationTime.computeIfAbsent(creationTimeOf(object), time -> new HashSet<>()).add(name);
+    namesByUpdateTime.computeIfAbsent(updateTime, time -> new HashSet<>()).add(name);
+  }
+
+  private void remove(String name) {
+    Entry<T> entry = entriesByName.remove(name);
+    if (entry == null) {
+      return;
+    }
+
+    T object = entry.object();
+    removeName(namesByState, stateOf(object), name);
+    removeName(namesByType, typeOf(object), name);
+    removeName(namesByVehicle, vehicleOf(object), name);
+    removeName(namesByCreationTime, creationTimeOf(object), name);
+    removeName(namesByUpdateTime, entry.updateTime(), name);
+  }
+
+  private static void addName(
+      Map<String, NavigableSet<String>> index,
+      @Nullable
+      String key,
+      String name
+  ) {
+    if (key != null) {
+      index.computeIfAbsent(key, k -> new TreeSet<>()).add(name);
+    }
+  }
+
+  private static <K> void removeName(
+      Map<K, ? extends Set<String>> index,
+      @Nullable
+      K key,
+      String name
+  ) {
+    if (key == null) {
+      return;
+    }
+
+    Set<String> names = index.get(key);
+    if (names != null) {
+      names.remove(name);
+      if (names.isEmpty()) {
+        index.remove(key);
+      }
+    }
+  }
+
+  /**
+   * An indexed object along with the point of time at which the index learned about its state.
+   *
+   * @param <T> The type of the object.
+   */
+  private record Entry<T>(T object, Instant updateTime) {
+  }
+}
@@ -0,0 +1,91 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.time.Instant;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Keeps order sequences indexed by their names, states, types, processing vehicles, creation
+ * times and update times.
+ * <p>
+ * As order sequences do not have an explicit state, their state is derived from their flags: An
+ * order sequence is in state {@link #STATE_FINISHED} if it is finished, in state
+ * {@link #STATE_COMPLETE} if it is complete but not finished, yet, and in state
+ * {@link #STATE_INCOMPLETE} otherwise.
+ * </p>
+ */
+public class OrderSequenceQueryIndex
+    extends
+      ObjectQueryIndex<OrderSequence> {
+
+  /**
+   * The state of order sequences that may still be extended.
+   */
+  public static final String STATE_INCOMPLETE = "INCOMPLETE";
+  /**
+   * The state of order sequences that are complete but not finished, yet.
+   */
+  public static final String STATE_COMPLETE = "COMPLETE";
+  /**
+   * The state of order sequences that are finished.
+   */
+  public static final String STATE_FINISHED = "FINISHED";
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where we register for application events.
+   * @param orderService The service we use to fetch the order sequences initially.
+   */
+  @Inject
+  public OrderSequenceQueryIndex(
+      @ApplicationEventBus
+      EventSource eventSource,
+      TransportOrderService orderService
+  ) {
+    super(OrderSequence.class, eventSource, orderService);
+  }
+
+  @Override
+  protected String stateOf(
+      @Nonnull
+      OrderSequence object
+  ) {
+    if (object.isFinished()) {
+      return STATE_FINISHED;
+    }
+    return object.isComplete() ? STATE_COMPLETE : STATE_INCOMPLETE;
+  }
+
+  @Override
+  protected String typeOf(
+      @Nonnull
+      OrderSequence object
+  ) {
+    return object.getType();
+  }
+
+  @Override
+  @Nullable
+  protected String vehicleOf(
+      @Nonnull
+      OrderSequence object
+  ) {
+    return object.getProcessingVehicle() == null ? null : object.getProcessingVehicle().getName();
+  }
+
+  @Override
+  protected Instant creationTimeOf(
+      @Nonnull
+      OrderSequence object
+  ) {
+    return object.getCreationTime();
+  }
+}
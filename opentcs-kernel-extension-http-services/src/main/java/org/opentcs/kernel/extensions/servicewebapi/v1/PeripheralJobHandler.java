@@ -7,8 +7,6 @@ import static java.util.Objects.requireNonNull;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
-import java.util.Comparator;
-import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
@@ -22,6 +20,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelSnapshotReader;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetPeripheralJobResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.PeripheralJobConverter;
@@ -34,6 +33,8 @@ public class PeripheralJobHandler {
   private final PeripheralJobService jobService;
   private final PeripheralDispatcherService jobDispatcherService;
   private final KernelExecutorWrapper executorWrapper;
+  private final KernelSnapshotReader snapshotReader;
+  private final PeripheralJobQueryIndex jobQueryIndex;
   private final PeripheralJobConverter peripheralJobConverter;
 
   /**
@@ -42,17 +43,23 @@ public class PeripheralJobHandler {
    * @param jobService Used to create peripheral jobs.
    * @param jobDispatcherService Used to dispatch peripheral jobs.
    * @param executorWrapper Executes calls via the kernel executor and waits for the outcome.
+   * @param snapshotReader Reads data from the kernel without involving the kernel executor.
+   * @param jobQueryIndex Keeps peripheral jobs indexed for queries.
    */
   @Inject
   public PeripheralJobHandler(
       PeripheralJobService jobService,
       PeripheralDispatcherService jobDispatcherService,
       KernelExecutorWrapper executorWrapper,
+      KernelSnapshotReader snapshotReader,
+      PeripheralJobQueryIndex jobQueryIndex,
       PeripheralJobConverter peripheralJobConverter
   ) {
     this.jobService = requireNonNull(jobService, "jobService");
     this.jobDispatcherService = requireNonNull(jobDispatcherService, "jobDispatcherService");
     this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
+    this.snapshotReader = requireNonNull(snapshotReader, "snapshotReader");
+    this.jobQueryIndex = requireNonNull(jobQueryIndex, "jobQueryIndex");
     this.peripheralJobConverter = requireNonNull(peripheralJobConverter, "peripheralJobConverter");
   }
 
@@ -121,53 +128,34 @@ public class PeripheralJobHandler {
   }
 
   /**
-   * Returns all peripheral jobs, optionally filtered using the given parameters.
+   * Returns the peripheral jobs matching the given parameters.
    *
    * @param relatedVehicle Which vehicle to filter peripheral jobs for. Not filtered if the value is
    * null.
    * @param relatedTransportOrder Which transport order to filter peripheral jobs for. Not filtered
    * if the value is null.
-   * @return List of peripheral job states.
+   * @param query The query describing the (page of) peripheral jobs to be returned.
+   * @return The page of peripheral job states.
    */
-  public List<GetPeripheralJobResponseTO> getPeripheralJobs(
+  public ObjectPage<GetPeripheralJobResponseTO> getPeripheralJobs(
       @Nullable
       String relatedVehicle,
       @Nullable
-      String relatedTransportOrder
+      String relatedTransportOrder,
+      @Nonnull
+      ObjectQuery<PeripheralJob> query
   ) {
-    return executorWrapper.callAndWait(() -> {
-      // If a related vehicle is set, make sure it exists.
-      TCSObjectReference<Vehicle> relatedVehicleRef
-          = Optional.ofNullable(relatedVehicle)
-              .map(name -> jobService.fetchObject(Vehicle.class, name))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (relatedVehicle != null && relatedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + relatedVehicle);
-      }
-
-      // If a related transport order is set, make sure it exists.
-      TCSObjectReference<TransportOrder> relatedOrderRef
-          = Optional.ofNullable(relatedTransportOrder)
-              .map(name -> jobService.fetchObject(TransportOrder.class, name))
-              .map(TransportOrder::getReference)
-              .orElse(null);
+    requireNonNull(query, "query");
 
-      if (relatedTransportOrder != null && relatedOrderRef == null) {
-        throw new ObjectUnknownException("Unknown oransport order: " + relatedVehicle);
-      }
+    TCSObjectReference<TransportOrder> relatedOrderRef
+        = relatedOrderReference(relatedVehicle, relatedTransportOrder);
 
-      return jobService.fetchObjects(
-          PeripheralJob.class,
-          Filters.peripheralJobWithRelatedVehicle(relatedVehicleRef)
-              .and(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef))
-      )
-          .stream()
-          .map(peripheralJob -> peripheralJobConverter.toGetPeripheralJobResponseTO(peripheralJob))
-          .sorted(Comparator.comparing(GetPeripheralJobResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    // The related vehicle is indexed, so filter for it via the query.
+    ObjectQuery<PeripheralJob> effectiveQuery
+        = (relatedVehicle == null ? query : query.withVehicle(relatedVehicle))
+            .withFilter(Filters.peripheralJobWithRelatedTransportOrder(relatedOrderRef));
+    return jobQueryIndex.query(effectiveQuery)
+        .map(peripheralJob -> peripheralJobConverter.toGetPeripheralJobResponseTO(peripheralJob));
   }
 
   /**
@@ -182,13 +170,45 @@ public class PeripheralJobHandler {
   ) {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      PeripheralJob job = jobService.fetchObject(PeripheralJob.class, name);
-      if (job == null) {
-        throw new ObjectUnknownException("Unknown peripheral job: " + name);
+    PeripheralJob job
+        = snapshotReader.read(() -> jobService.fetchObject(PeripheralJob.class, name));
+    if (job == null) {
+      throw new ObjectUnknownException("Unknown peripheral job: " + name);
+    }
+
+    return peripheralJobConverter.toGetPeripheralJobResponseTO(job);
+  }
+
+  @Nullable
+  private TCSObjectReference<TransportOrder> relatedOrderReference(
+      @Nullable
+      String relatedVehicle,
+      @Nullable
+      String relatedTransportOrder
+  )
+      throws ObjectUnknownException {
+    if (relatedVehicle == null && relatedTransportOrder == null) {
+      return null;
+    }
+
+    return snapshotReader.read(() -> {
+      // If a related vehicle is set, make sure it exists.
+      if (relatedVehicle != null && jobService.fetchObject(Vehicle.class, relatedVehicle) == null) {
+        throw new ObjectUnknownException("Unknown vehicle: " + relatedVehicle);
+      }
+
+      // If a related transport order is set, make sure it exists.
+      TCSObjectReference<TransportOrder> orderRef
+          = Optional.ofNullable(relatedTransportOrder)
+              .map(name -> jobService.fetchObject(TransportOrder.class, name))
+              .map(TransportOrder::getReference)
+              .orElse(null);
+
+      if (relatedTransportOrder != null && orderRef == null) {
+        throw new ObjectUnknownException("Unknown transport order: " + relatedTransportOrder);
       }
 
-      return peripheralJobConverter.toGetPeripheralJobResponseTO(job);
+      return orderRef;
     });
   }
 }
@@ -0,0 +1,71 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.time.Instant;
+import org.opentcs.components.kernel.services.PeripheralJobService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Keeps peripheral jobs indexed by their names, states, related vehicles, creation times and
+ * update times.
+ * (Peripheral jobs do not have a type.)
+ */
+public class PeripheralJobQueryIndex
+    extends
+      ObjectQueryIndex<PeripheralJob> {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where we register for application events.
+   * @param jobService The service we use to fetch the peripheral jobs initially.
+   */
+  @Inject
+  public PeripheralJobQueryIndex(
+      @ApplicationEventBus
+      EventSource eventSource,
+      PeripheralJobService jobService
+  ) {
+    super(PeripheralJob.class, eventSource, jobService);
+  }
+
+  @Override
+  protected String stateOf(
+      @Nonnull
+      PeripheralJob object
+  ) {
+    return object.getState().name();
+  }
+
+  @Override
+  @Nullable
+  protected String typeOf(
+      @Nonnull
+      PeripheralJob object
+  ) {
+    return null;
+  }
+
+  @Override
+  @Nullable
+  protected String vehicleOf(
+      @Nonnull
+      PeripheralJob object
+  ) {
+    return object.getRelatedVehicle() == null ? null : object.getRelatedVehicle().getName();
+  }
+
+  @Override
+  protected Instant creationTimeOf(
+      @Nonnull
+      PeripheralJob object
+  ) {
+    return object.getCreationTime();
+  }
+}
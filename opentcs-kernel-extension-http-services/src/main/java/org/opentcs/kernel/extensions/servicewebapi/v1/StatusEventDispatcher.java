@@ -7,9 +7,11 @@ import static org.opentcs.util.Assertions.checkInRange;
 
 import jakarta.inject.Inject;
 import java.time.Instant;
-import java.util.Collection;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelStateTransitionEvent;
 import org.opentcs.components.Lifecycle;
@@ -27,8 +29,6 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.converter.TransportOrderCo
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.VehicleConverter;
 import org.opentcs.util.event.EventHandler;
 import org.opentcs.util.event.EventSource;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Provides descriptions of recent events.
@@ -38,10 +38,6 @@ public class StatusEventDispatcher
       Lifecycle,
       EventHandler {
 
-  /**
-   * This class's logger.
-   */
-  private static final Logger LOG = LoggerFactory.getLogger(StatusEventDispatcher.class);
   /**
    * The interface configuration.
    */
@@ -63,11 +59,16 @@ public class StatusEventDispatcher
    */
   private final PeripheralJobConverter peripheralJobConverter;
   /**
-   * The events collected.
+   * The events collected, in a ring buffer indexed by their sequence numbers.
+   */
+  private RecordedEvent[] events = new RecordedEvent[0];
+  /**
+   * Fetches waiting for events to arrive.
+   * Also serves as the lock guarding the collected events and the event count.
    */
-  private final SortedMap<Long, StatusMessage> events = new TreeMap<>();
+  private final List<PendingFetch> pendingFetches = new ArrayList<>();
   /**
-   * The number of events collected so far.
+   * The number of events collected so far, i.e. the sequence number of the next event.
    */
   private long eventCount;
   /**
@@ -150,25 +151,58 @@ public class StatusEventDispatcher
    */
   public GetEventsResponseTO fetchEvents(long minSequenceNo, long maxSequenceNo, long timeout)
       throws IllegalArgumentException {
+    return fetchEventsAsync(minSequenceNo, maxSequenceNo, timeout).join();
+  }
+
+  /**
+   * Provides a list of events within the given range, waiting at most <code>timeout</code>
+   * milliseconds for new events if there currently aren't any.
+   * <p>
+   * No thread is blocked while waiting. The returned future is completed as soon as an event
+   * within the given range arrives or the timeout expires.
+   * </p>
+   *
+   * @param minSequenceNo The minimum sequence number for accepted events.
+   * @param maxSequenceNo The maximum sequence number for accepted events.
+   * @param timeout The maximum time to wait for events (in ms) if there currently aren't any.
+   * @return A future providing the list of events within the given range.
+   */
+  public CompletableFuture<GetEventsResponseTO> fetchEventsAsync(
+      long minSequenceNo,
+      long maxSequenceNo,
+      long timeout
+  )
+      throws IllegalArgumentException {
     checkInRange(minSequenceNo, 0, Long.MAX_VALUE, "minSequenceNo");
     checkInRange(maxSequenceNo, minSequenceNo, Long.MAX_VALUE, "maxSequenceNo");
     checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
 
-    GetEventsResponseTO result = new GetEventsResponseTO();
-    synchronized (events) {
-      Collection<StatusMessage> messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      if (messages.isEmpty()) {
-        try {
-          events.wait(timeout);
-        }
-        catch (InterruptedException exc) {
-          LOG.warn("Unexpectedly interrupted", exc);
-        }
+    List<RecordedEvent> recordedEvents;
+    PendingFetch pendingFetch = null;
+    synchronized (pendingFetches) {
+      recordedEvents = recordedEvents(minSequenceNo, maxSequenceNo);
+      if (recordedEvents.isEmpty() && timeout > 0) {
+        pendingFetch = new PendingFetch(minSequenceNo, maxSequenceNo, new CompletableFuture<>());
+        pendingFetches.add(pendingFetch);
       }
-      messages = events.subMap(minSequenceNo, maxSequenceNo).values();
-      result.getStatusMessages().addAll(messages);
     }
-    return result;
+
+    if (pendingFetch == null) {
+      return CompletableFuture.completedFuture(toResponse(recordedEvents));
+    }
+
+    // Convert the events on a pool thread rather than on the thread that completed the future,
+    // which may be the application's event bus thread.
+    PendingFetch fetch = pendingFetch;
+    return fetch.eventsArrived()
+        .completeOnTimeout(null, timeout, TimeUnit.MILLISECONDS)
+        .thenApplyAsync(ignored -> {
+          synchronized (pendingFetches) {
+            pendingFetches.remove(fetch);
+            return recordedEvents(minSequenceNo, maxSequenceNo);
+          }
+        })
+        .thenApply(this::toResponse);
   }
 
   private void handleStateTransition(KernelStateTransitionEvent event) {
@@ -178,70 +212,145 @@ public class StatusEventDispatcher
 
     // When switching collecting of events on, ensure we start clean.
     if (!wasOn && eventCollectingOn) {
-      synchronized (events) {
+      synchronized (pendingFetches) {
         eventCount = 0;
-        events.clear();
+        events = new RecordedEvent[Math.max(configuration.statusEventsCapacity(), 1)];
       }
     }
   }
 
   private void handleObjectEvent(TCSObjectEvent event) {
     TCSObject<?> object = event.getCurrentOrPreviousObjectState();
-    if (object instanceof TransportOrder) {
-      synchronized (events) {
-        addOrderStatusMessage((TransportOrder) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
-      }
+    if (!(object instanceof TransportOrder)
+        && !(object instanceof Vehicle)
+        && !(object instanceof PeripheralJob)) {
+      return;
     }
-    else if (object instanceof Vehicle) {
-      synchronized (events) {
-        addVehicleStatusMessage((Vehicle) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
+
+    List<PendingFetch> completedFetches = new ArrayList<>();
+    synchronized (pendingFetches) {
+      // Only record the object here. Converting it is deferred until the event is fetched.
+      long sequenceNumber = eventCount;
+      events[(int) (sequenceNumber % events.length)]
+          = new RecordedEvent(sequenceNumber, object, Instant.now());
+      eventCount++;
+
+      for (Iterator<PendingFetch> iter = pendingFetches.iterator(); iter.hasNext();) {
+        PendingFetch pendingFetch = iter.next();
+        if (pendingFetch.accepts(sequenceNumber)) {
+          iter.remove();
+          completedFetches.add(pendingFetch);
+        }
       }
     }
-    else if (object instanceof PeripheralJob) {
-      synchronized (events) {
-        addPeripheralStatusMessage((PeripheralJob) object, eventCount);
-        eventCount++;
-        cleanUpEvents();
-        events.notifyAll();
-      }
+
+    for (PendingFetch pendingFetch : completedFetches) {
+      pendingFetch.eventsArrived().complete(null);
+    }
+  }
+
+  /**
+   * Returns the recorded events within the given range.
+   * Expects the caller to hold the lock on {@link #pendingFetches}.
+   *
+   * @param minSequenceNo The minimum sequence number (inclusive).
+   * @param maxSequenceNo The maximum sequence number (exclusive).
+   * @return The recorded events within the given range.
+   */
+  private List<RecordedEvent> recordedEvents(long minSequenceNo, long maxSequenceNo) {
+    long first = Math.max(minSequenceNo, eventCount - events.length);
+    long last = Math.min(maxSequenceNo, eventCount);
+
+    List<RecordedEvent> result = new ArrayList<>();
+    for (long sequenceNumber = first; sequenceNumber < last; sequenceNumber++) {
+      result.add(events[(int) (sequenceNumber % events.length)]);
     }
+    return result;
   }
 
-  private void addOrderStatusMessage(TransportOrder order, long sequenceNumber) {
-    events.put(
-        sequenceNumber,
-        transportOrderConverter.toOrderStatusMessage(order, sequenceNumber, Instant.now())
-    );
+  private GetEventsResponseTO toResponse(List<RecordedEvent> recordedEvents) {
+    GetEventsResponseTO result = new GetEventsResponseTO();
+    for (RecordedEvent recordedEvent : recordedEvents) {
+      result.getStatusMessages().add(toStatusMessage(recordedEvent));
+    }
+    return result;
   }
 
-  private void addVehicleStatusMessage(Vehicle vehicle, long sequenceNumber) {
-    events.put(
-        sequenceNumber, vehicleConverter.toVehicleStatusMessage(
-            vehicle,
-            sequenceNumber,
-            Instant.now()
-        )
-    );
+  private StatusMessage toStatusMessage(RecordedEvent recordedEvent) {
+    // Concurrent fetches may convert the same event more than once, which is harmless, as the
+    // conversion results are equal.
+    StatusMessage message = recordedEvent.statusMessage;
+    if (message == null) {
+      message = convert(
+          recordedEvent.object(),
+          recordedEvent.sequenceNumber(),
+          recordedEvent.timestamp()
+      );
+      recordedEvent.statusMessage = message;
+    }
+    return message;
   }
 
-  private void addPeripheralStatusMessage(PeripheralJob job, long sequenceNumber) {
-    events.put(
-        sequenceNumber,
-        peripheralJobConverter.toPeripheralJobStatusMessage(job, sequenceNumber, Instant.now())
-    );
+  private StatusMessage convert(TCSObject<?> object, long sequenceNumber, Instant timestamp) {
+    if (object instanceof TransportOrder order) {
+      return transportOrderConverter.toOrderStatusMessage(order, sequenceNumber, timestamp);
+    }
+    else if (object instanceof Vehicle vehicle) {
+      return vehicleConverter.toVehicleStatusMessage(vehicle, sequenceNumber, timestamp);
+    }
+    else if (object instanceof PeripheralJob job) {
+      return peripheralJobConverter.toPeripheralJobStatusMessage(job, sequenceNumber, timestamp);
+    }
+    throw new IllegalArgumentException("Unhandled object type: " + object);
   }
 
-  private void cleanUpEvents() {
-    // XXX Sanitize maxEventCount
-    int maxEventCount = configuration.statusEventsCapacity();
-    while (events.size() > maxEventCount) {
-      events.remove(events.firstKey());
+  /**
+   * An event recorded for a transport order, vehicle or peripheral job.
+   */
+  private static class RecordedEvent {
+
+    private final long sequenceNumber;
+    private final TCSObject<?> object;
+    private final Instant timestamp;
+    /**
+     * The status message for this event, or {@code null}, if it has not been converted, yet.
+     */
+    private volatile StatusMessage statusMessage;
+
+    RecordedEvent(long sequenceNumber, TCSObject<?> object, Instant timestamp) {
+      this.sequenceNumber = sequenceNumber;
+      this.object = requireNonNull(object, "object");
+      this.timestamp = requireNonNull(timestamp, "timestamp");
+    }
+
+    long sequenceNumber() {
+      return sequenceNumber;
+    }
+
+    TCSObject<?> object() {
+      return object;
+    }
+
+    Instant timestamp() {
+      return timestamp;
+    }
+  }
+
+  /**
+   * A fetch waiting for events within a range of sequence numbers.
+   *
+   * @param minSequenceNo The minimum sequence number (inclusive).
+   * @param maxSequenceNo The maximum sequence number (exclusive).
+   * @param eventsArrived Completed when events within the range have arrived.
+   */
+  private record PendingFetch(
+      long minSequenceNo,
+      long maxSequenceNo,
+      CompletableFuture<Void> eventsArrived
+  ) {
+
+    boolean accepts(long sequenceNumber) {
+      return minSequenceNo <= sequenceNumber && sequenceNumber < maxSequenceNo;
     }
   }
 }
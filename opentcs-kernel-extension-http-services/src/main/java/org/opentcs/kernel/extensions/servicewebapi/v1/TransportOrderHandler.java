@@ -4,21 +4,21 @@ package org.opentcs.kernel.extensions.servicewebapi.v1;
 
 import static java.util.Objects.requireNonNull;
 
+import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.ObjectExistsException;
@@ -29,11 +29,15 @@ import org.opentcs.data.order.OrderConstants;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelSnapshotReader;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetOrderSequenceResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.CreationResultTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.OrderSequenceConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.TransportOrderConverter;
@@ -45,6 +49,9 @@ public class TransportOrderHandler {
 
   private final TransportOrderService orderService;
   private final KernelExecutorWrapper executorWrapper;
+  private final KernelSnapshotReader snapshotReader;
+  private final TransportOrderQueryIndex orderQueryIndex;
+  private final OrderSequenceQueryIndex sequenceQueryIndex;
   private final OrderSequenceConverter orderSequenceConverter;
   private final TransportOrderConverter transportOrderConverter;
 
@@ -53,16 +60,25 @@ public class TransportOrderHandler {
    *
    * @param orderService The service we use to get the transport orders.
    * @param executorWrapper Executes calls via the kernel executor and waits for the outcome.
+   * @param snapshotReader Reads data from the kernel without involving the kernel executor.
+   * @param orderQueryIndex Keeps transport orders indexed for queries.
+   * @param sequenceQueryIndex Keeps order sequences indexed for queries.
    */
   @Inject
   public TransportOrderHandler(
       TransportOrderService orderService,
       KernelExecutorWrapper executorWrapper,
+      KernelSnapshotReader snapshotReader,
+      TransportOrderQueryIndex orderQueryIndex,
+      OrderSequenceQueryIndex sequenceQueryIndex,
       OrderSequenceConverter orderSequenceConverter,
       TransportOrderConverter transportOrderConverter
   ) {
     this.orderService = requireNonNull(orderService, "orderService");
     this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
+    this.snapshotReader = requireNonNull(snapshotReader, "snapshotReader");
+    this.orderQueryIndex = requireNonNull(orderQueryIndex, "orderQueryIndex");
+    this.sequenceQueryIndex = requireNonNull(sequenceQueryIndex, "sequenceQueryIndex");
     this.orderSequenceConverter
         = requireNonNull(orderSequenceConverter, "orderSequenceConverter");
     this.transportOrderConverter
@@ -77,23 +93,40 @@ public class TransportOrderHandler {
     requireNonNull(name, "name");
     requireNonNull(order, "order");
 
-    TransportOrderCreationTO to
-        = new TransportOrderCreationTO(name, destinations(order))
-            .withIncompleteName(order.isIncompleteName())
-            .withDispensable(order.isDispensable())
-            .withIntendedVehicleName(order.getIntendedVehicle())
-            .withDependencyNames(dependencyNames(order.getDependencies()))
-            .withDeadline(deadline(order))
-            .withPeripheralReservationToken(order.getPeripheralReservationToken())
-            .withWrappingSequence(order.getWrappingSequence())
-            .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
-            .withProperties(properties(order.getProperties()));
+    TransportOrderCreationTO to = toCreationTO(name, order);
 
     return executorWrapper.callAndWait(() -> {
       return orderService.createTransportOrder(to);
     });
   }
 
+  /**
+   * Creates a batch of transport orders with a single call to the kernel.
+   * <p>
+   * A transport order that cannot be created does not prevent the creation of the others. The
+   * outcome for each transport order is reported in the response, in the order of the request.
+   * </p>
+   *
+   * @param orders The transport orders to be created.
+   * @return The results of creating the transport orders.
+   */
+  public PostTransportOrdersResponseTO createOrders(PostTransportOrdersRequestTO orders)
+      throws KernelRuntimeException,
+        IllegalStateException {
+    requireNonNull(orders, "orders");
+
+    List<TransportOrderCreationTO> tos = orders.getTransportOrders().stream()
+        .map(order -> toCreationTO(order.getName(), order.getTransportOrder()))
+        .toList();
+
+    List<TransportOrderCreationResult> results = executorWrapper.callAndWait(() -> {
+      return orderService.createTransportOrders(tos);
+    });
+
+    return new PostTransportOrdersResponseTO()
+        .setResults(results.stream().map(this::toCreationResultTO).toList());
+  }
+
   public void updateTransportOrderIntendedVehicle(
       String orderName,
       @Nullable
@@ -123,37 +156,29 @@ public class TransportOrderHandler {
   }
 
   /**
-   * Find all transport orders and filters depending on the given parameters.
+   * Finds the transport orders matching the given parameters.
    *
    * @param intendedVehicle The filter parameter for the name of the
    * intended vehicle for the transport order. The filtering is disabled for this parameter if the
    * value is null.
-   * @return A list of transport orders that match the filter.
+   * @param query The query describing the (page of) transport orders to be found.
+   * @return The page of transport orders that match the filter and the query.
+   * @throws ObjectUnknownException If the intended vehicle does not exist.
    */
-  public List<GetTransportOrderResponseTO> getTransportOrders(
+  public ObjectPage<GetTransportOrderResponseTO> getTransportOrders(
       @Nullable
-      String intendedVehicle
-  ) {
-    return executorWrapper.callAndWait(() -> {
-      TCSObjectReference<Vehicle> intendedVehicleRef
-          = Optional.ofNullable(intendedVehicle)
-              .map(name -> orderService.fetchObject(Vehicle.class, name))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (intendedVehicle != null && intendedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
-      }
+      String intendedVehicle,
+      @Nonnull
+      ObjectQuery<TransportOrder> query
+  )
+      throws ObjectUnknownException {
+    requireNonNull(query, "query");
 
-      return orderService.fetchObjects(
-          TransportOrder.class,
-          Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)
-      )
-          .stream()
-          .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
-          .sorted(Comparator.comparing(GetTransportOrderResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    TCSObjectReference<Vehicle> intendedVehicleRef = intendedVehicleReference(intendedVehicle);
+
+    return orderQueryIndex
+        .query(query.withFilter(Filters.transportOrderWithIntendedVehicle(intendedVehicleRef)))
+        .map(order -> transportOrderConverter.toGetTransportOrderResponse(order));
   }
 
   /**
@@ -167,11 +192,11 @@ public class TransportOrderHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return Optional.ofNullable(orderService.fetchObject(TransportOrder.class, name))
-          .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
-          .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
-    });
+    return Optional.ofNullable(
+        snapshotReader.read(() -> orderService.fetchObject(TransportOrder.class, name))
+    )
+        .map(order -> transportOrderConverter.toGetTransportOrderResponse(order))
+        .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
   }
 
   public OrderSequence createOrderSequence(String name, PostOrderSequenceRequestTO sequence)
@@ -208,41 +233,88 @@ public class TransportOrderHandler {
     });
   }
 
-  public List<GetOrderSequenceResponseTO> getOrderSequences(
+  /**
+   * Finds the order sequences matching the given parameters.
+   *
+   * @param intendedVehicle The filter parameter for the name of the intended vehicle for the
+   * order sequence. The filtering is disabled for this parameter if the value is null.
+   * @param query The query describing the (page of) order sequences to be found.
+   * @return The page of order sequences that match the filter and the query.
+   * @throws ObjectUnknownException If the intended vehicle does not exist.
+   */
+  public ObjectPage<GetOrderSequenceResponseTO> getOrderSequences(
       @Nullable
-      String intendedVehicle
-  ) {
-    return executorWrapper.callAndWait(() -> {
-      TCSObjectReference<Vehicle> intendedVehicleRef
-          = Optional.ofNullable(intendedVehicle)
-              .map(name -> orderService.fetchObject(Vehicle.class, name))
-              .map(Vehicle::getReference)
-              .orElse(null);
-
-      if (intendedVehicle != null && intendedVehicleRef == null) {
-        throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
-      }
+      String intendedVehicle,
+      @Nonnull
+      ObjectQuery<OrderSequence> query
+  )
+      throws ObjectUnknownException {
+    requireNonNull(query, "query");
 
-      return orderService.fetchObjects(
-          OrderSequence.class,
-          Filters.orderSequenceWithIntendedVehicle(intendedVehicleRef)
-      )
-          .stream()
-          .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
-          .sorted(Comparator.comparing(GetOrderSequenceResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    TCSObjectReference<Vehicle> intendedVehicleRef = intendedVehicleReference(intendedVehicle);
+
+    return sequenceQueryIndex
+        .query(query.withFilter(Filters.orderSequenceWithIntendedVehicle(intendedVehicleRef)))
+        .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence));
   }
 
   public GetOrderSequenceResponseTO getOrderSequenceByName(String name)
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return Optional.ofNullable(orderService.fetchObject(OrderSequence.class, name))
-          .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
-          .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
-    });
+    return Optional.ofNullable(
+        snapshotReader.read(() -> orderService.fetchObject(OrderSequence.class, name))
+    )
+        .map(sequence -> orderSequenceConverter.toGetOrderSequenceResponseTO(sequence))
+        .orElseThrow(() -> new ObjectUnknownException("Unknown transport order: " + name));
+  }
+
+  @Nullable
+  private TCSObjectReference<Vehicle> intendedVehicleReference(
+      @Nullable
+      String intendedVehicle
+  )
+      throws ObjectUnknownException {
+    if (intendedVehicle == null) {
+      return null;
+    }
+
+    Vehicle vehicle = snapshotReader.read(
+        () -> orderService.fetchObject(Vehicle.class, intendedVehicle)
+    );
+    if (vehicle == null) {
+      throw new ObjectUnknownException("Unknown vehicle: " + intendedVehicle);
+    }
+    return vehicle.getReference();
+  }
+
+  private TransportOrderCreationTO toCreationTO(String name, PostTransportOrderRequestTO order) {
+    return new TransportOrderCreationTO(name, destinations(order))
+        .withIncompleteName(order.isIncompleteName())
+        .withDispensable(order.isDispensable())
+        .withIntendedVehicleName(order.getIntendedVehicle())
+        .withDependencyNames(dependencyNames(order.getDependencies()))
+        .withDeadline(deadline(order))
+        .withPeripheralReservationToken(order.getPeripheralReservationToken())
+        .withWrappingSequence(order.getWrappingSequence())
+        .withType(order.getType() == null ? OrderConstants.TYPE_NONE : order.getType())
+        .withProperties(properties(order.getProperties()));
+  }
+
+  private CreationResultTO toCreationResultTO(TransportOrderCreationResult result) {
+    if (!result.isSuccessful()) {
+      return new CreationResultTO()
+          .setName(result.getRequestedName())
+          .setSuccessful(false)
+          .setError(result.getFailureReason());
+    }
+
+    return new CreationResultTO()
+        .setName(result.getTransportOrder().getName())
+        .setSuccessful(true)
+        .setTransportOrder(
+            transportOrderConverter.toGetTransportOrderResponse(result.getTransportOrder())
+        );
   }
 
   private List<DestinationCreationTO> destinations(PostTransportOrderRequestTO order) {
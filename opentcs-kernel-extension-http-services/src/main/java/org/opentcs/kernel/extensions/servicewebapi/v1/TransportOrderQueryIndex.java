@@ -0,0 +1,69 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.time.Instant;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Keeps transport orders indexed by their names, states, types, processing vehicles, creation
+ * times and update times.
+ */
+public class TransportOrderQueryIndex
+    extends
+      ObjectQueryIndex<TransportOrder> {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where we register for application events.
+   * @param orderService The service we use to fetch the transport orders initially.
+   */
+  @Inject
+  public TransportOrderQueryIndex(
+      @ApplicationEventBus
+      EventSource eventSource,
+      TransportOrderService orderService
+  ) {
+    super(TransportOrder.class, eventSource, orderService);
+  }
+
+  @Override
+  protected String stateOf(
+      @Nonnull
+      TransportOrder object
+  ) {
+    return object.getState().name();
+  }
+
+  @Override
+  protected String typeOf(
+      @Nonnull
+      TransportOrder object
+  ) {
+    return object.getType();
+  }
+
+  @Override
+  @Nullable
+  protected String vehicleOf(
+      @Nonnull
+      TransportOrder object
+  ) {
+    return object.getProcessingVehicle() == null ? null : object.getProcessingVehicle().getName();
+  }
+
+  @Override
+  protected Instant creationTimeOf(
+      @Nonnull
+      TransportOrder object
+  ) {
+    return object.getCreationTime();
+  }
+}
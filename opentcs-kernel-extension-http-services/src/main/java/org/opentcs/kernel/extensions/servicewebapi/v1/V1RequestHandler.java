@@ -8,33 +8,56 @@ import static io.javalin.apibuilder.ApiBuilder.post;
 import static io.javalin.apibuilder.ApiBuilder.put;
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.io.CountingOutputStream;
 import io.javalin.apibuilder.EndpointGroup;
 import io.javalin.http.Context;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.kernel.extensions.servicewebapi.HttpConstants;
 import org.opentcs.kernel.extensions.servicewebapi.JsonBinder;
 import org.opentcs.kernel.extensions.servicewebapi.RequestHandler;
+import org.opentcs.kernel.extensions.servicewebapi.ResponseEncoding;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetVehicleResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PlantModelTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTopologyUpdateRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleCommAdapterMessageRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PutVehicleAcceptableOrderTypesTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PutVehicleAllowedOrderTypesTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PutVehicleEnergyLevelThresholdSetTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.CreationResultTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.OrderSequenceConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.PeripheralAttachmentInformationConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.PeripheralJobConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.TransportOrderConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.VehicleAttachmentInformationConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Handles requests and produces responses for version 1 of the web API.
@@ -43,8 +66,15 @@ public class V1RequestHandler
     implements
       RequestHandler {
 
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(V1RequestHandler.class);
   private final JsonBinder jsonBinder;
   private final StatusEventDispatcher statusEventDispatcher;
+  private final TransportOrderQueryIndex orderQueryIndex;
+  private final OrderSequenceQueryIndex sequenceQueryIndex;
+  private final PeripheralJobQueryIndex jobQueryIndex;
   private final TransportOrderDispatcherHandler orderDispatcherHandler;
   private final TransportOrderHandler transportOrderHandler;
   private final PeripheralJobHandler peripheralJobHandler;
@@ -66,6 +96,9 @@ public class V1RequestHandler
   public V1RequestHandler(
       JsonBinder jsonBinder,
       StatusEventDispatcher statusEventDispatcher,
+      TransportOrderQueryIndex orderQueryIndex,
+      OrderSequenceQueryIndex sequenceQueryIndex,
+      PeripheralJobQueryIndex jobQueryIndex,
       TransportOrderDispatcherHandler orderDispatcherHandler,
       TransportOrderHandler transportOrderHandler,
       PeripheralJobHandler peripheralJobHandler,
@@ -83,6 +116,9 @@ public class V1RequestHandler
   ) {
     this.jsonBinder = requireNonNull(jsonBinder, "jsonBinder");
     this.statusEventDispatcher = requireNonNull(statusEventDispatcher, "statusEventDispatcher");
+    this.orderQueryIndex = requireNonNull(orderQueryIndex, "orderQueryIndex");
+    this.sequenceQueryIndex = requireNonNull(sequenceQueryIndex, "sequenceQueryIndex");
+    this.jobQueryIndex = requireNonNull(jobQueryIndex, "jobQueryIndex");
     this.orderDispatcherHandler = requireNonNull(orderDispatcherHandler, "orderDispatcherHandler");
     this.transportOrderHandler = requireNonNull(transportOrderHandler, "transportOrderHandler");
     this.peripheralJobHandler = requireNonNull(peripheralJobHandler, "peripheralJobHandler");
@@ -112,6 +148,9 @@ public class V1RequestHandler
     }
 
     statusEventDispatcher.initialize();
+    orderQueryIndex.initialize();
+    sequenceQueryIndex.initialize();
+    jobQueryIndex.initialize();
 
     initialized = true;
   }
@@ -127,6 +166,9 @@ public class V1RequestHandler
       return;
     }
 
+    jobQueryIndex.terminate();
+    sequenceQueryIndex.terminate();
+    orderQueryIndex.terminate();
     statusEventDispatcher.terminate();
 
     initialized = false;
@@ -172,6 +214,7 @@ public class V1RequestHandler
           );
           post("/transportOrders/{NAME}/withdrawal", this::handlePostWithdrawalByOrder);
           post("/transportOrders/{NAME}", this::handlePostTransportOrder);
+          post("/transportOrders", this::handlePostTransportOrders);
           put(
               "/transportOrders/{NAME}/intendedVehicle",
               this::handlePutTransportOrderIntendedVehicle
@@ -224,11 +267,16 @@ public class V1RequestHandler
   public void handleGetEvents(Context ctx)
       throws IllegalArgumentException,
         IllegalStateException {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            statusEventDispatcher.fetchEvents(minSequenceNo(ctx), maxSequenceNo(ctx), timeout(ctx))
-        )
+    long minSequenceNo = minSequenceNo(ctx);
+    long maxSequenceNo = maxSequenceNo(ctx);
+    long timeout = timeout(ctx);
+    // Respond asynchronously so that waiting for events does not occupy a server thread.
+    ctx.future(
+        () -> statusEventDispatcher.fetchEventsAsync(minSequenceNo, maxSequenceNo, timeout)
+            .thenAccept(response -> {
+              ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+              ctx.result(jsonBinder.toJson(response));
+            })
     );
   }
 
@@ -307,6 +355,20 @@ public class V1RequestHandler
     );
   }
 
+  private void handlePostTransportOrders(Context ctx)
+      throws IllegalArgumentException,
+        IllegalStateException {
+    PostTransportOrdersResponseTO response = transportOrderHandler.createOrders(
+        jsonBinder.fromJson(ctx.body(), PostTransportOrdersRequestTO.class)
+    );
+    // Trigger the dispatcher only once for the whole batch instead of once per transport order.
+    if (response.getResults().stream().anyMatch(CreationResultTO::isSuccessful)) {
+      orderDispatcherHandler.triggerDispatcher();
+    }
+    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
+    ctx.result(jsonBinder.toJson(response));
+  }
+
   private void handlePutTransportOrderIntendedVehicle(Context ctx)
       throws ObjectUnknownException {
     transportOrderHandler.updateTransportOrderIntendedVehicle(
@@ -335,13 +397,16 @@ public class V1RequestHandler
     );
   }
 
-  private void handleGetOrderSequences(Context ctx) {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            transportOrderHandler.getOrderSequences(
-                ctx.queryParam("intendedVehicle")
-            )
+  private void handleGetOrderSequences(Context ctx)
+      throws ObjectUnknownException,
+        IllegalArgumentException {
+    writePage(
+        ctx,
+        transportOrderHandler.getOrderSequences(
+            ctx.queryParam("intendedVehicle"),
+            this.<OrderSequence>objectQuery(ctx)
+                .withType(ctx.queryParam("type"))
+                .withVehicle(ctx.queryParam("processingVehicle"))
         )
     );
   }
@@ -405,13 +470,16 @@ public class V1RequestHandler
     ctx.result("");
   }
 
-  private void handleGetTransportOrders(Context ctx) {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            transportOrderHandler.getTransportOrders(
-                ctx.queryParam("intendedVehicle")
-            )
+  private void handleGetTransportOrders(Context ctx)
+      throws ObjectUnknownException,
+        IllegalArgumentException {
+    writePage(
+        ctx,
+        transportOrderHandler.getTransportOrders(
+            ctx.queryParam("intendedVehicle"),
+            this.<TransportOrder>objectQuery(ctx)
+                .withType(ctx.queryParam("type"))
+                .withVehicle(ctx.queryParam("processingVehicle"))
         )
     );
   }
@@ -425,8 +493,11 @@ public class V1RequestHandler
   }
 
   private void handleGetPlantModel(Context ctx) {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(jsonBinder.toJson(plantModelHandler.getPlantModel()));
+    PlantModelTO plantModel = plantModelHandler.getPlantModel();
+    writeResponse(
+        ctx,
+        (encoding, outputStream) -> jsonBinder.writeValue(plantModel, encoding, outputStream)
+    );
   }
 
   private void handlePostUpdateTopology(Context ctx)
@@ -471,11 +542,12 @@ public class V1RequestHandler
 
   private void handleGetVehicles(Context ctx)
       throws IllegalArgumentException {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            vehicleHandler.getVehiclesState(ctx.queryParam("procState"))
-        )
+    List<GetVehicleResponseTO> vehicles = vehicleHandler.getVehiclesState(
+        ctx.queryParam("procState")
+    );
+    writeResponse(
+        ctx,
+        (encoding, outputStream) -> jsonBinder.writeArray(vehicles, null, encoding, outputStream)
     );
   }
 
@@ -585,14 +657,15 @@ public class V1RequestHandler
     );
   }
 
-  private void handleGetPeripheralJobs(Context ctx) {
-    ctx.contentType(HttpConstants.CONTENT_TYPE_APPLICATION_JSON_UTF8);
-    ctx.result(
-        jsonBinder.toJson(
-            peripheralJobHandler.getPeripheralJobs(
-                ctx.queryParam("relatedVehicle"),
-                ctx.queryParam("relatedTransportOrder")
-            )
+  private void handleGetPeripheralJobs(Context ctx)
+      throws ObjectUnknownException,
+        IllegalArgumentException {
+    writePage(
+        ctx,
+        peripheralJobHandler.getPeripheralJobs(
+            ctx.queryParam("relatedVehicle"),
+            ctx.queryParam("relatedTransportOrder"),
+            this.<PeripheralJob>objectQuery(ctx)
         )
     );
   }
@@ -637,6 +710,108 @@ public class V1RequestHandler
     ctx.result("");
   }
 
+  /**
+   * Writes the given page to the response, streaming the objects on it.
+   * The cursor for the next page, if any, is provided via a response header.
+   */
+  private void writePage(Context ctx, ObjectPage<?> page) {
+    if (page.getNextCursor() != null) {
+      // Object names may contain characters not allowed in headers, so encode the cursor so that
+      // it can be passed back as a query parameter as it is.
+      ctx.header(
+          HttpConstants.HEADER_NAME_NEXT_CURSOR,
+          URLEncoder.encode(page.getNextCursor(), StandardCharsets.UTF_8)
+      );
+    }
+    Set<String> fields = fields(ctx);
+    writeResponse(
+        ctx,
+        (encoding, outputStream) -> {
+          jsonBinder.writeArray(page.getObjects(), fields, encoding, outputStream);
+        }
+    );
+  }
+
+  /**
+   * Writes the response body using the encoding negotiated with the client, streaming it to the
+   * client instead of creating it in memory as a whole first.
+   *
+   * @param ctx The request context.
+   * @param writer Writes the response body in the given encoding to the given output stream.
+   */
+  private void writeResponse(Context ctx, BiConsumer<ResponseEncoding, OutputStream> writer) {
+    ResponseEncoding encoding = ResponseEncoding.forAcceptHeader(ctx.header("Accept"));
+    ctx.contentType(encoding.getContentType());
+
+    long startTime = System.nanoTime();
+    CountingOutputStream outputStream = new CountingOutputStream(ctx.outputStream());
+    writer.accept(encoding, outputStream);
+    LOG.debug(
+        "{} {}: Wrote {} bytes ({}, before compression) in {} ms.",
+        ctx.method(),
+        ctx.endpointHandlerPath(),
+        outputStream.getCount(),
+        encoding,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)
+    );
+  }
+
+  private <T extends TCSObject<T>> ObjectQuery<T> objectQuery(Context ctx)
+      throws IllegalArgumentException {
+    return new ObjectQuery<T>()
+        .withStates(commaSeparatedValues(ctx.queryParams("state")))
+        .withCreatedFrom(instant(ctx, "createdFrom"))
+        .withCreatedTo(instant(ctx, "createdTo"))
+        .withUpdatedSince(instant(ctx, "updatedSince"))
+        .withCursor(ctx.queryParam("cursor"))
+        .withLimit(limit(ctx));
+  }
+
+  @Nullable
+  private Set<String> fields(Context ctx) {
+    List<String> params = ctx.queryParams("fields");
+    return params.isEmpty() ? null : commaSeparatedValues(params);
+  }
+
+  private Set<String> commaSeparatedValues(List<String> params) {
+    return params.stream()
+        .flatMap(param -> Arrays.stream(param.split(",")))
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .collect(Collectors.toSet());
+  }
+
+  @Nullable
+  private Instant instant(Context ctx, String paramName)
+      throws IllegalArgumentException {
+    String param = ctx.queryParam(paramName);
+    if (param == null) {
+      return null;
+    }
+    try {
+      return Instant.parse(param);
+    }
+    catch (DateTimeParseException exc) {
+      throw new IllegalArgumentException("Malformed " + paramName + ": " + param);
+    }
+  }
+
+  private int limit(Context ctx)
+      throws IllegalArgumentException {
+    String param = ctx.queryParamAsClass("limit", String.class)
+        .getOrDefault(String.valueOf(Integer.MAX_VALUE));
+    try {
+      int limit = Integer.parseInt(param);
+      if (limit < 1) {
+        throw new IllegalArgumentException("limit must be at least 1: " + param);
+      }
+      return limit;
+    }
+    catch (NumberFormatException exc) {
+      throw new IllegalArgumentException("Malformed limit: " + param);
+    }
+  }
+
   private int maxRoutePerDestinationPoint(Context ctx)
       throws IllegalArgumentException {
     String param = ctx.queryParamAsClass("maxRoutesPerDestinationPoint", String.class)
@@ -676,7 +851,7 @@ public class V1RequestHandler
       throws IllegalArgumentException {
     String param = ctx.queryParamAsClass("timeout", String.class).getOrDefault("1000");
     try {
-      // Allow a maximum timeout of 10 seconds so server threads are only bound for a limited time.
+      // Allow a maximum timeout of 10 seconds so clients get a response within a limited time.
       return Math.min(10000, Long.parseLong(param));
     }
     catch (NumberFormatException exc) {
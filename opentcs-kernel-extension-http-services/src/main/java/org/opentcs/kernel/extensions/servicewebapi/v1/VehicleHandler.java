@@ -30,6 +30,7 @@ import org.opentcs.drivers.vehicle.VehicleCommAdapterDescription;
 import org.opentcs.drivers.vehicle.VehicleCommAdapterMessage;
 import org.opentcs.drivers.vehicle.management.VehicleAttachmentInformation;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelSnapshotReader;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetVehicleResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleCommAdapterMessageRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostVehicleRoutesRequestTO;
@@ -47,6 +48,7 @@ public class VehicleHandler {
   private final VehicleService vehicleService;
   private final RouterService routerService;
   private final KernelExecutorWrapper executorWrapper;
+  private final KernelSnapshotReader snapshotReader;
   private final VehicleConverter vehicleConverter;
 
   /**
@@ -55,6 +57,7 @@ public class VehicleHandler {
    * @param vehicleService Used to update vehicle instances.
    * @param routerService Used to get information about potential routes.
    * @param executorWrapper Executes calls via the kernel executor and waits for the outcome.
+   * @param snapshotReader Reads data from the kernel without involving the kernel executor.
    * @param vehicleConverter Provides methods for converting vehicle data.
    */
   @Inject
@@ -62,11 +65,13 @@ public class VehicleHandler {
       VehicleService vehicleService,
       RouterService routerService,
       KernelExecutorWrapper executorWrapper,
+      KernelSnapshotReader snapshotReader,
       VehicleConverter vehicleConverter
   ) {
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.routerService = requireNonNull(routerService, "routerService");
     this.executorWrapper = requireNonNull(executorWrapper, "executorWrapper");
+    this.snapshotReader = requireNonNull(snapshotReader, "snapshotReader");
     this.vehicleConverter = requireNonNull(vehicleConverter, "vehicleConverter");
   }
 
@@ -83,17 +88,17 @@ public class VehicleHandler {
       String procStateName
   )
       throws IllegalArgumentException {
-    return executorWrapper.callAndWait(() -> {
-      Vehicle.ProcState pState = procStateName == null
-          ? null
-          : Vehicle.ProcState.valueOf(procStateName);
-
-      return vehicleService.fetchObjects(Vehicle.class, Filters.vehicleWithProcState(pState))
-          .stream()
-          .map(vehicleConverter::toGetVehicleResponseTO)
-          .sorted(Comparator.comparing(GetVehicleResponseTO::getName))
-          .collect(Collectors.toList());
-    });
+    Vehicle.ProcState pState = procStateName == null
+        ? null
+        : Vehicle.ProcState.valueOf(procStateName);
+
+    return snapshotReader.read(
+        () -> vehicleService.fetchObjects(Vehicle.class, Filters.vehicleWithProcState(pState))
+    )
+        .stream()
+        .map(vehicleConverter::toGetVehicleResponseTO)
+        .sorted(Comparator.comparing(GetVehicleResponseTO::getName))
+        .collect(Collectors.toList());
   }
 
   /**
@@ -107,11 +112,11 @@ public class VehicleHandler {
       throws ObjectUnknownException {
     requireNonNull(name, "name");
 
-    return executorWrapper.callAndWait(() -> {
-      return Optional.ofNullable(vehicleService.fetchObject(Vehicle.class, name))
-          .map(vehicleConverter::toGetVehicleResponseTO)
-          .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
-    });
+    return Optional.ofNullable(
+        snapshotReader.read(() -> vehicleService.fetchObject(Vehicle.class, name))
+    )
+        .map(vehicleConverter::toGetVehicleResponseTO)
+        .orElseThrow(() -> new ObjectUnknownException("Unknown vehicle: " + name));
   }
 
   public void putVehicleIntegrationLevel(String name, String value)
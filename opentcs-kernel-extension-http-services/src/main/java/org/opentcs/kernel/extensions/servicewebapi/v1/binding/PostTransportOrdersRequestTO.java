@@ -0,0 +1,41 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.NamedTransportOrder;
+
+/**
+ * A batch of transport orders to be processed by the kernel.
+ */
+public class PostTransportOrdersRequestTO {
+
+  private List<NamedTransportOrder> transportOrders;
+
+  @JsonCreator
+  public PostTransportOrdersRequestTO(
+      @Nonnull
+      @JsonProperty(required = true, value = "transportOrders")
+      List<NamedTransportOrder> transportOrders
+  ) {
+    this.transportOrders = requireNonNull(transportOrders, "transportOrders");
+  }
+
+  @Nonnull
+  public List<NamedTransportOrder> getTransportOrders() {
+    return transportOrders;
+  }
+
+  public PostTransportOrdersRequestTO setTransportOrders(
+      @Nonnull
+      List<NamedTransportOrder> transportOrders
+  ) {
+    this.transportOrders = requireNonNull(transportOrders, "transportOrders");
+    return this;
+  }
+}
@@ -0,0 +1,33 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.CreationResultTO;
+
+/**
+ * The results of creating a batch of transport orders.
+ */
+public class PostTransportOrdersResponseTO {
+
+  private List<CreationResultTO> results = List.of();
+
+  public PostTransportOrdersResponseTO() {
+  }
+
+  @Nonnull
+  public List<CreationResultTO> getResults() {
+    return results;
+  }
+
+  public PostTransportOrdersResponseTO setResults(
+      @Nonnull
+      List<CreationResultTO> results
+  ) {
+    this.results = requireNonNull(results, "results");
+    return this;
+  }
+}
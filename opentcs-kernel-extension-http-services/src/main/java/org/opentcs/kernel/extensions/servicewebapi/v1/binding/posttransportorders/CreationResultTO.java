@@ -0,0 +1,74 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
+
+/**
+ * The result of creating a single transport order within a batch.
+ */
+public class CreationResultTO {
+
+  private String name = "";
+
+  private boolean successful;
+
+  private GetTransportOrderResponseTO transportOrder;
+
+  private String error;
+
+  public CreationResultTO() {
+  }
+
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  public CreationResultTO setName(
+      @Nonnull
+      String name
+  ) {
+    this.name = requireNonNull(name, "name");
+    return this;
+  }
+
+  public boolean isSuccessful() {
+    return successful;
+  }
+
+  public CreationResultTO setSuccessful(boolean successful) {
+    this.successful = successful;
+    return this;
+  }
+
+  @Nullable
+  public GetTransportOrderResponseTO getTransportOrder() {
+    return transportOrder;
+  }
+
+  public CreationResultTO setTransportOrder(
+      @Nullable
+      GetTransportOrderResponseTO transportOrder
+  ) {
+    this.transportOrder = transportOrder;
+    return this;
+  }
+
+  @Nullable
+  public String getError() {
+    return error;
+  }
+
+  public CreationResultTO setError(
+      @Nullable
+      String error
+  ) {
+    this.error = error;
+    return this;
+  }
+}
@@ -0,0 +1,59 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
+
+/**
+ * A transport order within a batch, along with the name it is to be created with.
+ */
+public class NamedTransportOrder {
+
+  private String name;
+
+  private PostTransportOrderRequestTO transportOrder;
+
+  @JsonCreator
+  public NamedTransportOrder(
+      @Nonnull
+      @JsonProperty(required = true, value = "name")
+      String name,
+      @Nonnull
+      @JsonProperty(required = true, value = "transportOrder")
+      PostTransportOrderRequestTO transportOrder
+  ) {
+    this.name = requireNonNull(name, "name");
+    this.transportOrder = requireNonNull(transportOrder, "transportOrder");
+  }
+
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  public NamedTransportOrder setName(
+      @Nonnull
+      String name
+  ) {
+    this.name = requireNonNull(name, "name");
+    return this;
+  }
+
+  @Nonnull
+  public PostTransportOrderRequestTO getTransportOrder() {
+    return transportOrder;
+  }
+
+  public NamedTransportOrder setTransportOrder(
+      @Nonnull
+      PostTransportOrderRequestTO transportOrder
+  ) {
+    this.transportOrder = requireNonNull(transportOrder, "transportOrder");
+    return this;
+  }
+}
@@ -3,9 +3,18 @@
 package org.opentcs.kernel.extensions.servicewebapi;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
-
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
 import org.approvaltests.Approvals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +47,75 @@ class JsonBinderTest {
     Approvals.verify(jsonBinder.toJson(new TestException("some-message")));
   }
 
+  @Test
+  void writeObjectsAsJsonArray() {
+    List<TestObject> objects = List.of(
+        new TestObject().setName("some-name"),
+        new TestObject().setName("some-other-name")
+    );
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    jsonBinder.writeArray(objects, null, ResponseEncoding.JSON, output);
+
+    String json = output.toString(StandardCharsets.UTF_8);
+    assertThat(json, is(equalTo(jsonBinder.toJson(objects))));
+  }
+
+  @Test
+  void writeProjectedObjectsAsJsonArray() {
+    List<TestObject> objects = List.of(
+        new TestObject().setName("some-name"),
+        new TestObject().setName("some-other-name")
+    );
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    jsonBinder.writeArray(
+        objects,
+        Set.of("some-unknown-field"),
+        ResponseEncoding.JSON,
+        output
+    );
+
+    TestObject[] parsedObjects
+        = jsonBinder.fromJson(output.toString(StandardCharsets.UTF_8), TestObject[].class);
+    assertThat(parsedObjects, is(arrayWithSize(2)));
+    assertThat(parsedObjects[0].getName(), is(nullValue()));
+    assertThat(parsedObjects[1].getName(), is(nullValue()));
+  }
+
+  @Test
+  void writeObjectAsJson() {
+    TestObject object = new TestObject().setName("some-name");
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    jsonBinder.writeValue(object, ResponseEncoding.JSON, output);
+
+    assertThat(output.toString(StandardCharsets.UTF_8), is(equalTo(jsonBinder.toJson(object))));
+  }
+
+  @Test
+  void writeObjectsAsCborArray()
+      throws IOException {
+    List<TestObject> objects = List.of(
+        new TestObject().setName("some-name"),
+        new TestObject().setName("some-other-name")
+    );
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    jsonBinder.writeArray(objects, null, ResponseEncoding.CBOR, output);
+
+    TestObject[] parsedObjects
+        = new CBORMapper().readValue(output.toByteArray(), TestObject[].class);
+    assertThat(parsedObjects, is(arrayWithSize(2)));
+    assertThat(parsedObjects[0].getName(), is("some-name"));
+    assertThat(parsedObjects[1].getName(), is("some-other-name"));
+    // The binary encoding is expected to be more compact than the (pretty-printed) JSON one.
+    assertThat(
+        output.size(),
+        is(lessThan(jsonBinder.toJson(objects).getBytes(StandardCharsets.UTF_8).length))
+    );
+  }
+
   private static class TestObject {
 
     private String name;
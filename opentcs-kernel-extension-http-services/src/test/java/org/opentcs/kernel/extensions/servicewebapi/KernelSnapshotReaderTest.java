@@ -0,0 +1,52 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.ObjectUnknownException;
+
+/**
+ * Tests for {@link KernelSnapshotReader}.
+ */
+class KernelSnapshotReaderTest {
+
+  private Object globalSyncObject;
+  private KernelSnapshotReader snapshotReader;
+
+  @BeforeEach
+  void setUp() {
+    globalSyncObject = new Object();
+    snapshotReader = new KernelSnapshotReader(globalSyncObject);
+  }
+
+  @Test
+  void readOnPlatformThread() {
+    Thread callingThread = Thread.currentThread();
+
+    Thread readingThread = snapshotReader.read(() -> Thread.currentThread());
+
+    assertThat(readingThread, is(not(callingThread)));
+    assertThat(readingThread.isVirtual(), is(false));
+  }
+
+  @Test
+  void readWhileHoldingGlobalSyncObject() {
+    assertThat(snapshotReader.read(() -> Thread.holdsLock(globalSyncObject)), is(true));
+  }
+
+  @Test
+  void forwardExceptionsThrownByReader() {
+    assertThrows(
+        ObjectUnknownException.class,
+        () -> snapshotReader.read(() -> {
+          throw new ObjectUnknownException("some exception");
+        })
+    );
+  }
+}
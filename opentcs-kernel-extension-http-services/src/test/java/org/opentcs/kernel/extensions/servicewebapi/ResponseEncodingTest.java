@@ -0,0 +1,38 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ResponseEncoding}.
+ */
+class ResponseEncodingTest {
+
+  @Test
+  void useJsonByDefault() {
+    assertThat(ResponseEncoding.forAcceptHeader(null), is(ResponseEncoding.JSON));
+    assertThat(ResponseEncoding.forAcceptHeader("*/*"), is(ResponseEncoding.JSON));
+    assertThat(ResponseEncoding.forAcceptHeader("application/json"), is(ResponseEncoding.JSON));
+  }
+
+  @Test
+  void useCborIfAccepted() {
+    assertThat(ResponseEncoding.forAcceptHeader("application/cbor"), is(ResponseEncoding.CBOR));
+    assertThat(
+        ResponseEncoding.forAcceptHeader("application/json;q=0.5, Application/CBOR"),
+        is(ResponseEncoding.CBOR)
+    );
+  }
+
+  @Test
+  void useJsonIfCborIsExcluded() {
+    assertThat(
+        ResponseEncoding.forAcceptHeader("application/cbor;q=0, application/json"),
+        is(ResponseEncoding.JSON)
+    );
+  }
+}
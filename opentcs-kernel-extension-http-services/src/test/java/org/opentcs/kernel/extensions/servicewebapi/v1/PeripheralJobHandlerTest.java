@@ -18,7 +18,6 @@ import java.util.Set;
 import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentMatchers;
 import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
 import org.opentcs.components.kernel.services.PeripheralDispatcherService;
 import org.opentcs.components.kernel.services.PeripheralJobService;
@@ -30,6 +29,7 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.data.peripherals.PeripheralOperation;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelSnapshotReader;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetPeripheralJobResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostPeripheralJobRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.plantmodel.PeripheralOperationTO;
@@ -37,6 +37,7 @@ import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.PeripheralO
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.PeripheralJobConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.PeripheralOperationConverter;
+import org.opentcs.util.event.EventSource;
 
 /**
  * Unit tests for {@link PeripheralJobHandler}.
@@ -47,6 +48,7 @@ class PeripheralJobHandlerTest {
   private PeripheralDispatcherService jobDispatcherService;
   private KernelExecutorWrapper executorWrapper;
   private PeripheralJobConverter peripheralJobConverter;
+  private PeripheralJobQueryIndex jobQueryIndex;
 
   private PeripheralJobHandler handler;
 
@@ -56,11 +58,16 @@ class PeripheralJobHandlerTest {
     jobDispatcherService = mock();
     executorWrapper = new KernelExecutorWrapper(Executors.newSingleThreadExecutor());
     peripheralJobConverter = new PeripheralJobConverter(new PeripheralOperationConverter());
+    KernelSnapshotReader snapshotReader = new KernelSnapshotReader(new Object());
+    EventSource eventSource = mock();
+    jobQueryIndex = new PeripheralJobQueryIndex(eventSource, jobService);
 
     handler = new PeripheralJobHandler(
         jobService,
         jobDispatcherService,
         executorWrapper,
+        snapshotReader,
+        jobQueryIndex,
         peripheralJobConverter
     );
   }
@@ -142,17 +149,17 @@ class PeripheralJobHandlerTest {
             true
         )
     );
-    given(
-        jobService.fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any())
-    )
+    given(jobService.fetchObjects(PeripheralJob.class))
         .willReturn(Set.of(job1, job2));
+    jobQueryIndex.initialize();
 
     // Act
-    List<GetPeripheralJobResponseTO> result = handler.getPeripheralJobs(null, null);
+    ObjectPage<GetPeripheralJobResponseTO> result
+        = handler.getPeripheralJobs(null, null, new ObjectQuery<>());
 
     // Assert
-    assertThat(result, hasSize(2));
-    then(jobService).should().fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any());
+    assertThat(result.getObjects(), hasSize(2));
+    then(jobService).should().fetchObjects(PeripheralJob.class);
   }
 
   @Test
@@ -183,20 +190,22 @@ class PeripheralJobHandlerTest {
     Vehicle vehicle = new Vehicle("some-vehicle");
     given(jobService.fetchObject(Vehicle.class, "some-vehicle"))
         .willReturn(vehicle);
-    given(
-        jobService.fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any())
-    )
-        .willReturn(Set.of(job1, job2));
+    given(jobService.fetchObjects(PeripheralJob.class))
+        .willReturn(Set.of(job1.withRelatedVehicle(vehicle.getReference()), job2));
+    jobQueryIndex.initialize();
 
     // Act & Assert: happy path
-    List<GetPeripheralJobResponseTO> result = handler.getPeripheralJobs("some-vehicle", null);
+    ObjectPage<GetPeripheralJobResponseTO> result
+        = handler.getPeripheralJobs("some-vehicle", null, new ObjectQuery<>());
 
-    assertThat(result, hasSize(2));
-    then(jobService).should().fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any());
+    assertThat(result.getObjects(), hasSize(1));
+    assertThat(result.getObjects().get(0).getName(), is("some-job"));
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
-        .isThrownBy(() -> handler.getPeripheralJobs("some-unknown-vehicle", null));
+        .isThrownBy(
+            () -> handler.getPeripheralJobs("some-unknown-vehicle", null, new ObjectQuery<>())
+        );
   }
 
   @Test
@@ -227,20 +236,22 @@ class PeripheralJobHandlerTest {
     TransportOrder transportOrder = new TransportOrder("some-order", List.of());
     given(jobService.fetchObject(TransportOrder.class, "some-order"))
         .willReturn(transportOrder);
-    given(
-        jobService.fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any())
-    )
-        .willReturn(Set.of(job1, job2));
+    given(jobService.fetchObjects(PeripheralJob.class))
+        .willReturn(Set.of(job1, job2.withRelatedTransportOrder(transportOrder.getReference())));
+    jobQueryIndex.initialize();
 
     // Act & Assert: happy path
-    List<GetPeripheralJobResponseTO> result = handler.getPeripheralJobs(null, "some-order");
+    ObjectPage<GetPeripheralJobResponseTO> result
+        = handler.getPeripheralJobs(null, "some-order", new ObjectQuery<>());
 
-    assertThat(result, hasSize(2));
-    then(jobService).should().fetchObjects(ArgumentMatchers.<Class<PeripheralJob>>any(), any());
+    assertThat(result.getObjects(), hasSize(1));
+    assertThat(result.getObjects().get(0).getName(), is("some-job-2"));
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
-        .isThrownBy(() -> handler.getPeripheralJobs(null, "some-unknown-order"));
+        .isThrownBy(
+            () -> handler.getPeripheralJobs(null, "some-unknown-order", new ObjectQuery<>())
+        );
   }
 
   @Test
@@ -7,6 +7,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -178,4 +180,67 @@ class StatusEventDispatcherTest {
         .isInstanceOf(PeripheralJobStatusMessage.class)
         .matches(msg -> msg.getSequenceNumber() == 2);
   }
+
+  @Test
+  void completePendingFetchWhenEventArrives()
+      throws Exception {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    TransportOrder order = new TransportOrder("some-order", List.of());
+
+    // Act
+    CompletableFuture<GetEventsResponseTO> future
+        = statusEventDispatcher.fetchEventsAsync(0, Long.MAX_VALUE, 10000);
+    assertThat(future).isNotDone();
+
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Assert
+    GetEventsResponseTO result = future.get(5, TimeUnit.SECONDS);
+    assertThat(result.getStatusMessages()).hasSize(1);
+    assertThat(result.getStatusMessages().get(0).getSequenceNumber()).isZero();
+  }
+
+  @Test
+  void keepPendingFetchForEventsOutsideRequestedRange() {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    TransportOrder order = new TransportOrder("some-order", List.of());
+
+    // Act
+    CompletableFuture<GetEventsResponseTO> future
+        = statusEventDispatcher.fetchEventsAsync(1, Long.MAX_VALUE, 10000);
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Assert
+    assertThat(future).isNotDone();
+  }
+
+  @Test
+  void convertEventsOnlyOnce() {
+    // Arrange
+    statusEventDispatcher.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    TransportOrder order = new TransportOrder("some-order", List.of());
+    statusEventDispatcher.onEvent(
+        new TCSObjectEvent(order, order, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    // Act
+    GetEventsResponseTO first = statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 1);
+    GetEventsResponseTO second = statusEventDispatcher.fetchEvents(0, Long.MAX_VALUE, 1);
+
+    // Assert
+    assertThat(first.getStatusMessages()).hasSize(1);
+    assertThat(second.getStatusMessages().get(0)).isSameAs(first.getStatusMessages().get(0));
+  }
 }
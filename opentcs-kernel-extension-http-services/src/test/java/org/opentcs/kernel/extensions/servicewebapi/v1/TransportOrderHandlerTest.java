@@ -6,14 +6,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.from;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.theInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 import java.time.Instant;
 import java.util.List;
@@ -23,9 +26,9 @@ import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
-import org.mockito.ArgumentMatchers;
 import org.opentcs.access.to.order.DestinationCreationTO;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.data.ObjectUnknownException;
@@ -33,14 +36,20 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.KernelExecutorWrapper;
+import org.opentcs.kernel.extensions.servicewebapi.KernelSnapshotReader;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetOrderSequenceResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.GetTransportOrderResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostOrderSequenceRequestTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrderRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersRequestTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.PostTransportOrdersResponseTO;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorder.Destination;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.CreationResultTO;
+import org.opentcs.kernel.extensions.servicewebapi.v1.binding.posttransportorders.NamedTransportOrder;
 import org.opentcs.kernel.extensions.servicewebapi.v1.binding.shared.Property;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.OrderSequenceConverter;
 import org.opentcs.kernel.extensions.servicewebapi.v1.converter.TransportOrderConverter;
+import org.opentcs.util.event.EventSource;
 
 /**
  * Unit tests for {@link TransportOrderHandler}.
@@ -49,6 +58,8 @@ class TransportOrderHandlerTest {
 
   private TransportOrderService orderService;
   private KernelExecutorWrapper executorWrapper;
+  private TransportOrderQueryIndex orderQueryIndex;
+  private OrderSequenceQueryIndex sequenceQueryIndex;
   private TransportOrderHandler handler;
   private OrderSequenceConverter orderSequenceConverter;
   private TransportOrderConverter transportOrderConverter;
@@ -59,9 +70,19 @@ class TransportOrderHandlerTest {
     executorWrapper = new KernelExecutorWrapper(Executors.newSingleThreadExecutor());
     orderSequenceConverter = new OrderSequenceConverter();
     transportOrderConverter = new TransportOrderConverter();
+    KernelSnapshotReader snapshotReader = new KernelSnapshotReader(new Object());
+    EventSource eventSource = mock();
+    orderQueryIndex = new TransportOrderQueryIndex(eventSource, orderService);
+    sequenceQueryIndex = new OrderSequenceQueryIndex(eventSource, orderService);
 
     handler = new TransportOrderHandler(
-        orderService, executorWrapper, orderSequenceConverter, transportOrderConverter
+        orderService,
+        executorWrapper,
+        snapshotReader,
+        orderQueryIndex,
+        sequenceQueryIndex,
+        orderSequenceConverter,
+        transportOrderConverter
     );
   }
 
@@ -124,6 +145,51 @@ class TransportOrderHandlerTest {
         );
   }
 
+  @Test
+  void createTransportOrdersWithSingleServiceCall() {
+    // Arrange
+    TransportOrder transportOrder = new TransportOrder("order-1", List.of());
+    given(orderService.createTransportOrders(any()))
+        .willReturn(
+            List.of(
+                TransportOrderCreationResult.success("order-1", transportOrder),
+                TransportOrderCreationResult.failure("order-2", "Object exists: order-2")
+            )
+        );
+
+    // Act
+    PostTransportOrdersResponseTO result = handler.createOrders(
+        new PostTransportOrdersRequestTO(
+            List.of(
+                new NamedTransportOrder("order-1", transportOrderRequest()),
+                new NamedTransportOrder("order-2", transportOrderRequest())
+            )
+        )
+    );
+
+    // Assert
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<TransportOrderCreationTO>> captor = ArgumentCaptor.forClass(List.class);
+    then(orderService).should().createTransportOrders(captor.capture());
+    then(orderService).should(never()).createTransportOrder(any());
+    assertThat(
+        captor.getValue().stream().map(TransportOrderCreationTO::getName).toList(),
+        contains("order-1", "order-2")
+    );
+
+    assertThat(result.getResults(), hasSize(2));
+    assertThat(result.getResults().get(0))
+        .returns("order-1", from(CreationResultTO::getName))
+        .returns(true, from(CreationResultTO::isSuccessful))
+        .returns(null, from(CreationResultTO::getError));
+    assertThat(result.getResults().get(0).getTransportOrder().getName(), is("order-1"));
+    assertThat(result.getResults().get(1))
+        .returns("order-2", from(CreationResultTO::getName))
+        .returns(false, from(CreationResultTO::isSuccessful))
+        .returns(null, from(CreationResultTO::getTransportOrder))
+        .returns("Object exists: order-2", from(CreationResultTO::getError));
+  }
+
   @Test
   void setTransportOrderIntendedVehicle() {
     // Arrange
@@ -166,43 +232,75 @@ class TransportOrderHandlerTest {
     TransportOrder transportOrder1 = new TransportOrder("some-order", List.of());
     TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of());
 
-    given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any())
-    )
+    given(orderService.fetchObjects(TransportOrder.class))
         .willReturn(Set.of(transportOrder1, transportOrder2));
+    orderQueryIndex.initialize();
 
     // Act
-    List<GetTransportOrderResponseTO> result = handler.getTransportOrders(null);
+    ObjectPage<GetTransportOrderResponseTO> result
+        = handler.getTransportOrders(null, new ObjectQuery<>());
 
     // Assert
-    assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any());
+    assertThat(result.getObjects(), hasSize(2));
+    assertThat(result.getNextCursor(), is(nullValue()));
+    then(orderService).should().fetchObjects(TransportOrder.class);
+    then(orderService).should(never()).fetchObject(any(), any(String.class));
   }
 
   @Test
   void retrieveTransportOrdersFilteredByIntendedVehicle() {
     // Arrange
-    TransportOrder transportOrder1 = new TransportOrder("some-order", List.of());
-    TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of());
     Vehicle vehicle = new Vehicle("some-vehicle");
+    TransportOrder transportOrder1 = new TransportOrder("some-order", List.of())
+        .withIntendedVehicle(vehicle.getReference());
+    TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of());
 
     given(
         orderService.fetchObject(Vehicle.class, "some-vehicle")
     )
         .willReturn(vehicle);
-    given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any())
-    )
+    given(orderService.fetchObjects(TransportOrder.class))
         .willReturn(Set.of(transportOrder1, transportOrder2));
+    orderQueryIndex.initialize();
 
     // Act & Assert: happy path
-    List<GetTransportOrderResponseTO> result = handler.getTransportOrders("some-vehicle");
-    assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<TransportOrder>>any(), any());
+    ObjectPage<GetTransportOrderResponseTO> result
+        = handler.getTransportOrders("some-vehicle", new ObjectQuery<>());
+    assertThat(result.getObjects(), hasSize(1));
+    assertThat(result.getObjects().get(0).getName(), is("some-order"));
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
-        .isThrownBy(() -> handler.getTransportOrders("some-other-vehicle"));
+        .isThrownBy(() -> handler.getTransportOrders("some-other-vehicle", new ObjectQuery<>()));
+  }
+
+  @Test
+  void retrieveTransportOrdersPageByPage() {
+    // Arrange
+    TransportOrder transportOrder1 = new TransportOrder("some-order-1", List.of());
+    TransportOrder transportOrder2 = new TransportOrder("some-order-2", List.of());
+    TransportOrder transportOrder3 = new TransportOrder("some-order-3", List.of());
+
+    given(orderService.fetchObjects(TransportOrder.class))
+        .willReturn(Set.of(transportOrder1, transportOrder2, transportOrder3));
+    orderQueryIndex.initialize();
+
+    // Act & Assert: first page
+    ObjectPage<GetTransportOrderResponseTO> result
+        = handler.getTransportOrders(null, new ObjectQuery<TransportOrder>().withLimit(2));
+    assertThat(result.getObjects(), hasSize(2));
+    assertThat(result.getObjects().get(0).getName(), is("some-order-1"));
+    assertThat(result.getObjects().get(1).getName(), is("some-order-2"));
+    assertThat(result.getNextCursor(), is("some-order-2"));
+
+    // Act & Assert: second (and last) page
+    result = handler.getTransportOrders(
+        null,
+        new ObjectQuery<TransportOrder>().withLimit(2).withCursor(result.getNextCursor())
+    );
+    assertThat(result.getObjects(), hasSize(1));
+    assertThat(result.getObjects().get(0).getName(), is("some-order-3"));
+    assertThat(result.getNextCursor(), is(nullValue()));
   }
 
   @Test
@@ -287,43 +385,45 @@ class TransportOrderHandlerTest {
     OrderSequence sequence1 = new OrderSequence("some-sequence");
     OrderSequence sequence2 = new OrderSequence("some-sequence-2");
 
-    given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any())
-    )
+    given(orderService.fetchObjects(OrderSequence.class))
         .willReturn(Set.of(sequence1, sequence2));
+    sequenceQueryIndex.initialize();
 
     // Act
-    List<GetOrderSequenceResponseTO> result = handler.getOrderSequences(null);
+    ObjectPage<GetOrderSequenceResponseTO> result
+        = handler.getOrderSequences(null, new ObjectQuery<>());
 
     // Assert
-    assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any());
+    assertThat(result.getObjects(), hasSize(2));
+    then(orderService).should().fetchObjects(OrderSequence.class);
+    then(orderService).should(never()).fetchObject(any(), any(String.class));
   }
 
   @Test
   void retrieveOrderSequencesFilteredByIntendedVehicle() {
     // Arrange
-    OrderSequence sequence1 = new OrderSequence("some-sequence");
-    OrderSequence sequence2 = new OrderSequence("some-sequence-2");
     Vehicle vehicle = new Vehicle("some-vehicle");
+    OrderSequence sequence1 = new OrderSequence("some-sequence")
+        .withIntendedVehicle(vehicle.getReference());
+    OrderSequence sequence2 = new OrderSequence("some-sequence-2");
 
     given(
         orderService.fetchObject(Vehicle.class, "some-vehicle")
     )
         .willReturn(vehicle);
-    given(
-        orderService.fetchObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any())
-    )
+    given(orderService.fetchObjects(OrderSequence.class))
         .willReturn(Set.of(sequence1, sequence2));
+    sequenceQueryIndex.initialize();
 
     // Act & Assert: happy path
-    List<GetOrderSequenceResponseTO> result = handler.getOrderSequences("some-vehicle");
-    assertThat(result, hasSize(2));
-    then(orderService).should().fetchObjects(ArgumentMatchers.<Class<OrderSequence>>any(), any());
+    ObjectPage<GetOrderSequenceResponseTO> result
+        = handler.getOrderSequences("some-vehicle", new ObjectQuery<>());
+    assertThat(result.getObjects(), hasSize(1));
+    assertThat(result.getObjects().get(0).getName(), is("some-sequence"));
 
     // Act & Assert: nonexistent vehicle
     assertThatExceptionOfType(ObjectUnknownException.class)
-        .isThrownBy(() -> handler.getOrderSequences("some-other-vehicle"));
+        .isThrownBy(() -> handler.getOrderSequences("some-other-vehicle", new ObjectQuery<>()));
   }
 
   @Test
@@ -346,4 +446,18 @@ class TransportOrderHandlerTest {
         .isThrownBy(() -> handler.getOrderSequenceByName("some-other-sequence"));
   }
 
+  private PostTransportOrderRequestTO transportOrderRequest() {
+    return new PostTransportOrderRequestTO(
+        false,
+        false,
+        null,
+        null,
+        null,
+        null,
+        null,
+        List.of(new Destination("some-location", "some-operation", null)),
+        null,
+        null
+    );
+  }
 }
@@ -0,0 +1,277 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.servicewebapi.v1;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Tests for {@link TransportOrderQueryIndex}.
+ */
+class TransportOrderQueryIndexTest {
+
+  private TransportOrderService orderService;
+  private EventSource eventSource;
+  private TransportOrderQueryIndex index;
+
+  @BeforeEach
+  void setUp() {
+    orderService = mock();
+    eventSource = mock();
+    index = new TransportOrderQueryIndex(eventSource, orderService);
+  }
+
+  @Test
+  void subscribeOnInitializationAndUnsubscribeOnTermination() {
+    index.initialize();
+    then(eventSource).should().subscribe(index);
+
+    index.terminate();
+    then(eventSource).should().unsubscribe(index);
+  }
+
+  @Test
+  void filterByStateTypeAndProcessingVehicle() {
+    Vehicle vehicle = new Vehicle("some-vehicle");
+    given(orderService.fetchObjects(TransportOrder.class)).willReturn(
+        Set.of(
+            new TransportOrder("order-1", List.of())
+                .withState(TransportOrder.State.BEING_PROCESSED)
+                .withProcessingVehicle(vehicle.getReference())
+                .withType("some-type"),
+            new TransportOrder("order-2", List.of())
+                .withState(TransportOrder.State.BEING_PROCESSED)
+                .withProcessingVehicle(vehicle.getReference())
+                .withType("some-other-type"),
+            new TransportOrder("order-3", List.of())
+                .withState(TransportOrder.State.FINISHED)
+                .withType("some-type"),
+            new TransportOrder("order-4", List.of())
+                .withState(TransportOrder.State.FAILED)
+                .withType("some-type")
+        )
+    );
+    index.initialize();
+
+    assertThat(
+        names(index.query(new ObjectQuery<TransportOrder>().withStates(Set.of("FINISHED")))),
+        contains("order-3")
+    );
+    assertThat(
+        names(
+            index.query(new ObjectQuery<TransportOrder>().withStates(Set.of("FINISHED", "FAILED")))
+        ),
+        contains("order-3", "order-4")
+    );
+    assertThat(
+        names(index.query(new ObjectQuery<TransportOrder>().withType("some-type"))),
+        contains("order-1", "order-3", "order-4")
+    );
+    assertThat(
+        names(
+            index.query(
+                new ObjectQuery<TransportOrder>()
+                    .withType("some-type")
+                    .withVehicle("some-vehicle")
+            )
+        ),
+        contains("order-1")
+    );
+    assertThat(
+        names(index.query(new ObjectQuery<TransportOrder>().withVehicle("some-other-vehicle"))),
+        is(empty())
+    );
+  }
+
+  @Test
+  void filterByCreationTimeRange() {
+    given(orderService.fetchObjects(TransportOrder.class)).willReturn(
+        Set.of(
+            new TransportOrder("order-1", List.of()).withCreationTime(Instant.ofEpochSecond(10)),
+            new TransportOrder("order-2", List.of()).withCreationTime(Instant.ofEpochSecond(20)),
+            new TransportOrder("order-3", List.of()).withCreationTime(Instant.ofEpochSecond(30))
+        )
+    );
+    index.initialize();
+
+    assertThat(
+        names(
+            index.query(
+                new ObjectQuery<TransportOrder>()
+                    .withCreatedFrom(Instant.ofEpochSecond(20))
+                    .withCreatedTo(Instant.ofEpochSecond(30))
+            )
+        ),
+        contains("order-2")
+    );
+    assertThat(
+        names(
+            index.query(new ObjectQuery<TransportOrder>().withCreatedTo(Instant.ofEpochSecond(30)))
+        ),
+        contains("order-1", "order-2")
+    );
+  }
+
+  @Test
+  void applyObjectEvents() {
+    TransportOrder order1 = new TransportOrder("order-1", List.of());
+    TransportOrder order2 = new TransportOrder("order-2", List.of());
+    given(orderService.fetchObjects(TransportOrder.class)).willReturn(Set.of(order1, order2));
+    index.initialize();
+    Instant afterInitialization = afterNow();
+
+    // Nothing has been updated since the initialization, yet.
+    assertThat(
+        names(index.query(new ObjectQuery<TransportOrder>().withUpdatedSince(afterInitialization))),
+        is(empty())
+    );
+
+    TransportOrder order3 = new TransportOrder("order-3", List.of());
+    emit(order3, null, TCSObjectEvent.Type.OBJECT_CREATED);
+    emit(
+        order1.withState(TransportOrder.State.FINISHED),
+        order1,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+    emit(null, order2, TCSObjectEvent.Type.OBJECT_REMOVED);
+
+    assertThat(names(index.query(new ObjectQuery<>())), contains("order-1", "order-3"));
+    assertThat(
+        names(index.query(new ObjectQuery<TransportOrder>().withStates(Set.of("FINISHED")))),
+        contains("order-1")
+    );
+    assertThat(
+        names(index.query(new ObjectQuery<TransportOrder>().withStates(Set.of("RAW")))),
+        contains("order-3")
+    );
+    assertThat(
+        names(index.query(new ObjectQuery<TransportOrder>().withUpdatedSince(afterInitialization))),
+        contains("order-1", "order-3")
+    );
+  }
+
+  @Test
+  void providePagesWithCursors() {
+    given(orderService.fetchObjects(TransportOrder.class)).willReturn(
+        Set.of(
+            new TransportOrder("order-1", List.of()),
+            new TransportOrder("order-2", List.of()).withType("some-type"),
+            new TransportOrder("order-3", List.of()),
+            new TransportOrder("order-4", List.of()).withType("some-type"),
+            new TransportOrder("order-5", List.of()).withType("some-type")
+        )
+    );
+    index.initialize();
+
+    ObjectPage<TransportOrder> page
+        = index.query(new ObjectQuery<TransportOrder>().withType("some-type").withLimit(2));
+    assertThat(names(page), contains("order-2", "order-4"));
+    assertThat(page.getNextCursor(), is("order-4"));
+
+    page = index.query(
+        new ObjectQuery<TransportOrder>()
+            .withType("some-type")
+            .withLimit(2)
+            .withCursor(page.getNextCursor())
+    );
+    assertThat(names(page), contains("order-5"));
+    assertThat(page.getNextCursor(), is(nullValue()));
+
+    // A page that is exactly filled is the last one if there are no further matching objects.
+    page = index.query(new ObjectQuery<TransportOrder>().withType("some-type").withLimit(3));
+    assertThat(names(page), contains("order-2", "order-4", "order-5"));
+    assertThat(page.getNextCursor(), is(nullValue()));
+  }
+
+  @Test
+  void applyFilterToFurtherObjectsIfRejected() {
+    given(orderService.fetchObjects(TransportOrder.class)).willReturn(
+        Set.of(
+            new TransportOrder("order-1", List.of()),
+            new TransportOrder("order-2", List.of()),
+            new TransportOrder("order-3", List.of()),
+            new TransportOrder("order-4", List.of()),
+            new TransportOrder("order-5", List.of()),
+            new TransportOrder("order-6", List.of()),
+            new TransportOrder("order-7", List.of())
+        )
+    );
+    index.initialize();
+
+    ObjectPage<TransportOrder> page = index.query(
+        new ObjectQuery<TransportOrder>()
+            .withFilter(order -> Set.of("order-5", "order-7").contains(order.getName()))
+            .withLimit(1)
+    );
+    assertThat(names(page), contains("order-5"));
+    assertThat(page.getNextCursor(), is("order-5"));
+  }
+
+  @Test
+  void allowUpdatesWhileApplyingFilter() {
+    TransportOrder order = new TransportOrder("order-1", List.of());
+    given(orderService.fetchObjects(TransportOrder.class)).willReturn(Set.of(order));
+    index.initialize();
+
+    ObjectPage<TransportOrder> page = index.query(
+        new ObjectQuery<TransportOrder>().withFilter(object -> {
+          // Updating the index from another thread would block if the query still locked it.
+          CompletableFuture.runAsync(
+              () -> emit(
+                  order.withState(TransportOrder.State.FINISHED),
+                  order,
+                  TCSObjectEvent.Type.OBJECT_MODIFIED
+              )
+          ).orTimeout(5, TimeUnit.SECONDS).join();
+          return true;
+        })
+    );
+    assertThat(names(page), contains("order-1"));
+    assertThat(
+        names(index.query(new ObjectQuery<TransportOrder>().withStates(Set.of("FINISHED")))),
+        contains("order-1")
+    );
+  }
+
+  private void emit(
+      TCSObject<?> currentObjectState,
+      TCSObject<?> previousObjectState,
+      TCSObjectEvent.Type type
+  ) {
+    index.onEvent(new TCSObjectEvent(currentObjectState, previousObjectState, type));
+  }
+
+  private Instant afterNow() {
+    Instant now = Instant.now();
+    Instant result = Instant.now();
+    while (!result.isAfter(now)) {
+      Thread.onSpinWait();
+      result = Instant.now();
+    }
+    return result;
+  }
+
+  private List<String> names(ObjectPage<TransportOrder> page) {
+    return page.getObjects().stream().map(TransportOrder::getName).toList();
+  }
+}
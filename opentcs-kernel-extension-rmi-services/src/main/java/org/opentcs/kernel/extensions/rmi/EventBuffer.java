@@ -4,28 +4,51 @@ package org.opentcs.kernel.extensions.rmi;
 
 import static java.util.Objects.requireNonNull;
 import static org.opentcs.util.Assertions.checkArgument;
+import static org.opentcs.util.Assertions.checkInRange;
 
 import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
+import org.opentcs.access.rmi.services.EventFrameBatch;
+import org.opentcs.access.rmi.services.EventFrames;
+import org.opentcs.access.rmi.services.MissedEventsEvent;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.util.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Stores events and keeps them until a client fetches them.
+ * Provides a client with the events from an {@link EventJournal} it has not fetched, yet.
+ * <p>
+ * The buffer does not store the events itself but only keeps track of the client's position in
+ * the journal, so events are kept only once for all clients reading the same journal. A buffer
+ * initially reads from a journal of its own until it is attached to a shared one via
+ * {@link #attachTo(EventJournal)}.
+ * </p>
+ * <p>
+ * If the client did not keep up with the journal and missed events because the journal discarded
+ * them, the events provided next start with a {@link MissedEventsEvent}, so the client can
+ * resynchronize. This event passes every event filter.
+ * </p>
  */
 public class EventBuffer
     implements
       EventHandler {
 
   /**
-   * The buffered events.
+   * This class's logger.
    */
-  private final Deque<Object> events = new LinkedList<>();
+  private static final Logger LOG = LoggerFactory.getLogger(EventBuffer.class);
+  /**
+   * The journal this buffer reads from.
+   */
+  private EventJournal journal = new EventJournal(Integer.MAX_VALUE);
+  /**
+   * The sequence number of the next journal entry to be fetched.
+   */
+  private long nextSequenceNo;
   /**
    * This buffer's event filter.
    */
@@ -33,7 +56,7 @@ public class EventBuffer
   /**
    * A flag indicating whether this event buffer's client is currently waiting for an event.
    */
-  private boolean waitingClient;
+  private volatile boolean waitingClient;
 
   /**
    * Creates a new instance
@@ -48,56 +71,161 @@ public class EventBuffer
   }
 
   // Methods declared in interface EventListener start here
+  /**
+   * Appends the given event to the journal this buffer reads from.
+   *
+   * @param event The event.
+   */
   @Override
   public void onEvent(Object event) {
     requireNonNull(event, "event");
-    synchronized (events) {
-      if (eventFilter.test(event)) {
-        if (!tryMergeWithPreviousEvent(event)) {
-          events.add(event);
-        }
-
-        // If the client is waiting for an event, wake it up, since there is one now.
-        if (waitingClient) {
-          events.notify();
-        }
-      }
-    }
+
+    currentJournal().append(event);
   }
 
   // Methods not declared in any interface start here
   /**
-   * Returns a list of events that are currently stored in this buffer and
-   * clears the buffer.
-   * If the buffer is currently empty, block until an event arrives, or for the
+   * Attaches this buffer to the given journal.
+   * Only events appended to the journal after this call will be provided by this buffer.
+   *
+   * @param journal The journal.
+   */
+  public synchronized void attachTo(
+      @Nonnull
+      EventJournal journal
+  ) {
+    this.journal = requireNonNull(journal, "journal");
+    this.nextSequenceNo = journal.getNextSequenceNo();
+  }
+
+  /**
+   * Returns a list of events that have not been fetched from this buffer, yet.
+   * If there are no such events, block until an event arrives, or for the
    * specified amount of time to pass, whichever occurs first.
+   * <p>
+   * Consecutive modifications of the same object are merged into a single event.
+   * </p>
    *
    * @param timeout The maximum amount of time (in ms) to wait for an event to
    * arrive. Must be at least 0 (in which case this method will return
    * immediately, without waiting for an event to arrive).
-   * @return A list of events that are currently stored in this buffer.
+   * @return A list of events that have not been fetched from this buffer, yet.
    * @throws IllegalArgumentException If <code>timeout</code> is less than 0.
    */
   public List<Object> getEvents(long timeout)
       throws IllegalArgumentException {
     checkArgument(timeout >= 0, "timeout < 0: %s", timeout);
-    synchronized (events) {
-      if (timeout > 0 && events.isEmpty()) {
-        waitingClient = true;
-        try {
-          events.wait(timeout);
-        }
-        catch (InterruptedException exc) {
-          throw new IllegalStateException("Unexpectedly interrupted", exc);
-        }
-        finally {
-          waitingClient = false;
-        }
+
+    Take take = fetchEntries(timeout, Integer.MAX_VALUE);
+    List<Object> result = new ArrayList<>();
+    if (take.missedEntries() > 0) {
+      result.add(new MissedEventsEvent(take.missedEntries()));
+    }
+    for (EventJournal.Entry entry : take.entries()) {
+      if (!tryMergeWithPreviousEvent(result, entry.getEvent())) {
+        result.add(entry.getEvent());
       }
-      List<Object> result = new ArrayList<>(events);
-      events.clear();
-      return result;
     }
+    return result;
+  }
+
+  /**
+   * Returns a list of frames for the events that have not been fetched from this buffer, yet.
+   * If there are no such events, block until an event arrives, or for the
+   * specified amount of time to pass, whichever occurs first.
+   * <p>
+   * The frames are kept by the journal's entries and shared with other buffers reading the same
+   * entries. Every frame can be restored on its own. With current states only, frames for
+   * consecutive modifications of the same object are reduced to the last one, as it contains the
+   * object's most recent state.
+   * </p>
+   *
+   * @param timeout The maximum amount of time (in ms) to wait for an event to
+   * arrive. Must be at least 0.
+   * @param currentStatesOnly Whether to return frames for modified objects with their current
+   * states only.
+   * @return A list of frames for the events that have not been fetched from this buffer, yet.
+   * @throws IllegalArgumentException If <code>timeout</code> is less than 0.
+   * @see EventFrames
+   */
+  public List<byte[]> getFrames(long timeout, boolean currentStatesOnly)
+      throws IllegalArgumentException {
+    checkArgument(timeout >= 0, "timeout < 0: %s", timeout);
+
+    Take take = fetchEntries(timeout, Integer.MAX_VALUE);
+    List<byte[]> result = new ArrayList<>();
+    if (take.missedEntries() > 0) {
+      result.add(EventFrames.encode(new MissedEventsEvent(take.missedEntries()), false));
+    }
+    for (EventJournal.Entry entry : selectFrameEntries(take.entries(), currentStatesOnly)) {
+      result.add(entry.getFrame(currentStatesOnly));
+    }
+    return result;
+  }
+
+  /**
+   * Takes a batch of frames for the events that have not been fetched from this buffer, yet, for
+   * pushing them to the client.
+   * If there are no such events, block until an event arrives, or for the specified amount of time
+   * to pass, whichever occurs first.
+   * <p>
+   * Frames are selected just like with {@link #getFrames(long, boolean)}, but the batch contains
+   * frames for no more than the given number of events. If the batch cannot be delivered to the
+   * client, it can be handed back to this buffer via {@link #rewind(PushBatch)}.
+   * </p>
+   *
+   * @param timeout The maximum amount of time (in ms) to wait for an event to
+   * arrive. Must be at least 0.
+   * @param currentStatesOnly Whether to return frames for modified objects with their current
+   * states only.
+   * @param maxEvents The maximum number of events to take. Must be at least 1.
+   * @return The batch.
+   * @throws IllegalArgumentException If <code>timeout</code> is less than 0 or
+   * <code>maxEvents</code> is less than 1.
+   */
+  PushBatch takeFrameBatch(long timeout, boolean currentStatesOnly, int maxEvents)
+      throws IllegalArgumentException {
+    checkArgument(timeout >= 0, "timeout < 0: %s", timeout);
+    checkInRange(maxEvents, 1, Integer.MAX_VALUE, "maxEvents");
+
+    Take take = fetchEntries(timeout, maxEvents);
+    List<EventJournal.Entry> entries = selectFrameEntries(take.entries(), currentStatesOnly);
+    List<byte[]> frames = new ArrayList<>(entries.size() + 1);
+    long[] emissionTimes = new long[entries.size() + (take.missedEntries() > 0 ? 1 : 0)];
+    if (take.missedEntries() > 0) {
+      frames.add(EventFrames.encode(new MissedEventsEvent(take.missedEntries()), false));
+      emissionTimes[0] = System.currentTimeMillis();
+    }
+    for (EventJournal.Entry entry : entries) {
+      emissionTimes[frames.size()] = entry.getEmissionTime();
+      frames.add(entry.getFrame(currentStatesOnly));
+    }
+    return new PushBatch(
+        new EventFrameBatch(frames, emissionTimes),
+        take.fromSequenceNo(),
+        take.toSequenceNo()
+    );
+  }
+
+  /**
+   * Hands back the given batch that could not be delivered to the client, so the events it
+   * contains will be provided again.
+   * This has no effect if events have been fetched from this buffer after the batch was taken.
+   *
+   * @param batch The batch.
+   * @return <code>true</code> if, and only if, the batch was handed back.
+   */
+  synchronized boolean rewind(
+      @Nonnull
+      PushBatch batch
+  ) {
+    requireNonNull(batch, "batch");
+
+    if (nextSequenceNo != batch.toSequenceNo()) {
+      return false;
+    }
+    nextSequenceNo = batch.fromSequenceNo();
+    return true;
   }
 
   /**
@@ -108,9 +236,7 @@ public class EventBuffer
    * <code>false</code>.
    */
   public boolean hasWaitingClient() {
-    synchronized (events) {
-      return waitingClient;
-    }
+    return waitingClient;
   }
 
   /**
@@ -118,41 +244,119 @@ public class EventBuffer
    *
    * @param eventFilter This buffer's new event filter.
    */
-  public void setEventFilter(
+  public synchronized void setEventFilter(
       @Nonnull
       Predicate<Object> eventFilter
   ) {
-    synchronized (events) {
-      this.eventFilter = requireNonNull(eventFilter);
+    this.eventFilter = requireNonNull(eventFilter);
+  }
+
+  private synchronized EventJournal currentJournal() {
+    return journal;
+  }
+
+  private synchronized long currentSequenceNo() {
+    return nextSequenceNo;
+  }
+
+  /**
+   * Returns the journal entries not fetched, yet, that pass this buffer's event filter, waiting
+   * for new entries for the specified amount of time if there are none.
+   *
+   * @param timeout The maximum amount of time (in ms) to wait.
+   * @param maxEntries The maximum number of journal entries to take.
+   * @return The journal entries.
+   */
+  private Take fetchEntries(long timeout, int maxEntries) {
+    long deadline = System.currentTimeMillis() + timeout;
+    while (true) {
+      Take take = takeEntries(maxEntries);
+      long remaining = deadline - System.currentTimeMillis();
+      if (!take.entries().isEmpty() || remaining <= 0) {
+        return take;
+      }
+
+      waitingClient = true;
+      try {
+        currentJournal().awaitEntry(currentSequenceNo(), remaining);
+      }
+      finally {
+        waitingClient = false;
+      }
     }
   }
 
+  private synchronized Take takeEntries(int maxEntries) {
+    List<EventJournal.Entry> entries = journal.getEntries(nextSequenceNo);
+    if (entries.isEmpty()) {
+      return new Take(entries, 0, nextSequenceNo, nextSequenceNo);
+    }
+    if (entries.size() > maxEntries) {
+      entries = entries.subList(0, maxEntries);
+    }
+
+    long missedEntries = entries.getFirst().getSequenceNo() - nextSequenceNo;
+    if (missedEntries > 0) {
+      LOG.warn("Client did not keep up with the event journal, missed {} events.", missedEntries);
+    }
+    long fromSequenceNo = nextSequenceNo;
+    nextSequenceNo = entries.getLast().getSequenceNo() + 1;
+
+    return new Take(
+        entries.stream()
+            .filter(entry -> eventFilter.test(entry.getEvent()))
+            .toList(),
+        Math.max(missedEntries, 0),
+        fromSequenceNo,
+        nextSequenceNo
+    );
+  }
+
   /**
-   * If possible, merge the given new event with the previous one in the buffer.
+   * Selects the journal entries whose frames are to be provided to the client.
+   * With current states only, consecutive modifications of the same object are reduced to the last
+   * one, as its frame contains the object's most recent state.
    *
-   * @param event The new event.
-   * @return <code>true</code> if the new event was merged with the previous one.
+   * @param entries The journal entries.
+   * @param currentStatesOnly Whether frames with current states only are to be provided.
+   * @return The selected journal entries.
    */
-  private boolean tryMergeWithPreviousEvent(Object event) {
-    if (!(event instanceof TCSObjectEvent currentEvent)
-        || !(events.peekLast() instanceof TCSObjectEvent previousEvent)) {
-      return false;
+  private List<EventJournal.Entry> selectFrameEntries(
+      List<EventJournal.Entry> entries,
+      boolean currentStatesOnly
+  ) {
+    if (!currentStatesOnly) {
+      return entries;
     }
 
-    if (currentEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED
-        || previousEvent.getType() != TCSObjectEvent.Type.OBJECT_MODIFIED) {
-      return false;
+    List<EventJournal.Entry> result = new ArrayList<>();
+    Object previousEvent = null;
+    for (EventJournal.Entry entry : entries) {
+      if (isSameObjectModification(previousEvent, entry.getEvent())) {
+        result.removeLast();
+      }
+      result.add(entry);
+      previousEvent = entry.getEvent();
     }
+    return result;
+  }
 
-    if (!Objects.equals(
-        currentEvent.getCurrentObjectState().getReference(),
-        previousEvent.getCurrentObjectState().getReference()
-    )) {
+  /**
+   * If possible, merge the given new event with the previous one in the given list.
+   *
+   * @param events The list of events.
+   * @param event The new event.
+   * @return <code>true</code> if the new event was merged with the previous one.
+   */
+  private boolean tryMergeWithPreviousEvent(List<Object> events, Object event) {
+    if (events.isEmpty() || !isSameObjectModification(events.getLast(), event)) {
       return false;
     }
 
-    events.removeLast();
-    events.add(
+    TCSObjectEvent previousEvent = (TCSObjectEvent) events.getLast();
+    TCSObjectEvent currentEvent = (TCSObjectEvent) event;
+    events.set(
+        events.size() - 1,
         new TCSObjectEvent(
             currentEvent.getCurrentObjectState(),
             previousEvent.getPreviousObjectState(),
@@ -162,4 +366,49 @@ public class EventBuffer
 
     return true;
   }
+
+  /**
+   * Checks whether both given events are modifications of the same object.
+   *
+   * @param previous The previous event.
+   * @param current The current event.
+   * @return <code>true</code> if, and only if, both events are modifications of the same object.
+   */
+  private boolean isSameObjectModification(Object previous, Object current) {
+    if (!EventFrames.isModification(previous) || !EventFrames.isModification(current)) {
+      return false;
+    }
+
+    return Objects.equals(
+        ((TCSObjectEvent) current).getCurrentObjectState().getReference(),
+        ((TCSObjectEvent) previous).getCurrentObjectState().getReference()
+    );
+  }
+
+  /**
+   * A batch of frames taken from an event buffer for pushing them to the client.
+   *
+   * @param frames The frames.
+   * @param fromSequenceNo The buffer's read position before the batch was taken.
+   * @param toSequenceNo The buffer's read position after the batch was taken.
+   */
+  record PushBatch(EventFrameBatch frames, long fromSequenceNo, long toSequenceNo) {
+  }
+
+  /**
+   * Journal entries taken from the journal.
+   *
+   * @param entries The journal entries that pass the buffer's event filter.
+   * @param missedEntries The number of journal entries missed because the journal discarded them
+   * before they were taken.
+   * @param fromSequenceNo The buffer's read position before the entries were taken.
+   * @param toSequenceNo The buffer's read position after the entries were taken.
+   */
+  private record Take(
+      List<EventJournal.Entry> entries,
+      long missedEntries,
+      long fromSequenceNo,
+      long toSequenceNo
+  ) {
+  }
 }
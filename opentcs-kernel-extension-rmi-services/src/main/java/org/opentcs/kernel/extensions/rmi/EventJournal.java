@@ -0,0 +1,231 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.rmi;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import org.opentcs.access.rmi.services.EventFrames;
+
+/**
+ * A bounded journal of events that is shared by clients reading it by sequence number.
+ * <p>
+ * Every event is kept only once, regardless of the number of clients reading it. If the journal's
+ * capacity is exceeded, the oldest events are discarded, i.e. clients that do not keep up with the
+ * journal will miss them. Clients can detect this by comparing the sequence number of the first
+ * entry returned by {@link #getEntries(long)} with the one they requested.
+ * </p>
+ * <p>
+ * Each entry keeps the frames created for its event (see {@link EventFrames}), so the event is
+ * serialized at most once per kind of frame, regardless of the number of clients reading it.
+ * </p>
+ */
+public class EventJournal {
+
+  /**
+   * The maximum number of entries kept.
+   */
+  private final int capacity;
+  /**
+   * The journal's entries, oldest ones first.
+   */
+  private final Deque<Entry> entries = new ArrayDeque<>();
+  /**
+   * The sequence number of the next entry to be appended.
+   */
+  private long nextSequenceNo;
+  /**
+   * Creates a new instance.
+   *
+   * @param capacity The maximum number of entries kept.
+   */
+  public EventJournal(int capacity) {
+    this.capacity = checkInRange(capacity, 1, Integer.MAX_VALUE, "capacity");
+  }
+
+  /**
+   * Appends the given event to this journal, discarding the oldest entry if the journal's capacity
+   * is exceeded.
+   *
+   * @param event The event.
+   */
+  public void append(
+      @Nonnull
+      Object event
+  ) {
+    requireNonNull(event, "event");
+
+    synchronized (entries) {
+      entries.add(new Entry(nextSequenceNo, event, System.currentTimeMillis()));
+      nextSequenceNo++;
+      if (entries.size() > capacity) {
+        entries.removeFirst();
+      }
+      entries.notifyAll();
+    }
+  }
+
+  /**
+   * Returns the sequence number of the next entry to be appended.
+   *
+   * @return The sequence number of the next entry to be appended.
+   */
+  public long getNextSequenceNo() {
+    synchronized (entries) {
+      return nextSequenceNo;
+    }
+  }
+
+  /**
+   * Returns the entries with sequence numbers greater than or equal to the given one.
+   * <p>
+   * If entries with the requested sequence numbers have already been discarded, the returned list
+   * starts with the oldest entry still kept, i.e. its first entry's sequence number is greater than
+   * the given one.
+   * </p>
+   *
+   * @param fromSequenceNo The sequence number of the first entry to be returned.
+   * @return The entries, oldest ones first.
+   */
+  @Nonnull
+  public List<Entry> getEntries(long fromSequenceNo) {
+    synchronized (entries) {
+      // Clients usually read the most recent entries, so start searching at the end.
+      List<Entry> result = new ArrayList<>();
+      Iterator<Entry> iter = entries.descendingIterator();
+      while (iter.hasNext()) {
+        Entry entry = iter.next();
+        if (entry.getSequenceNo() < fromSequenceNo) {
+          break;
+        }
+        result.add(entry);
+      }
+      Collections.reverse(result);
+      return result;
+    }
+  }
+
+  /**
+   * Waits until an entry with the given sequence number has been appended, or for the specified
+   * amount of time to pass, whichever occurs first.
+   *
+   * @param sequenceNo The sequence number.
+   * @param timeout The maximum amount of time (in ms) to wait.
+   */
+  public void awaitEntry(long sequenceNo, long timeout) {
+    synchronized (entries) {
+      long deadline = System.currentTimeMillis() + timeout;
+      long remaining = timeout;
+      while (nextSequenceNo <= sequenceNo && remaining > 0) {
+        try {
+          entries.wait(remaining);
+        }
+        catch (InterruptedException exc) {
+          throw new IllegalStateException("Unexpectedly interrupted", exc);
+        }
+        remaining = deadline - System.currentTimeMillis();
+      }
+    }
+  }
+
+  /**
+   * An entry in the journal.
+   */
+  public static class Entry {
+
+    /**
+     * The entry's sequence number.
+     */
+    private final long sequenceNo;
+    /**
+     * The event.
+     */
+    private final Object event;
+    /**
+     * The point of time (in ms since the epoch) at which the event was appended to the journal.
+     */
+    private final long emissionTime;
+    /**
+     * The frame with the complete event, or {@code null}, if it has not been created, yet.
+     */
+    private byte[] frame;
+    /**
+     * The frame with the object's current state only, or {@code null}, if it has not been created,
+     * yet.
+     * Only used for events whose frames differ depending on this (see
+     * {@link EventFrames#isModification(Object)}).
+     */
+    private byte[] currentStateFrame;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sequenceNo The entry's sequence number.
+     * @param event The event.
+     * @param emissionTime The point of time (in ms since the epoch) at which the event was appended
+     * to the journal.
+     */
+    private Entry(long sequenceNo, Object event, long emissionTime) {
+      this.sequenceNo = sequenceNo;
+      this.event = event;
+      this.emissionTime = emissionTime;
+    }
+
+    /**
+     * Returns the entry's sequence number.
+     *
+     * @return The entry's sequence number.
+     */
+    public long getSequenceNo() {
+      return sequenceNo;
+    }
+
+    /**
+     * Returns the event.
+     *
+     * @return The event.
+     */
+    @Nonnull
+    public Object getEvent() {
+      return event;
+    }
+
+    /**
+     * Returns the point of time at which the event was appended to the journal, which is
+     * considered the point of time at which it was emitted.
+     *
+     * @return The point of time (in ms since the epoch).
+     */
+    public long getEmissionTime() {
+      return emissionTime;
+    }
+
+    /**
+     * Returns the frame for the event, creating it if it has not been created, yet.
+     *
+     * @param currentStatesOnly Whether to return the frame with the object's current state only.
+     * @return The frame.
+     */
+    @Nonnull
+    public synchronized byte[] getFrame(boolean currentStatesOnly) {
+      if (currentStatesOnly && EventFrames.isModification(event)) {
+        if (currentStateFrame == null) {
+          currentStateFrame = EventFrames.encode(event, true);
+        }
+        return currentStateFrame;
+      }
+
+      if (frame == null) {
+        frame = EventFrames.encode(event, false);
+      }
+      return frame;
+    }
+  }
+}
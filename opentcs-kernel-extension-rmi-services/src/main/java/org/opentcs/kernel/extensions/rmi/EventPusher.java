@@ -0,0 +1,142 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.rmi;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import java.rmi.RemoteException;
+import org.opentcs.access.rmi.services.RemoteEventSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pushes the events from a client's event buffer to the client's event sink.
+ * <p>
+ * Events are delivered in batches of bounded size, with at most one batch in flight at a time, so
+ * a client that does not keep up with the events slows down the delivery instead of having an
+ * unbounded number of events queued for it. (With the events being kept in the bounded event
+ * journal, such a client eventually misses the oldest events.)
+ * While no events occur, empty batches are delivered periodically to keep the client informed
+ * that the kernel is still alive.
+ * </p>
+ * <p>
+ * If a delivery fails, the batch is handed back to the event buffer, so the client can still fetch
+ * the events it contains, and pushing is stopped.
+ * </p>
+ */
+class EventPusher
+    implements
+      Runnable {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(EventPusher.class);
+  /**
+   * The maximum amount of time (in ms) between two deliveries while no events occur.
+   */
+  static final long KEEP_ALIVE_INTERVAL = 1000;
+  /**
+   * The name of the client the events are pushed to.
+   */
+  private final String clientName;
+  /**
+   * The client's event buffer.
+   */
+  private final EventBuffer eventBuffer;
+  /**
+   * The client's event sink.
+   */
+  private final RemoteEventSink sink;
+  /**
+   * Whether to push frames for modified objects with their current states only.
+   */
+  private final boolean currentStatesOnly;
+  /**
+   * The maximum number of events delivered with a single batch.
+   */
+  private final int maxBatchSize;
+  /**
+   * Called after every successful delivery.
+   */
+  private final Runnable deliveryCallback;
+  /**
+   * Whether pushing has been stopped.
+   */
+  private volatile boolean terminated;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param clientName The name of the client the events are pushed to.
+   * @param eventBuffer The client's event buffer.
+   * @param sink The client's event sink.
+   * @param currentStatesOnly Whether to push frames for modified objects with their current states
+   * only.
+   * @param maxBatchSize The maximum number of events delivered with a single batch.
+   * @param deliveryCallback Called after every successful delivery.
+   */
+  EventPusher(
+      @Nonnull
+      String clientName,
+      @Nonnull
+      EventBuffer eventBuffer,
+      @Nonnull
+      RemoteEventSink sink,
+      boolean currentStatesOnly,
+      int maxBatchSize,
+      @Nonnull
+      Runnable deliveryCallback
+  ) {
+    this.clientName = requireNonNull(clientName, "clientName");
+    this.eventBuffer = requireNonNull(eventBuffer, "eventBuffer");
+    this.sink = requireNonNull(sink, "sink");
+    this.currentStatesOnly = currentStatesOnly;
+    this.maxBatchSize = checkInRange(maxBatchSize, 1, Integer.MAX_VALUE, "maxBatchSize");
+    this.deliveryCallback = requireNonNull(deliveryCallback, "deliveryCallback");
+  }
+
+  @Override
+  public void run() {
+    LOG.debug("Pushing events to client {}...", clientName);
+    while (!terminated) {
+      EventBuffer.PushBatch batch
+          = eventBuffer.takeFrameBatch(KEEP_ALIVE_INTERVAL, currentStatesOnly, maxBatchSize);
+      if (terminated) {
+        // The client may fetch the events, now.
+        eventBuffer.rewind(batch);
+        break;
+      }
+
+      try {
+        sink.deliverEventFrames(batch.frames());
+        deliveryCallback.run();
+      }
+      catch (RemoteException exc) {
+        LOG.warn("Failed pushing events to client {}, stopping.", clientName, exc);
+        eventBuffer.rewind(batch);
+        terminated = true;
+      }
+    }
+    LOG.debug("Stopped pushing events to client {}.", clientName);
+  }
+
+  /**
+   * Stops pushing events.
+   * Events taken from the event buffer but not delivered, yet, are handed back to it.
+   */
+  public void terminate() {
+    terminated = true;
+  }
+
+  /**
+   * Indicates whether pushing events has been stopped.
+   *
+   * @return Whether pushing events has been stopped.
+   */
+  public boolean isTerminated() {
+    return terminated;
+  }
+}
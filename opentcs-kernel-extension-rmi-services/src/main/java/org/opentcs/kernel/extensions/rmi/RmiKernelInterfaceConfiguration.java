@@ -130,6 +130,28 @@ public interface RmiKernelInterfaceConfiguration {
   )
   long clientSweepInterval();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events kept for clients to fetch them.",
+          "Clients that fall behind by more events will miss the oldest ones."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events"
+  )
+  int eventJournalCapacity();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of events pushed to a client with a single delivery.",
+          "Applies only to clients that have events pushed to them instead of fetching them."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "3_events_1"
+  )
+  int eventPushMaxBatchSize();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to use SSL to encrypt connections.",
@@ -19,6 +19,7 @@ import org.opentcs.access.LocalKernel;
 import org.opentcs.access.rmi.ClientID;
 import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RegistrationName;
+import org.opentcs.access.rmi.services.RemoteEventSink;
 import org.opentcs.access.rmi.services.RemoteKernelServicePortal;
 import org.opentcs.components.kernel.KernelExtension;
 import org.opentcs.customizations.ApplicationEventBus;
@@ -223,6 +224,30 @@ public class StandardRemoteKernelClientPortal
     return userManager.pollEvents(clientId, timeout);
   }
 
+  @Override
+  public List<byte[]> fetchEventFrames(ClientID clientId, long timeout, boolean currentStatesOnly)
+      throws RemoteException {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    return userManager.pollEventFrames(clientId, timeout, currentStatesOnly);
+  }
+
+  @Override
+  public void subscribeEventPush(ClientID clientId, RemoteEventSink sink, boolean currentStatesOnly)
+      throws RemoteException {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    userManager.startEventPush(clientId, sink, currentStatesOnly);
+  }
+
+  @Override
+  public void unsubscribeEventPush(ClientID clientId)
+      throws RemoteException {
+    userManager.verifyCredentials(clientId, UserPermission.READ_DATA);
+
+    userManager.stopEventPush(clientId);
+  }
+
   @Override
   public void publishEvent(ClientID clientId, Object event)
       throws KernelRuntimeException {
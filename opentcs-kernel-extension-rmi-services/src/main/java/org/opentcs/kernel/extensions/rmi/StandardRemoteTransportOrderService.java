@@ -9,6 +9,7 @@ import java.rmi.NotBoundException;
 import java.rmi.RemoteException;
 import java.rmi.registry.Registry;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import org.opentcs.access.rmi.ClientID;
@@ -16,6 +17,7 @@ import org.opentcs.access.rmi.factories.SocketFactoryProvider;
 import org.opentcs.access.rmi.services.RegistrationName;
 import org.opentcs.access.rmi.services.RemoteTransportOrderService;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.TransportOrderService;
 import org.opentcs.customizations.kernel.KernelExecutor;
@@ -182,6 +184,21 @@ public class StandardRemoteTransportOrderService
     }
   }
 
+  @Override
+  public List<TransportOrderCreationResult> createTransportOrders(
+      ClientID clientId,
+      List<TransportOrderCreationTO> tos
+  ) {
+    userManager.verifyCredentials(clientId, UserPermission.MODIFY_ORDER);
+
+    try {
+      return kernelExecutor.submit(() -> transportOrderService.createTransportOrders(tos)).get();
+    }
+    catch (InterruptedException | ExecutionException exc) {
+      throw findSuitableExceptionFor(exc);
+    }
+  }
+
   @Override
   public void markOrderSequenceComplete(ClientID clientId, TCSObjectReference<OrderSequence> ref) {
     userManager.verifyCredentials(clientId, UserPermission.MODIFY_ORDER);
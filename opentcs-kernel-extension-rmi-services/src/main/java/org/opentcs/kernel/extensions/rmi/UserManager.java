@@ -5,6 +5,7 @@ package org.opentcs.kernel.extensions.rmi;
 import static java.util.Objects.requireNonNull;
 import static org.opentcs.util.Assertions.checkArgument;
 import static org.opentcs.util.Assertions.checkInRange;
+import static org.opentcs.util.Assertions.checkState;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -16,11 +17,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.opentcs.access.CredentialsException;
 import org.opentcs.access.rmi.ClientID;
+import org.opentcs.access.rmi.services.RemoteEventSink;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.ApplicationHome;
@@ -66,10 +70,18 @@ public class UserManager
    * The directory of authenticated clients (a mapping of ClientIDs to user names).
    */
   private final Map<ClientID, ClientEntry> knownClients = new HashMap<>();
+  /**
+   * The journal of events shared by all clients.
+   */
+  private final EventJournal eventJournal;
   /**
    * A handle for the task that periodically cleans up known clients and event buffers.
    */
   private ScheduledFuture<?> cleanerTaskFuture;
+  /**
+   * Runs the tasks pushing events to clients.
+   */
+  private ExecutorService eventPushExecutor;
   /**
    * Whether this kernel extension is initialized or not.
    */
@@ -101,6 +113,7 @@ public class UserManager
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.configuration = requireNonNull(configuration, "configuration");
     this.userAccountProvider = requireNonNull(userAccountProvider, "userAccountProvider");
+    this.eventJournal = new EventJournal(configuration.eventJournalCapacity());
   }
 
   @Override
@@ -128,6 +141,8 @@ public class UserManager
         TimeUnit.MILLISECONDS
     );
 
+    eventPushExecutor = Executors.newCachedThreadPool();
+
     initialized = true;
   }
 
@@ -147,6 +162,15 @@ public class UserManager
     cleanerTaskFuture.cancel(false);
     cleanerTaskFuture = null;
 
+    LOG.debug("Stopping event push tasks...");
+    synchronized (knownClients) {
+      for (ClientEntry clientEntry : knownClients.values()) {
+        stopEventPush(clientEntry);
+      }
+    }
+    eventPushExecutor.shutdown();
+    eventPushExecutor = null;
+
     knownUsers.clear();
 
     eventSource.unsubscribe(this);
@@ -156,12 +180,15 @@ public class UserManager
 
   @Override
   public void onEvent(Object event) {
-    // Forward the event to all clients' event buffers.
     synchronized (knownClients) {
-      for (ClientEntry curEntry : knownClients.values()) {
-        curEntry.getEventBuffer().onEvent(event);
+      // Events are only provided to clients registered before they occurred, so there is no need
+      // to record them while there are no clients.
+      if (knownClients.isEmpty()) {
+        return;
       }
     }
+    // Append the event to the journal shared by all clients' event buffers.
+    eventJournal.append(event);
   }
 
   /**
@@ -225,6 +252,7 @@ public class UserManager
       if (isClientRegistered(clientID)) {
         return;
       }
+      clientEntry.getEventBuffer().attachTo(eventJournal);
       knownClients.put(clientID, clientEntry);
     }
   }
@@ -241,23 +269,76 @@ public class UserManager
     requireNonNull(clientID, "clientID");
 
     synchronized (knownClients) {
-      knownClients.remove(clientID);
+      ClientEntry clientEntry = knownClients.remove(clientID);
+      if (clientEntry != null) {
+        stopEventPush(clientEntry);
+      }
     }
   }
 
-  public List<Object> pollEvents(ClientID clientID, long timeout) {
+  /**
+   * Starts pushing events to the given client's event sink, replacing any previous sink.
+   *
+   * @param clientID The client's identification object.
+   * @param sink The client's event sink.
+   * @param currentStatesOnly Whether to push frames for modified objects with their current states
+   * only.
+   */
+  public void startEventPush(
+      @Nonnull
+      ClientID clientID,
+      @Nonnull
+      RemoteEventSink sink,
+      boolean currentStatesOnly
+  ) {
     requireNonNull(clientID, "clientID");
-    checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
+    requireNonNull(sink, "sink");
 
-    ClientEntry clientEntry;
-    EventBuffer eventBuffer;
     synchronized (knownClients) {
-      clientEntry = getClient(clientID);
-      checkArgument(clientEntry != null, "Unknown client ID: %s", clientID);
-      eventBuffer = clientEntry.getEventBuffer();
+      checkState(isInitialized(), "Not initialized");
+      ClientEntry clientEntry = getClientEntry(clientID);
+      stopEventPush(clientEntry);
+      EventPusher eventPusher = new EventPusher(
+          clientEntry.getUserName(),
+          clientEntry.getEventBuffer(),
+          sink,
+          currentStatesOnly,
+          configuration.eventPushMaxBatchSize(),
+          () -> {
+            // Set the client's 'alive' flag.
+            synchronized (knownClients) {
+              clientEntry.setAlive(true);
+            }
+          }
+      );
+      clientEntry.setEventPusher(eventPusher);
+      eventPushExecutor.execute(eventPusher);
     }
+  }
+
+  /**
+   * Stops pushing events to the given client, if they are currently pushed.
+   *
+   * @param clientID The client's identification object.
+   */
+  public void stopEventPush(
+      @Nonnull
+      ClientID clientID
+  ) {
+    requireNonNull(clientID, "clientID");
+
+    synchronized (knownClients) {
+      stopEventPush(getClientEntry(clientID));
+    }
+  }
+
+  public List<Object> pollEvents(ClientID clientID, long timeout) {
+    requireNonNull(clientID, "clientID");
+    checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
+
+    ClientEntry clientEntry = getClientEntry(clientID);
     // Get events or wait for one to arrive if none is currently there.
-    List<Object> events = eventBuffer.getEvents(timeout);
+    List<Object> events = clientEntry.getEventBuffer().getEvents(timeout);
     // Set the client's 'alive' flag.
     synchronized (knownClients) {
       clientEntry.setAlive(true);
@@ -265,6 +346,30 @@ public class UserManager
     return events;
   }
 
+  /**
+   * Returns frames for the events the given client has not fetched, yet, waiting for events to
+   * arrive if there are none.
+   *
+   * @param clientID The client's identification object.
+   * @param timeout The maximum amount of time (in ms) to wait for an event to arrive.
+   * @param currentStatesOnly Whether to return frames for modified objects with their current
+   * states only.
+   * @return The frames.
+   */
+  public List<byte[]> pollEventFrames(ClientID clientID, long timeout, boolean currentStatesOnly) {
+    requireNonNull(clientID, "clientID");
+    checkInRange(timeout, 0, Long.MAX_VALUE, "timeout");
+
+    ClientEntry clientEntry = getClientEntry(clientID);
+    // Get frames or wait for an event to arrive if none is currently there.
+    List<byte[]> frames = clientEntry.getEventBuffer().getFrames(timeout, currentStatesOnly);
+    // Set the client's 'alive' flag.
+    synchronized (knownClients) {
+      clientEntry.setAlive(true);
+    }
+    return frames;
+  }
+
   /**
    * Check whether the user described by the given credentials is granted permissions according to
    * the specified user role.
@@ -316,6 +421,22 @@ public class UserManager
     }
   }
 
+  private ClientEntry getClientEntry(ClientID clientID) {
+    synchronized (knownClients) {
+      ClientEntry clientEntry = getClient(clientID);
+      checkArgument(clientEntry != null, "Unknown client ID: %s", clientID);
+      return clientEntry;
+    }
+  }
+
+  private void stopEventPush(ClientEntry clientEntry) {
+    EventPusher eventPusher = clientEntry.getEventPusher();
+    if (eventPusher != null) {
+      eventPusher.terminate();
+      clientEntry.setEventPusher(null);
+    }
+  }
+
   private boolean isClientRegistered(
       @Nonnull
       ClientID clientID
@@ -340,6 +461,10 @@ public class UserManager
      * The client's event buffer.
      */
     private final EventBuffer eventBuffer = new EventBuffer(event -> false);
+    /**
+     * Pushes events to the client, if the client has subscribed for it.
+     */
+    private EventPusher eventPusher;
     /**
      * The client's alive flag.
      */
@@ -385,6 +510,18 @@ public class UserManager
     public Set<UserPermission> getPermissions() {
       return permissions;
     }
+
+    @Nullable
+    EventPusher getEventPusher() {
+      return eventPusher;
+    }
+
+    void setEventPusher(
+        @Nullable
+        EventPusher eventPusher
+    ) {
+      this.eventPusher = eventPusher;
+    }
   }
 
   /**
@@ -425,6 +562,7 @@ public class UserManager
                   clientEntry.getUserName()
               );
               clientIter.remove();
+              stopEventPush(clientEntry);
             }
           }
         }
@@ -3,9 +3,11 @@
 package org.opentcs.kernel.extensions.rmi;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.theInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -13,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opentcs.access.rmi.services.MissedEventsEvent;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.BoundingBox;
 import org.opentcs.data.model.Point;
@@ -141,6 +144,111 @@ class EventBufferTest {
     );
   }
 
+  @Test
+  void reduceCurrentStateFramesForConsecutiveModificationsOfSameObject() {
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(41);
+
+    eventBuffer.onEvent(
+        new TCSObjectEvent(vehicleA, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    eventBuffer.onEvent(
+        new TCSObjectEvent(vehicleB, vehicleA, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    assertThat(eventBuffer.getFrames(0, true), hasSize(1));
+  }
+
+  @Test
+  void provideFramesForEveryEventWithCompleteEvents() {
+    Vehicle vehicle = new Vehicle("vehicle");
+    Vehicle vehicleA = vehicle.withEnergyLevel(42);
+    Vehicle vehicleB = vehicleA.withEnergyLevel(41);
+
+    eventBuffer.onEvent(
+        new TCSObjectEvent(vehicleA, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    eventBuffer.onEvent(
+        new TCSObjectEvent(vehicleB, vehicleA, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    assertThat(eventBuffer.getFrames(0, false), hasSize(2));
+  }
+
+  @Test
+  void limitFrameBatchesToMaximumNumberOfEvents() {
+    eventBuffer.onEvent("event-1");
+    eventBuffer.onEvent("event-2");
+    eventBuffer.onEvent("event-3");
+
+    assertThat(eventBuffer.takeFrameBatch(0, false, 2).frames().getFrames(), hasSize(2));
+    assertThat(eventBuffer.takeFrameBatch(0, false, 2).frames().getFrames(), hasSize(1));
+    assertThat(eventBuffer.takeFrameBatch(0, false, 2).frames().isEmpty(), is(true));
+  }
+
+  @Test
+  void provideEventsOfRewoundFrameBatchAgain() {
+    eventBuffer.onEvent("event-1");
+    eventBuffer.onEvent("event-2");
+
+    EventBuffer.PushBatch batch = eventBuffer.takeFrameBatch(0, false, 10);
+
+    assertThat(eventBuffer.rewind(batch), is(true));
+    assertThat(eventBuffer.getEvents(0), contains("event-1", "event-2"));
+  }
+
+  @Test
+  void doNotRewindFrameBatchAfterFurtherEventsWereFetched() {
+    eventBuffer.onEvent("event-1");
+    eventBuffer.onEvent("event-2");
+
+    EventBuffer.PushBatch batch = eventBuffer.takeFrameBatch(0, false, 1);
+    assertThat(eventBuffer.getEvents(0), contains("event-2"));
+
+    assertThat(eventBuffer.rewind(batch), is(false));
+    assertThat(eventBuffer.getEvents(0), is(empty()));
+  }
+
+  @Test
+  void provideMissedEventsEventBeforeEventsFollowingDiscardedOnes() {
+    EventJournal journal = new EventJournal(2);
+    eventBuffer.attachTo(journal);
+    journal.append("event-1");
+    journal.append("event-2");
+    journal.append("event-3");
+
+    List<Object> events = eventBuffer.getEvents(0);
+
+    assertThat(events, hasSize(3));
+    assertThat(events.get(0), is(instanceOf(MissedEventsEvent.class)));
+    assertThat(((MissedEventsEvent) events.get(0)).getMissedEventCount(), is(1L));
+    assertThat(events.subList(1, 3), contains("event-2", "event-3"));
+  }
+
+  @Test
+  void provideMissedEventsEventEvenIfFilteredOut() {
+    EventJournal journal = new EventJournal(1);
+    eventBuffer.attachTo(journal);
+    eventBuffer.setEventFilter(event -> false);
+    journal.append("event-1");
+    journal.append("event-2");
+
+    assertThat(eventBuffer.takeFrameBatch(0, false, 10).frames().getFrames(), hasSize(1));
+  }
+
+  @Test
+  void provideOnlyEventsAppendedAfterAttachingToJournal() {
+    EventJournal journal = new EventJournal(10);
+    journal.append(new Object());
+    eventBuffer.attachTo(journal);
+
+    Object event = new Object();
+    journal.append(event);
+
+    assertThat(eventBuffer.getEvents(0), contains(event));
+  }
+
   @Test
   void dontAggregateEventsOfTypeCreateOrRemoved() {
     Vehicle vehicle = new Vehicle("vehicle");
@@ -0,0 +1,98 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.rmi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.theInstance;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Point;
+
+/**
+ * Unit tests for {@link EventJournal}.
+ */
+class EventJournalTest {
+
+  private EventJournal journal;
+
+  @BeforeEach
+  void setUp() {
+    journal = new EventJournal(3);
+  }
+
+  @Test
+  void returnEntriesFromGivenSequenceNumber() {
+    Object event1 = new Object();
+    Object event2 = new Object();
+    Object event3 = new Object();
+    journal.append(event1);
+    journal.append(event2);
+    journal.append(event3);
+
+    List<EventJournal.Entry> entries = journal.getEntries(1);
+
+    assertThat(entries, hasSize(2));
+    assertThat(entries.get(0).getEvent(), is(theInstance(event2)));
+    assertThat(entries.get(1).getEvent(), is(theInstance(event3)));
+    assertThat(journal.getNextSequenceNo(), is(3L));
+  }
+
+  @Test
+  void discardOldestEntriesWhenCapacityIsExceeded() {
+    for (int i = 0; i < 5; i++) {
+      journal.append(new Object());
+    }
+
+    assertThat(
+        journal.getEntries(0).stream().map(EventJournal.Entry::getSequenceNo).toList(),
+        contains(2L, 3L, 4L)
+    );
+  }
+
+  @Test
+  void reuseFramesOfEntries() {
+    Point point = new Point("point");
+    journal.append(
+        new TCSObjectEvent(
+            point.withType(Point.Type.PARK_POSITION),
+            point,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+
+    EventJournal.Entry entry = journal.getEntries(0).get(0);
+    byte[] frame = entry.getFrame(false);
+    byte[] currentStateFrame = entry.getFrame(true);
+
+    assertThat(journal.getEntries(0).get(0).getFrame(false), is(theInstance(frame)));
+    assertThat(journal.getEntries(0).get(0).getFrame(true), is(theInstance(currentStateFrame)));
+    assertThat(currentStateFrame.length, is(lessThan(frame.length)));
+  }
+
+  @Test
+  void shareFramesOfEventsNotDependingOnCurrentStatesOnly() {
+    journal.append(new Point("point"));
+
+    EventJournal.Entry entry = journal.getEntries(0).get(0);
+
+    assertThat(entry.getFrame(true), is(theInstance(entry.getFrame(false))));
+  }
+
+  @Test
+  void createFramesForEveryEntry() {
+    journal.append(new Point("point-1"));
+    journal.append(new Point("point-2"));
+
+    List<EventJournal.Entry> entries = journal.getEntries(0);
+
+    assertThat(entries.get(1).getFrame(false), is(not(entries.get(0).getFrame(false))));
+  }
+}
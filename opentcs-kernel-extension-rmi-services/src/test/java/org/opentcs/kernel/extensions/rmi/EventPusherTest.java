@@ -0,0 +1,101 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.extensions.rmi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.rmi.services.EventFrameBatch;
+import org.opentcs.access.rmi.services.EventFrames;
+import org.opentcs.access.rmi.services.RemoteEventSink;
+
+/**
+ * Unit tests for {@link EventPusher}.
+ */
+class EventPusherTest {
+
+  private EventBuffer eventBuffer;
+  private Runnable deliveryCallback;
+
+  @BeforeEach
+  void setUp() {
+    eventBuffer = new EventBuffer(event -> true);
+    deliveryCallback = mock();
+  }
+
+  @Test
+  void deliverEventsInBatchesOfLimitedSize() {
+    eventBuffer.onEvent("event-1");
+    eventBuffer.onEvent("event-2");
+    eventBuffer.onEvent("event-3");
+    List<EventFrameBatch> deliveredBatches = new ArrayList<>();
+    EventPusher pusher = new EventPusher(
+        "client",
+        eventBuffer,
+        batch -> {
+          deliveredBatches.add(batch);
+          if (deliveredBatches.size() == 2) {
+            // Stop after the second delivery.
+            throw new RemoteException("Done");
+          }
+        },
+        false,
+        2,
+        deliveryCallback
+    );
+
+    pusher.run();
+
+    assertThat(deliveredBatches, hasSize(2));
+    assertThat(
+        deliveredBatches.get(0).getFrames(),
+        contains(EventFrames.encode("event-1", false), EventFrames.encode("event-2", false))
+    );
+    assertThat(
+        deliveredBatches.get(1).getFrames(),
+        contains(EventFrames.encode("event-3", false))
+    );
+    verify(deliveryCallback).run();
+    assertThat(pusher.isTerminated(), is(true));
+  }
+
+  @Test
+  void handBackEventsToBufferWhenDeliveryFails()
+      throws RemoteException {
+    eventBuffer.onEvent("event-1");
+    RemoteEventSink sink = mock();
+    doThrow(new RemoteException("Unreachable")).when(sink).deliverEventFrames(any());
+    EventPusher pusher = new EventPusher("client", eventBuffer, sink, false, 10, deliveryCallback);
+
+    pusher.run();
+
+    verify(deliveryCallback, never()).run();
+    assertThat(eventBuffer.getEvents(0), contains("event-1"));
+  }
+
+  @Test
+  void deliverNothingAfterTermination()
+      throws RemoteException {
+    eventBuffer.onEvent("event-1");
+    RemoteEventSink sink = mock();
+    EventPusher pusher = new EventPusher("client", eventBuffer, sink, false, 10, deliveryCallback);
+
+    pusher.terminate();
+    pusher.run();
+
+    verify(sink, never()).deliverEventFrames(any());
+    assertThat(eventBuffer.getEvents(0), contains("event-1"));
+  }
+}
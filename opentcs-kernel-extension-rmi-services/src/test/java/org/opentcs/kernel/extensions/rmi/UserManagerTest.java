@@ -65,6 +65,8 @@ class UserManagerTest {
 
     given(configuration.clientSweepInterval())
         .willReturn(1000L);
+    given(configuration.eventJournalCapacity())
+        .willReturn(100);
 
     manager = new UserManager(
         homedirectory,
@@ -139,6 +141,19 @@ class UserManagerTest {
     assertThat(eventList, contains(event1));
   }
 
+  @Test
+  void checkIfPollEventsReturnsOnlyEventsPublishedAfterRegistration() {
+    manager.onEvent(new Object());
+
+    manager.registerClient(id1, client1);
+    client1.getEventBuffer().setEventFilter(event -> true);
+
+    Object event1 = new Object();
+    manager.onEvent(event1);
+
+    assertThat(manager.pollEvents(id1, 0), contains(event1));
+  }
+
   @Test
   void checkVerifyCredentialsShouldThrowExceptionIfClientHasNoPermission() {
     manager.registerClient(id1, client1);
@@ -9,9 +9,13 @@ import java.io.File;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.access.SslParameterSet;
+import org.opentcs.common.LockingScheduledThreadPoolExecutor;
 import org.opentcs.common.LoggingScheduledThreadPoolExecutor;
 import org.opentcs.components.kernel.ObjectNameProvider;
 import org.opentcs.components.kernel.services.DispatcherService;
@@ -38,6 +42,7 @@ import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
 import org.opentcs.drivers.vehicle.VehicleControllerPool;
+import org.opentcs.drivers.vehicle.VehicleExecutorProvider;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.AttachmentManager;
 import org.opentcs.kernel.extensions.controlcenter.vehicles.VehicleEntryPool;
 import org.opentcs.kernel.extensions.watchdog.Watchdog;
@@ -63,6 +68,7 @@ import org.opentcs.kernel.services.StandardTransportOrderService;
 import org.opentcs.kernel.services.StandardVehicleService;
 import org.opentcs.kernel.vehicles.DefaultVehicleControllerPool;
 import org.opentcs.kernel.vehicles.LocalVehicleControllerPool;
+import org.opentcs.kernel.vehicles.StripedVehicleExecutorProvider;
 import org.opentcs.kernel.vehicles.VehicleCommAdapterRegistry;
 import org.opentcs.kernel.vehicles.VehicleControllerComponentsFactory;
 import org.opentcs.kernel.vehicles.VehicleControllerFactory;
@@ -237,6 +243,7 @@ public class DefaultKernelInjectionModule
   }
 
   private void configurePersistence() {
+    bind(XMLFileModelPersister.class).in(Singleton.class);
     bind(ModelPersister.class).to(XMLFileModelPersister.class);
   }
 
@@ -272,6 +279,16 @@ public class DefaultKernelInjectionModule
     bind(CreationTimeThreshold.class)
         .in(Singleton.class);
 
+    bind(OrderJournalConfiguration.class)
+        .toInstance(
+            getConfigBindingProvider().get(
+                OrderJournalConfiguration.PREFIX,
+                OrderJournalConfiguration.class
+            )
+        );
+    bind(OrderJournalRecorder.class)
+        .in(Singleton.class);
+
     transportOrderCleanupApprovalBinder();
     orderSequenceCleanupApprovalBinder();
     peripheralJobCleanupApprovalBinder();
@@ -304,15 +321,31 @@ public class DefaultKernelInjectionModule
   }
 
   private void configureKernelExecutor() {
-    ScheduledExecutorService executor
-        = new LoggingScheduledThreadPoolExecutor(
-            1,
-            runnable -> {
-              Thread thread = new Thread(runnable, "kernelExecutor");
-              thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
-              return thread;
-            }
+    KernelApplicationConfiguration configuration
+        = getConfigBindingProvider().get(
+            KernelApplicationConfiguration.PREFIX,
+            KernelApplicationConfiguration.class
         );
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(runnable, "kernelExecutor");
+      thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+      return thread;
+    };
+
+    // If vehicle-scoped tasks are executed on separate threads, tasks of the kernel executor hold
+    // the write lock and are thus executed exclusively, while vehicle-scoped tasks hold the read
+    // lock and may be executed concurrently with each other.
+    ReadWriteLock laneLock = new ReentrantReadWriteLock();
+    ScheduledExecutorService executor
+        = configuration.vehicleExecutorThreads() > 0
+            ? new LockingScheduledThreadPoolExecutor(1, threadFactory, laneLock.writeLock())
+            : new LoggingScheduledThreadPoolExecutor(1, threadFactory);
+    StripedVehicleExecutorProvider vehicleExecutorProvider = new StripedVehicleExecutorProvider(
+        executor,
+        configuration.vehicleExecutorThreads(),
+        laneLock.readLock()
+    );
+
     bind(ScheduledExecutorService.class)
         .annotatedWith(KernelExecutor.class)
         .toInstance(executor);
@@ -322,6 +355,10 @@ public class DefaultKernelInjectionModule
     bind(Executor.class)
         .annotatedWith(KernelExecutor.class)
         .toInstance(executor);
+    bind(StripedVehicleExecutorProvider.class)
+        .toInstance(vehicleExecutorProvider);
+    bind(VehicleExecutorProvider.class)
+        .toInstance(vehicleExecutorProvider);
   }
 
   private void configureWatchdogExtension() {
@@ -48,6 +48,15 @@ public interface KernelApplicationConfiguration {
   )
   boolean saveModelOnTerminateOperating();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = "The maximum number of backups of the model file to keep "
+          + "(0 disables backups, a negative value keeps all backups).",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "2_autosave_backups"
+  )
+  int modelBackupsLimit();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether to implicitly update the router's topology when a path is (un)locked.",
@@ -64,6 +73,18 @@ public interface KernelApplicationConfiguration {
   )
   boolean rerouteOnRoutingTopologyUpdate();
 
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether only vehicles whose remaining routes contain a path that was locked should be "
+              + "rerouted on topology changes.",
+          "If 'false', or if a path was unlocked, all vehicles are rerouted."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY,
+      orderKey = "4_reroute_1_affected"
+  )
+  boolean rerouteAffectedVehiclesOnly();
+
   @ConfigurationEntry(
       type = "Boolean",
       description = "Whether vehicles should be rerouted as soon as they finish a drive order.",
@@ -92,6 +113,21 @@ public interface KernelApplicationConfiguration {
   )
   VehicleResourceManagementType vehicleResourceManagementType();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of threads to execute vehicle-scoped tasks (e.g. those of vehicle drivers "
+              + "supporting this) on.",
+          "Tasks for the same vehicle are always executed sequentially, while tasks for "
+              + "different vehicles may be executed concurrently with each other, but never "
+              + "concurrently with tasks of the kernel executor (e.g. dispatching).",
+          "0: Vehicle-scoped tasks are executed by the kernel executor."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "6_vehicle_executor"
+  )
+  int vehicleExecutorThreads();
+
   /**
    * Defines the different types of how vehicle resources (i.e., paths, points and locations
    * allocated by vehicles) are managed.
@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel;
 
+import java.util.concurrent.CompletableFuture;
 import org.opentcs.kernel.persistence.ModelPersister;
 import org.opentcs.kernel.workingset.PlantModelManager;
 
@@ -44,8 +45,14 @@ public abstract class KernelStateOnline
 
   private void savePlantModel()
       throws IllegalStateException {
+    // Don't wait for the model to be written. The persister's writer thread completes it before the
+    // JVM exits, and failures are logged by the persister.
+    CompletableFuture<Void> saveResult;
     synchronized (getGlobalSyncObject()) {
-      getModelPersister().saveModel(getPlantModelManager().createPlantModelCreationTO());
+      saveResult = getModelPersister().saveModelAsync(
+          getPlantModelManager().createPlantModelCreationTO()
+      );
     }
+    ModelPersister.checkSave(saveResult);
   }
 }
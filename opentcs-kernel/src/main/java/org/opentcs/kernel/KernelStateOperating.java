@@ -108,6 +108,10 @@ public class KernelStateOperating
    * Triggers dispatching of vehicles and transport orders on certain events.
    */
   private final VehicleDispatchTrigger vehicleDispatchTrigger;
+  /**
+   * Records orders in a journal and restores them from it.
+   */
+  private final OrderJournalRecorder orderJournalRecorder;
   /**
    * A handle for the cleaner task.
    */
@@ -141,6 +145,7 @@ public class KernelStateOperating
    * @param pathLockListener Listens to path lock events and updates the routing topology.
    * @param vehicleDispatchTrigger Triggers dispatching of vehicles and transport orders on certain
    * events.
+   * @param orderJournalRecorder Records orders in a journal and restores them from it.
    */
   @Inject
   public KernelStateOperating(
@@ -166,7 +171,8 @@ public class KernelStateOperating
       PeripheralAttachmentManager peripheralAttachmentManager,
       InternalVehicleService vehicleService,
       PathLockEventListener pathLockListener,
-      VehicleDispatchTrigger vehicleDispatchTrigger
+      VehicleDispatchTrigger vehicleDispatchTrigger,
+      OrderJournalRecorder orderJournalRecorder
   ) {
     super(
         globalSyncObject,
@@ -199,6 +205,7 @@ public class KernelStateOperating
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.pathLockListener = requireNonNull(pathLockListener, "pathLockListener");
     this.vehicleDispatchTrigger = requireNonNull(vehicleDispatchTrigger, "vehicleDispatchTrigger");
+    this.orderJournalRecorder = requireNonNull(orderJournalRecorder, "orderJournalRecorder");
   }
 
   // Implementation of interface Kernel starts here.
@@ -242,6 +249,9 @@ public class KernelStateOperating
     pathLockListener.initialize();
     vehicleDispatchTrigger.initialize();
 
+    LOG.debug("Initializing order journal recorder '{}'...", orderJournalRecorder);
+    orderJournalRecorder.initialize();
+
     // Start a task for cleaning up old orders periodically.
     cleanerTaskFuture = kernelExecutor.scheduleAtFixedRate(
         workingSetCleanupTask,
@@ -274,6 +284,8 @@ public class KernelStateOperating
       return;
     }
     LOG.debug("Terminating operating state...");
+    // Stop journaling first, so that orders being cleared up from now on remain in the journal.
+    orderJournalRecorder.terminate();
     super.terminate();
 
     // Terminate everything that may still use resources.
@@ -286,6 +298,7 @@ public class KernelStateOperating
     // No need to clean up any more - it's all going to be cleaned up very soon.
     cleanerTaskFuture.cancel(false);
     cleanerTaskFuture = null;
+    workingSetCleanupTask.cancelSweep();
 
     // Terminate strategies.
     LOG.debug("Terminating peripheral job dispatcher '{}'...", peripheralJobDispatcher);
@@ -0,0 +1,41 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Provides methods to configure the {@link OrderJournalRecorder}.
+ */
+@ConfigurationPrefix(OrderJournalConfiguration.PREFIX)
+public interface OrderJournalConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "orderjournal";
+
+  @ConfigurationEntry(
+      type = "Boolean",
+      description = {
+          "Whether to journal transport orders, order sequences and peripheral jobs.",
+          "If enabled, orders and jobs that were not yet finished when the kernel left operating "
+              + "mode are restored when it enters operating mode again."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_enable"
+  )
+  boolean enable();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The size of the journal file (in KiB, less than 2 GiB).",
+          "When the journal file is full, it is compacted into a snapshot file."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_size"
+  )
+  int journalFileSize();
+}
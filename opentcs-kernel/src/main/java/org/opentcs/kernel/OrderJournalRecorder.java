@@ -0,0 +1,384 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.access.to.peripherals.PeripheralJobCreationTO;
+import org.opentcs.access.to.peripherals.PeripheralOperationCreationTO;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.PeripheralJobService;
+import org.opentcs.components.kernel.services.TransportOrderService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.data.peripherals.PeripheralOperation;
+import org.opentcs.kernel.persistence.OrderJournal;
+import org.opentcs.util.event.EventBus;
+import org.opentcs.util.event.EventHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records transport orders, order sequences and peripheral jobs that are not yet finished in an
+ * {@link OrderJournal}, and restores them from the journal when the kernel enters operating mode.
+ * <p>
+ * Orders are restored with their original names, starting with the drive order that was current
+ * when they were recorded last. Orders that were already being processed are restored with the
+ * processing vehicle as their intended vehicle.
+ * </p>
+ */
+public class OrderJournalRecorder
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(OrderJournalRecorder.class);
+  /**
+   * The event bus.
+   */
+  private final EventBus eventBus;
+  /**
+   * The transport order service.
+   */
+  private final TransportOrderService orderService;
+  /**
+   * The peripheral job service.
+   */
+  private final PeripheralJobService jobService;
+  /**
+   * This class's configuration.
+   */
+  private final OrderJournalConfiguration configuration;
+  /**
+   * The journal.
+   */
+  private final OrderJournal journal;
+  /**
+   * This instance's <em>initialized</em> flag.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param homeDirectory The application's home directory.
+   * @param eventBus The event bus.
+   * @param orderService The transport order service.
+   * @param jobService The peripheral job service.
+   * @param configuration This class's configuration.
+   */
+  @Inject
+  public OrderJournalRecorder(
+      @ApplicationHome
+      File homeDirectory,
+      @ApplicationEventBus
+      EventBus eventBus,
+      TransportOrderService orderService,
+      PeripheralJobService jobService,
+      OrderJournalConfiguration configuration
+  ) {
+    this.eventBus = requireNonNull(eventBus, "eventBus");
+    this.orderService = requireNonNull(orderService, "orderService");
+    this.jobService = requireNonNull(jobService, "jobService");
+    this.configuration = requireNonNull(configuration, "configuration");
+    this.journal = new OrderJournal(
+        new File(new File(homeDirectory, "data"), "orderjournal").toPath(),
+        1024L * configuration.journalFileSize()
+    );
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    if (configuration.enable()) {
+      List<TCSObject<?>> journaledObjects;
+      try {
+        journaledObjects = journal.open();
+      }
+      catch (IOException e) {
+        throw new IllegalStateException("Could not open order journal.", e);
+      }
+      // Subscribe first so that the restored objects are recorded, too.
+      eventBus.subscribe(this);
+      restore(journaledObjects);
+    }
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    if (configuration.enable()) {
+      // Unsubscribe before the working set is cleared, so that the orders remain in the journal.
+      eventBus.unsubscribe(this);
+      try {
+        journal.close();
+      }
+      catch (IOException e) {
+        LOG.warn("Failed to close order journal.", e);
+      }
+    }
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return;
+    }
+
+    TCSObject<?> object = objectEvent.getCurrentOrPreviousObjectState();
+    if (!(object instanceof TransportOrder
+        || object instanceof OrderSequence
+        || object instanceof PeripheralJob)) {
+      return;
+    }
+
+    switch (objectEvent.getType()) {
+      case OBJECT_CREATED:
+        journal.record(object);
+        break;
+      case OBJECT_MODIFIED:
+        if (isFinished(object)) {
+          journal.forget(object.getName());
+        }
+        else if (isRelevantModification(objectEvent.getPreviousObjectState(), object)) {
+          journal.record(object);
+        }
+        break;
+      case OBJECT_REMOVED:
+        journal.forget(object.getName());
+        break;
+      default:
+        // Nothing to do for other event types.
+    }
+  }
+
+  private boolean isFinished(TCSObject<?> object) {
+    if (object instanceof TransportOrder order) {
+      return order.getState().isFinalState();
+    }
+    else if (object instanceof OrderSequence sequence) {
+      return sequence.isFinished();
+    }
+    else if (object instanceof PeripheralJob job) {
+      return job.getState().isFinalState();
+    }
+    return false;
+  }
+
+  private boolean isRelevantModification(TCSObject<?> previous, TCSObject<?> current) {
+    // Only modifications affecting the way an object would be restored need to be recorded, e.g.
+    // not every route step a vehicle has passed.
+    if (previous instanceof TransportOrder prevOrder
+        && current instanceof TransportOrder order) {
+      return prevOrder.getState() != order.getState()
+          || prevOrder.getCurrentDriveOrderIndex() != order.getCurrentDriveOrderIndex()
+          || !Objects.equals(prevOrder.getIntendedVehicle(), order.getIntendedVehicle())
+          || !Objects.equals(prevOrder.getProcessingVehicle(), order.getProcessingVehicle());
+    }
+    else if (previous instanceof OrderSequence prevSequence
+        && current instanceof OrderSequence sequence) {
+      return prevSequence.isComplete() != sequence.isComplete();
+    }
+    return false;
+  }
+
+  private void restore(List<TCSObject<?>> journaledObjects) {
+    Set<String> restoredNames = new HashSet<>();
+
+    List<OrderSequence> sequences = objectsOfType(journaledObjects, OrderSequence.class);
+    sequences.sort(Comparator.comparing(OrderSequence::getCreationTime));
+    for (OrderSequence sequence : sequences) {
+      tryRestore(
+          sequence,
+          restoredNames,
+          () -> orderService.createOrderSequence(toCreationTO(sequence))
+      );
+    }
+
+    List<TransportOrder> orders = objectsOfType(journaledObjects, TransportOrder.class);
+    // Dependencies are always created before the orders depending on them.
+    orders.sort(Comparator.comparing(TransportOrder::getCreationTime));
+    for (TransportOrder order : orders) {
+      tryRestore(
+          order,
+          restoredNames,
+          () -> orderService.createTransportOrder(toCreationTO(order, restoredNames))
+      );
+    }
+
+    // Sequences can be marked as complete only after all of their orders have been restored.
+    for (OrderSequence sequence : sequences) {
+      if (sequence.isComplete() && restoredNames.contains(sequence.getName())) {
+        orderService.markOrderSequenceComplete(
+            orderService.fetchObject(OrderSequence.class, sequence.getName()).getReference()
+        );
+      }
+    }
+
+    List<PeripheralJob> jobs = objectsOfType(journaledObjects, PeripheralJob.class);
+    jobs.sort(Comparator.comparing(PeripheralJob::getCreationTime));
+    for (PeripheralJob job : jobs) {
+      tryRestore(
+          job,
+          restoredNames,
+          () -> jobService.createPeripheralJob(toCreationTO(job, restoredNames))
+      );
+    }
+
+    // Objects that could not be restored would otherwise be kept in the journal indefinitely.
+    for (TCSObject<?> object : journaledObjects) {
+      if (!restoredNames.contains(object.getName())) {
+        journal.forget(object.getName());
+      }
+    }
+
+    LOG.info(
+        "Restored {} of {} journaled orders, order sequences and peripheral jobs.",
+        restoredNames.size(),
+        journaledObjects.size()
+    );
+  }
+
+  private void tryRestore(TCSObject<?> object, Set<String> restoredNames, Runnable creation) {
+    try {
+      creation.run();
+      restoredNames.add(object.getName());
+    }
+    catch (KernelRuntimeException | IllegalArgumentException e) {
+      LOG.warn("Could not restore '{}' from order journal, discarding it.", object.getName(), e);
+    }
+  }
+
+  private OrderSequenceCreationTO toCreationTO(OrderSequence sequence) {
+    return new OrderSequenceCreationTO(sequence.getName())
+        .withIncompleteName(false)
+        .withType(sequence.getType())
+        .withIntendedVehicleName(nameOf(sequence.getIntendedVehicle()))
+        .withFailureFatal(sequence.isFailureFatal())
+        .withProperties(sequence.getProperties());
+  }
+
+  private TransportOrderCreationTO toCreationTO(TransportOrder order, Set<String> restoredNames) {
+    // Drive orders that have already been finished are not to be repeated. If the order was
+    // already being processed, the rest of it has to be done by the same vehicle. (For orders in
+    // sequences, this is ensured by the sequence, which must have the same intended vehicle.)
+    int firstDriveOrderIndex = Math.max(order.getCurrentDriveOrderIndex(), 0);
+    List<DriveOrder> driveOrders = order.getAllDriveOrders();
+    TCSObjectReference<?> intendedVehicle
+        = firstDriveOrderIndex > 0 && order.getWrappingSequence() == null
+            ? order.getProcessingVehicle()
+            : order.getIntendedVehicle();
+
+    return new TransportOrderCreationTO(
+        order.getName(),
+        driveOrders.subList(firstDriveOrderIndex, driveOrders.size()).stream()
+            .map(
+                driveOrder -> new DestinationCreationTO(
+                    driveOrder.getDestination().getDestination().getName(),
+                    driveOrder.getDestination().getOperation()
+                ).withProperties(driveOrder.getDestination().getProperties())
+            )
+            .toList()
+    )
+        .withIncompleteName(false)
+        .withPeripheralReservationToken(order.getPeripheralReservationToken())
+        .withWrappingSequence(restoredNameOf(order.getWrappingSequence(), restoredNames))
+        .withDependencyNames(
+            order.getDependencies().stream()
+                .map(TCSObjectReference::getName)
+                .filter(restoredNames::contains)
+                .collect(Collectors.toSet())
+        )
+        .withIntendedVehicleName(nameOf(intendedVehicle))
+        .withType(order.getType())
+        .withDeadline(order.getDeadline())
+        .withDispensable(order.isDispensable())
+        .withProperties(order.getProperties());
+  }
+
+  private PeripheralJobCreationTO toCreationTO(PeripheralJob job, Set<String> restoredNames) {
+    PeripheralOperation operation = job.getPeripheralOperation();
+    return new PeripheralJobCreationTO(
+        job.getName(),
+        job.getReservationToken(),
+        new PeripheralOperationCreationTO(
+            operation.getOperation(),
+            operation.getLocation().getName()
+        )
+            .withExecutionTrigger(operation.getExecutionTrigger())
+            .withCompletionRequired(operation.isCompletionRequired())
+    )
+        .withIncompleteName(false)
+        .withRelatedVehicleName(nameOf(job.getRelatedVehicle()))
+        .withRelatedTransportOrderName(
+            restoredNameOf(job.getRelatedTransportOrder(), restoredNames)
+        )
+        .withProperties(job.getProperties());
+  }
+
+  @Nullable
+  private String nameOf(
+      @Nullable
+      TCSObjectReference<?> ref
+  ) {
+    return ref == null ? null : ref.getName();
+  }
+
+  @Nullable
+  private String restoredNameOf(
+      @Nullable
+      TCSObjectReference<?> ref,
+      Set<String> restoredNames
+  ) {
+    return ref == null || !restoredNames.contains(ref.getName()) ? null : ref.getName();
+  }
+
+  private <T extends TCSObject<T>> List<T> objectsOfType(
+      List<TCSObject<?>> objects,
+      Class<T> clazz
+  ) {
+    return objects.stream()
+        .filter(clazz::isInstance)
+        .map(clazz::cast)
+        .collect(Collectors.toList());
+  }
+}
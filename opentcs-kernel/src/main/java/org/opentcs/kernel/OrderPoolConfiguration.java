@@ -30,4 +30,16 @@ public interface OrderPoolConfiguration {
       changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
   )
   int sweepAge();
+
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The maximum number of orders, order sequences or peripheral jobs to check for removal "
+              + "in one go during a sweep.",
+          "Every chunk is processed by a separate task of the kernel executor, so other tasks "
+              + "may run between such chunks."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.INSTANTLY
+  )
+  int sweepChunkSize();
 }
@@ -5,14 +5,21 @@ package org.opentcs.kernel;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import org.opentcs.components.Lifecycle;
 import org.opentcs.components.kernel.services.DispatcherService;
 import org.opentcs.components.kernel.services.RouterService;
+import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.ReroutingType;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
 import org.opentcs.util.event.EventBus;
 import org.opentcs.util.event.EventHandler;
 
@@ -40,6 +47,10 @@ public class PathLockEventListener
    * The dispatcher.
    */
   private final DispatcherService dispatcher;
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
   /**
    * This instance's <em>initialized</em> flag.
    */
@@ -52,6 +63,7 @@ public class PathLockEventListener
    * @param routerService The router service.
    * @param eventBus The event bus.
    * @param dispatcher The dispatcher.
+   * @param objectService The object service.
    */
   @Inject
   public PathLockEventListener(
@@ -59,12 +71,14 @@ public class PathLockEventListener
       RouterService routerService,
       @ApplicationEventBus
       EventBus eventBus,
-      DispatcherService dispatcher
+      DispatcherService dispatcher,
+      TCSObjectService objectService
   ) {
     this.configuration = requireNonNull(configuration, "configuration");
     this.routerService = requireNonNull(routerService, "routerService");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.dispatcher = requireNonNull(dispatcher, "dispatcher");
+    this.objectService = requireNonNull(objectService, "objectService");
   }
 
   @Override
@@ -102,14 +116,76 @@ public class PathLockEventListener
 
     TCSObjectEvent event = (TCSObjectEvent) eventObject;
     if (hasPathLockChanged(event)) {
-      routerService.updateRoutingTopology(
-          Set.of(((Path) event.getCurrentObjectState()).getReference())
-      );
+      Path path = (Path) event.getCurrentObjectState();
+      routerService.updateRoutingTopology(Set.of(path.getReference()));
 
       if (configuration.rerouteOnRoutingTopologyUpdate()) {
-        dispatcher.rerouteAll(ReroutingType.REGULAR);
+        // Since locked paths are excluded from routing, no route contains a path that has just been
+        // unlocked, so any vehicle might benefit from rerouting in that case.
+        if (configuration.rerouteAffectedVehiclesOnly() && path.isLocked()) {
+          for (Vehicle vehicle : vehiclesRoutedVia(path)) {
+            dispatcher.reroute(vehicle.getReference(), ReroutingType.REGULAR);
+          }
+        }
+        else {
+          dispatcher.rerouteAll(ReroutingType.REGULAR);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the vehicles processing transport orders whose remaining routes contain the given
+   * path.
+   *
+   * @param path The path.
+   * @return The vehicles processing transport orders whose remaining routes contain the given path.
+   */
+  private List<Vehicle> vehiclesRoutedVia(Path path) {
+    List<Vehicle> result = new ArrayList<>();
+    for (Vehicle vehicle : objectService.fetchObjects(Vehicle.class, Vehicle::isProcessingOrder)) {
+      TransportOrder order = objectService.fetchObject(
+          TransportOrder.class,
+          vehicle.getTransportOrder()
+      );
+      if (order != null && isRoutedVia(order, path)) {
+        result.add(vehicle);
+      }
+    }
+    return result;
+  }
+
+  private boolean isRoutedVia(TransportOrder order, Path path) {
+    DriveOrder currentDriveOrder = order.getCurrentDriveOrder();
+    if (currentDriveOrder == null) {
+      return false;
+    }
+
+    // For the current drive order, only the steps that have not been travelled yet are relevant.
+    if (containsPath(currentDriveOrder, order.getCurrentRouteStepIndex() + 1, path)) {
+      return true;
+    }
+    for (DriveOrder driveOrder : order.getFutureDriveOrders()) {
+      if (containsPath(driveOrder, 0, path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean containsPath(DriveOrder driveOrder, int firstStepIndex, Path path) {
+    if (driveOrder.getRoute() == null) {
+      return false;
+    }
+
+    List<Route.Step> steps = driveOrder.getRoute().getSteps();
+    for (int i = Math.max(0, firstStepIndex); i < steps.size(); i++) {
+      if (steps.get(i).getPath() != null
+          && steps.get(i).getPath().getName().equals(path.getName())) {
+        return true;
       }
     }
+    return false;
   }
 
   private boolean hasPathLockChanged(TCSObjectEvent event) {
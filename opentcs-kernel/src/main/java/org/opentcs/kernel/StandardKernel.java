@@ -22,6 +22,7 @@ import org.opentcs.components.kernel.services.NotificationService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.notification.UserNotification;
+import org.opentcs.kernel.vehicles.StripedVehicleExecutorProvider;
 import org.opentcs.util.event.EventBus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +51,10 @@ public class StandardKernel
    * Our executor.
    */
   private final ScheduledExecutorService kernelExecutor;
+  /**
+   * Provides executors for vehicle-scoped tasks.
+   */
+  private final StripedVehicleExecutorProvider vehicleExecutorProvider;
   /**
    * This kernel's order receivers.
    */
@@ -76,6 +81,7 @@ public class StandardKernel
    *
    * @param eventBus The central event bus to be used.
    * @param kernelExecutor An executor for this kernel's tasks.
+   * @param vehicleExecutorProvider Provides executors for vehicle-scoped tasks.
    * @param stateProviders The state map to be used.
    * @param notificationService The notification service to be used.
    */
@@ -85,11 +91,14 @@ public class StandardKernel
       EventBus eventBus,
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
+      StripedVehicleExecutorProvider vehicleExecutorProvider,
       Map<Kernel.State, Provider<KernelState>> stateProviders,
       NotificationService notificationService
   ) {
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.vehicleExecutorProvider
+        = requireNonNull(vehicleExecutorProvider, "vehicleExecutorProvider");
     this.stateProviders = requireNonNull(stateProviders, "stateProviders");
     this.notificationService = requireNonNull(notificationService, "notificationService");
   }
@@ -144,6 +153,7 @@ public class StandardKernel
     for (KernelExtension extension : kernelExtensions) {
       extension.terminate();
     }
+    vehicleExecutorProvider.shutdown();
     kernelExecutor.shutdown();
     LOG.info("Kernel thread finished.");
   }
@@ -25,6 +25,7 @@ import org.opentcs.data.model.Point;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.notification.UserNotification;
+import org.opentcs.util.BlockMembershipIndex;
 
 /**
  * Periodically checks the occupancy status of single-vehicle blocks.
@@ -89,6 +90,11 @@ public class BlockConsistencyCheck
    * The Future created for the block check task.
    */
   private ScheduledFuture<?> scheduledFuture;
+  /**
+   * An index mapping resources to the {@link Block.Type#SINGLE_VEHICLE_ONLY} blocks they are
+   * members of.
+   */
+  private BlockMembershipIndex blockIndex = BlockMembershipIndex.empty();
   /**
    * Holds currently known block occupations.
    * Maps a block reference to a set of vehicles contained in that block.
@@ -124,6 +130,13 @@ public class BlockConsistencyCheck
       return;
     }
 
+    blockIndex = new BlockMembershipIndex(
+        objectService.fetchObjects(
+            Block.class,
+            block -> block.getType() == Block.Type.SINGLE_VEHICLE_ONLY
+        )
+    );
+
     scheduledFuture = kernelExecutor.scheduleAtFixedRate(
         this,
         configuration.blockConsistencyCheckInterval(),
@@ -150,6 +163,8 @@ public class BlockConsistencyCheck
       scheduledFuture = null;
     }
 
+    blockIndex = BlockMembershipIndex.empty();
+
     initialized = false;
   }
 
@@ -206,8 +221,6 @@ public class BlockConsistencyCheck
     Map<TCSResourceReference<Block>, Set<TCSObjectReference<Vehicle>>> currentOccupations
         = new HashMap<>();
 
-    Set<Block> blocks = objectService.fetchObjects(Block.class);
-
     objectService.fetchObjects(Vehicle.class)
         .stream()
         .filter(vehicle -> {
@@ -218,9 +231,7 @@ public class BlockConsistencyCheck
         .forEach(vehicle -> {
           Point currentPoint = objectService.fetchObject(Point.class, vehicle.getCurrentPosition());
 
-          blocks.stream()
-              .filter(block -> block.getType() == Block.Type.SINGLE_VEHICLE_ONLY)
-              .filter(block -> block.getMembers().contains(currentPoint.getReference()))
+          blockIndex.getBlocksContaining(currentPoint.getReference())
               .forEach(block -> {
                 currentOccupations.putIfAbsent(block.getReference(), new HashSet<>());
                 currentOccupations.get(block.getReference()).add(vehicle.getReference());
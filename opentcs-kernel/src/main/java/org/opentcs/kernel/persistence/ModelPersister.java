@@ -2,6 +2,10 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.kernel.persistence;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.opentcs.access.to.model.PlantModelCreationTO;
 
 /**
@@ -26,6 +30,72 @@ public interface ModelPersister {
   void saveModel(PlantModelCreationTO model)
       throws IllegalStateException;
 
+  /**
+   * Persists a model without waiting for it to be written.
+   * <p>
+   * Models are persisted in the order in which this method is called. Implementations may skip
+   * persisting a model if a more recent one is passed before it has been written.
+   * This method is meant to be cheap enough to be called while holding the kernel's global
+   * synchronization object, so that the model passed reflects the state at the time of the call,
+   * while the actual writing happens after the lock has been released.
+   * </p>
+   * <p>
+   * Implementations writing the model asynchronously are expected to log failures themselves, so
+   * callers may ignore the returned future instead of waiting for it.
+   * This default implementation persists the model synchronously.
+   * </p>
+   *
+   * @param model The model to be persisted.
+   * @return A future that completes once the model (or a more recent one) has been persisted, or
+   * that completes exceptionally with an {@link IllegalStateException} if persisting it failed.
+   */
+  default CompletableFuture<Void> saveModelAsync(PlantModelCreationTO model) {
+    try {
+      saveModel(model);
+      return CompletableFuture.completedFuture(null);
+    }
+    catch (IllegalStateException exc) {
+      return CompletableFuture.failedFuture(exc);
+    }
+  }
+
+  /**
+   * Waits for the given result of {@link #saveModelAsync(PlantModelCreationTO)}.
+   *
+   * @param result The result to wait for.
+   * @throws IllegalStateException If persisting the model failed.
+   */
+  static void awaitSave(CompletableFuture<Void> result)
+      throws IllegalStateException {
+    requireNonNull(result, "result");
+
+    try {
+      result.join();
+    }
+    catch (CompletionException exc) {
+      if (exc.getCause() instanceof IllegalStateException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Persisting the model failed", exc.getCause());
+    }
+  }
+
+  /**
+   * Checks the given result of {@link #saveModelAsync(PlantModelCreationTO)} without waiting for
+   * it.
+   *
+   * @param result The result to check.
+   * @throws IllegalStateException If persisting the model has already failed.
+   */
+  static void checkSave(CompletableFuture<Void> result)
+      throws IllegalStateException {
+    requireNonNull(result, "result");
+
+    if (result.isCompletedExceptionally()) {
+      awaitSave(result);
+    }
+  }
+
   /**
    * Reads the model and returns it as a <Code>PlantModelCreationTO</Code>.
    *
@@ -0,0 +1,560 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+import static org.opentcs.util.Assertions.checkState;
+
+import jakarta.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+import org.opentcs.data.TCSObject;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only journal of the objects of the working set that are to survive a kernel restart.
+ * <p>
+ * The journal keeps the most recent state of every object recorded and not yet forgotten. Changes
+ * are appended to a memory-mapped journal file by a dedicated writer thread. All changes that
+ * have accumulated while the writer thread was busy are written and synced to the storage device
+ * together (group commit), so that recording a change never blocks the caller on I/O.
+ * </p>
+ * <p>
+ * Whenever the journal file is full (and when the journal is opened), the objects currently
+ * recorded are written to a compacted snapshot file and the journal file is started over. Every
+ * snapshot carries a generation number, and only journal records with the snapshot's generation
+ * are replayed on top of it. Records from a previous generation that are still in the journal
+ * file (e.g. because of a crash right after a snapshot has been written) are thus ignored, as are
+ * incomplete records at the end of the journal, which are detected via a checksum.
+ * </p>
+ * <p>
+ * If syncing changes to the storage device fails, journaling is disabled until the journal is
+ * reopened: Pending and future flushes fail, and further changes are discarded.
+ * </p>
+ * <p>
+ * Objects are stored using Java serialization.
+ * </p>
+ */
+public class OrderJournal {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(OrderJournal.class);
+  /**
+   * The name of the journal file.
+   */
+  private static final String JOURNAL_FILE_NAME = "journal.bin";
+  /**
+   * The name of the snapshot file.
+   */
+  private static final String SNAPSHOT_FILE_NAME = "snapshot.bin";
+  /**
+   * The size of a record's header: payload length, generation, type and checksum.
+   */
+  private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES + 1 + Integer.BYTES;
+  /**
+   * The type of a record containing the (new) state of an object.
+   */
+  private static final byte RECORD_TYPE_UPSERT = 1;
+  /**
+   * The type of a record containing the name of an object to be forgotten.
+   */
+  private static final byte RECORD_TYPE_REMOVE = 2;
+  /**
+   * Restricts deserialization to classes that may actually be part of recorded objects.
+   */
+  private static final ObjectInputFilter DESERIALIZATION_FILTER
+      = ObjectInputFilter.Config.createFilter("org.opentcs.**;java.**;!*");
+  /**
+   * The directory containing the journal and snapshot files.
+   */
+  private final Path directory;
+  /**
+   * The size of the journal file (in bytes).
+   */
+  private final int journalFileSize;
+  /**
+   * The changes to be written by the writer thread.
+   */
+  private final BlockingQueue<Change> pendingChanges = new LinkedBlockingQueue<>();
+  /**
+   * The most recent states of the recorded objects, mapped by their names.
+   * Accessed by the writer thread only after opening.
+   */
+  private final Map<String, TCSObject<?>> objects = new LinkedHashMap<>();
+  /**
+   * The channel for the journal file.
+   */
+  private FileChannel journalChannel;
+  /**
+   * The mapped journal file.
+   */
+  private MappedByteBuffer journal;
+  /**
+   * The generation of the current snapshot and the records in the journal file.
+   */
+  private long generation;
+  /**
+   * The thread writing the journal.
+   */
+  private Thread writerThread;
+  /**
+   * The reason journaling is disabled, or {@code null}, if it is not.
+   */
+  private volatile IOException failure;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param directory The directory containing the journal and snapshot files.
+   * @param journalFileSize The size of the journal file (in bytes). Since the journal file is
+   * mapped into memory as a whole, it must be less than 2 GiB.
+   * @throws IllegalArgumentException If the given journal file size is out of range.
+   */
+  public OrderJournal(
+      @Nonnull
+      Path directory,
+      long journalFileSize
+  )
+      throws IllegalArgumentException {
+    this.directory = requireNonNull(directory, "directory");
+    this.journalFileSize = (int) checkInRange(
+        journalFileSize,
+        RECORD_HEADER_SIZE + 1,
+        Integer.MAX_VALUE,
+        "journalFileSize"
+    );
+  }
+
+  /**
+   * Opens the journal, replaying the snapshot and the journal file, if they exist, and starts
+   * writing changes.
+   *
+   * @return The most recent states of the objects that have been recorded and not forgotten, in
+   * the order in which they were first recorded.
+   * @throws IOException If the journal could not be opened.
+   */
+  @Nonnull
+  public synchronized List<TCSObject<?>> open()
+      throws IOException {
+    checkState(writerThread == null, "Already open.");
+
+    Files.createDirectories(directory);
+    objects.clear();
+    failure = null;
+    generation = readSnapshot();
+
+    journalChannel = FileChannel.open(
+        directory.resolve(JOURNAL_FILE_NAME),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE
+    );
+    journal = journalChannel.map(FileChannel.MapMode.READ_WRITE, 0, journalFileSize);
+    int replayed = replayJournal();
+    LOG.info(
+        "Replayed {} journal records on top of snapshot generation {}, {} objects recorded.",
+        replayed,
+        generation,
+        objects.size()
+    );
+    List<TCSObject<?>> result = new ArrayList<>(objects.values());
+
+    // Start over with a fresh snapshot, so the journal has its full capacity available.
+    compact();
+
+    writerThread = new Thread(this::writeChanges, "orderJournalWriter");
+    writerThread.setDaemon(true);
+    writerThread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+    writerThread.start();
+
+    return result;
+  }
+
+  /**
+   * Stops writing changes, after all changes recorded so far have been written, and closes the
+   * journal.
+   *
+   * @throws IOException If the journal could not be closed.
+   */
+  public synchronized void close()
+      throws IOException {
+    if (writerThread == null) {
+      return;
+    }
+
+    pendingChanges.add(Change.CLOSE);
+    boolean interrupted = false;
+    while (writerThread.isAlive()) {
+      try {
+        writerThread.join();
+      }
+      catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    writerThread = null;
+    journalChannel.close();
+    journalChannel = null;
+    journal = null;
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Records the given (new) state of an object.
+   *
+   * @param object The object.
+   */
+  public void record(
+      @Nonnull
+      TCSObject<?> object
+  ) {
+    requireNonNull(object, "object");
+    if (failure != null) {
+      return;
+    }
+
+    pendingChanges.add(new Change(object, object.getName(), null));
+  }
+
+  /**
+   * Forgets the object with the given name.
+   *
+   * @param name The name of the object.
+   */
+  public void forget(
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(name, "name");
+    if (failure != null) {
+      return;
+    }
+
+    pendingChanges.add(new Change(null, name, null));
+  }
+
+  /**
+   * Returns a future that is completed once all changes recorded before have been synced to the
+   * storage device.
+   *
+   * @return A future that is completed once all changes recorded before have been synced, or that
+   * is completed exceptionally if journaling is or becomes disabled before.
+   */
+  @Nonnull
+  public CompletableFuture<Void> flush() {
+    IOException currentFailure = failure;
+    if (currentFailure != null) {
+      return CompletableFuture.failedFuture(currentFailure);
+    }
+    CompletableFuture<Void> result = new CompletableFuture<>();
+    pendingChanges.add(new Change(null, null, result));
+    return result;
+  }
+
+  private void writeChanges() {
+    List<Change> batch = new ArrayList<>();
+    boolean closed = false;
+    while (!closed) {
+      try {
+        batch.add(pendingChanges.take());
+      }
+      catch (InterruptedException e) {
+        LOG.warn("Interrupted while waiting for changes, ignored.");
+        continue;
+      }
+      pendingChanges.drainTo(batch);
+
+      List<CompletableFuture<Void>> flushes = new ArrayList<>();
+      for (Change change : batch) {
+        if (change == Change.CLOSE) {
+          closed = true;
+        }
+        else if (change.flushed != null) {
+          flushes.add(change.flushed);
+        }
+        else if (failure == null) {
+          apply(change);
+        }
+      }
+      if (failure == null) {
+        sync(batch.size());
+      }
+      batch.clear();
+
+      IOException currentFailure = failure;
+      if (currentFailure == null) {
+        flushes.forEach(flushed -> flushed.complete(null));
+      }
+      else {
+        flushes.forEach(flushed -> flushed.completeExceptionally(currentFailure));
+      }
+    }
+  }
+
+  /**
+   * Syncs the changes written to the journal file to the storage device, with a single sync for
+   * all of them.
+   */
+  private void sync(int changeCount) {
+    try {
+      syncJournal();
+      LOG.trace("Committed {} journal changes.", changeCount);
+    }
+    catch (RuntimeException | InternalError e) {
+      // Failures of mapped buffers are reported as unchecked I/O exceptions or, if accessing the
+      // mapped memory fails, as internal errors.
+      disable(e);
+    }
+  }
+
+  private void disable(Throwable cause) {
+    LOG.error("Failed to write order journal, disabling journaling until it is reopened.", cause);
+    failure = new IOException("Order journal disabled after failing to write it.", cause);
+  }
+
+  /**
+   * Syncs the mapped journal file to the storage device.
+   * Package-private so tests can simulate failures.
+   */
+  void syncJournal() {
+    journal.force();
+  }
+
+  private void apply(Change change) {
+    try {
+      byte type;
+      byte[] payload;
+      if (change.object != null) {
+        objects.put(change.name, change.object);
+        type = RECORD_TYPE_UPSERT;
+        payload = serialize(change.object);
+      }
+      else {
+        if (objects.remove(change.name) == null) {
+          // Nothing recorded, nothing to forget.
+          return;
+        }
+        type = RECORD_TYPE_REMOVE;
+        payload = change.name.getBytes(StandardCharsets.UTF_8);
+      }
+
+      if (journal.remaining() < RECORD_HEADER_SIZE + payload.length) {
+        // The journal file is full - the objects map already contains the change, so a snapshot
+        // covers it.
+        compact();
+        return;
+      }
+      writeRecord(journal, type, payload);
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to record change of '{}' in journal.", change.name, e);
+    }
+    catch (InternalError e) {
+      disable(e);
+    }
+  }
+
+  /**
+   * Writes the objects currently recorded to a new snapshot and starts over with an empty journal.
+   */
+  private void compact()
+      throws IOException {
+    long newGeneration = generation + 1;
+    Path snapshotFile = directory.resolve(SNAPSHOT_FILE_NAME);
+    Path tmpFile = Files.createTempFile(directory, "snapshot", ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.WRITE);
+           DataOutputStream output = new DataOutputStream(
+               new BufferedOutputStream(Channels.newOutputStream(channel))
+           )) {
+        output.writeLong(newGeneration);
+        output.writeInt(objects.size());
+        for (TCSObject<?> object : objects.values()) {
+          byte[] payload = serialize(object);
+          output.writeInt(payload.length);
+          output.write(payload);
+        }
+        output.flush();
+        channel.force(true);
+      }
+
+      try {
+        Files.move(
+            tmpFile,
+            snapshotFile,
+            StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE
+        );
+      }
+      catch (AtomicMoveNotSupportedException e) {
+        LOG.debug("Atomic move not supported, falling back to non-atomic move.", e);
+        Files.move(tmpFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    finally {
+      Files.deleteIfExists(tmpFile);
+    }
+
+    // Records of the previous generation remaining in the journal file are ignored from now on.
+    generation = newGeneration;
+    journal.clear();
+    journal.putInt(0, 0);
+    journal.force();
+    LOG.debug("Wrote journal snapshot generation {} with {} objects.", generation, objects.size());
+  }
+
+  private long readSnapshot()
+      throws IOException {
+    Path snapshotFile = directory.resolve(SNAPSHOT_FILE_NAME);
+    if (!Files.exists(snapshotFile)) {
+      return 0;
+    }
+
+    try (DataInputStream input = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(snapshotFile))
+    )) {
+      long snapshotGeneration = input.readLong();
+      int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        byte[] payload = new byte[input.readInt()];
+        input.readFully(payload);
+        TCSObject<?> object = deserialize(new ByteArrayInputStream(payload));
+        objects.put(object.getName(), object);
+      }
+      return snapshotGeneration;
+    }
+    catch (EOFException e) {
+      throw new IOException("Snapshot file is truncated: " + snapshotFile, e);
+    }
+  }
+
+  private int replayJournal()
+      throws IOException {
+    int count = 0;
+    CRC32 crc = new CRC32();
+    while (journal.remaining() >= RECORD_HEADER_SIZE) {
+      int start = journal.position();
+      int length = journal.getInt();
+      long recordGeneration = journal.getLong();
+      byte type = journal.get();
+      int checksum = journal.getInt();
+      if (length <= 0
+          || length > journal.remaining()
+          || recordGeneration != generation) {
+        journal.position(start);
+        break;
+      }
+
+      byte[] payload = new byte[length];
+      journal.get(payload);
+      crc.reset();
+      crc.update(type);
+      crc.update(payload);
+      if ((int) crc.getValue() != checksum) {
+        LOG.info("Ignoring incomplete record at the end of the journal.");
+        journal.position(start);
+        break;
+      }
+
+      if (type == RECORD_TYPE_UPSERT) {
+        TCSObject<?> object = deserialize(new ByteArrayInputStream(payload));
+        objects.put(object.getName(), object);
+      }
+      else if (type == RECORD_TYPE_REMOVE) {
+        objects.remove(new String(payload, StandardCharsets.UTF_8));
+      }
+      count++;
+    }
+    return count;
+  }
+
+  private void writeRecord(ByteBuffer buffer, byte type, byte[] payload) {
+    CRC32 crc = new CRC32();
+    crc.update(type);
+    crc.update(payload);
+
+    int start = buffer.position();
+    // Write the length last, so that a record only becomes visible once it is complete.
+    buffer.position(start + Integer.BYTES);
+    buffer.putLong(generation);
+    buffer.put(type);
+    buffer.putInt((int) crc.getValue());
+    buffer.put(payload);
+    buffer.putInt(start, payload.length);
+    // Terminate the journal after this record, unless it is full.
+    if (buffer.remaining() >= Integer.BYTES) {
+      buffer.putInt(buffer.position(), 0);
+    }
+  }
+
+  private static byte[] serialize(TCSObject<?> object)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+      output.writeObject(object);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static TCSObject<?> deserialize(InputStream input)
+      throws IOException {
+    try (ObjectInputStream objectInput = new ObjectInputStream(input)) {
+      objectInput.setObjectInputFilter(DESERIALIZATION_FILTER);
+      return (TCSObject<?>) objectInput.readObject();
+    }
+    catch (ClassNotFoundException | ClassCastException e) {
+      throw new IOException("Could not read object from journal.", e);
+    }
+  }
+
+  /**
+   * A change to be written by the writer thread.
+   *
+   * @param object The (new) state of the object, or {@code null}, if the object is to be forgotten.
+   * @param name The name of the object.
+   * @param flushed A future to be completed after all previous changes have been synced, or
+   * {@code null}, if this is not a flush request.
+   */
+  private record Change(TCSObject<?> object, String name, CompletableFuture<Void> flushed) {
+
+    /**
+     * Marks the end of the changes to be written.
+     */
+    private static final Change CLOSE = new Change(null, null, null);
+  }
+}
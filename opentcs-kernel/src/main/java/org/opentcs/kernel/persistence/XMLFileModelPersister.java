@@ -8,17 +8,42 @@ import static org.opentcs.util.Assertions.checkState;
 import jakarta.inject.Inject;
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.opentcs.access.to.model.PlantModelCreationTO;
 import org.opentcs.customizations.ApplicationHome;
+import org.opentcs.kernel.KernelApplicationConfiguration;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
 import org.opentcs.util.persistence.ModelParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A {@link ModelPersister} implementation using an XML file.
+ * <p>
+ * Models are written on a dedicated thread. A model is first written to a temporary file, which is
+ * synced to the storage device and then renamed to the actual model file, so that a crash while
+ * writing never leaves a truncated model file behind. Saves requested while another one is still
+ * waiting to be written are coalesced, i.e. only the most recent model is written.
+ * </p>
+ * <p>
+ * The writer thread is not a daemon thread, so that a save that is still in progress when the
+ * application terminates is completed before the JVM exits. It is only alive while there are saves
+ * to be written, so it does not keep the JVM alive otherwise.
+ * </p>
  */
 public class XMLFileModelPersister
     implements
@@ -32,6 +57,14 @@ public class XMLFileModelPersister
    * The name of the model file in the model directory.
    */
   private static final String MODEL_FILE_NAME = "model.xml";
+  /**
+   * The prefix of the names of backup files.
+   */
+  private static final String BACKUP_FILE_PREFIX = MODEL_FILE_NAME + "_backup_";
+  /**
+   * The time (in seconds) after which an idle writer thread terminates.
+   */
+  private static final long WRITER_KEEP_ALIVE_SECONDS = 5;
   /**
    * The directory path for the persisted model.
    */
@@ -44,32 +77,127 @@ public class XMLFileModelPersister
    * Reads and writes models into xml files.
    */
   private final ModelParser modelParser;
+  /**
+   * The maximum number of backups of the model file to keep (0 disables backups, a negative value
+   * keeps all backups).
+   */
+  private final int modelBackupsLimit;
+  /**
+   * Writes the model files.
+   */
+  private final ExecutorService writerExecutor;
+  /**
+   * The save that has been requested but not yet started, or {@code null}, if there is none.
+   */
+  private PendingSave pendingSave;
+  /**
+   * The result of the most recently requested save.
+   */
+  private CompletableFuture<Void> lastSaveResult = CompletableFuture.completedFuture(null);
 
   /**
    * Creates a new XMLFileModelPersister.
    *
    * @param directory The application's home directory.
    * @param modelParser Reads and writes into the xml file.
+   * @param configuration The kernel application's configuration.
    */
   @Inject
   public XMLFileModelPersister(
       @ApplicationHome
       File directory,
-      ModelParser modelParser
+      ModelParser modelParser,
+      KernelApplicationConfiguration configuration
   ) {
     this.modelParser = requireNonNull(modelParser, "modelParser");
     this.dataDirectory = new File(requireNonNull(directory, "directory"), "data");
+    this.modelBackupsLimit = requireNonNull(configuration, "configuration").modelBackupsLimit();
 
     this.modelFile = new File(dataDirectory, MODEL_FILE_NAME);
+    this.writerExecutor = new ThreadPoolExecutor(
+        0,
+        1,
+        WRITER_KEEP_ALIVE_SECONDS,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        runnable -> {
+          Thread thread = new Thread(runnable, "modelPersister");
+          thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+          return thread;
+        }
+    );
   }
 
   @Override
   public void saveModel(PlantModelCreationTO model)
       throws IllegalStateException {
+    ModelPersister.awaitSave(saveModelAsync(model));
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> saveModelAsync(PlantModelCreationTO model) {
     requireNonNull(model, "model");
 
     LOG.debug("Saving model '{}'.", model.getName());
 
+    if (pendingSave == null) {
+      PendingSave save = new PendingSave();
+      pendingSave = save;
+      lastSaveResult = save.result;
+      writerExecutor.execute(() -> write(save));
+    }
+    else {
+      LOG.debug("Superseding pending save of model '{}'.", pendingSave.model.getName());
+    }
+    pendingSave.model = model;
+    return pendingSave.result;
+  }
+
+  @Override
+  public PlantModelCreationTO readModel()
+      throws IllegalStateException {
+    awaitPendingSaves();
+
+    // Return empty model if there is no saved model
+    if (!hasSavedModel()) {
+      return new PlantModelCreationTO("empty model");
+    }
+
+    // Read the model from the file.
+    return readXMLModel(modelFile);
+  }
+
+  @Override
+  public boolean hasSavedModel() {
+    awaitPendingSaves();
+
+    return modelFileExists();
+  }
+
+  private void write(PendingSave save) {
+    PlantModelCreationTO model;
+    synchronized (this) {
+      model = save.model;
+      pendingSave = null;
+    }
+
+    try {
+      writeModelFile(model);
+      save.result.complete(null);
+    }
+    catch (IllegalStateException exc) {
+      LOG.error("Exception saving model '{}'", model.getName(), exc);
+      save.result.completeExceptionally(exc);
+    }
+    catch (IOException | RuntimeException exc) {
+      LOG.error("Exception saving model '{}'", model.getName(), exc);
+      save.result.completeExceptionally(new IllegalStateException("Exception saving model", exc));
+    }
+  }
+
+  private void writeModelFile(PlantModelCreationTO model)
+      throws IOException,
+        IllegalStateException {
     // Check if writing the model is possible.
     checkState(
         dataDirectory.isDirectory() || dataDirectory.mkdirs(),
@@ -81,38 +209,70 @@ public class XMLFileModelPersister
         "%s exists, but is not a regular file",
         modelFile.getPath()
     );
+
+    Path tempFile = Files.createTempFile(dataDirectory.toPath(), "model", ".xml");
     try {
-      if (modelFile.exists()) {
+      modelParser.writeModel(model, tempFile.toFile());
+      // Make sure the new model file's content is on the storage device before it replaces the
+      // previous one.
+      try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+
+      if (modelFile.exists() && modelBackupsLimit != 0) {
         createBackup();
       }
 
-      modelParser.writeModel(model, modelFile);
+      try {
+        Files.move(
+            tempFile,
+            modelFile.toPath(),
+            StandardCopyOption.ATOMIC_MOVE,
+            StandardCopyOption.REPLACE_EXISTING
+        );
+      }
+      catch (AtomicMoveNotSupportedException exc) {
+        LOG.warn("Atomic move not supported, replacing {} non-atomically.", modelFile, exc);
+        Files.move(tempFile, modelFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      }
+      syncDataDirectory();
     }
-    catch (IOException exc) {
-      throw new IllegalStateException("Exception saving model", exc);
+    finally {
+      Files.deleteIfExists(tempFile);
     }
   }
 
-  @Override
-  public PlantModelCreationTO readModel()
-      throws IllegalStateException {
-    // Return empty model if there is no saved model
-    if (!hasSavedModel()) {
-      return new PlantModelCreationTO("empty model");
+  /**
+   * Syncs the data directory to the storage device, so that the renaming of the model file is
+   * persisted.
+   * Not all platforms support this, so failing to do it is not considered an error.
+   */
+  private void syncDataDirectory() {
+    try (FileChannel channel = FileChannel.open(dataDirectory.toPath(), StandardOpenOption.READ)) {
+      channel.force(true);
+    }
+    catch (IOException exc) {
+      LOG.debug("Could not sync data directory {}", dataDirectory, exc);
     }
-
-    // Read the model from the file.
-    return readXMLModel(modelFile);
   }
 
-  @Override
-  public boolean hasSavedModel() {
-    return modelFileExists();
+  private void awaitPendingSaves() {
+    CompletableFuture<Void> result;
+    synchronized (this) {
+      result = lastSaveResult;
+    }
+    try {
+      result.join();
+    }
+    catch (CompletionException exc) {
+      // The failure has already been logged when writing the model.
+      LOG.debug("Previous save failed", exc);
+    }
   }
 
   /**
    * Creates a backup of the currently saved model file by copying it to the
-   * "backups" subdirectory.
+   * "backups" subdirectory, and deletes the oldest backups exceeding the configured limit, if any.
    *
    * Assumes that the model file exists.
    *
@@ -125,7 +285,7 @@ public class XMLFileModelPersister
     Calendar cal = Calendar.getInstance();
     SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS");
     String time = sdf.format(cal.getTime());
-    String modelBackupName = MODEL_FILE_NAME + "_backup_" + time;
+    String modelBackupName = BACKUP_FILE_PREFIX + time;
     // Make sure backup directory exists
     File modelBackupDirectory = new File(dataDirectory, "backups");
     if (modelBackupDirectory.exists()) {
@@ -147,6 +307,25 @@ public class XMLFileModelPersister
         modelFile.toPath(),
         new File(modelBackupDirectory, modelBackupName).toPath()
     );
+
+    deleteExcessBackups(modelBackupDirectory);
+  }
+
+  private void deleteExcessBackups(File modelBackupDirectory)
+      throws IOException {
+    File[] backups = modelBackupDirectory.listFiles(
+        file -> file.isFile() && file.getName().startsWith(BACKUP_FILE_PREFIX)
+    );
+    if (modelBackupsLimit < 0 || backups == null || backups.length <= modelBackupsLimit) {
+      return;
+    }
+
+    // The backups' names contain their creation time, so sorting them by name sorts them by age.
+    Arrays.sort(backups);
+    for (int i = 0; i < backups.length - modelBackupsLimit; i++) {
+      LOG.debug("Deleting old model backup {}", backups[i]);
+      Files.deleteIfExists(backups[i].toPath());
+    }
   }
 
   /**
@@ -183,4 +362,18 @@ public class XMLFileModelPersister
     }
   }
 
+  /**
+   * A save that has been requested but not yet started.
+   */
+  private static class PendingSave {
+
+    /**
+     * The result of the save.
+     */
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    /**
+     * The model to be written.
+     */
+    private PlantModelCreationTO model;
+  }
 }
@@ -8,6 +8,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.KernelRuntimeException;
 import org.opentcs.access.LocalKernel;
@@ -116,15 +117,17 @@ public class StandardPlantModelService
   @Override
   public void loadPlantModel()
       throws IllegalStateException {
-    synchronized (globalSyncObject) {
-      if (!modelPersister.hasSavedModel()) {
-        createPlantModel(new PlantModelCreationTO(Kernel.DEFAULT_MODEL_NAME));
-        return;
-      }
+    if (!modelPersister.hasSavedModel()) {
+      createPlantModel(new PlantModelCreationTO(Kernel.DEFAULT_MODEL_NAME));
+      return;
+    }
 
+    // Read the model file before acquiring the lock, so other threads are not blocked meanwhile.
+    PlantModelCreationTO modelCreationTO = modelPersister.readModel();
+
+    synchronized (globalSyncObject) {
       final String oldModelName = getModelName();
       // Load the new model
-      PlantModelCreationTO modelCreationTO = modelPersister.readModel();
       final String newModelName = isNullOrEmpty(modelCreationTO.getName())
           ? ""
           : modelCreationTO.getName();
@@ -145,9 +148,13 @@ public class StandardPlantModelService
   @Override
   public void savePlantModel()
       throws IllegalStateException {
+    // Only take the snapshot of the model while holding the lock, and write it afterwards without
+    // blocking the calling (kernel) thread. Failures of the write are logged by the persister.
+    CompletableFuture<Void> saveResult;
     synchronized (globalSyncObject) {
-      modelPersister.saveModel(plantModelManager.createPlantModelCreationTO());
+      saveResult = modelPersister.saveModelAsync(plantModelManager.createPlantModelCreationTO());
     }
+    ModelPersister.checkSave(saveResult);
   }
 
   @Override
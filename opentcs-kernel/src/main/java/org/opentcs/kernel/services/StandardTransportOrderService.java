@@ -7,6 +7,7 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import java.util.List;
 import org.opentcs.access.to.order.OrderSequenceCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
 import org.opentcs.access.to.order.TransportOrderCreationTO;
 import org.opentcs.components.kernel.services.InternalTransportOrderService;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -210,6 +211,19 @@ public class StandardTransportOrderService
     }
   }
 
+  @Override
+  public List<TransportOrderCreationResult> createTransportOrders(
+      List<TransportOrderCreationTO> tos
+  ) {
+    requireNonNull(tos, "tos");
+
+    // Create all transport orders while holding the lock only once, so that other kernel threads
+    // (e.g. the dispatcher) do not get to see only parts of the batch.
+    synchronized (globalSyncObject) {
+      return InternalTransportOrderService.super.createTransportOrders(tos);
+    }
+  }
+
   @Override
   public void markOrderSequenceComplete(TCSObjectReference<OrderSequence> ref)
       throws ObjectUnknownException {
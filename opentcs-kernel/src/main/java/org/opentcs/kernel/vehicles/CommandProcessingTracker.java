@@ -16,6 +16,7 @@ import java.util.Optional;
 import java.util.SequencedCollection;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
@@ -560,6 +561,22 @@ public class CommandProcessingTracker {
   private SequencedCollection<CommandResourcePair> toCommandResourcePairs(
       SequencedCollection<MovementCommand> movementCommands
   ) {
+    if (movementCommands instanceof MovementCommandList commandList) {
+      // Don't create the movement commands up front. A command is created only once the vehicle
+      // actually gets to it, i.e. when the resources for it are to be allocated, so that only
+      // the commands currently being processed (which are bounded by the communication adapter's
+      // command capacity) are held in memory.
+      return IntStream.range(0, commandList.size())
+          .mapToObj(
+              index -> new CommandResourcePair(
+                  commandList,
+                  index,
+                  commandList.getNeededResources(index)
+              )
+          )
+          .toList();
+    }
+
     return movementCommands.stream()
         .map(command -> new CommandResourcePair(command, getNeededResources(command)))
         .toList();
@@ -729,7 +746,13 @@ public class CommandProcessingTracker {
    */
   private static class CommandResourcePair {
 
-    private final MovementCommand movementCommand;
+    /**
+     * The list the movement command is to be created from, or {@code null}, if the movement
+     * command has already been created.
+     */
+    private MovementCommandList commandList;
+    private final int commandIndex;
+    private MovementCommand movementCommand;
     private final Set<TCSResource<?>> resources;
 
     /**
@@ -739,16 +762,40 @@ public class CommandProcessingTracker {
      * @param resources The set of resources associated with the movement command.
      */
     CommandResourcePair(MovementCommand movementCommand, Set<TCSResource<?>> resources) {
+      this.commandList = null;
+      this.commandIndex = -1;
       this.movementCommand = requireNonNull(movementCommand, "movementCommand");
       this.resources = requireNonNull(resources, "resources");
     }
 
+    /**
+     * Creates a new instance with a movement command that is created on first access.
+     *
+     * @param commandList The list the movement command is to be created from.
+     * @param commandIndex The index of the movement command in the list.
+     * @param resources The set of resources associated with the movement command.
+     */
+    CommandResourcePair(
+        MovementCommandList commandList,
+        int commandIndex,
+        Set<TCSResource<?>> resources
+    ) {
+      this.commandList = requireNonNull(commandList, "commandList");
+      this.commandIndex = commandIndex;
+      this.movementCommand = null;
+      this.resources = requireNonNull(resources, "resources");
+    }
+
     /**
      * Returns the movement command.
      *
      * @return The movement command.
      */
     public MovementCommand getMovementCommand() {
+      if (movementCommand == null) {
+        movementCommand = commandList.get(commandIndex);
+        commandList = null;
+      }
       return movementCommand;
     }
 
@@ -763,6 +810,13 @@ public class CommandProcessingTracker {
 
     @Override
     public String toString() {
+      if (movementCommand == null) {
+        // Don't create the movement command just for logging.
+        return "CommandResourcePair{" +
+            "step=" + commandList.getStep(commandIndex) +
+            ", resources=" + resources +
+            '}';
+      }
       return "CommandResourcePair{" +
           "movementCommand=" + movementCommand +
           ", resources=" + resources +
@@ -17,7 +17,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -1204,28 +1203,6 @@ public class DefaultVehicleController
     commandProcessingTracker.allocationRequested(nextAllocation);
   }
 
-  /**
-   * Returns a set of resources needed for executing the given command.
-   *
-   * @param cmd The command for which to return the needed resources.
-   * @return A set of resources needed for executing the given command.
-   */
-  @Nonnull
-  private Set<TCSResource<?>> getNeededResources(MovementCommand cmd) {
-    requireNonNull(cmd, "cmd");
-
-    Set<TCSResource<?>> result = new HashSet<>();
-    result.add(cmd.getStep().getDestinationPoint());
-    if (cmd.getStep().getPath() != null) {
-      result.add(cmd.getStep().getPath());
-    }
-    if (cmd.getOpLocation() != null) {
-      result.add(cmd.getOpLocation());
-    }
-
-    return result;
-  }
-
   /**
    * Frees all resources allocated for the vehicle.
    */
@@ -1475,9 +1452,8 @@ public class DefaultVehicleController
 
   private List<Set<TCSResource<?>>> requiredClaimForFutureDriveOrders(TransportOrder order) {
     return order.getFutureDriveOrders().stream()
-        .map(driveOrder -> movementCommandMapper.toMovementCommands(driveOrder, order))
+        .map(driveOrder -> movementCommandMapper.toNeededResources(driveOrder, order))
         .flatMap(Collection::stream)
-        .map(this::getNeededResources)
         .toList();
   }
 
@@ -0,0 +1,137 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.drivers.vehicle.MovementCommand;
+
+/**
+ * An unmodifiable list of the {@link MovementCommand}s for a drive order's route steps.
+ * <p>
+ * Movement commands are not created up front but only when the respective element is accessed,
+ * and they are not retained by this list. All movement commands share the same (immutable) map
+ * of merged properties. The resources needed for a movement command can be retrieved via
+ * {@link #getNeededResources(int)} without creating the movement command itself.
+ * </p>
+ */
+class MovementCommandList
+    extends
+      AbstractList<MovementCommand>
+    implements
+      RandomAccess {
+
+  private final TransportOrder transportOrder;
+  private final DriveOrder driveOrder;
+  private final List<Route.Step> steps;
+  private final String finalOperation;
+  private final Point finalDestination;
+  @Nullable
+  private final Location finalDestinationLocation;
+  private final Map<String, String> properties;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param transportOrder The transport order the drive order belongs to.
+   * @param driveOrder The drive order.
+   * @param finalDestinationLocation The location the drive order ends at, or {@code null}, if it
+   * ends at a point.
+   * @param properties The merged properties of the transport order and the drive order's
+   * destination.
+   */
+  MovementCommandList(
+      @Nonnull
+      TransportOrder transportOrder,
+      @Nonnull
+      DriveOrder driveOrder,
+      @Nullable
+      Location finalDestinationLocation,
+      @Nonnull
+      Map<String, String> properties
+  ) {
+    this.transportOrder = requireNonNull(transportOrder, "transportOrder");
+    this.driveOrder = requireNonNull(driveOrder, "driveOrder");
+    this.steps = driveOrder.getRoute().getSteps();
+    this.finalOperation = driveOrder.getDestination().getOperation();
+    this.finalDestination = driveOrder.getRoute().getFinalDestinationPoint();
+    this.finalDestinationLocation = finalDestinationLocation;
+    this.properties = Map.copyOf(requireNonNull(properties, "properties"));
+  }
+
+  @Override
+  public MovementCommand get(int index) {
+    Objects.checkIndex(index, steps.size());
+
+    boolean isFinalMovement = isFinalMovement(index);
+    return new MovementCommand(
+        transportOrder,
+        driveOrder,
+        steps.get(index),
+        isFinalMovement ? finalOperation : MovementCommand.NO_OPERATION,
+        isFinalMovement ? finalDestinationLocation : null,
+        isFinalMovement,
+        finalDestinationLocation,
+        finalDestination,
+        finalOperation,
+        properties
+    );
+  }
+
+  @Override
+  public int size() {
+    return steps.size();
+  }
+
+  /**
+   * Returns the set of resources needed for executing the movement command at the given index.
+   *
+   * @param index The index of the movement command.
+   * @return The set of resources needed for executing the movement command at the given index.
+   */
+  @Nonnull
+  public Set<TCSResource<?>> getNeededResources(int index) {
+    Objects.checkIndex(index, steps.size());
+
+    Route.Step step = steps.get(index);
+    Set<TCSResource<?>> result = new HashSet<>();
+    result.add(step.getDestinationPoint());
+    if (step.getPath() != null) {
+      result.add(step.getPath());
+    }
+    if (isFinalMovement(index) && finalDestinationLocation != null) {
+      result.add(finalDestinationLocation);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the route step for the movement command at the given index.
+   *
+   * @param index The index of the movement command.
+   * @return The route step for the movement command at the given index.
+   */
+  @Nonnull
+  public Route.Step getStep(int index) {
+    return steps.get(index);
+  }
+
+  private boolean isFinalMovement(int index) {
+    return index == steps.size() - 1;
+  }
+}
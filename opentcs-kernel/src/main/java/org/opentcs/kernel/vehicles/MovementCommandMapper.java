@@ -7,14 +7,13 @@ import static java.util.Objects.requireNonNull;
 import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Location;
-import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.order.DriveOrder;
-import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
 import org.opentcs.drivers.vehicle.MovementCommand;
 
@@ -37,6 +36,10 @@ public class MovementCommandMapper {
 
   /**
    * Maps the given {@link DriveOrder} to a corresponding list of {@link MovementCommand}s.
+   * <p>
+   * The movement commands in the returned list are created only when they are accessed, and all of
+   * them share the same (immutable) map of merged properties.
+   * </p>
    *
    * @param driveOrder The {@link DriveOrder} to map.
    * @param transportOrder The {@link TransportOrder} the drive order belongs to.
@@ -45,48 +48,50 @@ public class MovementCommandMapper {
   public List<MovementCommand> toMovementCommands(
       DriveOrder driveOrder,
       TransportOrder transportOrder
+  ) {
+    return toMovementCommandList(driveOrder, transportOrder);
+  }
+
+  /**
+   * Maps the given {@link DriveOrder} to the sets of resources needed for executing the
+   * corresponding {@link MovementCommand}s, without creating the movement commands themselves.
+   *
+   * @param driveOrder The {@link DriveOrder} to map.
+   * @param transportOrder The {@link TransportOrder} the drive order belongs to.
+   * @return A list of resource sets, one for every movement command.
+   */
+  public List<Set<TCSResource<?>>> toNeededResources(
+      DriveOrder driveOrder,
+      TransportOrder transportOrder
+  ) {
+    MovementCommandList commands = toMovementCommandList(driveOrder, transportOrder);
+
+    List<Set<TCSResource<?>>> result = new ArrayList<>(commands.size());
+    for (int i = 0; i < commands.size(); i++) {
+      result.add(commands.getNeededResources(i));
+    }
+    return result;
+  }
+
+  private MovementCommandList toMovementCommandList(
+      DriveOrder driveOrder,
+      TransportOrder transportOrder
   ) {
     requireNonNull(driveOrder, "driveOrder");
     requireNonNull(transportOrder, "transportOrder");
 
-    // Gather information from the drive order.
-    String op = driveOrder.getDestination().getOperation();
-    Route orderRoute = driveOrder.getRoute();
-    Point finalDestination = orderRoute.getFinalDestinationPoint();
-    Location finalDestinationLocation
-        = objectService.fetchObject(
+    return new MovementCommandList(
+        transportOrder,
+        driveOrder,
+        objectService.fetchObject(
             Location.class,
             driveOrder.getDestination().getDestination().getName()
-        );
-    Map<String, String> destProperties = driveOrder.getDestination().getProperties();
-
-    List<MovementCommand> result = new ArrayList<>(orderRoute.getSteps().size());
-    // Create a movement command for every step in the drive order's route.
-    Iterator<Route.Step> stepIter = orderRoute.getSteps().iterator();
-    while (stepIter.hasNext()) {
-      Route.Step curStep = stepIter.next();
-      boolean isFinalMovement = !stepIter.hasNext();
-
-      String operation = isFinalMovement ? op : MovementCommand.NO_OPERATION;
-      Location location = isFinalMovement ? finalDestinationLocation : null;
-
-      result.add(
-          new MovementCommand(
-              transportOrder,
-              driveOrder,
-              curStep,
-              operation,
-              location,
-              isFinalMovement,
-              finalDestinationLocation,
-              finalDestination,
-              op,
-              mergeProperties(transportOrder.getProperties(), destProperties)
-          )
-      );
-    }
-
-    return result;
+        ),
+        mergeProperties(
+            transportOrder.getProperties(),
+            driveOrder.getDestination().getProperties()
+        )
+    );
   }
 
   /**
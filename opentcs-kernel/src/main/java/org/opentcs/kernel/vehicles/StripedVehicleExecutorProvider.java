@@ -0,0 +1,100 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.Lock;
+import org.opentcs.common.LockingScheduledThreadPoolExecutor;
+import org.opentcs.drivers.vehicle.VehicleExecutorProvider;
+import org.opentcs.util.logging.UncaughtExceptionLogger;
+
+/**
+ * Provides executors for vehicle-scoped tasks from a fixed number of single-threaded stripes.
+ * <p>
+ * Every vehicle is assigned to one of the stripes based on its name, so all tasks for a vehicle are
+ * executed sequentially, in the order they were submitted, while tasks for vehicles assigned to
+ * different stripes may be executed concurrently. While executing a task, a stripe holds the
+ * given lock, which is expected to be the read lock of a read-write lock whose write lock is held
+ * by the kernel executor, so that tasks of the kernel executor are still executed exclusively.
+ * </p>
+ * <p>
+ * If the number of stripes is zero, the kernel executor itself is provided for all vehicles.
+ * </p>
+ */
+public class StripedVehicleExecutorProvider
+    implements
+      VehicleExecutorProvider {
+
+  /**
+   * The kernel executor.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * The stripes.
+   */
+  private final List<ScheduledExecutorService> stripes = new ArrayList<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param kernelExecutor The kernel executor.
+   * @param stripeCount The number of stripes.
+   * @param stripeLock The lock to hold while executing a task on any of the stripes.
+   */
+  public StripedVehicleExecutorProvider(
+      @Nonnull
+      ScheduledExecutorService kernelExecutor,
+      int stripeCount,
+      @Nonnull
+      Lock stripeLock
+  ) {
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    requireNonNull(stripeLock, "stripeLock");
+    checkArgument(stripeCount >= 0, "stripeCount < 0: %s", stripeCount);
+
+    for (int i = 0; i < stripeCount; i++) {
+      String threadName = "vehicleExecutor-" + i;
+      stripes.add(
+          new LockingScheduledThreadPoolExecutor(
+              1,
+              runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(false));
+                return thread;
+              },
+              stripeLock
+          )
+      );
+    }
+  }
+
+  @Override
+  @Nonnull
+  public ScheduledExecutorService getExecutor(
+      @Nonnull
+      String vehicleName
+  ) {
+    requireNonNull(vehicleName, "vehicleName");
+
+    if (stripes.isEmpty()) {
+      return kernelExecutor;
+    }
+    return stripes.get(Math.floorMod(vehicleName.hashCode(), stripes.size()));
+  }
+
+  /**
+   * Initiates an orderly shutdown of all stripes.
+   * Note that the kernel executor is not shut down by this method.
+   */
+  public void shutdown() {
+    for (ScheduledExecutorService stripe : stripes) {
+      stripe.shutdown();
+    }
+  }
+}
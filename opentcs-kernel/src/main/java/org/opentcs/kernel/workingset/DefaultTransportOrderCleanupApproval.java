@@ -5,10 +5,8 @@ package org.opentcs.kernel.workingset;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Objects;
 import org.opentcs.components.kernel.TransportOrderCleanupApproval;
 import org.opentcs.data.order.TransportOrder;
-import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
  * Checks whether a transport order may be removed.
@@ -66,10 +64,7 @@ public class DefaultTransportOrderCleanupApproval
 
   private boolean isRelatedToJobWithNonFinalState(TransportOrder order) {
     return peripheralJobPoolManager.getObjectRepo()
-        .getObjects(
-            PeripheralJob.class,
-            job -> Objects.equals(job.getRelatedTransportOrder(), order.getReference())
-        )
+        .getRelatedPeripheralJobs(order.getReference())
         .stream()
         .filter(job -> !job.getState().isFinalState())
         .findAny()
@@ -77,10 +72,8 @@ public class DefaultTransportOrderCleanupApproval
   }
 
   private boolean isRelatedToUnapprovedJob(TransportOrder order) {
-    return !(peripheralJobPoolManager.getObjectRepo().getObjects(
-        PeripheralJob.class,
-        job -> Objects.equals(job.getRelatedTransportOrder(), order.getReference())
-    )
+    return !(peripheralJobPoolManager.getObjectRepo()
+        .getRelatedPeripheralJobs(order.getReference())
         .stream()
         .allMatch(defaultPeripheralJobCleanupApproval));
   }
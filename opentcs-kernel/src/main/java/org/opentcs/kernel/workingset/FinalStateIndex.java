@@ -0,0 +1,152 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.workingset;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
+
+/**
+ * Keeps the names of transport orders, order sequences and peripheral jobs in a final state,
+ * ordered by their creation times.
+ * <p>
+ * This allows the objects that were created before a given point of time to be taken from the
+ * head of the index instead of filtering all objects.
+ * </p>
+ */
+class FinalStateIndex {
+
+  /**
+   * Orders index entries by creation time and name.
+   */
+  private static final Comparator<Entry> ENTRY_ORDER
+      = Comparator.comparing(Entry::creationTime).thenComparing(Entry::name);
+  /**
+   * The index entries, grouped by the classes of the objects they belong to.
+   */
+  private final Map<Class<?>, NavigableSet<Entry>> entriesByClass = new HashMap<>();
+
+  /**
+   * Creates a new instance.
+   */
+  FinalStateIndex() {
+  }
+
+  /**
+   * Updates the index for a change of an object.
+   *
+   * @param previousState The object's previous state, or {@code null}, if it was added.
+   * @param currentState The object's current state, or {@code null}, if it was removed.
+   */
+  void update(
+      @Nullable
+      TCSObject<?> previousState,
+      @Nullable
+      TCSObject<?> currentState
+  ) {
+    if (previousState != null && isInFinalState(previousState)) {
+      NavigableSet<Entry> entries = entriesByClass.get(previousState.getClass());
+      if (entries != null) {
+        entries.remove(toEntry(previousState));
+      }
+    }
+    if (currentState != null && isInFinalState(currentState)) {
+      entriesByClass.computeIfAbsent(currentState.getClass(), clazz -> new TreeSet<>(ENTRY_ORDER))
+          .add(toEntry(currentState));
+    }
+  }
+
+  /**
+   * Returns the names of objects of the given class that are in a final state and that were created
+   * at or before the given point of time, oldest ones first.
+   *
+   * @param clazz The class of the objects.
+   * @param createdUntil The point of time at or before which the objects must have been created.
+   * @param previous The object after which to continue, or {@code null}, to start with the oldest
+   * object.
+   * @param maxCount The maximum number of names to return.
+   * @return The names of the objects.
+   */
+  @Nonnull
+  List<String> getNames(
+      @Nonnull
+      Class<?> clazz,
+      @Nonnull
+      Instant createdUntil,
+      @Nullable
+      TCSObject<?> previous,
+      int maxCount
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(createdUntil, "createdUntil");
+
+    NavigableSet<Entry> entries = entriesByClass.get(clazz);
+    if (entries == null) {
+      return List.of();
+    }
+
+    NavigableSet<Entry> candidates = previous == null
+        ? entries
+        : entries.tailSet(toEntry(previous), false);
+    List<String> result = new ArrayList<>();
+    for (Entry entry : candidates) {
+      if (result.size() >= maxCount || entry.creationTime().isAfter(createdUntil)) {
+        break;
+      }
+      result.add(entry.name());
+    }
+    return result;
+  }
+
+  private static boolean isInFinalState(TCSObject<?> object) {
+    if (object instanceof TransportOrder order) {
+      return order.getState().isFinalState();
+    }
+    else if (object instanceof OrderSequence sequence) {
+      return sequence.isFinished();
+    }
+    else if (object instanceof PeripheralJob job) {
+      return job.getState().isFinalState();
+    }
+    else {
+      return false;
+    }
+  }
+
+  private static Entry toEntry(TCSObject<?> object) {
+    if (object instanceof TransportOrder order) {
+      return new Entry(order.getCreationTime(), order.getName());
+    }
+    else if (object instanceof OrderSequence sequence) {
+      return new Entry(sequence.getCreationTime(), sequence.getName());
+    }
+    else if (object instanceof PeripheralJob job) {
+      return new Entry(job.getCreationTime(), job.getName());
+    }
+    else {
+      return new Entry(Instant.EPOCH, object.getName());
+    }
+  }
+
+  /**
+   * An entry in the index.
+   *
+   * @param creationTime The object's creation time.
+   * @param name The object's name.
+   */
+  private record Entry(Instant creationTime, String name) {
+  }
+}
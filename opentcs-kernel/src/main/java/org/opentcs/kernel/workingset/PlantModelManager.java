@@ -8,12 +8,14 @@ import static org.opentcs.util.Assertions.checkState;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.opentcs.access.to.CreationTO;
@@ -54,6 +56,7 @@ import org.opentcs.data.order.TransportOrder;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.data.peripherals.PeripheralOperation;
 import org.opentcs.drivers.vehicle.LoadHandlingDevice;
+import org.opentcs.util.BlockMembershipIndex;
 import org.opentcs.util.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -82,6 +85,10 @@ public class PlantModelManager
    * This model's properties.
    */
   private Map<String, String> properties = new HashMap<>();
+  /**
+   * An index mapping resources to the blocks they are members of.
+   */
+  private BlockMembershipIndex blockMembershipIndex = BlockMembershipIndex.empty();
 
   /**
    * Creates a new model.
@@ -157,6 +164,8 @@ public class PlantModelManager
           TCSObjectEvent.Type.OBJECT_REMOVED
       );
     }
+
+    blockMembershipIndex = BlockMembershipIndex.empty();
   }
 
   /**
@@ -179,7 +188,8 @@ public class PlantModelManager
     )
         .reduce(Stream::concat)
         .orElseGet(Stream::empty)
-        .collect(Collectors.groupingBy(CreationTO::getName, Collectors.counting()))
+        .parallel()
+        .collect(Collectors.groupingByConcurrent(CreationTO::getName, Collectors.counting()))
         .entrySet()
         .stream()
         .filter(entry -> entry.getValue() > 1)
@@ -194,6 +204,13 @@ public class PlantModelManager
   /**
    * Creates new plant model objects with unique IDs and all other attributes taken from the given
    * transfer object.
+   * <p>
+   * The model objects are created in bulk: The transfer objects of each kind are mapped to model
+   * objects in parallel, and the model objects are added to the object repository only after all
+   * of them have been created successfully. No events are emitted for the individual model objects
+   * created - listeners are expected to rely on the model transition events emitted around the
+   * creation of a plant model instead.
+   * </p>
    *
    * @param to The transfer object from which to create the new objects.
    * @throws ObjectExistsException If an object with a new object's name already exists.
@@ -203,32 +220,53 @@ public class PlantModelManager
       throws ObjectExistsException,
         ObjectUnknownException {
     LOG.info("Plant model is being created: {}", to.getName());
+    long timeStampBefore = System.currentTimeMillis();
 
     clear();
     setName(to.getName());
     setProperties(to.getProperties());
 
-    for (PointCreationTO point : to.getPoints()) {
-      createPoint(point);
-    }
-    for (LocationTypeCreationTO locType : to.getLocationTypes()) {
-      createLocationType(locType);
-    }
-    for (LocationCreationTO loc : to.getLocations()) {
-      createLocation(loc);
-    }
-    for (PathCreationTO path : to.getPaths()) {
-      createPath(path);
-    }
+    // Objects of the same kind do not depend on each other, so they can be created in parallel.
+    // Objects of different kinds need to be created in the order of their dependencies, though.
+    Map<String, Point> points = createObjects(to.getPoints(), this::createPoint);
+    Map<String, LocationType> locationTypes
+        = createObjects(to.getLocationTypes(), this::createLocationType);
+    Map<String, Location> locations = createObjects(
+        to.getLocations(),
+        loc -> createLocation(loc, locationTypes, points)
+    );
+    Map<String, Path> paths = createObjects(
+        to.getPaths(),
+        path -> createPath(path, points, locations)
+    );
+    Map<String, Point> connectedPoints = connectPoints(points, paths.values(), locations.values());
+
+    Map<String, TCSResource<?>> resources = new HashMap<>();
+    resources.putAll(connectedPoints);
+    resources.putAll(paths);
+    resources.putAll(locations);
+    Map<String, Block> blocks = createObjects(
+        to.getBlocks(),
+        block -> createBlock(block, resources)
+    );
+    Map<String, Vehicle> vehicles = createObjects(to.getVehicles(), this::createVehicle);
+    VisualLayout visualLayout = createVisualLayout(to.getVisualLayout());
 
-    for (BlockCreationTO block : to.getBlocks()) {
-      createBlock(block);
-    }
-    for (VehicleCreationTO vehicle : to.getVehicles()) {
-      createVehicle(vehicle);
-    }
+    addObjects(connectedPoints.values());
+    addObjects(locationTypes.values());
+    addObjects(locations.values());
+    addObjects(paths.values());
+    addObjects(blocks.values());
+    addObjects(vehicles.values());
+    getObjectRepo().addObject(visualLayout);
+
+    blockMembershipIndex = new BlockMembershipIndex(blocks.values());
 
-    createVisualLayout(to.getVisualLayout());
+    LOG.info(
+        "Created plant model '{}' in {} milliseconds.",
+        to.getName(),
+        System.currentTimeMillis() - timeStampBefore
+    );
   }
 
   /**
@@ -1082,21 +1120,11 @@ public class PlantModelManager
       throws ObjectUnknownException {
     requireNonNull(resources, "resources");
 
-    Set<Block> blocks = getObjectRepo().getObjects(Block.class);
-
     // First, collect the given references plus references to all members of blocks that contain the
     // given references in a set.
     // We could look up all resources and add them to the result immediately, but by first
     // collecting all references, we ensure that we look up each resource only once.
-    Set<TCSResourceReference<?>> refsToLookUp = new HashSet<>();
-    for (TCSResourceReference<?> resourceRef : resources) {
-      refsToLookUp.add(resourceRef);
-
-      blocks.stream()
-          .filter(block -> block.getMembers().contains(resourceRef))
-          .flatMap(block -> block.getMembers().stream())
-          .forEach(memberRef -> refsToLookUp.add(memberRef));
-    }
+    Set<TCSResourceReference<?>> refsToLookUp = blockMembershipIndex.expand(resources);
 
     // Look up and return the actual resources.
     return refsToLookUp.stream()
@@ -1105,15 +1133,13 @@ public class PlantModelManager
   }
 
   private List<PeripheralOperation> mapPeripheralOperationTOs(
-      List<PeripheralOperationCreationTO> creationTOs
+      List<PeripheralOperationCreationTO> creationTOs,
+      Map<String, Location> locations
   ) {
     return creationTOs.stream()
         .map(
             operationTO -> new PeripheralOperation(
-                getObjectRepo().getObject(
-                    Location.class,
-                    operationTO.getLocationName()
-                ).getReference(),
+                lookUp(locations, operationTO.getLocationName()).getReference(),
                 operationTO.getOperation(),
                 operationTO.getExecutionTrigger(),
                 operationTO.isCompletionRequired()
@@ -1372,46 +1398,80 @@ public class PlantModelManager
         .withLayerGroups(layout.getLayerGroups());
   }
 
+  /**
+   * Creates model objects from the given transfer objects in parallel.
+   *
+   * @param <T> The type of transfer objects.
+   * @param <U> The type of model objects.
+   * @param tos The transfer objects.
+   * @param creator Creates a model object from a transfer object.
+   * @return The created model objects, mapped by their names.
+   * @throws ObjectExistsException If there are multiple transfer objects with the same name.
+   */
+  private static <T extends CreationTO, U extends TCSObject<U>> Map<String, U> createObjects(
+      List<T> tos,
+      Function<T, U> creator
+  )
+      throws ObjectExistsException {
+    return tos.parallelStream()
+        .map(creator)
+        .collect(
+            Collectors.toMap(
+                TCSObject::getName,
+                Function.identity(),
+                (object1, object2) -> {
+                  throw new ObjectExistsException(
+                      "Object name already exists: " + object1.getName()
+                  );
+                }
+            )
+        );
+  }
+
+  private void addObjects(Collection<? extends TCSObject<?>> objects)
+      throws ObjectExistsException {
+    for (TCSObject<?> object : objects) {
+      getObjectRepo().addObject(object);
+    }
+  }
+
+  private static <T extends TCSObject<T>> T lookUp(Map<String, T> objects, String name)
+      throws ObjectUnknownException {
+    T object = objects.get(name);
+    if (object == null) {
+      throw new ObjectUnknownException(name);
+    }
+    return object;
+  }
+
   /**
    * Creates a new visual layout with a unique name and all other attributes set
    * to default values.
    *
    * @param to The transfer object from which to create the new layout.
    * @return The newly created layout.
-   * @throws ObjectExistsException If an object with the new object's name already exists.
-   * @throws ObjectUnknownException If any object referenced in the TO does not exist.
    */
-  private VisualLayout createVisualLayout(VisualLayoutCreationTO to)
-      throws ObjectUnknownException,
-        ObjectExistsException {
-    VisualLayout newLayout = new VisualLayout(to.getName())
+  private VisualLayout createVisualLayout(VisualLayoutCreationTO to) {
+    return new VisualLayout(to.getName())
         .withScaleX(to.getScaleX())
         .withScaleY(to.getScaleY())
         .withLayers(to.getLayers())
         .withLayerGroups(to.getLayerGroups());
-
-    getObjectRepo().addObject(newLayout);
-    emitObjectEvent(
-        newLayout,
-        null,
-        TCSObjectEvent.Type.OBJECT_CREATED
-    );
-    // Return the newly created layout.
-    return newLayout;
   }
 
   /**
    * Creates a new point with a unique name and all other attributes set to
    * default values.
+   * <p>
+   * Note that the point's incoming and outgoing paths and its attached links are set only later
+   * (see {@link #connectPoints(Map, Collection, Collection)}).
+   * </p>
    *
    * @param to The transfer object from which to create the new point.
    * @return The newly created point.
-   * @throws ObjectExistsException If an object with the point's name already exists.
    */
-  private Point createPoint(PointCreationTO to)
-      throws ObjectExistsException {
-    // Get a unique ID for the new point and create an instance.
-    Point newPoint = new Point(to.getName())
+  private Point createPoint(PointCreationTO to) {
+    return new Point(to.getName())
         .withPose(new Pose(to.getPose().getPosition(), to.getPose().getOrientationAngle()))
         .withType(to.getType())
         .withVehicleEnvelopes(to.getVehicleEnvelopes())
@@ -1435,28 +1495,30 @@ public class PlantModelManager
                 to.getLayout().getLayerId()
             )
         );
-    getObjectRepo().addObject(newPoint);
-    emitObjectEvent(newPoint, null, TCSObjectEvent.Type.OBJECT_CREATED);
-    // Return the newly created point.
-    return newPoint;
   }
 
   /**
    * Creates a new path from the given transfer object.
    *
    * @param to The transfer object from which to create the new path.
+   * @param points The points the path may refer to, mapped by their names.
+   * @param locations The locations the path's peripheral operations may refer to, mapped by their
+   * names.
    * @return The newly created path.
-   * @throws ObjectUnknownException If the referenced point does not exist.
-   * @throws ObjectExistsException If an object with the same name as the path already exists.
+   * @throws ObjectUnknownException If the referenced point or a referenced location does not
+   * exist.
    */
-  private Path createPath(PathCreationTO to)
-      throws ObjectUnknownException,
-        ObjectExistsException {
+  private Path createPath(
+      PathCreationTO to,
+      Map<String, Point> points,
+      Map<String, Location> locations
+  )
+      throws ObjectUnknownException {
     requireNonNull(to, "to");
 
-    Point srcPoint = getObjectRepo().getObject(Point.class, to.getSrcPointName());
-    Point destPoint = getObjectRepo().getObject(Point.class, to.getDestPointName());
-    Path newPath = new Path(
+    Point srcPoint = lookUp(points, to.getSrcPointName());
+    Point destPoint = lookUp(points, to.getDestPointName());
+    return new Path(
         to.getName(),
         srcPoint.getReference(),
         destPoint.getReference()
@@ -1464,7 +1526,9 @@ public class PlantModelManager
         .withLength(to.getLength())
         .withMaxVelocity(to.getMaxVelocity())
         .withMaxReverseVelocity(to.getMaxReverseVelocity())
-        .withPeripheralOperations(mapPeripheralOperationTOs(to.getPeripheralOperations()))
+        .withPeripheralOperations(
+            mapPeripheralOperationTOs(to.getPeripheralOperations(), locations)
+        )
         .withVehicleEnvelopes(to.getVehicleEnvelopes())
         .withProperties(to.getProperties())
         .withLocked(to.isLocked())
@@ -1475,19 +1539,6 @@ public class PlantModelManager
                 to.getLayout().getLayerId()
             )
         );
-
-    getObjectRepo().addObject(newPath);
-
-    emitObjectEvent(
-        newPath,
-        null,
-        TCSObjectEvent.Type.OBJECT_CREATED
-    );
-
-    addPointOutgoingPath(srcPoint.getReference(), newPath.getReference());
-    addPointIncomingPath(destPoint.getReference(), newPath.getReference());
-
-    return newPath;
   }
 
   /**
@@ -1496,22 +1547,13 @@ public class PlantModelManager
    *
    * @param to The transfer object from which to create the new location type.
    * @return The newly created location type.
-   * @throws ObjectExistsException If an object with the new object's name already exists.
    */
-  private LocationType createLocationType(LocationTypeCreationTO to)
-      throws ObjectExistsException {
-    LocationType newType = new LocationType(to.getName())
+  private LocationType createLocationType(LocationTypeCreationTO to) {
+    return new LocationType(to.getName())
         .withAllowedOperations(to.getAllowedOperations())
         .withAllowedPeripheralOperations(to.getAllowedPeripheralOperations())
         .withProperties(to.getProperties())
         .withLayout(new LocationType.Layout(to.getLayout().getLocationRepresentation()));
-    getObjectRepo().addObject(newType);
-    emitObjectEvent(
-        newType,
-        null,
-        TCSObjectEvent.Type.OBJECT_CREATED
-    );
-    return newType;
   }
 
   /**
@@ -1519,14 +1561,18 @@ public class PlantModelManager
    * default values.
    *
    * @param to The transfer object from which to create the new location type.
+   * @param locationTypes The location types the location may refer to, mapped by their names.
+   * @param points The points the location may be linked to, mapped by their names.
    * @return The newly created location.
-   * @throws ObjectExistsException If an object with the new object's name already exists.
    * @throws ObjectUnknownException If any object referenced in the TO does not exist.
    */
-  private Location createLocation(LocationCreationTO to)
-      throws ObjectUnknownException,
-        ObjectExistsException {
-    LocationType type = getObjectRepo().getObject(LocationType.class, to.getTypeName());
+  private Location createLocation(
+      LocationCreationTO to,
+      Map<String, LocationType> locationTypes,
+      Map<String, Point> points
+  )
+      throws ObjectUnknownException {
+    LocationType type = lookUp(locationTypes, to.getTypeName());
     Location newLocation = new Location(to.getName(), type.getReference())
         .withPosition(to.getPosition())
         .withLocked(to.isLocked())
@@ -1541,39 +1587,52 @@ public class PlantModelManager
 
     Set<Location.Link> locationLinks = new HashSet<>();
     for (Map.Entry<String, Set<String>> linkEntry : to.getLinks().entrySet()) {
-      Point point = getObjectRepo().getObject(Point.class, linkEntry.getKey());
+      Point point = lookUp(points, linkEntry.getKey());
       Location.Link link = new Location.Link(newLocation.getReference(), point.getReference())
           .withAllowedOperations(linkEntry.getValue());
       locationLinks.add(link);
     }
-    newLocation = newLocation.withAttachedLinks(locationLinks);
-
-    getObjectRepo().addObject(newLocation);
-    emitObjectEvent(
-        newLocation,
-        null,
-        TCSObjectEvent.Type.OBJECT_CREATED
-    );
-
-    // Add the location's links to the respective points, too.
-    for (Location.Link link : locationLinks) {
-      Point point = getObjectRepo().getObject(Point.class, link.getPoint());
-
-      Set<Location.Link> pointLinks = new HashSet<>(point.getAttachedLinks());
-      pointLinks.add(link);
+    return newLocation.withAttachedLinks(locationLinks);
+  }
 
-      Point previousPointState = point;
-      point = point.withAttachedLinks(pointLinks);
-      getObjectRepo().replaceObject(point);
+  /**
+   * Sets the incoming and outgoing paths and the attached links of the given points.
+   *
+   * @param points The points, mapped by their names.
+   * @param paths The paths connecting the points.
+   * @param locations The locations linked to the points.
+   * @return The modified points, mapped by their names.
+   */
+  private Map<String, Point> connectPoints(
+      Map<String, Point> points,
+      Collection<Path> paths,
+      Collection<Location> locations
+  ) {
+    Map<String, Set<TCSObjectReference<Path>>> incomingPaths = new HashMap<>();
+    Map<String, Set<TCSObjectReference<Path>>> outgoingPaths = new HashMap<>();
+    for (Path path : paths) {
+      outgoingPaths.computeIfAbsent(path.getSourcePoint().getName(), name -> new HashSet<>())
+          .add(path.getReference());
+      incomingPaths.computeIfAbsent(path.getDestinationPoint().getName(), name -> new HashSet<>())
+          .add(path.getReference());
+    }
 
-      emitObjectEvent(
-          point,
-          previousPointState,
-          TCSObjectEvent.Type.OBJECT_MODIFIED
-      );
+    Map<String, Set<Location.Link>> attachedLinks = new HashMap<>();
+    for (Location location : locations) {
+      for (Location.Link link : location.getAttachedLinks()) {
+        attachedLinks.computeIfAbsent(link.getPoint().getName(), name -> new HashSet<>())
+            .add(link);
+      }
     }
 
-    return newLocation;
+    return points.values().parallelStream()
+        .map(
+            point -> point
+                .withIncomingPaths(incomingPaths.getOrDefault(point.getName(), Set.of()))
+                .withOutgoingPaths(outgoingPaths.getOrDefault(point.getName(), Set.of()))
+                .withAttachedLinks(attachedLinks.getOrDefault(point.getName(), Set.of()))
+        )
+        .collect(Collectors.toMap(Point::getName, Function.identity()));
   }
 
   /**
@@ -1582,11 +1641,9 @@ public class PlantModelManager
    *
    * @param to The transfer object from which to create the new group.
    * @return The newly created group.
-   * @throws ObjectExistsException If an object with the new object's name already exists.
    */
-  private Vehicle createVehicle(VehicleCreationTO to)
-      throws ObjectExistsException {
-    Vehicle newVehicle = new Vehicle(to.getName())
+  private Vehicle createVehicle(VehicleCreationTO to) {
+    return new Vehicle(to.getName())
         .withBoundingBox(
             new BoundingBox(
                 to.getBoundingBox().getLength(),
@@ -1613,13 +1670,6 @@ public class PlantModelManager
         .withEnvelopeKey(to.getEnvelopeKey())
         .withProperties(to.getProperties())
         .withLayout(new Vehicle.Layout(to.getLayout().getRouteColor()));
-    getObjectRepo().addObject(newVehicle);
-    emitObjectEvent(
-        newVehicle,
-        null,
-        TCSObjectEvent.Type.OBJECT_CREATED
-    );
-    return newVehicle;
   }
 
   /**
@@ -1627,100 +1677,25 @@ public class PlantModelManager
    * default values.
    *
    * @param to The transfer object from which to create the new block.
+   * @param resources The resources the block may contain, mapped by their names.
    * @return The newly created block.
-   * @throws ObjectExistsException If an object with the new object's name already exists.
    * @throws ObjectUnknownException If any object referenced in the TO does not exist.
    */
-  private Block createBlock(BlockCreationTO to)
-      throws ObjectExistsException,
-        ObjectUnknownException {
+  private Block createBlock(BlockCreationTO to, Map<String, TCSResource<?>> resources)
+      throws ObjectUnknownException {
     Set<TCSResourceReference<?>> members = new HashSet<>();
     for (String memberName : to.getMemberNames()) {
-      TCSObject<?> object = getObjectRepo().getObject(memberName);
-      if (!(object instanceof TCSResource)) {
+      TCSResource<?> resource = resources.get(memberName);
+      if (resource == null) {
         throw new ObjectUnknownException(memberName);
       }
-      members.add(((TCSResource) object).getReference());
+      members.add(resource.getReference());
     }
-    Block newBlock = new Block(to.getName())
+    return new Block(to.getName())
         .withType(to.getType())
         .withMembers(members)
         .withProperties(to.getProperties())
         .withLayout(new Block.Layout(to.getLayout().getColor()));
-    getObjectRepo().addObject(newBlock);
-    emitObjectEvent(
-        newBlock,
-        null,
-        TCSObjectEvent.Type.OBJECT_CREATED
-    );
-    // Return the newly created block.
-    return newBlock;
-  }
-
-  /**
-   * Adds an incoming path to a point.
-   *
-   * @param pointRef A reference to the point to be modified.
-   * @param pathRef A reference to the path.
-   * @return The modified point.
-   * @throws ObjectUnknownException If the referenced point or path do not
-   * exist.
-   */
-  private Point addPointIncomingPath(
-      TCSObjectReference<Point> pointRef,
-      TCSObjectReference<Path> pathRef
-  )
-      throws ObjectUnknownException {
-    Point point = getObjectRepo().getObject(Point.class, pointRef);
-    Path path = getObjectRepo().getObject(Path.class, pathRef);
-    // Check if the point really is the path's destination point.
-    if (!path.getDestinationPoint().equals(point.getReference())) {
-      throw new IllegalArgumentException("Point is not the path's destination.");
-    }
-    Path previousState = path;
-    Set<TCSObjectReference<Path>> incomingPaths = new HashSet<>(point.getIncomingPaths());
-    incomingPaths.add(path.getReference());
-    point = point.withIncomingPaths(incomingPaths);
-    getObjectRepo().replaceObject(point);
-    emitObjectEvent(
-        point,
-        previousState,
-        TCSObjectEvent.Type.OBJECT_MODIFIED
-    );
-    return point;
-  }
-
-  /**
-   * Adds an outgoing path to a point.
-   *
-   * @param pointRef A reference to the point to be modified.
-   * @param pathRef A reference to the path.
-   * @return The modified point.
-   * @throws ObjectUnknownException If the referenced point or path do not
-   * exist.
-   */
-  private Point addPointOutgoingPath(
-      TCSObjectReference<Point> pointRef,
-      TCSObjectReference<Path> pathRef
-  )
-      throws ObjectUnknownException {
-    Point point = getObjectRepo().getObject(Point.class, pointRef);
-    Path path = getObjectRepo().getObject(Path.class, pathRef);
-    // Check if the point really is the path's source.
-    if (!path.getSourcePoint().equals(point.getReference())) {
-      throw new IllegalArgumentException("Point is not the path's source.");
-    }
-    Path previousState = path;
-    Set<TCSObjectReference<Path>> outgoingPaths = new HashSet<>(point.getOutgoingPaths());
-    outgoingPaths.add(path.getReference());
-    point = point.withOutgoingPaths(outgoingPaths);
-    getObjectRepo().replaceObject(point);
-    emitObjectEvent(
-        point,
-        previousState,
-        TCSObjectEvent.Type.OBJECT_MODIFIED
-    );
-    return point;
   }
 
   private static List<Set<TCSResourceReference<?>>> unmodifiableCopy(
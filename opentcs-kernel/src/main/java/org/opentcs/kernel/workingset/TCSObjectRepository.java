@@ -7,8 +7,12 @@ import static org.opentcs.util.Assertions.checkArgument;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -16,6 +20,8 @@ import org.opentcs.data.ObjectExistsException;
 import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
  * A container for <code>TCSObject</code>s belonging together.
@@ -29,6 +35,15 @@ public class TCSObjectRepository {
    * The objects contained in this pool, mapped by their names, grouped by their classes.
    */
   private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new HashMap<>();
+  /**
+   * The names of transport orders, order sequences and peripheral jobs in a final state, ordered by
+   * their creation times.
+   */
+  private final FinalStateIndex finalStateIndex = new FinalStateIndex();
+  /**
+   * The names of peripheral jobs, mapped by the names of the transport orders they are related to.
+   */
+  private final Map<String, Set<String>> peripheralJobsByTransportOrder = new HashMap<>();
 
   /**
    * Creates a new instance.
@@ -60,6 +75,7 @@ public class TCSObjectRepository {
       objects.put(newObject.getClass(), objectsByName);
     }
     objectsByName.put(newObject.getName(), newObject);
+    updateIndexes(null, newObject);
   }
 
   /**
@@ -92,6 +108,7 @@ public class TCSObjectRepository {
     );
 
     objects.get(object.getClass()).put(object.getName(), object);
+    updateIndexes(oldObject, object);
   }
 
   /**
@@ -341,10 +358,101 @@ public class TCSObjectRepository {
     if (obj == null) {
       throw new ObjectUnknownException(ref);
     }
+    updateIndexes(obj, null);
     return obj;
   }
 
+  /**
+   * Returns objects of the given class that are in a final state and that were created at or before
+   * the given point of time, oldest ones first.
+   * <p>
+   * Only transport orders, order sequences and peripheral jobs are considered to have a final state.
+   * For objects of any other class, the returned list is always empty.
+   * </p>
+   *
+   * @param <T> The objects' type.
+   * @param clazz The class of the objects to be returned.
+   * @param createdUntil The point of time at or before which the returned objects must have been
+   * created.
+   * @param previous The object after which to continue (e.g. the last object returned by a previous
+   * call), or {@code null}, to start with the oldest object.
+   * @param maxCount The maximum number of objects to be returned.
+   * @return The objects, oldest ones first.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> List<T> getObjectsInFinalState(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      Instant createdUntil,
+      @Nullable
+      T previous,
+      int maxCount
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(createdUntil, "createdUntil");
+
+    return finalStateIndex.getNames(clazz, createdUntil, previous, maxCount).stream()
+        .map(name -> getObject(clazz, name))
+        .toList();
+  }
+
+  /**
+   * Returns the peripheral jobs related to the referenced transport order.
+   *
+   * @param ref A reference to the transport order.
+   * @return The peripheral jobs related to the referenced transport order. May be empty.
+   */
+  @Nonnull
+  public Set<PeripheralJob> getRelatedPeripheralJobs(
+      @Nonnull
+      TCSObjectReference<TransportOrder> ref
+  ) {
+    requireNonNull(ref, "ref");
+
+    return peripheralJobsByTransportOrder.getOrDefault(ref.getName(), Set.of()).stream()
+        .map(name -> getObject(PeripheralJob.class, name))
+        .collect(Collectors.toSet());
+  }
+
   private boolean containsName(String name) {
     return objects.values().stream().anyMatch(objectsByName -> objectsByName.containsKey(name));
   }
+
+  private void updateIndexes(
+      @Nullable
+      TCSObject<?> previousState,
+      @Nullable
+      TCSObject<?> currentState
+  ) {
+    finalStateIndex.update(previousState, currentState);
+
+    String previousOrder = relatedTransportOrderName(previousState);
+    String currentOrder = relatedTransportOrderName(currentState);
+    if (Objects.equals(previousOrder, currentOrder)) {
+      return;
+    }
+    if (previousOrder != null) {
+      Set<String> jobNames = peripheralJobsByTransportOrder.get(previousOrder);
+      jobNames.remove(previousState.getName());
+      if (jobNames.isEmpty()) {
+        peripheralJobsByTransportOrder.remove(previousOrder);
+      }
+    }
+    if (currentOrder != null) {
+      peripheralJobsByTransportOrder.computeIfAbsent(currentOrder, name -> new HashSet<>())
+          .add(currentState.getName());
+    }
+  }
+
+  @Nullable
+  private String relatedTransportOrderName(
+      @Nullable
+      TCSObject<?> object
+  ) {
+    if (object instanceof PeripheralJob job && job.getRelatedTransportOrder() != null) {
+      return job.getRelatedTransportOrder().getName();
+    }
+    return null;
+  }
 }
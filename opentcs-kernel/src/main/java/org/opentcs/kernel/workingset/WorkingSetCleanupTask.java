@@ -5,9 +5,14 @@ package org.opentcs.kernel.workingset;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Objects;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
+import org.opentcs.customizations.kernel.KernelExecutor;
+import org.opentcs.data.TCSObject;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.order.OrderSequence;
 import org.opentcs.data.order.TransportOrder;
@@ -18,6 +23,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A task that periodically removes orders, order sequences and peripheral jobs in a final state.
+ * <p>
+ * Objects are removed in chunks, with every chunk being processed by a task of its own submitted
+ * to the kernel executor. This way, other tasks submitted to the kernel executor in the meantime
+ * are not delayed until the whole sweep is finished.
+ * </p>
  */
 public class WorkingSetCleanupTask
     implements
@@ -31,6 +41,10 @@ public class WorkingSetCleanupTask
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * Executes the chunks of a sweep.
+   */
+  private final Executor kernelExecutor;
   /**
    * Keeps all the transport orders.
    */
@@ -60,11 +74,16 @@ public class WorkingSetCleanupTask
    * (according to its creation time).
    */
   private final CreationTimeThreshold creationTimeThreshold;
+  /**
+   * The sweep currently in progress, or {@code null}, if there is none.
+   */
+  private volatile Sweep currentSweep;
 
   /**
    * Creates a new instance.
    *
    * @param globalSyncObject The kernel threads' global synchronization object.
+   * @param kernelExecutor Executes the chunks of a sweep.
    * @param orderPoolManager The order pool manager to be used.
    * @param peripheralJobPoolManager The peripheral job pool manager to be used.
    * @param compositeOrderSequenceCleanupApproval Checks whether an order sequence may be removed.
@@ -78,6 +97,8 @@ public class WorkingSetCleanupTask
   public WorkingSetCleanupTask(
       @GlobalSyncObject
       Object globalSyncObject,
+      @KernelExecutor
+      Executor kernelExecutor,
       TransportOrderPoolManager orderPoolManager,
       PeripheralJobPoolManager peripheralJobPoolManager,
       OrderPoolConfiguration configuration,
@@ -87,6 +108,7 @@ public class WorkingSetCleanupTask
       CreationTimeThreshold creationTimeThreshold
   ) {
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.orderPoolManager = requireNonNull(orderPoolManager, "orderPoolManager");
     this.peripheralJobPoolManager = requireNonNull(
         peripheralJobPoolManager,
@@ -108,54 +130,257 @@ public class WorkingSetCleanupTask
 
   @Override
   public void run() {
-    synchronized (globalSyncObject) {
-      LOG.debug("Sweeping working set...");
+    if (currentSweep != null) {
+      LOG.debug("Previous sweep not finished, yet, skipping this one.");
+      return;
+    }
+
+    LOG.debug("Sweeping working set...");
 
+    Instant threshold;
+    synchronized (globalSyncObject) {
       // Update the creation time threshold for this cleanup run.
       creationTimeThreshold.updateCurrentThreshold(configuration.sweepAge());
+      threshold = creationTimeThreshold.getCurrentThreshold();
+    }
 
-      // Remove all peripheral jobs in a final state that do not belong to a transport order and
-      // that are older than the threshold.
-      Predicate<PeripheralJob> noRelatedTransportOrder = job -> job
-          .getRelatedTransportOrder() == null;
-      for (PeripheralJob peripheralJob : peripheralJobPoolManager.getObjectRepo().getObjects(
-          PeripheralJob.class,
-          noRelatedTransportOrder.and(compositePeripheralJobCleanupApproval)
-      )) {
-        peripheralJobPoolManager.removePeripheralJob(peripheralJob.getReference());
-      }
+    Sweep sweep = new Sweep(
+        threshold,
+        List.of(
+            // Remove all peripheral jobs in a final state that do not belong to a transport order
+            // and that are older than the threshold.
+            new SweepPhase<>(
+                peripheralJobPoolManager.getObjectRepo(),
+                PeripheralJob.class,
+                this::removePeripheralJobIfApproved
+            ),
+            // Remove all transport orders in a final state that do NOT belong to a sequence and
+            // that are older than the threshold, including their related peripheral jobs.
+            new SweepPhase<>(
+                orderPoolManager.getObjectRepo(),
+                TransportOrder.class,
+                this::removeTransportOrderIfApproved
+            ),
+            // Remove all order sequences that have been finished, including their transport orders
+            // and the transport orders' related peripheral jobs.
+            new SweepPhase<>(
+                orderPoolManager.getObjectRepo(),
+                OrderSequence.class,
+                this::removeOrderSequenceIfApproved
+            )
+        )
+    );
+    currentSweep = sweep;
+    kernelExecutor.execute(() -> sweepChunk(sweep));
+  }
 
-      // Remove all transport orders in a final state that do NOT belong to a sequence and that are
-      // older than the threshold, including their related peripheral jobs.
-      Predicate<TransportOrder> noWrappingSequence = order -> order.getWrappingSequence() == null;
-      for (TransportOrder transportOrder : orderPoolManager.getObjectRepo().getObjects(
-          TransportOrder.class,
-          noWrappingSequence.and(compositeTransportOrderCleanupApproval)
-      )) {
-        removeRelatedPeripheralJobs(transportOrder.getReference());
-        orderPoolManager.removeTransportOrder(transportOrder.getReference());
-      }
+  /**
+   * Cancels the sweep currently in progress, if any.
+   * Chunks of it that have already been submitted to the kernel executor will not remove anything.
+   */
+  public void cancelSweep() {
+    currentSweep = null;
+  }
 
-      // Remove all order sequences that have been finished, including their transport orders and
-      // the transport orders' related peripheral jobs.
-      for (OrderSequence orderSequence : orderPoolManager.getObjectRepo().getObjects(
-          OrderSequence.class,
-          compositeOrderSequenceCleanupApproval
-      )) {
-        for (TCSObjectReference<TransportOrder> transportOrderRef : orderSequence.getOrders()) {
-          removeRelatedPeripheralJobs(transportOrderRef);
-        }
-        orderPoolManager.removeFinishedOrderSequenceAndOrders(orderSequence.getReference());
-      }
+  /**
+   * Removes the next chunk of objects of the given sweep, and submits a task for the chunk
+   * following it to the kernel executor, if any.
+   *
+   * @param sweep The sweep.
+   */
+  private void sweepChunk(Sweep sweep) {
+    if (sweep != currentSweep) {
+      LOG.debug("Sweep cancelled, not removing any more objects.");
+      return;
+    }
+
+    boolean finished;
+    synchronized (globalSyncObject) {
+      finished = sweep.sweepChunk(Math.max(1, configuration.sweepChunkSize()));
+    }
+
+    if (finished) {
+      currentSweep = null;
+      LOG.debug(
+          "Removed {} peripheral jobs, {} transport orders and {} order sequences.",
+          sweep.getRemovedCount(PeripheralJob.class),
+          sweep.getRemovedCount(TransportOrder.class),
+          sweep.getRemovedCount(OrderSequence.class)
+      );
+    }
+    else {
+      kernelExecutor.execute(() -> sweepChunk(sweep));
+    }
+  }
+
+  private boolean removePeripheralJobIfApproved(PeripheralJob peripheralJob) {
+    if (peripheralJob.getRelatedTransportOrder() != null
+        || !compositePeripheralJobCleanupApproval.test(peripheralJob)) {
+      return false;
+    }
+
+    peripheralJobPoolManager.removePeripheralJob(peripheralJob.getReference());
+    return true;
+  }
+
+  private boolean removeTransportOrderIfApproved(TransportOrder transportOrder) {
+    if (transportOrder.getWrappingSequence() != null
+        || !compositeTransportOrderCleanupApproval.test(transportOrder)) {
+      return false;
     }
+
+    removeRelatedPeripheralJobs(transportOrder.getReference());
+    orderPoolManager.removeTransportOrder(transportOrder.getReference());
+    return true;
+  }
+
+  private boolean removeOrderSequenceIfApproved(OrderSequence orderSequence) {
+    if (!compositeOrderSequenceCleanupApproval.test(orderSequence)) {
+      return false;
+    }
+
+    for (TCSObjectReference<TransportOrder> transportOrderRef : orderSequence.getOrders()) {
+      removeRelatedPeripheralJobs(transportOrderRef);
+    }
+    orderPoolManager.removeFinishedOrderSequenceAndOrders(orderSequence.getReference());
+    return true;
   }
 
   private void removeRelatedPeripheralJobs(TCSObjectReference<TransportOrder> transportOrderRef) {
-    for (PeripheralJob peripheralJob : peripheralJobPoolManager.getObjectRepo().getObjects(
-        PeripheralJob.class,
-        job -> Objects.equals(job.getRelatedTransportOrder(), transportOrderRef)
-    )) {
+    for (PeripheralJob peripheralJob : peripheralJobPoolManager.getObjectRepo()
+        .getRelatedPeripheralJobs(transportOrderRef)) {
       peripheralJobPoolManager.removePeripheralJob(peripheralJob.getReference());
     }
   }
+
+  /**
+   * A sweep, i.e. a single cleanup run, consisting of phases processed one after the other.
+   */
+  private static class Sweep {
+
+    /**
+     * The point of time before which the objects to be removed must have been created.
+     */
+    private final Instant threshold;
+    /**
+     * The sweep's phases.
+     */
+    private final List<SweepPhase<?>> phases;
+    /**
+     * Provides the phases not finished, yet.
+     */
+    private final Iterator<SweepPhase<?>> remainingPhases;
+    /**
+     * The phase currently being processed.
+     */
+    private SweepPhase<?> currentPhase;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param threshold The point of time before which the objects to be removed must have been
+     * created.
+     * @param phases The sweep's phases.
+     */
+    Sweep(Instant threshold, List<SweepPhase<?>> phases) {
+      this.threshold = requireNonNull(threshold, "threshold");
+      this.phases = requireNonNull(phases, "phases");
+      this.remainingPhases = phases.iterator();
+      this.currentPhase = remainingPhases.next();
+    }
+
+    /**
+     * Removes the next chunk of objects.
+     *
+     * @param chunkSize The maximum number of objects to check for removal.
+     * @return Whether the sweep is finished.
+     */
+    boolean sweepChunk(int chunkSize) {
+      if (!currentPhase.sweepChunk(threshold, chunkSize)) {
+        return false;
+      }
+      if (!remainingPhases.hasNext()) {
+        return true;
+      }
+      currentPhase = remainingPhases.next();
+      return false;
+    }
+
+    /**
+     * Returns the number of objects of the given class removed by this sweep.
+     *
+     * @param clazz The class of the objects.
+     * @return The number of objects removed.
+     */
+    int getRemovedCount(Class<?> clazz) {
+      return phases.stream()
+          .filter(phase -> phase.clazz == clazz)
+          .mapToInt(phase -> phase.removedCount)
+          .sum();
+    }
+  }
+
+  /**
+   * A phase of a sweep, removing objects of a single class.
+   *
+   * @param <T> The objects' type.
+   */
+  private static class SweepPhase<T extends TCSObject<T>> {
+
+    /**
+     * The repository containing the objects.
+     */
+    private final TCSObjectRepository objectRepo;
+    /**
+     * The class of the objects.
+     */
+    private final Class<T> clazz;
+    /**
+     * Removes a given object if approved, and returns whether it was removed.
+     */
+    private final Predicate<T> removal;
+    /**
+     * The last object checked for removal, or {@code null}, if none has been checked, yet.
+     */
+    private T previous;
+    /**
+     * The number of objects removed.
+     */
+    private int removedCount;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param objectRepo The repository containing the objects.
+     * @param clazz The class of the objects.
+     * @param removal Removes a given object if approved, and returns whether it was removed.
+     */
+    SweepPhase(TCSObjectRepository objectRepo, Class<T> clazz, Predicate<T> removal) {
+      this.objectRepo = requireNonNull(objectRepo, "objectRepo");
+      this.clazz = requireNonNull(clazz, "clazz");
+      this.removal = requireNonNull(removal, "removal");
+    }
+
+    /**
+     * Checks the next chunk of objects that are in a final state and older than the given
+     * threshold for removal.
+     *
+     * @param threshold The point of time before which the objects must have been created.
+     * @param chunkSize The maximum number of objects to check.
+     * @return Whether this phase is finished.
+     */
+    boolean sweepChunk(Instant threshold, int chunkSize) {
+      List<T> candidates = objectRepo.getObjectsInFinalState(clazz, threshold, previous, chunkSize);
+      for (T candidate : candidates) {
+        if (removal.test(candidate)) {
+          removedCount++;
+        }
+      }
+      if (candidates.size() < chunkSize) {
+        return true;
+      }
+      previous = candidates.getLast();
+      return false;
+    }
+  }
 }
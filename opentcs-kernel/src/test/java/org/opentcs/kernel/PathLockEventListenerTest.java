@@ -0,0 +1,169 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.DispatcherService;
+import org.opentcs.components.kernel.services.RouterService;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.data.order.DriveOrder;
+import org.opentcs.data.order.ReroutingType;
+import org.opentcs.data.order.Route;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventBus;
+
+/**
+ * Tests for {@link PathLockEventListener}.
+ */
+class PathLockEventListenerTest {
+
+  private KernelApplicationConfiguration configuration;
+  private DispatcherService dispatcher;
+  private TCSObjectService objectService;
+  private PathLockEventListener listener;
+  private Point point1;
+  private Point point2;
+  private Point point3;
+  private Path path1;
+  private Path path2;
+
+  @BeforeEach
+  void setUp() {
+    configuration = mock();
+    dispatcher = mock();
+    objectService = mock();
+    listener = new PathLockEventListener(
+        configuration,
+        mock(RouterService.class),
+        mock(EventBus.class),
+        dispatcher,
+        objectService
+    );
+
+    when(configuration.updateRoutingTopologyOnPathLockChange()).thenReturn(true);
+    when(configuration.rerouteOnRoutingTopologyUpdate()).thenReturn(true);
+
+    point1 = new Point("point-1");
+    point2 = new Point("point-2");
+    point3 = new Point("point-3");
+    path1 = new Path("path-1", point1.getReference(), point2.getReference());
+    path2 = new Path("path-2", point2.getReference(), point3.getReference());
+  }
+
+  @Test
+  void rerouteAllVehiclesByDefault() {
+    when(configuration.rerouteAffectedVehiclesOnly()).thenReturn(false);
+
+    listener.onEvent(lockEvent(path2));
+
+    verify(dispatcher).rerouteAll(ReroutingType.REGULAR);
+    verify(dispatcher, never()).reroute(any(), any());
+  }
+
+  @Test
+  void rerouteOnlyVehiclesRoutedViaLockedPath() {
+    when(configuration.rerouteAffectedVehiclesOnly()).thenReturn(true);
+    TransportOrder affectedOrder = createOrder(
+        "order-1",
+        step(path1, point1, point2, 0),
+        step(path2, point2, point3, 1)
+    );
+    TransportOrder unaffectedOrder = createOrder("order-2", step(path1, point1, point2, 0));
+    Vehicle affectedVehicle = new Vehicle("vehicle-1")
+        .withTransportOrder(affectedOrder.getReference());
+    Vehicle unaffectedVehicle = new Vehicle("vehicle-2")
+        .withTransportOrder(unaffectedOrder.getReference());
+    when(objectService.fetchObjects(eq(Vehicle.class), any()))
+        .thenReturn(Set.of(affectedVehicle, unaffectedVehicle));
+    when(objectService.fetchObject(TransportOrder.class, affectedOrder.getReference()))
+        .thenReturn(affectedOrder);
+    when(objectService.fetchObject(TransportOrder.class, unaffectedOrder.getReference()))
+        .thenReturn(unaffectedOrder);
+
+    listener.onEvent(lockEvent(path2));
+
+    verify(dispatcher).reroute(affectedVehicle.getReference(), ReroutingType.REGULAR);
+    verify(dispatcher, never()).reroute(unaffectedVehicle.getReference(), ReroutingType.REGULAR);
+    verify(dispatcher, never()).rerouteAll(any());
+  }
+
+  @Test
+  void ignoreAlreadyTravelledRouteSteps() {
+    when(configuration.rerouteAffectedVehiclesOnly()).thenReturn(true);
+    TransportOrder order = createOrder(
+        "order-1",
+        step(path1, point1, point2, 0),
+        step(path2, point2, point3, 1)
+    )
+        .withCurrentRouteStepIndex(0);
+    Vehicle vehicle = new Vehicle("vehicle-1").withTransportOrder(order.getReference());
+    when(objectService.fetchObjects(eq(Vehicle.class), any())).thenReturn(Set.of(vehicle));
+    when(objectService.fetchObject(TransportOrder.class, order.getReference()))
+        .thenReturn(order);
+
+    listener.onEvent(lockEvent(path1));
+
+    verify(dispatcher, never()).reroute(any(), any());
+    verify(dispatcher, never()).rerouteAll(any());
+  }
+
+  @Test
+  void rerouteAllVehiclesOnUnlock() {
+    when(configuration.rerouteAffectedVehiclesOnly()).thenReturn(true);
+
+    listener.onEvent(unlockEvent(path2));
+
+    verify(dispatcher).rerouteAll(ReroutingType.REGULAR);
+    verify(dispatcher, never()).reroute(any(), any());
+  }
+
+  private TCSObjectEvent lockEvent(Path path) {
+    return new TCSObjectEvent(
+        path.withLocked(true),
+        path,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+  }
+
+  private TCSObjectEvent unlockEvent(Path path) {
+    Path lockedPath = path.withLocked(true);
+    return new TCSObjectEvent(
+        lockedPath.withLocked(false),
+        lockedPath,
+        TCSObjectEvent.Type.OBJECT_MODIFIED
+    );
+  }
+
+  private TransportOrder createOrder(String name, Route.Step... steps) {
+    DriveOrder driveOrder = new DriveOrder(new DriveOrder.Destination(point3.getReference()))
+        .withRoute(new Route(List.of(steps)));
+    return new TransportOrder(name, List.of(driveOrder))
+        .withCurrentDriveOrderIndex(0);
+  }
+
+  private Route.Step step(Path path, Point srcPoint, Point destPoint, int routeIndex) {
+    return new Route.Step(
+        path,
+        srcPoint,
+        destPoint,
+        Vehicle.Orientation.FORWARD,
+        routeIndex,
+        true,
+        null
+    );
+  }
+}
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.opentcs.access.Kernel;
 import org.opentcs.access.LocalKernel;
 import org.opentcs.components.kernel.services.NotificationService;
+import org.opentcs.kernel.vehicles.StripedVehicleExecutorProvider;
 import org.opentcs.util.event.SimpleEventBus;
 
 /**
@@ -62,6 +63,7 @@ class StandardKernelTest {
     kernel = new StandardKernel(
         new SimpleEventBus(),
         mock(ScheduledExecutorService.class),
+        mock(StripedVehicleExecutorProvider.class),
         stateMap,
         mock(NotificationService.class)
     );
@@ -3,6 +3,7 @@
 package org.opentcs.kernel.extensions.watchdog;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -59,6 +60,7 @@ public class BlockConsistencyCheckTest {
         notificationService,
         mock(WatchdogConfiguration.class)
     );
+    blockCheck.initialize();
   }
 
   void rebuildObjectService() {
@@ -68,7 +70,7 @@ public class BlockConsistencyCheckTest {
         .thenReturn(point);
     when(objectService.fetchObject(Point.class, pointOutSideBlock.getReference()))
         .thenReturn(pointOutSideBlock);
-    when(objectService.fetchObjects(Block.class)).thenReturn(Set.of(block));
+    when(objectService.fetchObjects(eq(Block.class), any())).thenReturn(Set.of(block));
   }
 
   @Test
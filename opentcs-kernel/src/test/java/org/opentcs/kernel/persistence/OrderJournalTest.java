@@ -0,0 +1,174 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.persistence;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.TestEnvironment;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.FileSystems;
+
+/**
+ * Tests for {@link OrderJournal}.
+ */
+class OrderJournalTest {
+
+  private File directory;
+  private OrderJournal journal;
+
+  @BeforeEach
+  void setUp() {
+    directory = new File(TestEnvironment.getKernelHomeDirectory(), "orderjournal");
+    FileSystems.deleteRecursively(directory);
+    journal = new OrderJournal(directory.toPath(), 64 * 1024);
+  }
+
+  @AfterEach
+  void tearDown()
+      throws IOException {
+    journal.close();
+  }
+
+  @Test
+  void replayRecordedObjectsAfterReopening()
+      throws IOException {
+    assertThat(journal.open(), is(empty()));
+
+    TransportOrder order1 = new TransportOrder("order-1", List.of());
+    TransportOrder order2 = new TransportOrder("order-2", List.of());
+    OrderSequence sequence = new OrderSequence("sequence-1");
+    journal.record(order1);
+    journal.record(order2);
+    journal.record(sequence);
+    journal.record(order1.withState(TransportOrder.State.DISPATCHABLE));
+    journal.forget("order-2");
+    journal.close();
+
+    List<TCSObject<?>> replayed = journal.open();
+
+    assertThat(names(replayed), contains("order-1", "sequence-1"));
+    assertThat(
+        ((TransportOrder) replayed.get(0)).getState(),
+        is(TransportOrder.State.DISPATCHABLE)
+    );
+  }
+
+  @Test
+  void replayFlushedObjectsAfterCrash()
+      throws IOException {
+    journal.open();
+    journal.record(new TransportOrder("order-1", List.of()));
+    journal.flush().join();
+
+    // Simulate a crash by opening the journal files with another instance without closing the
+    // first one.
+    OrderJournal recoveredJournal = new OrderJournal(directory.toPath(), 64 * 1024);
+    try {
+      assertThat(names(recoveredJournal.open()), contains("order-1"));
+    }
+    finally {
+      recoveredJournal.close();
+    }
+  }
+
+  @Test
+  void rejectJournalFileSizesNotMappable() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new OrderJournal(directory.toPath(), 1024L * 2 * 1024 * 1024)
+    );
+  }
+
+  @Test
+  void compactJournalWhenFull()
+      throws IOException {
+    journal.close();
+    journal = new OrderJournal(directory.toPath(), 8 * 1024);
+    journal.open();
+
+    IntStream.range(0, 100)
+        .mapToObj(i -> new TransportOrder("order-" + i, List.of()))
+        .forEach(journal::record);
+    IntStream.range(0, 50)
+        .forEach(i -> journal.forget("order-" + i));
+    journal.close();
+
+    List<TCSObject<?>> replayed = journal.open();
+
+    assertThat(replayed, hasSize(50));
+    assertThat(replayed.get(0).getName(), is("order-50"));
+    assertThat(replayed.get(49).getName(), is("order-99"));
+  }
+
+  @Test
+  void ignoreCorruptedRecords()
+      throws IOException {
+    journal.open();
+    journal.record(new TransportOrder("order-1", List.of()));
+    journal.close();
+
+    // Corrupt the payload of the first (and only) record in the journal file.
+    try (RandomAccessFile file = new RandomAccessFile(new File(directory, "journal.bin"), "rw")) {
+      file.seek(32);
+      int value = file.read();
+      file.seek(32);
+      file.write(value ^ 0xFF);
+    }
+
+    assertThat(journal.open(), is(empty()));
+  }
+
+  @Test
+  void disableJournalingWhenSyncFails()
+      throws IOException {
+    journal.close();
+    AtomicBoolean failSync = new AtomicBoolean();
+    journal = new OrderJournal(directory.toPath(), 64 * 1024) {
+      @Override
+      void syncJournal() {
+        if (failSync.get()) {
+          throw new UncheckedIOException(new IOException("Simulated sync failure"));
+        }
+        super.syncJournal();
+      }
+    };
+    journal.open();
+    failSync.set(true);
+
+    journal.record(new TransportOrder("order-1", List.of()));
+    CompletionException exc
+        = assertThrows(CompletionException.class, () -> journal.flush().join());
+    assertThat(exc.getCause(), is(instanceOf(IOException.class)));
+    // Journaling stays disabled, but the journal can still be closed and reopened.
+    assertThrows(CompletionException.class, () -> journal.flush().join());
+    journal.close();
+
+    failSync.set(false);
+    journal.open();
+    journal.record(new TransportOrder("order-2", List.of()));
+    journal.flush().join();
+  }
+
+  private List<String> names(List<TCSObject<?>> objects) {
+    return objects.stream().map(TCSObject::getName).toList();
+  }
+}
@@ -3,10 +3,18 @@
 package org.opentcs.kernel.persistence;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -16,6 +24,8 @@ import org.opentcs.TestEnvironment;
 import org.opentcs.access.to.model.PlantModelCreationTO;
 import org.opentcs.access.to.model.PointCreationTO;
 import org.opentcs.access.to.model.VehicleCreationTO;
+import org.opentcs.kernel.KernelApplicationConfiguration;
+import org.opentcs.util.FileSystems;
 import org.opentcs.util.persistence.ModelParser;
 
 /**
@@ -50,13 +60,23 @@ public class XMLFileModelPersisterTest {
   @Captor
   private ArgumentCaptor<File> fileCaptor;
 
+  /**
+   * The directory in which the persister keeps the model file.
+   */
+  private File dataDirectory;
+
   @BeforeEach
   void setUp()
       throws IOException {
+    dataDirectory = new File(TestEnvironment.getKernelHomeDirectory(), "data");
+    FileSystems.deleteRecursively(dataDirectory);
     modelParser = mock(ModelParser.class);
+    KernelApplicationConfiguration configuration = mock();
+    when(configuration.modelBackupsLimit()).thenReturn(2);
     persister = new XMLFileModelPersister(
         TestEnvironment.getKernelHomeDirectory(),
-        modelParser
+        modelParser,
+        configuration
     );
     modelCaptor = ArgumentCaptor.forClass(PlantModelCreationTO.class);
     fileCaptor = ArgumentCaptor.forClass(File.class);
@@ -76,6 +96,67 @@ public class XMLFileModelPersisterTest {
     assertEquals(".xml", getFileExtension(fileCaptor.getValue()));
   }
 
+  @Test
+  void replaceModelFileAndKeepLimitedNumberOfBackups()
+      throws Exception {
+    for (int i = 0; i < 4; i++) {
+      persister.saveModel(createTestModel(MODEL_NAME + i));
+      // Make sure the backups' names, which contain the time of their creation, differ.
+      Thread.sleep(2);
+    }
+
+    assertTrue(new File(dataDirectory, "model.xml").isFile());
+    // The model file should be the only file left in the data directory.
+    assertEquals(1, dataDirectory.listFiles(File::isFile).length);
+    assertEquals(2, new File(dataDirectory, "backups").listFiles().length);
+  }
+
+  @Test
+  void keepAllBackupsWithNegativeLimit()
+      throws Exception {
+    KernelApplicationConfiguration configuration = mock();
+    when(configuration.modelBackupsLimit()).thenReturn(-1);
+    persister = new XMLFileModelPersister(
+        TestEnvironment.getKernelHomeDirectory(),
+        modelParser,
+        configuration
+    );
+
+    for (int i = 0; i < 4; i++) {
+      persister.saveModel(createTestModel(MODEL_NAME + i));
+      // Make sure the backups' names, which contain the time of their creation, differ.
+      Thread.sleep(2);
+    }
+
+    assertEquals(3, new File(dataDirectory, "backups").listFiles().length);
+  }
+
+  @Test
+  void coalesceSavesRequestedWhileWriting()
+      throws Exception {
+    CountDownLatch writeStarted = new CountDownLatch(1);
+    CountDownLatch writeMayFinish = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      writeStarted.countDown();
+      writeMayFinish.await(5, TimeUnit.SECONDS);
+      return null;
+    }).when(modelParser).writeModel(any(), any());
+
+    CompletableFuture<Void> first = persister.saveModelAsync(createTestModel("first"));
+    assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+    CompletableFuture<Void> second = persister.saveModelAsync(createTestModel("second"));
+    CompletableFuture<Void> third = persister.saveModelAsync(createTestModel("third"));
+    assertFalse(second.isDone());
+    writeMayFinish.countDown();
+    CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+
+    // The second model should never have been written, as the third one superseded it.
+    Mockito.verify(modelParser, Mockito.times(2))
+        .writeModel(modelCaptor.capture(), fileCaptor.capture());
+    assertEquals("first", modelCaptor.getAllValues().get(0).getName());
+    assertEquals("third", modelCaptor.getAllValues().get(1).getName());
+  }
+
   private PlantModelCreationTO createTestModel(String name) {
     return new PlantModelCreationTO(name)
         .withPoint(new PointCreationTO("testPointName"))
@@ -0,0 +1,100 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.services;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.to.model.LocationCreationTO;
+import org.opentcs.access.to.model.LocationTypeCreationTO;
+import org.opentcs.access.to.model.PlantModelCreationTO;
+import org.opentcs.access.to.model.PointCreationTO;
+import org.opentcs.access.to.order.DestinationCreationTO;
+import org.opentcs.access.to.order.TransportOrderCreationResult;
+import org.opentcs.access.to.order.TransportOrderCreationTO;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Triple;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.kernel.workingset.PlantModelManager;
+import org.opentcs.kernel.workingset.PrefixedUlidObjectNameProvider;
+import org.opentcs.kernel.workingset.TCSObjectRepository;
+import org.opentcs.kernel.workingset.TransportOrderPoolManager;
+import org.opentcs.util.event.SimpleEventBus;
+
+/**
+ * Unit tests for {@link StandardTransportOrderService}.
+ */
+class StandardTransportOrderServiceTest {
+
+  private TCSObjectRepository objectRepo;
+  private StandardTransportOrderService orderService;
+
+  @BeforeEach
+  void setUp() {
+    objectRepo = new TCSObjectRepository();
+    PlantModelManager plantModelManager = new PlantModelManager(objectRepo, new SimpleEventBus());
+    orderService = new StandardTransportOrderService(
+        mock(TCSObjectService.class),
+        new Object(),
+        objectRepo,
+        new TransportOrderPoolManager(
+            objectRepo,
+            new SimpleEventBus(),
+            new PrefixedUlidObjectNameProvider()
+        ),
+        plantModelManager
+    );
+
+    plantModelManager.createPlantModelObjects(
+        new PlantModelCreationTO("some-plant-model")
+            .withLocationType(new LocationTypeCreationTO("some-location-type"))
+            .withLocation(
+                new LocationCreationTO(
+                    "some-location",
+                    "some-location-type",
+                    new Triple(1, 2, 3)
+                )
+                    .withLink("some-point", new HashSet<>())
+            )
+            .withPoint(new PointCreationTO("some-point"))
+    );
+  }
+
+  @Test
+  void continueCreatingTransportOrdersAfterFailedItem() {
+    List<TransportOrderCreationResult> results = orderService.createTransportOrders(
+        List.of(
+            orderTO("order-1", "some-location"),
+            orderTO("order-2", "unknown-location"),
+            orderTO("order-3", "some-location")
+        )
+    );
+
+    assertThat(results, hasSize(3));
+    assertThat(results.get(0).isSuccessful(), is(true));
+    assertThat(results.get(1).isSuccessful(), is(false));
+    assertThat(results.get(1).getRequestedName(), is("order-2"));
+    assertThat(results.get(1).getFailureReason(), is(notNullValue()));
+    assertThat(results.get(2).isSuccessful(), is(true));
+
+    assertThat(objectRepo.getObjectOrNull(TransportOrder.class, "order-1"), is(notNullValue()));
+    assertThat(objectRepo.getObjectOrNull(TransportOrder.class, "order-2"), is(nullValue()));
+    assertThat(objectRepo.getObjectOrNull(TransportOrder.class, "order-3"), is(notNullValue()));
+  }
+
+  private TransportOrderCreationTO orderTO(String name, String locationName) {
+    return new TransportOrderCreationTO(
+        name,
+        List.of(new DestinationCreationTO(locationName, "NOP"))
+    )
+        .withIncompleteName(false);
+  }
+}
@@ -10,12 +10,14 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.theInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opentcs.components.kernel.services.TCSObjectService;
@@ -23,6 +25,7 @@ import org.opentcs.data.model.Location;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.Route;
@@ -100,4 +103,67 @@ class MovementCommandMapperTest {
     assertThat(result.get(1).getProperties(), is(aMapWithSize(3)));
     assertThat(result.get(1).getProperties().keySet(), containsInAnyOrder("key1", "key2", "key3"));
   }
+
+  @Test
+  void shareImmutablePropertiesAmongMovementCommands() {
+    Point pointA = new Point("point-a");
+    Point pointB = new Point("point-b");
+    Point pointC = new Point("point-c");
+    Path pathAB = new Path("path-ab", pointA.getReference(), pointB.getReference());
+    Path pathBC = new Path("path-bc", pointB.getReference(), pointC.getReference());
+    Route.Step stepAB = new Route.Step(pathAB, pointA, pointB, Vehicle.Orientation.FORWARD, 0, 1);
+    Route.Step stepBC = new Route.Step(pathBC, pointB, pointC, Vehicle.Orientation.FORWARD, 1, 1);
+    DriveOrder driveOrder
+        = new DriveOrder(
+            "some-order",
+            new DriveOrder.Destination(pointC.getReference())
+                .withProperties(Map.of("key1", "value1"))
+        ).withRoute(new Route(List.of(stepAB, stepBC)));
+    TransportOrder transportOrder
+        = new TransportOrder("some-order", List.of(driveOrder))
+            .withProperties(Map.of("key2", "value2"));
+
+    List<MovementCommand> result = mapper.toMovementCommands(driveOrder, transportOrder);
+
+    assertThat(
+        result.get(0).getProperties(),
+        is(theInstance(result.get(1).getProperties()))
+    );
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> result.get(0).getProperties().put("key3", "value3")
+    );
+  }
+
+  @Test
+  void mapDriveOrderToNeededResources() {
+    Point pointA = new Point("point-a");
+    Point pointB = new Point("point-b");
+    Point pointC = new Point("point-c");
+    Path pathAB = new Path("path-ab", pointA.getReference(), pointB.getReference());
+    Path pathBC = new Path("path-bc", pointB.getReference(), pointC.getReference());
+    LocationType locationType = new LocationType("location-type");
+    Location destinationLocation = new Location("location", locationType.getReference());
+    when(objectService.fetchObject(eq(Location.class), eq("location")))
+        .thenReturn(destinationLocation);
+
+    Route.Step stepAB = new Route.Step(pathAB, pointA, pointB, Vehicle.Orientation.FORWARD, 0, 1);
+    Route.Step stepBC = new Route.Step(pathBC, pointB, pointC, Vehicle.Orientation.FORWARD, 1, 1);
+    DriveOrder driveOrder
+        = new DriveOrder(
+            "some-order",
+            new DriveOrder.Destination(destinationLocation.getReference())
+                .withOperation("operation")
+        ).withRoute(new Route(List.of(stepAB, stepBC)));
+    TransportOrder transportOrder = new TransportOrder("some-order", List.of(driveOrder));
+
+    List<Set<TCSResource<?>>> result = mapper.toNeededResources(driveOrder, transportOrder);
+
+    assertThat(result, hasSize(2));
+    assertThat(result.get(0), is(equalTo(Set.<TCSResource<?>>of(pathAB, pointB))));
+    assertThat(
+        result.get(1),
+        is(equalTo(Set.<TCSResource<?>>of(pathBC, pointC, destinationLocation)))
+    );
+  }
 }
@@ -0,0 +1,88 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.kernel.vehicles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StripedVehicleExecutorProvider}.
+ */
+class StripedVehicleExecutorProviderTest {
+
+  private ScheduledExecutorService kernelExecutor;
+  private ReadWriteLock laneLock;
+  private StripedVehicleExecutorProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    kernelExecutor = mock();
+    laneLock = new ReentrantReadWriteLock();
+    provider = new StripedVehicleExecutorProvider(kernelExecutor, 4, laneLock.readLock());
+  }
+
+  @AfterEach
+  void tearDown() {
+    provider.shutdown();
+  }
+
+  @Test
+  void provideKernelExecutorWithoutStripes() {
+    StripedVehicleExecutorProvider singleLaneProvider
+        = new StripedVehicleExecutorProvider(kernelExecutor, 0, laneLock.readLock());
+
+    assertThat(singleLaneProvider.getExecutor("vehicle-1")).isSameAs(kernelExecutor);
+    assertThat(singleLaneProvider.getExecutor("vehicle-2")).isSameAs(kernelExecutor);
+  }
+
+  @Test
+  void provideSameExecutorForSameVehicle() {
+    assertThat(provider.getExecutor("vehicle-1"))
+        .isNotSameAs(kernelExecutor)
+        .isSameAs(provider.getExecutor("vehicle-1"));
+  }
+
+  @Test
+  void executeTasksForSameVehicleInOrder()
+      throws Exception {
+    List<Integer> executedTasks = Collections.synchronizedList(new ArrayList<>());
+    ScheduledExecutorService executor = provider.getExecutor("vehicle-1");
+
+    for (int i = 0; i < 100; i++) {
+      int task = i;
+      executor.execute(() -> executedTasks.add(task));
+    }
+    executor.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+    assertThat(executedTasks).hasSize(100).isSorted();
+  }
+
+  @Test
+  void executeNoTasksWhileExclusiveLaneIsBusy()
+      throws Exception {
+    CountDownLatch taskExecuted = new CountDownLatch(1);
+
+    laneLock.writeLock().lock();
+    try {
+      provider.getExecutor("vehicle-1").execute(taskExecuted::countDown);
+      assertThat(taskExecuted.await(100, TimeUnit.MILLISECONDS)).isFalse();
+    }
+    finally {
+      laneLock.writeLock().unlock();
+    }
+
+    assertThat(taskExecuted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -9,7 +9,10 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +21,8 @@ import org.opentcs.data.ObjectUnknownException;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.data.peripherals.PeripheralJob;
 
 /**
  * Unit tests for {@link TCSObjectRepository}.
@@ -228,4 +233,79 @@ class TCSObjectRepositoryTest {
     // Another object with the same name.
     assertThrows(ObjectExistsException.class, () -> pool.addObject(new Point("some-point")));
   }
+
+  @Test
+  void returnObjectsInFinalStateOldestFirst() {
+    TransportOrder order1 = new TransportOrder("order-1", List.of())
+        .withCreationTime(Instant.ofEpochSecond(30))
+        .withState(TransportOrder.State.FINISHED);
+    TransportOrder order2 = new TransportOrder("order-2", List.of())
+        .withCreationTime(Instant.ofEpochSecond(10))
+        .withState(TransportOrder.State.FAILED);
+    TransportOrder order3 = new TransportOrder("order-3", List.of())
+        .withCreationTime(Instant.ofEpochSecond(20))
+        .withState(TransportOrder.State.BEING_PROCESSED);
+    TransportOrder order4 = new TransportOrder("order-4", List.of())
+        .withCreationTime(Instant.ofEpochSecond(40))
+        .withState(TransportOrder.State.FINISHED);
+    pool.addObject(order1);
+    pool.addObject(order2);
+    pool.addObject(order3);
+    pool.addObject(order4);
+
+    Instant threshold = Instant.ofEpochSecond(35);
+    assertThat(
+        pool.getObjectsInFinalState(TransportOrder.class, threshold, null, 10),
+        contains(order2, order1)
+    );
+    assertThat(
+        pool.getObjectsInFinalState(TransportOrder.class, threshold, null, 1),
+        contains(order2)
+    );
+    assertThat(
+        pool.getObjectsInFinalState(TransportOrder.class, threshold, order2, 10),
+        contains(order1)
+    );
+
+    TransportOrder finishedOrder3 = order3.withState(TransportOrder.State.FINISHED);
+    pool.replaceObject(finishedOrder3);
+    pool.removeObject(order2.getReference());
+    assertThat(
+        pool.getObjectsInFinalState(TransportOrder.class, threshold, null, 10),
+        contains(finishedOrder3, order1)
+    );
+  }
+
+  @Test
+  void returnObjectsInFinalStateCreatedExactlyAtThreshold() {
+    TransportOrder order = new TransportOrder("order-1", List.of())
+        .withCreationTime(Instant.ofEpochSecond(30))
+        .withState(TransportOrder.State.FINISHED);
+    pool.addObject(order);
+
+    assertThat(
+        pool.getObjectsInFinalState(TransportOrder.class, Instant.ofEpochSecond(30), null, 10),
+        contains(order)
+    );
+    assertThat(
+        pool.getObjectsInFinalState(TransportOrder.class, Instant.ofEpochSecond(29), null, 10),
+        is(empty())
+    );
+  }
+
+  @Test
+  void returnRelatedPeripheralJobs() {
+    TransportOrder order = new TransportOrder("order-1", List.of());
+    PeripheralJob job = new PeripheralJob("job-1", "some-token", mock())
+        .withRelatedTransportOrder(order.getReference());
+    pool.addObject(order);
+    pool.addObject(job);
+    pool.addObject(new PeripheralJob("job-2", "some-token", mock()));
+
+    assertThat(pool.getRelatedPeripheralJobs(order.getReference()), contains(job));
+
+    pool.removeObject(job.getReference());
+
+    assertThat(pool.getRelatedPeripheralJobs(order.getReference()), is(empty()));
+  }
 }
@@ -7,7 +7,9 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,10 +25,13 @@ class WorkingSetCleanupTaskTest {
 
   private OrderPoolConfiguration configuration;
 
+  private Queue<Runnable> kernelExecutorTasks;
+
   @BeforeEach
   void setup() {
     configuration = mock();
     objectRepository = new TCSObjectRepository();
+    kernelExecutorTasks = new ArrayDeque<>();
     CreationTimeThreshold creationTimeThreshold = new CreationTimeThreshold();
 
     PeripheralJobPoolManager peripheralJobPoolManager
@@ -57,6 +62,7 @@ class WorkingSetCleanupTaskTest {
         );
     cleanupTask = new WorkingSetCleanupTask(
         new Object(),
+        kernelExecutorTasks::add,
         orderPoolManager,
         peripheralJobPoolManager,
         configuration,
@@ -93,6 +99,7 @@ class WorkingSetCleanupTaskTest {
     );
     assertEquals(2, objectRepository.getObjects(TransportOrder.class).size());
     cleanupTask.run();
+    runKernelExecutorTasks();
     assertEquals(1, objectRepository.getObjects(TransportOrder.class).size());
   }
 
@@ -119,6 +126,7 @@ class WorkingSetCleanupTaskTest {
     assertEquals(1, objectRepository.getObjects(TransportOrder.class).size());
     assertEquals(1, objectRepository.getObjects(OrderSequence.class).size());
     cleanupTask.run();
+    runKernelExecutorTasks();
     assertEquals(0, objectRepository.getObjects(TransportOrder.class).size());
     assertEquals(0, objectRepository.getObjects(OrderSequence.class).size());
   }
@@ -142,8 +150,96 @@ class WorkingSetCleanupTaskTest {
     assertEquals(1, objectRepository.getObjects(TransportOrder.class).size());
     assertEquals(1, objectRepository.getObjects(PeripheralJob.class).size());
     cleanupTask.run();
+    runKernelExecutorTasks();
     assertEquals(0, objectRepository.getObjects(PeripheralJob.class).size());
     assertEquals(0, objectRepository.getObjects(TransportOrder.class).size());
   }
 
+  @Test
+  void cleanExpiredTransportOrdersInChunks() {
+    when(configuration.sweepAge()).thenReturn(60000);
+    when(configuration.sweepChunkSize()).thenReturn(2);
+
+    for (int i = 0; i < 5; i++) {
+      objectRepository.addObject(
+          new TransportOrder("Order-" + i, List.of())
+              .withCreationTime(Instant.now().minusMillis(70000 + i))
+              .withState(TransportOrder.State.FINISHED)
+      );
+    }
+    objectRepository.addObject(
+        new TransportOrder("Order-Active", List.of())
+            .withCreationTime(Instant.now().minusMillis(80000))
+            .withState(TransportOrder.State.BEING_PROCESSED)
+    );
+
+    assertEquals(6, objectRepository.getObjects(TransportOrder.class).size());
+    cleanupTask.run();
+    runKernelExecutorTasks();
+    assertEquals(1, objectRepository.getObjects(TransportOrder.class).size());
+  }
+
+  @Test
+  void processEveryChunkInSeparateKernelExecutorTask() {
+    when(configuration.sweepAge()).thenReturn(60000);
+    when(configuration.sweepChunkSize()).thenReturn(2);
+
+    for (int i = 0; i < 5; i++) {
+      objectRepository.addObject(
+          new TransportOrder("Order-" + i, List.of())
+              .withCreationTime(Instant.now().minusMillis(70000 + i))
+              .withState(TransportOrder.State.FINISHED)
+      );
+    }
+
+    cleanupTask.run();
+    assertEquals(5, objectRepository.getObjects(TransportOrder.class).size());
+
+    // Peripheral jobs
+    kernelExecutorTasks.remove().run();
+    assertEquals(5, objectRepository.getObjects(TransportOrder.class).size());
+    // Transport orders, first chunk
+    kernelExecutorTasks.remove().run();
+    assertEquals(3, objectRepository.getObjects(TransportOrder.class).size());
+    // Transport orders, second chunk
+    kernelExecutorTasks.remove().run();
+    assertEquals(1, objectRepository.getObjects(TransportOrder.class).size());
+    assertEquals(1, kernelExecutorTasks.size());
+
+    runKernelExecutorTasks();
+    assertEquals(0, objectRepository.getObjects(TransportOrder.class).size());
+  }
+
+  @Test
+  void skipSweepWhilePreviousOneIsInProgress() {
+    when(configuration.sweepAge()).thenReturn(60000);
+
+    cleanupTask.run();
+    cleanupTask.run();
+
+    assertEquals(1, kernelExecutorTasks.size());
+  }
+
+  @Test
+  void removeNothingAfterSweepWasCancelled() {
+    when(configuration.sweepAge()).thenReturn(60000);
+
+    objectRepository.addObject(
+        new TransportOrder("Order-1", List.of())
+            .withCreationTime(Instant.now().minusMillis(70000))
+            .withState(TransportOrder.State.FINISHED)
+    );
+
+    cleanupTask.run();
+    cleanupTask.cancelSweep();
+    runKernelExecutorTasks();
+
+    assertEquals(1, objectRepository.getObjects(TransportOrder.class).size());
+  }
+
+  private void runKernelExecutorTasks() {
+    while (!kernelExecutorTasks.isEmpty()) {
+      kernelExecutorTasks.remove().run();
+    }
+  }
 }
@@ -152,6 +152,7 @@ public class DefaultKernelControlCenterInjectionModule
                 GuestUserCredentials.PASSWORD
             )
                 .setSocketFactoryProvider(socketFactoryProvider)
+                .setEventPush(true)
                 .build()
         );
   }
@@ -134,6 +134,7 @@ public class DefaultPlantOverviewInjectionModule
                 GuestUserCredentials.PASSWORD
             )
                 .setSocketFactoryProvider(socketFactoryProvider)
+                .setEventPush(true)
                 .setEventFilter(new ClassMatcher(LowLevelCommunicationEvent.class).negate())
                 .build()
         );
@@ -10,6 +10,7 @@ import org.opentcs.common.PortalManager;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.guing.common.exchange.AllocationHistory;
 import org.opentcs.guing.common.exchange.ApplicationPortalProvider;
+import org.opentcs.guing.common.exchange.KernelObjectsContainer;
 import org.opentcs.guing.common.exchange.adapter.VehicleAdapter;
 import org.opentcs.operationsdesk.exchange.adapter.OpsDeskVehicleAdapter;
 import org.opentcs.util.event.EventBus;
@@ -61,6 +62,8 @@ public class ExchangeInjectionModule
 
     bind(AllocationHistory.class)
         .in(Singleton.class);
+    bind(KernelObjectsContainer.class)
+        .in(Singleton.class);
 
     bind(VehicleAdapter.class)
         .to(OpsDeskVehicleAdapter.class);
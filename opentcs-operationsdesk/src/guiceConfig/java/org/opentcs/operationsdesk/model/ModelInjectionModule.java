@@ -3,6 +3,7 @@
 package org.opentcs.operationsdesk.model;
 
 import com.google.inject.AbstractModule;
+import org.opentcs.guing.common.model.StandardSystemModel;
 import org.opentcs.guing.common.model.SystemModel;
 
 /**
@@ -20,7 +21,7 @@ public class ModelInjectionModule
 
   @Override
   protected void configure() {
-    bind(SystemModel.class).to(CachedSystemModel.class);
+    bind(SystemModel.class).to(StandardSystemModel.class);
   }
 
 }
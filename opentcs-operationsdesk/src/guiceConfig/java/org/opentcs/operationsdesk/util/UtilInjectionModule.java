@@ -22,5 +22,6 @@ public class UtilInjectionModule
   @Override
   protected void configure() {
     bind(PanelRegistry.class).in(Singleton.class);
+    bind(FrameUpdateScheduler.class).in(Singleton.class);
   }
 }
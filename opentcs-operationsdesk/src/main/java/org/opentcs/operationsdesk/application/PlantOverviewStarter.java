@@ -10,6 +10,7 @@ import org.opentcs.common.KernelClientApplication;
 import org.opentcs.guing.common.application.ProgressIndicator;
 import org.opentcs.guing.common.application.StartupProgressStatus;
 import org.opentcs.guing.common.event.EventLogger;
+import org.opentcs.guing.common.exchange.KernelObjectsContainer;
 import org.opentcs.operationsdesk.exchange.AttributeAdapterRegistry;
 import org.opentcs.operationsdesk.exchange.KernelEventFetcher;
 import org.opentcs.operationsdesk.exchange.OpenTCSEventDispatcher;
@@ -43,6 +44,10 @@ public class PlantOverviewStarter {
    * Fetches events from the kernel, if connected, and publishes them via the local event bus.
    */
   private final KernelEventFetcher kernelEventFetcher;
+  /**
+   * Maintains replicas of the kernel's objects.
+   */
+  private final KernelObjectsContainer kernelObjectsContainer;
   /**
    * Dispatches openTCS event from kernel objects to corresponding model components.
    */
@@ -81,6 +86,7 @@ public class PlantOverviewStarter {
    * @param eventLogger The event logger.
    * @param kernelEventFetcher Fetches events from the kernel, if connected, and publishes them via
    * the local event bus.
+   * @param kernelObjectsContainer Maintains replicas of the kernel's objects.
    * @param eventDispatcher Dispatches openTCS event from kernel objects to corresponding model
    * components.
    * @param kernelClientApplication Responsible for connections to a kernel.
@@ -100,6 +106,7 @@ public class PlantOverviewStarter {
       OpenTCSView opentcsView,
       EventLogger eventLogger,
       KernelEventFetcher kernelEventFetcher,
+      KernelObjectsContainer kernelObjectsContainer,
       OpenTCSEventDispatcher eventDispatcher,
       KernelClientApplication kernelClientApplication,
       AttributeAdapterRegistry attributeAdapterRegistry,
@@ -113,6 +120,10 @@ public class PlantOverviewStarter {
     this.opentcsView = requireNonNull(opentcsView, "opentcsView");
     this.eventLogger = requireNonNull(eventLogger, "eventLogger");
     this.kernelEventFetcher = requireNonNull(kernelEventFetcher, "kernelEventFetcher");
+    this.kernelObjectsContainer = requireNonNull(
+        kernelObjectsContainer,
+        "kernelObjectsContainer"
+    );
     this.eventDispatcher = requireNonNull(eventDispatcher, "eventDispatcher");
     this.kernelClientApplication = requireNonNull(
         kernelClientApplication, "kernelClientApplication"
@@ -142,6 +153,8 @@ public class PlantOverviewStarter {
   public void startPlantOverview() {
     eventLogger.initialize();
     kernelEventFetcher.initialize();
+    // Needs to be initialized before the event dispatcher to be up to date for it.
+    kernelObjectsContainer.initialize();
     eventDispatcher.initialize();
     attributeAdapterRegistry.initialize();
     transportOrdersContainer.initialize();
@@ -7,7 +7,6 @@ import jakarta.inject.Inject;
 import java.awt.Graphics2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import javax.swing.SwingUtilities;
 import org.jhotdraw.draw.Figure;
 import org.opentcs.components.plantoverview.VehicleTheme;
 import org.opentcs.data.model.Triple;
@@ -18,6 +17,7 @@ import org.opentcs.guing.common.components.drawing.figures.FigureOrdinals;
 import org.opentcs.guing.common.components.drawing.figures.ToolTipTextGenerator;
 import org.opentcs.guing.common.persistence.ModelManager;
 import org.opentcs.operationsdesk.application.menus.MenuFactory;
+import org.opentcs.operationsdesk.util.FrameUpdateScheduler;
 import org.opentcs.operationsdesk.util.OperationsDeskConfiguration;
 
 /**
@@ -36,7 +36,8 @@ public class NamedVehicleFigure
       VehicleModel model,
       ToolTipTextGenerator textGenerator,
       ModelManager modelManager,
-      ApplicationState applicationState
+      ApplicationState applicationState,
+      FrameUpdateScheduler updateScheduler
   ) {
     super(
         vehicleTheme,
@@ -45,7 +46,8 @@ public class NamedVehicleFigure
         model,
         textGenerator,
         modelManager,
-        applicationState
+        applicationState,
+        updateScheduler
     );
   }
 
@@ -62,41 +64,33 @@ public class NamedVehicleFigure
   }
 
   @Override
-  protected void updateFigureDetails(VehicleModel model) {
-    super.updateFigureDetails(model);
-
-    PointModel point = model.getPoint();
-    Triple precisePosition = model.getPrecisePosition();
+  protected void applyFigureDetails() {
+    PointModel point = getModel().getPoint();
+    Triple precisePosition = getModel().getPrecisePosition();
 
     if (point == null && precisePosition == null) {
       // If neither the point nor the precise position is known, don't draw the figure.
-      SwingUtilities.invokeLater(() -> setVisible(false));
+      setVisible(false);
     }
     else if (precisePosition != null && !isIgnorePrecisePosition()) {
       // If a precise position exists, it is set in setBounds(), so it doesn't need any coordinates.
-      SwingUtilities.invokeLater(() -> {
-        setVisible(true);
-        setBounds(new Point2D.Double(), null);
-      });
-
-      setFigureDetailsChanged(true);
+      setVisible(true);
+      setBounds(new Point2D.Double(), null);
     }
     else if (point != null) {
-      SwingUtilities.invokeLater(() -> {
-        setVisible(true);
-        Figure pointFigure = getModelManager().getModel().getFigure(point);
-        Rectangle2D.Double r = pointFigure.getBounds();
-        Point2D.Double pCenter = new Point2D.Double(r.getCenterX(), r.getCenterY());
-        // Draw figure in the center of the node.
-        // Angle is set in setBounds().
-        setBounds(pCenter, null);
-      });
-
-      setFigureDetailsChanged(true);
+      setVisible(true);
+      Figure pointFigure = getModelManager().getModel().getFigure(point);
+      Rectangle2D.Double r = pointFigure.getBounds();
+      Point2D.Double pCenter = new Point2D.Double(r.getCenterX(), r.getCenterY());
+      // Draw figure in the center of the node.
+      // Angle is set in setBounds().
+      setBounds(pCenter, null);
     }
     else {
-      SwingUtilities.invokeLater(() -> setVisible(false));
+      setVisible(false);
     }
+
+    super.applyFigureDetails();
   }
 
   @Override
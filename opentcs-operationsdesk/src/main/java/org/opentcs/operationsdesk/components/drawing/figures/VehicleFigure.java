@@ -21,7 +21,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
-import javax.swing.SwingUtilities;
 import org.jhotdraw.draw.DrawingView;
 import org.jhotdraw.draw.Figure;
 import org.jhotdraw.draw.handle.Handle;
@@ -52,6 +51,7 @@ import org.opentcs.operationsdesk.application.menus.MenuFactory;
 import org.opentcs.operationsdesk.application.menus.VehiclePopupMenu;
 import org.opentcs.operationsdesk.components.dialogs.SingleVehicleView;
 import org.opentcs.operationsdesk.components.drawing.figures.decoration.VehicleOutlineHandle;
+import org.opentcs.operationsdesk.util.FrameUpdateScheduler;
 import org.opentcs.operationsdesk.util.OperationsDeskConfiguration;
 
 /**
@@ -96,6 +96,10 @@ public class VehicleFigure
    * The application's current state.
    */
   private final ApplicationState applicationState;
+  /**
+   * Schedules updates of GUI components.
+   */
+  private final FrameUpdateScheduler updateScheduler;
   /**
    * The angle at which the image is to be drawn.
    */
@@ -127,6 +131,7 @@ public class VehicleFigure
    * @param textGenerator The tool tip text generator.
    * @param modelManager The model manager.
    * @param applicationState The application's current state.
+   * @param updateScheduler Schedules updates of GUI components.
    */
   @Inject
   @SuppressWarnings("this-escape")
@@ -138,7 +143,8 @@ public class VehicleFigure
       VehicleModel model,
       ToolTipTextGenerator textGenerator,
       ModelManager modelManager,
-      ApplicationState applicationState
+      ApplicationState applicationState,
+      FrameUpdateScheduler updateScheduler
   ) {
     super(model);
     this.vehicleTheme = requireNonNull(vehicleTheme, "vehicleTheme");
@@ -146,6 +152,7 @@ public class VehicleFigure
     this.textGenerator = requireNonNull(textGenerator, "textGenerator");
     this.modelManager = requireNonNull(modelManager, "modelManager");
     this.applicationState = requireNonNull(applicationState, "applicationState");
+    this.updateScheduler = requireNonNull(updateScheduler, "updateScheduler");
 
     fDisplayBox = new Rectangle((int) LENGTH, (int) WIDTH);
     fZoomPoint = new ZoomPoint(0.5 * LENGTH, 0.5 * WIDTH);
@@ -465,17 +472,28 @@ public class VehicleFigure
     updateFigureDetails((VehicleModel) e.getModel());
 
     if (isFigureDetailsChanged()) {
-      SwingUtilities.invokeLater(() -> {
-        // Only call if the figure is visible - will cause NPE in BoundsOutlineHandle otherwise.
-        if (isVisible()) {
-          fireFigureChanged();
-        }
-      });
+      // Apply the changes with the next frame, together with the changes of other figures, so
+      // that a vehicle reporting many changes in short succession is redrawn only once per frame.
+      updateScheduler.scheduleUpdate(this, this::applyFigureDetails);
 
       setFigureDetailsChanged(false);
     }
   }
 
+  /**
+   * Applies changed figure details to the figure and notifies listeners about the change.
+   * Called on the event dispatch thread, at most once per frame.
+   * <p>
+   * When overriding this method, always remember to call the super-implementation.
+   * </p>
+   */
+  protected void applyFigureDetails() {
+    // Only call if the figure is visible - will cause NPE in BoundsOutlineHandle otherwise.
+    if (isVisible()) {
+      fireFigureChanged();
+    }
+  }
+
   /**
    * Updates the figure details based on the given vehicle model.
    * <p>
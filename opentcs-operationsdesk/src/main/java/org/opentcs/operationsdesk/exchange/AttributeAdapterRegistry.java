@@ -12,6 +12,7 @@ import org.opentcs.guing.base.model.elements.LocationModel;
 import org.opentcs.guing.base.model.elements.PathModel;
 import org.opentcs.guing.base.model.elements.VehicleModel;
 import org.opentcs.guing.common.event.SystemModelTransitionEvent;
+import org.opentcs.guing.common.exchange.KernelObjectsContainer;
 import org.opentcs.guing.common.persistence.ModelManager;
 import org.opentcs.operationsdesk.exchange.adapter.LocationLockAdapter;
 import org.opentcs.operationsdesk.exchange.adapter.PathLockAdapter;
@@ -35,6 +36,10 @@ public class AttributeAdapterRegistry
    * Provides access to a portal.
    */
   private final SharedKernelServicePortalProvider portalProvider;
+  /**
+   * Maintains replicas of the kernel's objects.
+   */
+  private final KernelObjectsContainer kernelObjects;
   /**
    * The model manager.
    */
@@ -51,11 +56,13 @@ public class AttributeAdapterRegistry
   @Inject
   public AttributeAdapterRegistry(
       SharedKernelServicePortalProvider portalProvider,
+      KernelObjectsContainer kernelObjects,
       ModelManager modelManager,
       @ApplicationEventBus
       EventSource eventSource
   ) {
     this.portalProvider = requireNonNull(portalProvider, "portalProvider");
+    this.kernelObjects = requireNonNull(kernelObjects, "kernelObjects");
     this.modelManager = requireNonNull(modelManager, "modelManager");
     this.eventSource = requireNonNull(eventSource, "eventSource");
   }
@@ -103,20 +110,29 @@ public class AttributeAdapterRegistry
       model.addAttributesChangeListener(
           new VehicleAcceptableOrderTypesAdapter(
               portalProvider,
+              kernelObjects,
               model
           )
       );
-      model.addAttributesChangeListener(new VehiclePausedAdapter(portalProvider, model));
-      model.addAttributesChangeListener(new VehicleEnvelopeKeyAdapter(portalProvider, model));
+      model.addAttributesChangeListener(
+          new VehiclePausedAdapter(portalProvider, kernelObjects, model)
+      );
+      model.addAttributesChangeListener(
+          new VehicleEnvelopeKeyAdapter(portalProvider, kernelObjects, model)
+      );
       model.addAttributesChangeListener(
           new VehicleEnergyLevelThresholdSetAdapter(portalProvider, model)
       );
     }
     for (PathModel model : modelManager.getModel().getPathModels()) {
-      model.addAttributesChangeListener(new PathLockAdapter(portalProvider, model));
+      model.addAttributesChangeListener(
+          new PathLockAdapter(portalProvider, kernelObjects, model)
+      );
     }
     for (LocationModel model : modelManager.getModel().getLocationModels()) {
-      model.addAttributesChangeListener(new LocationLockAdapter(portalProvider, model));
+      model.addAttributesChangeListener(
+          new LocationLockAdapter(portalProvider, kernelObjects, model)
+      );
     }
   }
 }
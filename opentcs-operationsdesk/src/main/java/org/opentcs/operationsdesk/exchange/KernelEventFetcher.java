@@ -39,8 +39,10 @@ public class KernelEventFetcher
   private static final Logger LOG = LoggerFactory.getLogger(KernelEventFetcher.class);
   /**
    * The time to wait between event fetches with the service portal (in ms).
+   * As fetching blocks until events arrive (or are pushed by the kernel), there is no need to wait
+   * between fetches, which would only delay the processing of events.
    */
-  private final long eventFetchInterval = 100;
+  private final long eventFetchInterval = 0;
   /**
    * The time to wait for events to arrive when fetching (in ms).
    */
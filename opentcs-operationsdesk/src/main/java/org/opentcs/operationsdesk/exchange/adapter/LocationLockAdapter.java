@@ -13,6 +13,7 @@ import org.opentcs.data.model.Location;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeEvent;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeListener;
 import org.opentcs.guing.base.model.elements.LocationModel;
+import org.opentcs.guing.common.exchange.KernelObjectsContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +36,18 @@ public class LocationLockAdapter
    * Provides access to a portal.
    */
   private final SharedKernelServicePortalProvider portalProvider;
+  /**
+   * Maintains replicas of the kernel's objects.
+   */
+  private final KernelObjectsContainer kernelObjects;
+  /**
+   * The locked state last sent to the kernel.
+   */
+  private boolean lockedSent;
+  /**
+   * Indicates whether the replica may not reflect the locked state last sent, yet.
+   */
+  private boolean updatePending;
   /**
    * Indicates whether the location was locked the last time we checked.
    */
@@ -44,13 +57,16 @@ public class LocationLockAdapter
    * Creates a new instance.
    *
    * @param portalProvider A portal provider.
+   * @param kernelObjects A container of kernel object replicas.
    * @param model The location model.
    */
   public LocationLockAdapter(
       SharedKernelServicePortalProvider portalProvider,
+      KernelObjectsContainer kernelObjects,
       LocationModel model
   ) {
     this.portalProvider = requireNonNull(portalProvider, "portalProvider");
+    this.kernelObjects = requireNonNull(kernelObjects, "kernelObjects");
     this.model = requireNonNull(model, "model");
     this.lockedPreviously = isLocationLocked();
   }
@@ -67,6 +83,13 @@ public class LocationLockAdapter
     }
     lockedPreviously = locked;
 
+    if (!isUpdatePending() && isUpToDateInKernel(locked)) {
+      // The change was most likely received from the kernel, so there is nothing to update.
+      return;
+    }
+
+    lockedSent = locked;
+    updatePending = true;
     new Thread(() -> updateLockInKernel(locked)).start();
   }
 
@@ -74,17 +97,35 @@ public class LocationLockAdapter
     return (Boolean) model.getPropertyLocked().getValue();
   }
 
+  /**
+   * Checks whether the replica may not reflect the locked state last sent, yet.
+   * As long as this is the case, the replica cannot tell whether a change was received from the
+   * kernel.
+   */
+  private boolean isUpdatePending() {
+    if (updatePending && isUpToDateInKernel(lockedSent)) {
+      updatePending = false;
+    }
+    return updatePending;
+  }
+
+  private boolean isUpToDateInKernel(boolean locked) {
+    return kernelObjects.getObject(Location.class, model.getName())
+        .map(location -> location.isLocked() == locked)
+        .orElse(false);
+  }
+
   private void updateLockInKernel(boolean locked) {
     try (SharedKernelServicePortal sharedPortal = portalProvider.register()) {
       KernelServicePortal portal = sharedPortal.getPortal();
       // Check if the kernel is in operating mode, too.
       if (portal.getState() == Kernel.State.OPERATING) {
-        // Update the path in the kernel if it exists and its locked state is different.
-        Location location = portal.getPlantModelService().fetchObject(
-            Location.class,
-            model.getName()
-        );
-        if (location != null && location.isLocked() != locked) {
+        // Update the location in the kernel if it exists.
+        Location location = kernelObjects.getObject(Location.class, model.getName())
+            .orElseGet(
+                () -> portal.getPlantModelService().fetchObject(Location.class, model.getName())
+            );
+        if (location != null) {
           portal.getPlantModelService().updateLocationLock(location.getReference(), locked);
         }
       }
@@ -15,6 +15,7 @@ import org.opentcs.data.order.ReroutingType;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeEvent;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeListener;
 import org.opentcs.guing.base.model.elements.PathModel;
+import org.opentcs.guing.common.exchange.KernelObjectsContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +38,18 @@ public class PathLockAdapter
    * Provides access to a portal.
    */
   private final SharedKernelServicePortalProvider portalProvider;
+  /**
+   * Maintains replicas of the kernel's objects.
+   */
+  private final KernelObjectsContainer kernelObjects;
+  /**
+   * The locked state last sent to the kernel.
+   */
+  private boolean lockedSent;
+  /**
+   * Indicates whether the replica may not reflect the locked state last sent, yet.
+   */
+  private boolean updatePending;
   /**
    * Indicates whether the path was locked the last time we checked.
    */
@@ -46,13 +59,16 @@ public class PathLockAdapter
    * Creates a new instance.
    *
    * @param portalProvider A portal provider.
+   * @param kernelObjects A container of kernel object replicas.
    * @param model The path model.
    */
   public PathLockAdapter(
       SharedKernelServicePortalProvider portalProvider,
+      KernelObjectsContainer kernelObjects,
       PathModel model
   ) {
     this.portalProvider = requireNonNull(portalProvider, "portalProvider");
+    this.kernelObjects = requireNonNull(kernelObjects, "kernelObjects");
     this.model = requireNonNull(model, "model");
     this.lockedPreviously = isPathLocked();
   }
@@ -69,6 +85,13 @@ public class PathLockAdapter
     }
     lockedPreviously = locked;
 
+    if (!isUpdatePending() && isUpToDateInKernel(locked)) {
+      // The change was most likely received from the kernel, so there is nothing to update.
+      return;
+    }
+
+    lockedSent = locked;
+    updatePending = true;
     new Thread(() -> updateLockInKernel(locked)).start();
   }
 
@@ -76,14 +99,35 @@ public class PathLockAdapter
     return (Boolean) model.getPropertyLocked().getValue();
   }
 
+  /**
+   * Checks whether the replica may not reflect the locked state last sent, yet.
+   * As long as this is the case, the replica cannot tell whether a change was received from the
+   * kernel.
+   */
+  private boolean isUpdatePending() {
+    if (updatePending && isUpToDateInKernel(lockedSent)) {
+      updatePending = false;
+    }
+    return updatePending;
+  }
+
+  private boolean isUpToDateInKernel(boolean locked) {
+    return kernelObjects.getObject(Path.class, model.getName())
+        .map(path -> path.isLocked() == locked)
+        .orElse(false);
+  }
+
   private void updateLockInKernel(boolean locked) {
     try (SharedKernelServicePortal sharedPortal = portalProvider.register()) {
       KernelServicePortal portal = sharedPortal.getPortal();
       // Check if the kernel is in operating mode, too.
       if (portal.getState() == Kernel.State.OPERATING) {
-        // Update the path in the kernel if it exists and its locked state is different.
-        Path path = portal.getPlantModelService().fetchObject(Path.class, model.getName());
-        if (path != null && path.isLocked() != locked) {
+        // Update the path in the kernel if it exists.
+        Path path = kernelObjects.getObject(Path.class, model.getName())
+            .orElseGet(
+                () -> portal.getPlantModelService().fetchObject(Path.class, model.getName())
+            );
+        if (path != null) {
           portal.getPlantModelService().updatePathLock(path.getReference(), locked);
           portal.getRouterService().updateRoutingTopology(Set.of(path.getReference()));
           portal.getDispatcherService().rerouteAll(ReroutingType.REGULAR);
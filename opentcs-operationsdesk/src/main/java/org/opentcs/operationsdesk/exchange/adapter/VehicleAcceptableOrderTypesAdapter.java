@@ -16,6 +16,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeEvent;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeListener;
 import org.opentcs.guing.base.model.elements.VehicleModel;
+import org.opentcs.guing.common.exchange.KernelObjectsContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +41,18 @@ public class VehicleAcceptableOrderTypesAdapter
    * Provides access to a portal.
    */
   private final SharedKernelServicePortalProvider portalProvider;
+  /**
+   * Maintains replicas of the kernel's objects.
+   */
+  private final KernelObjectsContainer kernelObjects;
+  /**
+   * The acceptable order types last sent to the kernel.
+   */
+  private Set<AcceptableOrderType> acceptableOrderTypesSent;
+  /**
+   * Indicates whether the replica may not reflect the acceptable order types last sent, yet.
+   */
+  private boolean updatePending;
   /**
    * The vehicle's acceptable order types the last time we checked them.
    */
@@ -49,13 +62,16 @@ public class VehicleAcceptableOrderTypesAdapter
    * Creates a new instance.
    *
    * @param portalProvider A kernel provider.
+   * @param kernelObjects A container of kernel object replicas.
    * @param model The vehicle model.
    */
   public VehicleAcceptableOrderTypesAdapter(
       SharedKernelServicePortalProvider portalProvider,
+      KernelObjectsContainer kernelObjects,
       VehicleModel model
   ) {
     this.portalProvider = requireNonNull(portalProvider, "portalProvider");
+    this.kernelObjects = requireNonNull(kernelObjects, "kernelObjects");
     this.model = requireNonNull(model, "model");
     this.previousAcceptableOrderTypes = getAcceptableOrderTypes();
   }
@@ -73,6 +89,13 @@ public class VehicleAcceptableOrderTypesAdapter
     }
 
     previousAcceptableOrderTypes = acceptableOrderTypes;
+    if (!isUpdatePending() && isUpToDateInKernel(acceptableOrderTypes)) {
+      // The change was most likely received from the kernel, so there is nothing to update.
+      return;
+    }
+
+    acceptableOrderTypesSent = acceptableOrderTypes;
+    updatePending = true;
     new Thread(() -> updateAcceptableOrderTypesInKernel(acceptableOrderTypes)).start();
   }
 
@@ -82,17 +105,33 @@ public class VehicleAcceptableOrderTypesAdapter
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Checks whether the replica may not reflect the acceptable order types last sent, yet.
+   * As long as this is the case, the replica cannot tell whether a change was received from the
+   * kernel.
+   */
+  private boolean isUpdatePending() {
+    if (updatePending && isUpToDateInKernel(acceptableOrderTypesSent)) {
+      updatePending = false;
+    }
+    return updatePending;
+  }
+
+  private boolean isUpToDateInKernel(Set<AcceptableOrderType> acceptableOrderTypes) {
+    return kernelObjects.getObject(Vehicle.class, model.getName())
+        .map(vehicle -> vehicle.getAcceptableOrderTypes().equals(acceptableOrderTypes))
+        .orElse(false);
+  }
+
   private void updateAcceptableOrderTypesInKernel(Set<AcceptableOrderType> acceptableOrderTypes) {
     try (SharedKernelServicePortal sharedPortal = portalProvider.register()) {
       KernelServicePortal portal = sharedPortal.getPortal();
       // Check if the kernel is in operating mode, too.
       if (portal.getState() == Kernel.State.OPERATING) {
-        Vehicle vehicle = portal.getVehicleService().fetchObject(Vehicle.class, model.getName());
-        if (vehicle.getAcceptableOrderTypes().size() == acceptableOrderTypes.size()
-            && vehicle.getAcceptableOrderTypes().containsAll(acceptableOrderTypes)) {
-          LOG.debug("Ignoring vehicle properties update. Already up do date.");
-          return;
-        }
+        Vehicle vehicle = kernelObjects.getObject(Vehicle.class, model.getName())
+            .orElseGet(
+                () -> portal.getVehicleService().fetchObject(Vehicle.class, model.getName())
+            );
         portal.getVehicleService().updateVehicleAcceptableOrderTypes(
             vehicle.getReference(),
             acceptableOrderTypes
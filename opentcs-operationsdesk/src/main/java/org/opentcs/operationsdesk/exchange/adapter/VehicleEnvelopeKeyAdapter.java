@@ -14,6 +14,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeEvent;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeListener;
 import org.opentcs.guing.base.model.elements.VehicleModel;
+import org.opentcs.guing.common.exchange.KernelObjectsContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +37,18 @@ public class VehicleEnvelopeKeyAdapter
    * Provides access to a portal.
    */
   private final SharedKernelServicePortalProvider portalProvider;
+  /**
+   * Maintains replicas of the kernel's objects.
+   */
+  private final KernelObjectsContainer kernelObjects;
+  /**
+   * The envelope key last sent to the kernel.
+   */
+  private String envelopeKeySent;
+  /**
+   * Indicates whether the replica may not reflect the envelope key last sent, yet.
+   */
+  private boolean updatePending;
   /**
    * The vehicle's envelope key the last time we checked it.
    */
@@ -45,13 +58,16 @@ public class VehicleEnvelopeKeyAdapter
    * Creates a new instance.
    *
    * @param portalProvider A kernel provider.
+   * @param kernelObjects A container of kernel object replicas.
    * @param model The vehicle model.
    */
   public VehicleEnvelopeKeyAdapter(
       SharedKernelServicePortalProvider portalProvider,
+      KernelObjectsContainer kernelObjects,
       VehicleModel model
   ) {
     this.portalProvider = requireNonNull(portalProvider, "portalProvider");
+    this.kernelObjects = requireNonNull(kernelObjects, "kernelObjects");
     this.model = requireNonNull(model, "model");
     this.previousEnvelopeKey = getEnvelopeKey();
   }
@@ -69,6 +85,13 @@ public class VehicleEnvelopeKeyAdapter
     }
 
     previousEnvelopeKey = envelopeKey;
+    if (!isUpdatePending() && isUpToDateInKernel(envelopeKey)) {
+      // The change was most likely received from the kernel, so there is nothing to update.
+      return;
+    }
+
+    envelopeKeySent = envelopeKey;
+    updatePending = true;
     new Thread(() -> updateEnvelopeKeyInKernel(envelopeKey)).start();
   }
 
@@ -76,16 +99,33 @@ public class VehicleEnvelopeKeyAdapter
     return model.getPropertyEnvelopeKey().getText();
   }
 
+  /**
+   * Checks whether the replica may not reflect the envelope key last sent, yet.
+   * As long as this is the case, the replica cannot tell whether a change was received from the
+   * kernel.
+   */
+  private boolean isUpdatePending() {
+    if (updatePending && isUpToDateInKernel(envelopeKeySent)) {
+      updatePending = false;
+    }
+    return updatePending;
+  }
+
+  private boolean isUpToDateInKernel(String envelopeKey) {
+    return kernelObjects.getObject(Vehicle.class, model.getName())
+        .map(vehicle -> Objects.equals(vehicle.getEnvelopeKey(), envelopeKey))
+        .orElse(false);
+  }
+
   private void updateEnvelopeKeyInKernel(String envelopeKey) {
     try (SharedKernelServicePortal sharedPortal = portalProvider.register()) {
       KernelServicePortal portal = sharedPortal.getPortal();
       // Check if the kernel is in operating mode, too.
       if (portal.getState() == Kernel.State.OPERATING) {
-        Vehicle vehicle = portal.getVehicleService().fetchObject(Vehicle.class, model.getName());
-        if (Objects.equals(vehicle.getEnvelopeKey(), envelopeKey)) {
-          LOG.debug("Ignoring vehicle properties update. Already up do date.");
-          return;
-        }
+        Vehicle vehicle = kernelObjects.getObject(Vehicle.class, model.getName())
+            .orElseGet(
+                () -> portal.getVehicleService().fetchObject(Vehicle.class, model.getName())
+            );
         portal.getVehicleService().updateVehicleEnvelopeKey(
             vehicle.getReference(),
             envelopeKey
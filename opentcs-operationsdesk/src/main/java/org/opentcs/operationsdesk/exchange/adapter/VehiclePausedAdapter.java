@@ -13,6 +13,7 @@ import org.opentcs.data.model.Vehicle;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeEvent;
 import org.opentcs.guing.base.components.properties.event.AttributesChangeListener;
 import org.opentcs.guing.base.model.elements.VehicleModel;
+import org.opentcs.guing.common.exchange.KernelObjectsContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +36,18 @@ public class VehiclePausedAdapter
    * Provides access to a portal.
    */
   private final SharedKernelServicePortalProvider portalProvider;
+  /**
+   * Maintains replicas of the kernel's objects.
+   */
+  private final KernelObjectsContainer kernelObjects;
+  /**
+   * The paused state last sent to the kernel.
+   */
+  private boolean pausedSent;
+  /**
+   * Indicates whether the replica may not reflect the paused state last sent, yet.
+   */
+  private boolean updatePending;
   /**
    * The vehicle's paused state the last time we checked it.
    */
@@ -44,13 +57,16 @@ public class VehiclePausedAdapter
    * Creates a new instance.
    *
    * @param portalProvider A kernel provider.
+   * @param kernelObjects A container of kernel object replicas.
    * @param model The vehicle model.
    */
   public VehiclePausedAdapter(
       SharedKernelServicePortalProvider portalProvider,
+      KernelObjectsContainer kernelObjects,
       VehicleModel model
   ) {
     this.portalProvider = requireNonNull(portalProvider, "portalProvider");
+    this.kernelObjects = requireNonNull(kernelObjects, "kernelObjects");
     this.model = requireNonNull(model, "model");
     this.pausedPreviously = isVehiclePaused();
   }
@@ -67,6 +83,13 @@ public class VehiclePausedAdapter
     }
     pausedPreviously = paused;
 
+    if (!isUpdatePending() && isUpToDateInKernel(paused)) {
+      // The change was most likely received from the kernel, so there is nothing to update.
+      return;
+    }
+
+    pausedSent = paused;
+    updatePending = true;
     new Thread(() -> updatePausedInKernel(paused)).start();
   }
 
@@ -74,14 +97,35 @@ public class VehiclePausedAdapter
     return Boolean.TRUE.equals(model.getPropertyPaused().getValue());
   }
 
+  /**
+   * Checks whether the replica may not reflect the paused state last sent, yet.
+   * As long as this is the case, the replica cannot tell whether a change was received from the
+   * kernel.
+   */
+  private boolean isUpdatePending() {
+    if (updatePending && isUpToDateInKernel(pausedSent)) {
+      updatePending = false;
+    }
+    return updatePending;
+  }
+
+  private boolean isUpToDateInKernel(boolean paused) {
+    return kernelObjects.getObject(Vehicle.class, model.getName())
+        .map(vehicle -> vehicle.isPaused() == paused)
+        .orElse(false);
+  }
+
   private void updatePausedInKernel(boolean paused) {
     try (SharedKernelServicePortal sharedPortal = portalProvider.register()) {
       KernelServicePortal portal = sharedPortal.getPortal();
 
       // Check if the kernel is in operating mode, too.
       if (portal.getState() == Kernel.State.OPERATING) {
-        Vehicle vehicle = portal.getVehicleService().fetchObject(Vehicle.class, model.getName());
-        if (vehicle != null && vehicle.isPaused() != paused) {
+        Vehicle vehicle = kernelObjects.getObject(Vehicle.class, model.getName())
+            .orElseGet(
+                () -> portal.getVehicleService().fetchObject(Vehicle.class, model.getName())
+            );
+        if (vehicle != null) {
           portal.getVehicleService().updateVehiclePaused(vehicle.getReference(), paused);
         }
       }
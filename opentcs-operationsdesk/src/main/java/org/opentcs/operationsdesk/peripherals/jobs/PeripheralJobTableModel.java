@@ -14,8 +14,10 @@ import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
 import org.opentcs.data.TCSObjectReference;
 import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.operationsdesk.util.FrameUpdateScheduler;
 import org.opentcs.operationsdesk.util.I18nPlantOverviewOperating;
 import org.opentcs.operationsdesk.util.ListSearchUtil;
+import org.opentcs.operationsdesk.util.RowUpdateBatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -93,10 +95,24 @@ class PeripheralJobTableModel
    */
   private final List<PeripheralJob> entries = new ArrayList<>();
 
+  /**
+   * Collects updates of the entries to apply them once per frame.
+   */
+  private final RowUpdateBatcher<PeripheralJob> rowUpdateBatcher;
+
   /**
    * Creates a new instance.
+   *
+   * @param updateScheduler Schedules updates of GUI components.
    */
-  PeripheralJobTableModel() {
+  @SuppressWarnings("this-escape")
+  PeripheralJobTableModel(FrameUpdateScheduler updateScheduler) {
+    this.rowUpdateBatcher = new RowUpdateBatcher<>(
+        this,
+        entries,
+        PeripheralJob::getCreationTime,
+        updateScheduler
+    );
   }
 
   @Override
@@ -157,6 +173,8 @@ class PeripheralJobTableModel
       entries.clear();
       entries.addAll(jobs);
       fireTableDataChanged();
+      // Apply pending updates only now, as they may refer to the new entries.
+      rowUpdateBatcher.applyPendingUpdates();
     });
   }
 
@@ -167,6 +185,8 @@ class PeripheralJobTableModel
     SwingUtilities.invokeLater(() -> {
       entries.add(job);
       fireTableRowsInserted(entries.size() - 1, entries.size() - 1);
+      // Apply pending updates only now, as they may already refer to the added entry.
+      rowUpdateBatcher.applyPendingUpdates();
     });
   }
 
@@ -174,16 +194,7 @@ class PeripheralJobTableModel
   public void peripheralJobUpdated(PeripheralJob job) {
     requireNonNull(job, "job");
 
-    SwingUtilities.invokeLater(() -> {
-      int jobIndex = ListSearchUtil.binarySearch(entries, job, PeripheralJob::getCreationTime);
-      if (jobIndex == -1) {
-        LOG.warn("Unknown job: {}. Ignoring job update.", job.getName());
-        return;
-      }
-
-      entries.set(jobIndex, job);
-      fireTableRowsUpdated(jobIndex, jobIndex);
-    });
+    rowUpdateBatcher.scheduleUpdate(job);
   }
 
   @Override
@@ -191,6 +202,7 @@ class PeripheralJobTableModel
     requireNonNull(job, "job");
 
     SwingUtilities.invokeLater(() -> {
+      rowUpdateBatcher.applyPendingUpdates();
       int jobIndex = ListSearchUtil.binarySearch(entries, job, PeripheralJob::getCreationTime);
       if (jobIndex == -1) {
         LOG.warn("Unknown job: {}. Ignoring job removal.", job.getName());
@@ -34,6 +34,7 @@ import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.guing.common.components.dialogs.DialogContent;
 import org.opentcs.guing.common.components.dialogs.StandardContentDialog;
 import org.opentcs.guing.common.util.IconToolkit;
+import org.opentcs.operationsdesk.util.FrameUpdateScheduler;
 import org.opentcs.operationsdesk.util.I18nPlantOverviewOperating;
 import org.opentcs.thirdparty.guing.common.jhotdraw.util.ResourceBundleUtil;
 import org.opentcs.util.gui.StringTableCellRenderer;
@@ -68,6 +69,10 @@ public class PeripheralJobsContainerPanel
    * Factory for creating peripheral job views.
    */
   private final PeripheralJobViewFactory peripheralJobViewFactory;
+  /**
+   * Schedules updates of GUI components.
+   */
+  private final FrameUpdateScheduler updateScheduler;
   /**
    * The table showing the peripheral jobs.
    */
@@ -84,13 +89,15 @@ public class PeripheralJobsContainerPanel
    * @param peripheralJobsContainer Maintains a set of all peripheral jobs existing on the kernel
    * side.
    * @param peripheralJobViewFactory The factory for creating peripheral job views.
+   * @param updateScheduler Schedules updates of GUI components.
    */
   @Inject
   @SuppressWarnings("this-escape")
   public PeripheralJobsContainerPanel(
       SharedKernelServicePortalProvider portalProvider,
       PeripheralJobsContainer peripheralJobsContainer,
-      PeripheralJobViewFactory peripheralJobViewFactory
+      PeripheralJobViewFactory peripheralJobViewFactory,
+      FrameUpdateScheduler updateScheduler
   ) {
     this.portalProvider = requireNonNull(portalProvider, "portalProvider");
     this.peripheralJobsContainer = requireNonNull(
@@ -101,6 +108,7 @@ public class PeripheralJobsContainerPanel
         peripheralJobViewFactory,
         "peripheralJobViewFactory"
     );
+    this.updateScheduler = requireNonNull(updateScheduler, "updateScheduler");
 
     initComponents();
   }
@@ -121,7 +129,7 @@ public class PeripheralJobsContainerPanel
   }
 
   private void initPeripheralJobTable() {
-    tableModel = new PeripheralJobTableModel();
+    tableModel = new PeripheralJobTableModel(updateScheduler);
     peripheralJobsContainer.addListener(tableModel);
     table = new JTable(tableModel);
 
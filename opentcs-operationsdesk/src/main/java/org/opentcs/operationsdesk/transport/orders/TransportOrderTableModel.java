@@ -14,8 +14,10 @@ import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
 import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.operationsdesk.util.FrameUpdateScheduler;
 import org.opentcs.operationsdesk.util.I18nPlantOverviewOperating;
 import org.opentcs.operationsdesk.util.ListSearchUtil;
+import org.opentcs.operationsdesk.util.RowUpdateBatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -95,10 +97,24 @@ public class TransportOrderTableModel
 
   private final List<TransportOrder> entries = new ArrayList<>();
 
+  /**
+   * Collects updates of the entries to apply them once per frame.
+   */
+  private final RowUpdateBatcher<TransportOrder> rowUpdateBatcher;
+
   /**
    * Creates a new instance.
+   *
+   * @param updateScheduler Schedules updates of GUI components.
    */
-  public TransportOrderTableModel() {
+  @SuppressWarnings("this-escape")
+  public TransportOrderTableModel(FrameUpdateScheduler updateScheduler) {
+    this.rowUpdateBatcher = new RowUpdateBatcher<>(
+        this,
+        entries,
+        TransportOrder::getCreationTime,
+        updateScheduler
+    );
   }
 
   @Override
@@ -184,6 +200,8 @@ public class TransportOrderTableModel
       entries.clear();
       entries.addAll(orders);
       fireTableDataChanged();
+      // Apply pending updates only now, as they may refer to the new entries.
+      rowUpdateBatcher.applyPendingUpdates();
     });
   }
 
@@ -194,6 +212,8 @@ public class TransportOrderTableModel
     SwingUtilities.invokeLater(() -> {
       entries.add(order);
       fireTableRowsInserted(entries.size() - 1, entries.size() - 1);
+      // Apply pending updates only now, as they may already refer to the added entry.
+      rowUpdateBatcher.applyPendingUpdates();
     });
   }
 
@@ -201,15 +221,7 @@ public class TransportOrderTableModel
   public void transportOrderUpdated(TransportOrder order) {
     requireNonNull(order, "order");
 
-    SwingUtilities.invokeLater(() -> {
-      int orderIndex = ListSearchUtil.binarySearch(entries, order, TransportOrder::getCreationTime);
-      if (orderIndex == -1) {
-        LOG.warn("Unknown transport order: {}. Ignoring order update.", order.getName());
-        return;
-      }
-      entries.set(orderIndex, order);
-      fireTableRowsUpdated(orderIndex, orderIndex);
-    });
+    rowUpdateBatcher.scheduleUpdate(order);
   }
 
   @Override
@@ -217,6 +229,7 @@ public class TransportOrderTableModel
     requireNonNull(order, "order");
 
     SwingUtilities.invokeLater(() -> {
+      rowUpdateBatcher.applyPendingUpdates();
       int orderIndex = ListSearchUtil.binarySearch(entries, order, TransportOrder::getCreationTime);
       if (orderIndex == -1) {
         LOG.warn("Unknown transport order: {}. Ignoring order removal.", order.getName());
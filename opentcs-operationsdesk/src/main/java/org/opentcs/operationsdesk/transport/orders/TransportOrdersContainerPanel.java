@@ -50,6 +50,7 @@ import org.opentcs.operationsdesk.transport.FilterButton;
 import org.opentcs.operationsdesk.transport.FilteredRowSorter;
 import org.opentcs.operationsdesk.transport.IntendedVehiclesPanel;
 import org.opentcs.operationsdesk.transport.OrdersTable;
+import org.opentcs.operationsdesk.util.FrameUpdateScheduler;
 import org.opentcs.operationsdesk.util.I18nPlantOverviewOperating;
 import org.opentcs.thirdparty.guing.common.jhotdraw.util.ResourceBundleUtil;
 import org.slf4j.Logger;
@@ -102,6 +103,10 @@ public class TransportOrdersContainerPanel
    * Holds the transport orders.
    */
   private final TransportOrdersContainer transportOrdersContainer;
+  /**
+   * Schedules updates of GUI components.
+   */
+  private final FrameUpdateScheduler updateScheduler;
 
   /**
    * Creates a new instance.
@@ -111,6 +116,7 @@ public class TransportOrdersContainerPanel
    * @param orderPanelProvider Provides panels for entering new transport orders.
    * @param transportViewFactory A factory for creating transport order views.
    * @param transportOrderContainer Maintains a set of transport order on the kernel side.
+   * @param updateScheduler Schedules updates of GUI components.
    */
   @Inject
   @SuppressWarnings("this-escape")
@@ -119,7 +125,8 @@ public class TransportOrdersContainerPanel
       TransportOrderUtil orderUtil,
       Provider<CreateTransportOrderPanel> orderPanelProvider,
       TransportViewFactory transportViewFactory,
-      TransportOrdersContainer transportOrderContainer
+      TransportOrdersContainer transportOrderContainer,
+      FrameUpdateScheduler updateScheduler
   ) {
     this.portalProvider = requireNonNull(portalProvider, "portalProvider");
     this.orderUtil = requireNonNull(orderUtil, "orderUtil");
@@ -129,6 +136,7 @@ public class TransportOrdersContainerPanel
         transportOrderContainer,
         "transportOrderContainer"
     );
+    this.updateScheduler = requireNonNull(updateScheduler, "updateScheduler");
 
     initComponents();
   }
@@ -143,7 +151,7 @@ public class TransportOrdersContainerPanel
   private void initComponents() {
     setLayout(new BorderLayout());
 
-    tableModel = new TransportOrderTableModel();
+    tableModel = new TransportOrderTableModel(updateScheduler);
     transportOrdersContainer.addListener(tableModel);
     fTable = new OrdersTable(tableModel);
     fTable.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
@@ -11,8 +11,10 @@ import java.util.ResourceBundle;
 import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
 import org.opentcs.data.order.OrderSequence;
+import org.opentcs.operationsdesk.util.FrameUpdateScheduler;
 import org.opentcs.operationsdesk.util.I18nPlantOverviewOperating;
 import org.opentcs.operationsdesk.util.ListSearchUtil;
+import org.opentcs.operationsdesk.util.RowUpdateBatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,10 +66,24 @@ public class OrderSequenceTableModel
 
   private final List<OrderSequence> entries = new ArrayList<>();
 
+  /**
+   * Collects updates of the entries to apply them once per frame.
+   */
+  private final RowUpdateBatcher<OrderSequence> rowUpdateBatcher;
+
   /**
    * Creates a new instance.
+   *
+   * @param updateScheduler Schedules updates of GUI components.
    */
-  public OrderSequenceTableModel() {
+  @SuppressWarnings("this-escape")
+  public OrderSequenceTableModel(FrameUpdateScheduler updateScheduler) {
+    this.rowUpdateBatcher = new RowUpdateBatcher<>(
+        this,
+        entries,
+        OrderSequence::getCreationTime,
+        updateScheduler
+    );
   }
 
   @Override
@@ -144,6 +160,8 @@ public class OrderSequenceTableModel
       entries.clear();
       entries.addAll(sequences);
       fireTableDataChanged();
+      // Apply pending updates only now, as they may refer to the new entries.
+      rowUpdateBatcher.applyPendingUpdates();
     });
   }
 
@@ -154,6 +172,8 @@ public class OrderSequenceTableModel
     SwingUtilities.invokeLater(() -> {
       entries.add(sequence);
       fireTableRowsInserted(entries.size() - 1, entries.size() - 1);
+      // Apply pending updates only now, as they may already refer to the added entry.
+      rowUpdateBatcher.applyPendingUpdates();
     });
   }
 
@@ -161,22 +181,14 @@ public class OrderSequenceTableModel
   public void orderSequenceUpdated(OrderSequence sequence) {
     requireNonNull(sequence, "sequence");
 
-    SwingUtilities.invokeLater(() -> {
-      int sequenceIndex
-          = ListSearchUtil.binarySearch(entries, sequence, OrderSequence::getCreationTime);
-      if (sequenceIndex == -1) {
-        LOG.warn("Unknown order sequence: {}. Ignoring order sequence update.", sequence.getName());
-        return;
-      }
-      entries.set(sequenceIndex, sequence);
-      fireTableRowsUpdated(sequenceIndex, sequenceIndex);
-    });
+    rowUpdateBatcher.scheduleUpdate(sequence);
   }
 
   @Override
   public void orderSequenceRemoved(OrderSequence sequence) {
     requireNonNull(sequence, "sequence");
     SwingUtilities.invokeLater(() -> {
+      rowUpdateBatcher.applyPendingUpdates();
       int sequenceIndex
           = ListSearchUtil.binarySearch(entries, sequence, OrderSequence::getCreationTime);
       if (sequenceIndex == -1) {
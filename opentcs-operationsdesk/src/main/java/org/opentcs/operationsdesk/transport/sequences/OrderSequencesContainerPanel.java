@@ -30,6 +30,7 @@ import org.opentcs.operationsdesk.transport.FilterButton;
 import org.opentcs.operationsdesk.transport.FilteredRowSorter;
 import org.opentcs.operationsdesk.transport.OrdersTable;
 import org.opentcs.operationsdesk.transport.orders.TransportViewFactory;
+import org.opentcs.operationsdesk.util.FrameUpdateScheduler;
 import org.opentcs.operationsdesk.util.I18nPlantOverviewOperating;
 import org.opentcs.thirdparty.guing.common.jhotdraw.util.ResourceBundleUtil;
 import org.slf4j.Logger;
@@ -74,6 +75,10 @@ public class OrderSequencesContainerPanel
    * Holds the order sequences.
    */
   private final OrderSequencesContainer orderSequencesContainer;
+  /**
+   * Schedules updates of GUI components.
+   */
+  private final FrameUpdateScheduler updateScheduler;
 
   /**
    * Creates a new instance.
@@ -81,6 +86,7 @@ public class OrderSequencesContainerPanel
    * @param transportViewFactory A factory for order sequence views.
    * @param dialogParent The parent component for dialogs shown by this instance.
    * @param orderSequencesContainer Maintains a set of order sequences on the kernel side.
+   * @param updateScheduler Schedules updates of GUI components.
    */
   @Inject
   @SuppressWarnings("this-escape")
@@ -88,7 +94,8 @@ public class OrderSequencesContainerPanel
       TransportViewFactory transportViewFactory,
       @ApplicationFrame
       Component dialogParent,
-      OrderSequencesContainer orderSequencesContainer
+      OrderSequencesContainer orderSequencesContainer,
+      FrameUpdateScheduler updateScheduler
   ) {
     this.transportViewFactory = requireNonNull(transportViewFactory, "transportViewFactory");
     this.dialogParent = requireNonNull(dialogParent, "dialogParent");
@@ -96,6 +103,7 @@ public class OrderSequencesContainerPanel
         orderSequencesContainer,
         "orderSequencesContainer"
     );
+    this.updateScheduler = requireNonNull(updateScheduler, "updateScheduler");
 
     initComponents();
   }
@@ -110,7 +118,7 @@ public class OrderSequencesContainerPanel
   private void initComponents() {
     setLayout(new BorderLayout());
 
-    tableModel = new OrderSequenceTableModel();
+    tableModel = new OrderSequenceTableModel(updateScheduler);
     orderSequencesContainer.addListener(tableModel);
     fTable = new OrdersTable(tableModel);
 
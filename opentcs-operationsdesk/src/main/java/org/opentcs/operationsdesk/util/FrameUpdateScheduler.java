@@ -0,0 +1,122 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.operationsdesk.util;
+
+import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkInRange;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.swing.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects updates of GUI components and applies them on the event dispatch thread once per
+ * frame, instead of applying each one in a separate task.
+ * <p>
+ * Updates are registered with a key identifying the updated component (e.g. a figure or a table
+ * model). If an update for a key is scheduled while an update for the same key is already pending,
+ * the pending update is replaced, so every component is updated at most once per frame. All
+ * updates of a frame are applied in a single task on the event dispatch thread, allowing Swing to
+ * coalesce the repaint requests they cause into a single repaint of the union of the dirty regions.
+ * </p>
+ */
+public class FrameUpdateScheduler {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(FrameUpdateScheduler.class);
+  /**
+   * The minimum frame rate (in Hz).
+   */
+  private static final int MIN_FRAME_RATE = 10;
+  /**
+   * The maximum frame rate (in Hz).
+   */
+  private static final int MAX_FRAME_RATE = 30;
+  /**
+   * The pending updates, mapped to the keys they were scheduled with.
+   */
+  private final Map<Object, Runnable> pendingUpdates = new LinkedHashMap<>();
+  /**
+   * Triggers applying the pending updates at the end of a frame.
+   */
+  private final Timer frameTimer;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param configuration The application's configuration.
+   */
+  @Inject
+  public FrameUpdateScheduler(OperationsDeskConfiguration configuration) {
+    this(configuration.updateFrameRate());
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param frameRate The number of frames per second (in Hz). Must be in [10..30].
+   */
+  public FrameUpdateScheduler(int frameRate) {
+    checkInRange(frameRate, MIN_FRAME_RATE, MAX_FRAME_RATE, "frameRate");
+
+    frameTimer = new Timer(1000 / frameRate, event -> applyPendingUpdates());
+    frameTimer.setRepeats(false);
+  }
+
+  /**
+   * Schedules the given update to be applied on the event dispatch thread with the next frame.
+   * An update that has already been scheduled with the same key but not applied, yet, is replaced
+   * by the given one.
+   *
+   * @param key Identifies the updated component.
+   * @param update The update.
+   */
+  public void scheduleUpdate(
+      @Nonnull
+      Object key,
+      @Nonnull
+      Runnable update
+  ) {
+    requireNonNull(key, "key");
+    requireNonNull(update, "update");
+
+    boolean frameStarted;
+    synchronized (pendingUpdates) {
+      frameStarted = pendingUpdates.isEmpty();
+      pendingUpdates.put(key, update);
+    }
+
+    if (frameStarted) {
+      frameTimer.restart();
+    }
+  }
+
+  /**
+   * Applies all pending updates immediately.
+   * Must be called on the event dispatch thread.
+   */
+  public void applyPendingUpdates() {
+    List<Runnable> updates;
+    synchronized (pendingUpdates) {
+      updates = new ArrayList<>(pendingUpdates.values());
+      pendingUpdates.clear();
+    }
+
+    for (Runnable update : updates) {
+      try {
+        update.run();
+      }
+      catch (RuntimeException exc) {
+        LOG.warn("Exception applying GUI update", exc);
+      }
+    }
+  }
+}
@@ -106,6 +106,19 @@ public interface OperationsDeskConfiguration
   )
   boolean ignoreVehicleOrientationAngle();
 
+  @ConfigurationEntry(
+      type = "Integer",
+      description = {
+          "The number of frames per second at which changes of vehicle figures and of the entries "
+              + "in the transport order, order sequence and peripheral job tables are displayed.",
+          "Changes happening within the same frame are displayed together.",
+          "Must be in [10..30]."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "4_behaviour_2"
+  )
+  int updateFrameRate();
+
   @ConfigurationEntry(
       type = "Integer",
       description = "The maximum number of most recent user notifications to be displayed.",
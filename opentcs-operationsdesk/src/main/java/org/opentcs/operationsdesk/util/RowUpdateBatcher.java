@@ -0,0 +1,160 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.operationsdesk.util;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import javax.swing.table.AbstractTableModel;
+import org.opentcs.data.TCSObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects updates of the objects shown in a table model and applies them once per frame.
+ * <p>
+ * Only the most recent update of an object is applied, and the table model's listeners are
+ * notified with one event per range of consecutive updated rows.
+ * The entries of the table model are expected to be sorted by their creation time.
+ * An update of an object that is not (yet) an entry of the table model is deferred to the next
+ * frame once, as the object may have been added to the table model only after the update was
+ * received.
+ * </p>
+ *
+ * @param <T> The type of the objects shown in the table model.
+ */
+public class RowUpdateBatcher<T extends TCSObject<T>> {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(RowUpdateBatcher.class);
+  /**
+   * The table model.
+   */
+  private final AbstractTableModel tableModel;
+  /**
+   * The table model's entries.
+   */
+  private final List<T> entries;
+  /**
+   * Provides the objects' creation times.
+   */
+  private final Function<T, Instant> creationTimeFunction;
+  /**
+   * Schedules applying the pending updates.
+   */
+  private final FrameUpdateScheduler updateScheduler;
+  /**
+   * The pending updates, mapped to the names of the updated objects.
+   */
+  private final Map<String, T> pendingUpdates = new LinkedHashMap<>();
+  /**
+   * The names of the objects whose updates have already been deferred.
+   */
+  private Set<String> deferredUpdates = new HashSet<>();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param tableModel The table model.
+   * @param entries The table model's entries, sorted by their creation time.
+   * @param creationTimeFunction Provides the objects' creation times.
+   * @param updateScheduler Schedules applying the pending updates.
+   */
+  public RowUpdateBatcher(
+      @Nonnull
+      AbstractTableModel tableModel,
+      @Nonnull
+      List<T> entries,
+      @Nonnull
+      Function<T, Instant> creationTimeFunction,
+      @Nonnull
+      FrameUpdateScheduler updateScheduler
+  ) {
+    this.tableModel = requireNonNull(tableModel, "tableModel");
+    this.entries = requireNonNull(entries, "entries");
+    this.creationTimeFunction = requireNonNull(creationTimeFunction, "creationTimeFunction");
+    this.updateScheduler = requireNonNull(updateScheduler, "updateScheduler");
+  }
+
+  /**
+   * Schedules the given updated object to replace the corresponding entry with the next frame.
+   *
+   * @param object The updated object.
+   */
+  public void scheduleUpdate(
+      @Nonnull
+      T object
+  ) {
+    requireNonNull(object, "object");
+
+    synchronized (pendingUpdates) {
+      pendingUpdates.put(object.getName(), object);
+    }
+    updateScheduler.scheduleUpdate(this, this::applyPendingUpdates);
+  }
+
+  /**
+   * Applies all pending updates immediately.
+   * Must be called on the event dispatch thread, and before any other modification of the table
+   * model's entries, to preserve the order of the modifications.
+   */
+  public void applyPendingUpdates() {
+    List<T> updates;
+    Set<String> previouslyDeferredUpdates;
+    synchronized (pendingUpdates) {
+      if (pendingUpdates.isEmpty()) {
+        return;
+      }
+      updates = new ArrayList<>(pendingUpdates.values());
+      pendingUpdates.clear();
+      previouslyDeferredUpdates = deferredUpdates;
+      deferredUpdates = new HashSet<>();
+    }
+
+    BitSet updatedRows = new BitSet();
+    for (T object : updates) {
+      int index = ListSearchUtil.binarySearch(entries, object, creationTimeFunction);
+      if (index == -1) {
+        deferOrDiscard(object, previouslyDeferredUpdates);
+        continue;
+      }
+      entries.set(index, object);
+      updatedRows.set(index);
+    }
+
+    fireRowRangesUpdated(updatedRows);
+  }
+
+  private void deferOrDiscard(T object, Set<String> previouslyDeferredUpdates) {
+    if (previouslyDeferredUpdates.contains(object.getName())) {
+      LOG.warn("Unknown object: {}. Ignoring update.", object.getName());
+      return;
+    }
+
+    synchronized (pendingUpdates) {
+      pendingUpdates.putIfAbsent(object.getName(), object);
+      deferredUpdates.add(object.getName());
+    }
+    updateScheduler.scheduleUpdate(this, this::applyPendingUpdates);
+  }
+
+  private void fireRowRangesUpdated(BitSet updatedRows) {
+    int rangeStart = updatedRows.nextSetBit(0);
+    while (rangeStart != -1) {
+      int rangeEnd = updatedRows.nextClearBit(rangeStart) - 1;
+      tableModel.fireTableRowsUpdated(rangeStart, rangeEnd);
+      rangeStart = updatedRows.nextSetBit(rangeEnd + 1);
+    }
+  }
+}
@@ -160,6 +160,18 @@ public class OpenTCSDrawingViewOperating
     }
   }
 
+  @Override
+  protected boolean isStaticLayerCached() {
+    // In operating mode, only vehicles move around, while the rest of the plant model rarely
+    // changes its appearance.
+    return true;
+  }
+
+  @Override
+  protected boolean isDynamicFigure(Figure figure) {
+    return figure instanceof VehicleFigure;
+  }
+
   @Override
   protected DefaultDrawingView.EventHandler createEventHandler() {
     return new ExtendedEventHandler();
@@ -0,0 +1,138 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.operationsdesk.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.theInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.AbstractTableModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.data.order.TransportOrder;
+
+/**
+ * Unit tests for {@link RowUpdateBatcher}.
+ */
+class RowUpdateBatcherTest {
+
+  private List<TransportOrder> entries;
+  private List<String> firedRanges;
+  private FrameUpdateScheduler updateScheduler;
+  private RowUpdateBatcher<TransportOrder> batcher;
+
+  @BeforeEach
+  void setUp() {
+    entries = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      entries.add(createOrder("order-" + i, i));
+    }
+
+    AbstractTableModel tableModel = new AbstractTableModel() {
+      @Override
+      public int getRowCount() {
+        return entries.size();
+      }
+
+      @Override
+      public int getColumnCount() {
+        return 1;
+      }
+
+      @Override
+      public Object getValueAt(int rowIndex, int columnIndex) {
+        return entries.get(rowIndex);
+      }
+    };
+    firedRanges = new ArrayList<>();
+    tableModel.addTableModelListener(
+        event -> firedRanges.add(describeRange(event))
+    );
+
+    updateScheduler = mock();
+    batcher = new RowUpdateBatcher<>(
+        tableModel,
+        entries,
+        TransportOrder::getCreationTime,
+        updateScheduler
+    );
+  }
+
+  @Test
+  void applyUpdatesOnlyWhenRequested() {
+    TransportOrder updatedOrder = entries.get(1).withState(TransportOrder.State.ACTIVE);
+
+    batcher.scheduleUpdate(updatedOrder);
+
+    verify(updateScheduler).scheduleUpdate(same(batcher), any());
+    assertThat(entries.get(1).getState(), is(TransportOrder.State.RAW));
+    assertThat(firedRanges.isEmpty(), is(true));
+
+    batcher.applyPendingUpdates();
+
+    assertThat(entries.get(1), is(theInstance(updatedOrder)));
+    assertThat(firedRanges, contains("1-1"));
+  }
+
+  @Test
+  void applyOnlyMostRecentUpdateOfAnEntry() {
+    batcher.scheduleUpdate(entries.get(2).withState(TransportOrder.State.ACTIVE));
+    TransportOrder finalOrder = entries.get(2).withState(TransportOrder.State.DISPATCHABLE);
+    batcher.scheduleUpdate(finalOrder);
+
+    batcher.applyPendingUpdates();
+
+    verify(updateScheduler, times(2)).scheduleUpdate(same(batcher), any());
+    assertThat(entries.get(2), is(theInstance(finalOrder)));
+    assertThat(firedRanges, contains("2-2"));
+  }
+
+  @Test
+  void fireOneEventPerRangeOfUpdatedRows() {
+    batcher.scheduleUpdate(entries.get(4).withState(TransportOrder.State.ACTIVE));
+    batcher.scheduleUpdate(entries.get(0).withState(TransportOrder.State.ACTIVE));
+    batcher.scheduleUpdate(entries.get(1).withState(TransportOrder.State.ACTIVE));
+    batcher.scheduleUpdate(entries.get(3).withState(TransportOrder.State.ACTIVE));
+
+    batcher.applyPendingUpdates();
+
+    assertThat(firedRanges, contains("0-1", "3-4"));
+  }
+
+  @Test
+  void deferUpdatesOfUnknownEntriesOnce() {
+    TransportOrder newOrder = createOrder("new-order", 10);
+    batcher.scheduleUpdate(newOrder.withState(TransportOrder.State.ACTIVE));
+    batcher.scheduleUpdate(createOrder("unknown-order", 11));
+
+    batcher.applyPendingUpdates();
+    entries.add(newOrder);
+    batcher.applyPendingUpdates();
+
+    assertThat(entries.get(5).getState(), is(TransportOrder.State.ACTIVE));
+    assertThat(firedRanges, contains("5-5"));
+
+    batcher.applyPendingUpdates();
+
+    assertThat(firedRanges, contains("5-5"));
+  }
+
+  private TransportOrder createOrder(String name, long creationTime) {
+    return new TransportOrder(name, List.of())
+        .withCreationTime(Instant.ofEpochMilli(creationTime));
+  }
+
+  private String describeRange(TableModelEvent event) {
+    return event.getFirstRow() + "-" + event.getLastRow();
+  }
+}
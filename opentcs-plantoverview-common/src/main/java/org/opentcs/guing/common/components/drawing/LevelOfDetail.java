@@ -0,0 +1,61 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.guing.common.components.drawing;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.Graphics2D;
+
+/**
+ * Decides which details of figures are drawn, depending on the scale they are drawn at.
+ * <p>
+ * Details like labels and arrowheads are illegible when drawn at a low zoom level, but drawing
+ * them for thousands of figures still takes a considerable amount of time. They are therefore
+ * omitted when the scale of the graphics context they are drawn with falls below a threshold.
+ * </p>
+ */
+public final class LevelOfDetail {
+
+  /**
+   * The scale below which labels are not drawn.
+   */
+  public static final double MIN_SCALE_FOR_LABELS = 0.3;
+  /**
+   * The scale below which arrowheads are not drawn.
+   */
+  public static final double MIN_SCALE_FOR_ARROWHEADS = 0.2;
+
+  /**
+   * Prevents instantiation.
+   */
+  private LevelOfDetail() {
+  }
+
+  /**
+   * Checks whether labels should be drawn with the given graphics context.
+   *
+   * @param g The graphics context.
+   * @return {@code true} if, and only if, labels should be drawn.
+   */
+  public static boolean isLabelsDrawn(Graphics2D g) {
+    return scaleOf(g) >= MIN_SCALE_FOR_LABELS;
+  }
+
+  /**
+   * Checks whether arrowheads should be drawn with the given graphics context.
+   *
+   * @param g The graphics context.
+   * @return {@code true} if, and only if, arrowheads should be drawn.
+   */
+  public static boolean isArrowheadsDrawn(Graphics2D g) {
+    return scaleOf(g) >= MIN_SCALE_FOR_ARROWHEADS;
+  }
+
+  private static double scaleOf(Graphics2D g) {
+    requireNonNull(g, "g");
+
+    // The transformation includes the drawing view's scale factor as well as the device's scale,
+    // so this is the scale of figures in actual device pixels.
+    return Math.sqrt(Math.abs(g.getTransform().getDeterminant()));
+  }
+}
@@ -0,0 +1,47 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.guing.common.components.drawing.figures;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+import org.jhotdraw.draw.Figure;
+import org.jhotdraw.draw.decoration.ArrowTip;
+import org.opentcs.guing.common.components.drawing.LevelOfDetail;
+
+/**
+ * An arrow tip that is not drawn at low zoom levels.
+ *
+ * @see LevelOfDetail
+ */
+class LevelOfDetailArrowTip
+    extends
+      ArrowTip {
+
+  /**
+   * Creates a new instance.
+   *
+   * @param angle The angle of the arrow tip.
+   * @param outerRadius The outer radius of the arrow tip.
+   * @param innerRadius The inner radius of the arrow tip.
+   * @param isFilled Whether the arrow tip is filled.
+   * @param isStroked Whether the arrow tip is stroked.
+   * @param isSolid Whether the arrow tip is solid.
+   */
+  LevelOfDetailArrowTip(
+      double angle,
+      double outerRadius,
+      double innerRadius,
+      boolean isFilled,
+      boolean isStroked,
+      boolean isSolid
+  ) {
+    super(angle, outerRadius, innerRadius, isFilled, isStroked, isSolid);
+  }
+
+  @Override
+  public void draw(Graphics2D g, Figure f, Point2D.Double p1, Point2D.Double p2) {
+    if (LevelOfDetail.isArrowheadsDrawn(g)) {
+      super.draw(g, f, p1, p2);
+    }
+  }
+}
@@ -36,9 +36,9 @@ public abstract class SimpleLineConnection
   protected static final AttributeKey<Color> STROKE_COLOR
       = new AttributeKey<>("StrokeColor", Color.class);
   protected static final ArrowTip ARROW_FORWARD
-      = new ArrowTip(0.35, 12.0, 11.3, true, true, true);
+      = new LevelOfDetailArrowTip(0.35, 12.0, 11.3, true, true, true);
   protected static final ArrowTip ARROW_BACKWARD
-      = new ArrowTip(0.35, 12.0, 11.3, true, true, false);
+      = new LevelOfDetailArrowTip(0.35, 12.0, 11.3, true, true, false);
   private static final Logger LOG = LoggerFactory.getLogger(SimpleLineConnection.class);
 
   /**
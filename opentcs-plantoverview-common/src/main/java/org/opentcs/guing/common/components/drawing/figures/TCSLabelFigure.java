@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.guing.common.components.drawing.figures;
 
+import java.awt.Graphics2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Point2D.Double;
 import org.jhotdraw.draw.LabelFigure;
@@ -9,6 +10,7 @@ import org.jhotdraw.draw.event.FigureEvent;
 import org.opentcs.data.model.visualization.ElementPropKeys;
 import org.opentcs.guing.base.components.properties.type.StringProperty;
 import org.opentcs.guing.base.model.ModelComponent;
+import org.opentcs.guing.common.components.drawing.LevelOfDetail;
 
 /**
  * A label belonging to another {@code Figure} that shows the name of the affiliated object in the
@@ -121,6 +123,13 @@ public class TCSLabelFigure
     }
   }
 
+  @Override // AbstractAttributedFigure
+  public void draw(Graphics2D g) {
+    if (LevelOfDetail.isLabelsDrawn(g)) {
+      super.draw(g);
+    }
+  }
+
   @Override // AbstractFigure
   public int getLayer() {
     return 1; // stay above other figures ?
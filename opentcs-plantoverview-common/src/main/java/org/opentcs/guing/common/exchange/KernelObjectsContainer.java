@@ -0,0 +1,350 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.guing.common.exchange;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import javax.swing.SwingUtilities;
+import org.opentcs.access.Kernel;
+import org.opentcs.access.KernelRuntimeException;
+import org.opentcs.access.KernelServicePortal;
+import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.access.SharedKernelServicePortal;
+import org.opentcs.access.SharedKernelServicePortalProvider;
+import org.opentcs.access.rmi.services.MissedEventsEvent;
+import org.opentcs.common.ClientConnectionMode;
+import org.opentcs.common.KernelClientApplication;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObject;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maintains local replicas of the points, paths, locations and vehicles existing on the kernel
+ * side.
+ * <p>
+ * The replicas are fetched from the kernel once when connecting to it or when the kernel has
+ * switched to operating mode (possibly with a different plant model), and are kept up to date with
+ * the object events received from the kernel afterwards. If events from the kernel were missed, the
+ * replicas are fetched again. This allows the current state of these objects to be looked up
+ * without a round-trip to the kernel.
+ * </p>
+ * <p>
+ * Fetching happens on a separate thread, so it does not block the event dispatch thread. The
+ * fetched objects are published on the event dispatch thread, where object events received in the
+ * meantime are applied to them afterwards.
+ * </p>
+ * <p>
+ * Note that this container needs to subscribe to the event source before any component that
+ * updates model components with object events, so that the replicas are already up to date when
+ * these components (and attribute change listeners triggered by them) access them.
+ * </p>
+ */
+public class KernelObjectsContainer
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(KernelObjectsContainer.class);
+  /**
+   * The classes of objects that are replicated.
+   */
+  private static final Set<Class<?>> REPLICATED_CLASSES
+      = Set.of(Point.class, Path.class, Location.class, Vehicle.class);
+  /**
+   * Where we get events from.
+   */
+  private final EventSource eventSource;
+  /**
+   * Provides access to a portal.
+   */
+  private final SharedKernelServicePortalProvider portalProvider;
+  /**
+   * The kernel client application.
+   */
+  private final KernelClientApplication kernelClientApplication;
+  /**
+   * Executes the fetching of objects from the kernel.
+   */
+  private final Executor fetchExecutor;
+  /**
+   * Executes the publishing of fetched objects.
+   */
+  private final Executor publishExecutor;
+  /**
+   * The replicated objects, mapped to their classes and names.
+   */
+  private final Map<Class<?>, Map<String, TCSObject<?>>> objects = new ConcurrentHashMap<>();
+  /**
+   * Whether the replicas have been fetched from the kernel.
+   */
+  private volatile boolean available;
+  /**
+   * Identifies the most recent fetch. Results of any previous fetches are discarded.
+   */
+  private long fetchId;
+  /**
+   * The object events received while the most recent fetch is in progress, or {@code null}, if
+   * there is no fetch in progress.
+   */
+  private List<TCSObjectEvent> eventsDuringFetch;
+  /**
+   * Whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where this instance subscribes for events.
+   * @param portalProvider Provides access to a portal.
+   * @param kernelClientApplication The kernel client application.
+   */
+  @Inject
+  public KernelObjectsContainer(
+      @ApplicationEventBus
+      EventSource eventSource,
+      SharedKernelServicePortalProvider portalProvider,
+      KernelClientApplication kernelClientApplication
+  ) {
+    this(
+        eventSource,
+        portalProvider,
+        kernelClientApplication,
+        Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("kernelObjectsFetcher").daemon().factory()
+        ),
+        SwingUtilities::invokeLater
+    );
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param eventSource Where this instance subscribes for events.
+   * @param portalProvider Provides access to a portal.
+   * @param kernelClientApplication The kernel client application.
+   * @param fetchExecutor Executes the fetching of objects from the kernel.
+   * @param publishExecutor Executes the publishing of fetched objects.
+   */
+  KernelObjectsContainer(
+      EventSource eventSource,
+      SharedKernelServicePortalProvider portalProvider,
+      KernelClientApplication kernelClientApplication,
+      Executor fetchExecutor,
+      Executor publishExecutor
+  ) {
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+    this.portalProvider = requireNonNull(portalProvider, "portalProvider");
+    this.kernelClientApplication
+        = requireNonNull(kernelClientApplication, "kernelClientApplication");
+    this.fetchExecutor = requireNonNull(fetchExecutor, "fetchExecutor");
+    this.publishExecutor = requireNonNull(publishExecutor, "publishExecutor");
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    eventSource.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+    clear();
+
+    initialized = false;
+  }
+
+  @Override
+  public synchronized void onEvent(Object event) {
+    if (event instanceof TCSObjectEvent objectEvent) {
+      handleObjectEvent(objectEvent);
+    }
+    else if (event instanceof ClientConnectionMode connectionMode) {
+      if (connectionMode == ClientConnectionMode.ONLINE) {
+        fetchObjects();
+      }
+      else {
+        clear();
+      }
+    }
+    else if (event instanceof KernelStateTransitionEvent stateEvent) {
+      handleKernelStateTransition(stateEvent);
+    }
+    else if (event instanceof MissedEventsEvent && (available || eventsDuringFetch != null)) {
+      LOG.info("Missed events from the kernel, fetching objects to replicate again.");
+      fetchObjects();
+    }
+  }
+
+  /**
+   * Indicates whether the replicas have been fetched from the kernel and are being kept up to date.
+   *
+   * @return {@code true} if, and only if, the replicas are available.
+   */
+  public boolean isAvailable() {
+    return available;
+  }
+
+  /**
+   * Returns the replica of the object with the given class and name.
+   *
+   * @param <T> The object's type.
+   * @param clazz The object's class.
+   * @param name The object's name.
+   * @return The replica of the object, or an empty optional, if the replicas are not available or
+   * there is no such object.
+   */
+  @Nonnull
+  public <T extends TCSObject<T>> Optional<T> getObject(
+      @Nonnull
+      Class<T> clazz,
+      @Nonnull
+      String name
+  ) {
+    requireNonNull(clazz, "clazz");
+    requireNonNull(name, "name");
+
+    Map<String, TCSObject<?>> objectsByName = objects.get(clazz);
+    if (objectsByName == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(objectsByName.get(name)).map(clazz::cast);
+  }
+
+  private void handleObjectEvent(TCSObjectEvent event) {
+    TCSObject<?> object = event.getCurrentOrPreviousObjectState();
+    if (!REPLICATED_CLASSES.contains(object.getClass())) {
+      return;
+    }
+
+    if (eventsDuringFetch != null) {
+      eventsDuringFetch.add(event);
+    }
+    if (available) {
+      applyObjectEvent(event);
+    }
+  }
+
+  private void applyObjectEvent(TCSObjectEvent event) {
+    TCSObject<?> object = event.getCurrentOrPreviousObjectState();
+    if (event.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      Map<String, TCSObject<?>> objectsByName = objects.get(object.getClass());
+      if (objectsByName != null) {
+        objectsByName.remove(object.getName());
+      }
+    }
+    else {
+      objects.computeIfAbsent(object.getClass(), clazz -> new ConcurrentHashMap<>())
+          .put(object.getName(), object);
+    }
+  }
+
+  private void handleKernelStateTransition(KernelStateTransitionEvent event) {
+    if (event.getLeftState() == Kernel.State.OPERATING) {
+      // The kernel's objects may be replaced with those of a different plant model.
+      clear();
+    }
+    else if (event.getEnteredState() == Kernel.State.OPERATING && event.isTransitionFinished()) {
+      fetchObjects();
+    }
+  }
+
+  private void fetchObjects() {
+    if (!kernelClientApplication.isOnline()) {
+      return;
+    }
+
+    long id = ++fetchId;
+    eventsDuringFetch = new ArrayList<>();
+    fetchExecutor.execute(() -> {
+      try (SharedKernelServicePortal sharedPortal = portalProvider.register()) {
+        KernelServicePortal portal = sharedPortal.getPortal();
+        List<Set<? extends TCSObject<?>>> fetchedObjects = List.of(
+            portal.getPlantModelService().fetchObjects(Point.class),
+            portal.getPlantModelService().fetchObjects(Path.class),
+            portal.getPlantModelService().fetchObjects(Location.class),
+            portal.getVehicleService().fetchObjects(Vehicle.class)
+        );
+        publishExecutor.execute(() -> publish(id, fetchedObjects));
+      }
+      catch (KernelRuntimeException exc) {
+        LOG.warn("Exception fetching objects to replicate", exc);
+        publishExecutor.execute(() -> discard(id));
+      }
+    });
+  }
+
+  private synchronized void publish(long id, List<Set<? extends TCSObject<?>>> fetchedObjects) {
+    if (id != fetchId) {
+      LOG.debug("Discarding objects of outdated fetch.");
+      return;
+    }
+
+    objects.clear();
+    fetchedObjects.forEach(this::replicate);
+    // Events received while fetching may or may not be reflected by the fetched objects already.
+    // Applying them in the order they were received leaves every replica in its latest state.
+    eventsDuringFetch.forEach(this::applyObjectEvent);
+    eventsDuringFetch = null;
+    available = true;
+    LOG.debug("Replicated {} object classes from the kernel.", objects.size());
+  }
+
+  private synchronized void discard(long id) {
+    if (id == fetchId) {
+      clear();
+    }
+  }
+
+  private void replicate(Set<? extends TCSObject<?>> newObjects) {
+    for (TCSObject<?> object : newObjects) {
+      objects.computeIfAbsent(object.getClass(), clazz -> new ConcurrentHashMap<>())
+          .put(object.getName(), object);
+    }
+  }
+
+  private synchronized void clear() {
+    // Results of any fetch in progress are outdated now.
+    fetchId++;
+    eventsDuringFetch = null;
+    available = false;
+    objects.clear();
+  }
+}
@@ -0,0 +1,123 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.guing.common.model;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.opentcs.guing.base.components.properties.event.AttributesChangeEvent;
+import org.opentcs.guing.base.components.properties.event.AttributesChangeListener;
+import org.opentcs.guing.base.model.ModelComponent;
+import org.opentcs.guing.base.model.SimpleFolder;
+
+/**
+ * A folder that maintains an index of its child components by their names.
+ * <p>
+ * The index is updated when components are added to or removed from the folder. Renaming a child
+ * component is detected via the component's attribute change notifications. Should a component
+ * be renamed without a notification, the index is rebuilt as soon as a lookup returns a component
+ * whose name does not match.
+ * </p>
+ */
+class NameIndexedFolder
+    extends
+      SimpleFolder {
+
+  /**
+   * The child components, mapped to their names.
+   */
+  private final Map<String, ModelComponent> componentsByName = new HashMap<>();
+  /**
+   * The names under which the child components are currently indexed.
+   */
+  private final Map<ModelComponent, String> indexedNames = new IdentityHashMap<>();
+  /**
+   * Updates the index when a child component has been renamed.
+   */
+  private final AttributesChangeListener renameListener = new RenameListener();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param name The name of the folder.
+   */
+  NameIndexedFolder(String name) {
+    super(name);
+  }
+
+  @Override
+  public void add(ModelComponent component) {
+    super.add(component);
+    index(component);
+    component.addAttributesChangeListener(renameListener);
+  }
+
+  @Override
+  public void remove(ModelComponent component) {
+    super.remove(component);
+    component.removeAttributesChangeListener(renameListener);
+    unindex(component);
+  }
+
+  /**
+   * Returns the child component with the given name.
+   *
+   * @param name The name of the component.
+   * @return The child component with the given name, or {@code null}, if there is no such
+   * component.
+   */
+  public ModelComponent getChildComponent(String name) {
+    ModelComponent component = componentsByName.get(name);
+    if (component == null || Objects.equals(name, component.getName())) {
+      return component;
+    }
+
+    // The component was renamed without us noticing, so the index cannot be trusted any more.
+    rebuildIndex();
+    return componentsByName.get(name);
+  }
+
+  private void index(ModelComponent component) {
+    String previousName = indexedNames.put(component, component.getName());
+    if (previousName != null) {
+      componentsByName.remove(previousName, component);
+    }
+    componentsByName.put(component.getName(), component);
+  }
+
+  private void unindex(ModelComponent component) {
+    String indexedName = indexedNames.remove(component);
+    if (indexedName != null) {
+      componentsByName.remove(indexedName, component);
+    }
+  }
+
+  private void rebuildIndex() {
+    componentsByName.clear();
+    indexedNames.clear();
+    for (ModelComponent component : getChildComponents()) {
+      index(component);
+    }
+  }
+
+  /**
+   * Re-indexes child components when their names change.
+   */
+  private class RenameListener
+      implements
+        AttributesChangeListener {
+
+    RenameListener() {
+    }
+
+    @Override
+    public void propertiesChanged(AttributesChangeEvent e) {
+      ModelComponent component = e.getModel();
+      String indexedName = indexedNames.get(component);
+      if (indexedName != null && !indexedName.equals(component.getName())) {
+        index(component);
+      }
+    }
+  }
+}
@@ -12,9 +12,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import org.jhotdraw.draw.DefaultDrawing;
 import org.jhotdraw.draw.Drawing;
 import org.jhotdraw.draw.Figure;
+import org.jhotdraw.draw.QuadTreeDrawing;
 import org.opentcs.data.model.ModelConstants;
 import org.opentcs.data.model.visualization.Layer;
 import org.opentcs.data.model.visualization.LayerGroup;
@@ -23,7 +23,6 @@ import org.opentcs.guing.base.components.properties.type.KeyValueSetProperty;
 import org.opentcs.guing.base.components.properties.type.StringProperty;
 import org.opentcs.guing.base.model.CompositeModelComponent;
 import org.opentcs.guing.base.model.ModelComponent;
-import org.opentcs.guing.base.model.SimpleFolder;
 import org.opentcs.guing.base.model.elements.BlockModel;
 import org.opentcs.guing.base.model.elements.LayoutModel;
 import org.opentcs.guing.base.model.elements.LinkModel;
@@ -43,6 +42,10 @@ import org.opentcs.thirdparty.guing.common.jhotdraw.util.ResourceBundleUtil;
  * Base implementation for a SystemModel.
  * Holds the vehicles and the layout of the model. The SystemModel has a map of base components
  * for each component type (e.g. points, locations, vehicles, ...).
+ * <p>
+ * The main folders keep their components indexed by name, so looking up a component by its name
+ * does not require scanning the folders' contents.
+ * </p>
  */
 public class StandardSystemModel
     extends
@@ -66,8 +69,10 @@ public class StandardSystemModel
   private final Map<ModelComponent, Figure> figuresMap = new HashMap<>();
   /**
    * The drawing.
+   * Its figures are kept in a quadtree, so that drawing only the visible figures and hit tests
+   * do not need to iterate over all figures.
    */
-  private final Drawing fDrawing = new DefaultDrawing();
+  private final Drawing fDrawing = new QuadTreeDrawing();
   /**
    * The used drawing method.
    */
@@ -172,7 +177,19 @@ public class StandardSystemModel
   @Override
   public ModelComponent getModelComponent(String name) {
     for (ModelComponent folder : fMainFolders.values()) {
-      ModelComponent component = getModelComponent(name, folder);
+      ModelComponent component;
+      if (folder instanceof NameIndexedFolder indexedFolder) {
+        // Composite children (i.e. blocks) are not returned, and their members are found via the
+        // folders they are contained in, anyway.
+        component = indexedFolder.getChildComponent(name);
+        if (component instanceof CompositeModelComponent) {
+          component = null;
+        }
+      }
+      else {
+        component = getModelComponent(name, folder);
+      }
+
       if (component != null) {
         return component;
       }
@@ -188,13 +205,7 @@ public class StandardSystemModel
 
   @Override // SystemModel
   public VehicleModel getVehicleModel(String name) {
-    for (VehicleModel vehicle : getVehicleModels()) {
-      if (vehicle.getName().equals(name)) {
-        return vehicle;
-      }
-    }
-
-    return null;
+    return getModelComponent(FolderKey.VEHICLES, VehicleModel.class, name);
   }
 
   @Override // SystemModel
@@ -209,13 +220,7 @@ public class StandardSystemModel
 
   @Override // SystemModel
   public PointModel getPointModel(String name) {
-    for (PointModel point : getPointModels()) {
-      if (point.getName().equals(name)) {
-        return point;
-      }
-    }
-
-    return null;
+    return getModelComponent(FolderKey.POINTS, PointModel.class, name);
   }
 
   @Override // SystemModel
@@ -237,13 +242,7 @@ public class StandardSystemModel
 
   @Override // SystemModel
   public LocationModel getLocationModel(String name) {
-    for (LocationModel location : getLocationModels()) {
-      if (location.getName().equals(name)) {
-        return location;
-      }
-    }
-
-    return null;
+    return getModelComponent(FolderKey.LOCATIONS, LocationModel.class, name);
   }
 
   @Override // SystemModel
@@ -253,13 +252,7 @@ public class StandardSystemModel
 
   @Override
   public PathModel getPathModel(String name) {
-    for (PathModel path : getPathModels()) {
-      if (path.getName().equals(name)) {
-        return path;
-      }
-    }
-
-    return null;
+    return getModelComponent(FolderKey.PATHS, PathModel.class, name);
   }
 
   @Override // SystemModel
@@ -286,24 +279,12 @@ public class StandardSystemModel
 
   @Override // SystemModel
   public LocationTypeModel getLocationTypeModel(String name) {
-    for (LocationTypeModel t : getLocationTypeModels()) {
-      if (t.getName().equals(name)) {
-        return t;
-      }
-    }
-
-    return null;
+    return getModelComponent(FolderKey.LOCATION_TYPES, LocationTypeModel.class, name);
   }
 
   @Override
   public BlockModel getBlockModel(String name) {
-    for (BlockModel block : getBlockModels()) {
-      if (block.getName().equals(name)) {
-        return block;
-      }
-    }
-
-    return null;
+    return getModelComponent(FolderKey.BLOCKS, BlockModel.class, name);
   }
 
   @Override // SystemModel
@@ -335,9 +316,41 @@ public class StandardSystemModel
     return result;
   }
 
+  /**
+   * Returns the component with the given name and type from the given main folder.
+   *
+   * @param folderKey The key of the main folder.
+   * @param classType The component's type.
+   * @param name The component's name.
+   * @return The component, or {@code null}, if there is no such component.
+   */
+  private <T extends ModelComponent> T getModelComponent(
+      FolderKey folderKey,
+      Class<T> classType,
+      String name
+  ) {
+    ModelComponent folder = getMainFolder(folderKey);
+    if (folder instanceof NameIndexedFolder indexedFolder) {
+      ModelComponent component = indexedFolder.getChildComponent(name);
+      return classType.isInstance(component) ? classType.cast(component) : null;
+    }
+
+    for (T component : getAll(folderKey, classType)) {
+      if (Objects.equals(component.getName(), name)) {
+        return component;
+      }
+    }
+
+    return null;
+  }
+
   private ModelComponent getModelComponent(String name, ModelComponent root) {
     if (root instanceof CompositeModelComponent) {
       for (ModelComponent subComponent : root.getChildComponents()) {
+        if (fMainFolders.containsValue(subComponent)) {
+          // Main folders are searched separately.
+          continue;
+        }
         ModelComponent result = getModelComponent(name, subComponent);
         if (result != null) {
           return result;
@@ -358,7 +371,7 @@ public class StandardSystemModel
     createMainFolder(
         this,
         FolderKey.VEHICLES,
-        new SimpleFolder(
+        new NameIndexedFolder(
             bundle.getString("standardSystemModel.folder_vehicles.name")
         )
     );
@@ -368,41 +381,41 @@ public class StandardSystemModel
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.POINTS,
-        new SimpleFolder(bundle.getString("standardSystemModel.folder_points.name"))
+        new NameIndexedFolder(bundle.getString("standardSystemModel.folder_points.name"))
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.PATHS,
-        new SimpleFolder(bundle.getString("standardSystemModel.folder_paths.name"))
+        new NameIndexedFolder(bundle.getString("standardSystemModel.folder_paths.name"))
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.LOCATIONS,
-        new SimpleFolder(
+        new NameIndexedFolder(
             bundle.getString("standardSystemModel.folder_locations.name")
         )
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.LOCATION_TYPES,
-        new SimpleFolder(
+        new NameIndexedFolder(
             bundle.getString("standardSystemModel.folder_locationTypes.name")
         )
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.LINKS,
-        new SimpleFolder(bundle.getString("standardSystemModel.folder_links.name"))
+        new NameIndexedFolder(bundle.getString("standardSystemModel.folder_links.name"))
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.BLOCKS,
-        new SimpleFolder(bundle.getString("standardSystemModel.folder_blocks.name"))
+        new NameIndexedFolder(bundle.getString("standardSystemModel.folder_blocks.name"))
     );
     createMainFolder(
         getMainFolder(FolderKey.LAYOUT),
         FolderKey.OTHER_GRAPHICAL_ELEMENTS,
-        new SimpleFolder(
+        new NameIndexedFolder(
             bundle.getString("standardSystemModel.folder_otherGraphicalElements.name")
         )
     );
@@ -5,13 +5,16 @@ package org.opentcs.thirdparty.guing.common.jhotdraw.components.drawing;
 
 import static java.util.Objects.requireNonNull;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
 import java.awt.MultipleGradientPaint;
 import java.awt.Point;
 import java.awt.RadialGradientPaint;
 import java.awt.Rectangle;
+import java.awt.Transparency;
 import java.awt.datatransfer.DataFlavor;
 import java.awt.datatransfer.Transferable;
 import java.awt.event.ComponentListener;
@@ -20,6 +23,7 @@ import java.awt.event.KeyEvent;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.File;
@@ -39,6 +43,8 @@ import org.jhotdraw.draw.DrawingEditor;
 import org.jhotdraw.draw.Figure;
 import org.jhotdraw.draw.GridConstrainer;
 import org.jhotdraw.draw.event.CompositeFigureEvent;
+import org.jhotdraw.draw.event.CompositeFigureListener;
+import org.jhotdraw.draw.event.FigureAdapter;
 import org.jhotdraw.draw.event.FigureEvent;
 import org.jhotdraw.gui.datatransfer.ClipboardUtil;
 import org.opentcs.guing.base.model.elements.BlockModel;
@@ -115,6 +121,31 @@ public abstract class AbstractOpenTCSDrawingView
    * Handles edits of bezier liners.
    */
   private final BezierLinerEditHandler bezierLinerEditHandler = new BezierLinerEditHandler();
+  /**
+   * Invalidates the static layer when static figures are added, removed or changed.
+   */
+  private final StaticLayerInvalidator staticLayerInvalidator = new StaticLayerInvalidator();
+  /**
+   * An off-screen image containing the static figures, or {@code null}, if it has not been
+   * created, yet.
+   */
+  private BufferedImage staticLayer;
+  /**
+   * The area (in view coordinates) covered by the static layer image.
+   */
+  private Rectangle staticLayerArea = new Rectangle();
+  /**
+   * The drawing-to-view transformation the static layer image was drawn with.
+   */
+  private AffineTransform staticLayerTransform = new AffineTransform();
+  /**
+   * The device scale the static layer image was drawn with.
+   */
+  private double staticLayerDeviceScale;
+  /**
+   * Whether the static layer image is up to date.
+   */
+  private boolean staticLayerValid;
 
   /**
    * Creates new instance.
@@ -163,6 +194,12 @@ public abstract class AbstractOpenTCSDrawingView
 
     if (oldValue != null) {
       oldValue.removeUndoableEditListener(bezierLinerEditHandler);
+      if (isStaticLayerCached()) {
+        oldValue.removeCompositeFigureListener(staticLayerInvalidator);
+        for (Figure figure : oldValue.getChildren()) {
+          figure.removeFigureListener(staticLayerInvalidator);
+        }
+      }
     }
     if (newValue != null) {
       SystemModel model = modelManager.getModel();
@@ -175,7 +212,16 @@ public abstract class AbstractOpenTCSDrawingView
       }
 
       newValue.addUndoableEditListener(bezierLinerEditHandler);
+      if (isStaticLayerCached()) {
+        newValue.addCompositeFigureListener(staticLayerInvalidator);
+        for (Figure figure : newValue.getChildren()) {
+          if (!isDynamicFigure(figure)) {
+            figure.addFigureListener(staticLayerInvalidator);
+          }
+        }
+      }
     }
+    invalidateStaticLayer();
 
     super.setDrawing(newValue);
   }
@@ -299,6 +345,7 @@ public abstract class AbstractOpenTCSDrawingView
   // ###
   @Override
   public void drawingOptionsChanged() {
+    invalidateStaticLayer();
     repaintDrawingArea();
   }
 
@@ -326,6 +373,7 @@ public abstract class AbstractOpenTCSDrawingView
         lf.setLabelVisible(newValue);
       }
     }
+    invalidateStaticLayer();
     // Repaint the whole layout.
     repaintDrawingArea();
   }
@@ -404,16 +452,151 @@ public abstract class AbstractOpenTCSDrawingView
 
     getDrawing().setFontRenderContext(g2d.getFontRenderContext());
     try {
-      getDrawing().draw(g2d);
+      if (isStaticLayerCached()) {
+        drawStaticLayer(gr);
+        drawFigures(g2d, currentClipBounds(g2d), true);
+      }
+      else {
+        getDrawing().draw(g2d);
+      }
     }
     catch (ConcurrentModificationException e) {
-      LOG.warn("Exception from JHotDraw caught while calling DefaultDrawing.draw(), continuing.");
+      LOG.warn("Exception from JHotDraw caught while drawing figures, continuing.");
       // TODO What to do when it is catched?
     }
 
     g2d.dispose();
   }
 
+  /**
+   * Indicates whether this view draws the static figures into an off-screen image that is reused
+   * across repaints, with only the dynamic figures being drawn on top of it each time.
+   * <p>
+   * This is worthwhile only if the static figures change rarely, as the whole image needs to be
+   * redrawn whenever one of them changes.
+   * Static figures are expected to fire figure events whenever their appearance changes - which
+   * they need to do anyway, as the view only repaints invalidated areas.
+   * </p>
+   *
+   * @return Whether this view caches the static figures in an off-screen image.
+   */
+  protected boolean isStaticLayerCached() {
+    return false;
+  }
+
+  /**
+   * Indicates whether the given figure is dynamic, i.e. it changes often and should therefore not
+   * be drawn into the static layer.
+   *
+   * @param figure The figure.
+   * @return Whether the given figure is dynamic.
+   * @see #isStaticLayerCached()
+   */
+  protected boolean isDynamicFigure(Figure figure) {
+    return false;
+  }
+
+  /**
+   * Marks the static layer image as outdated, so that it is redrawn with the next repaint.
+   */
+  protected void invalidateStaticLayer() {
+    staticLayerValid = false;
+  }
+
+  /**
+   * Draws the static layer image, redrawing the image first if it is outdated or does not cover
+   * the visible area.
+   *
+   * @param gr The graphics context in view coordinates.
+   */
+  private void drawStaticLayer(Graphics2D gr) {
+    Rectangle visibleRect = getVisibleRect();
+    if (visibleRect.isEmpty()) {
+      return;
+    }
+
+    double deviceScale = gr.getTransform().getScaleX();
+    if (!staticLayerValid
+        || staticLayer == null
+        || staticLayerDeviceScale != deviceScale
+        || !staticLayerTransform.equals(getDrawingToViewTransform())
+        || !staticLayerArea.contains(visibleRect)) {
+      redrawStaticLayer(visibleRect, deviceScale);
+    }
+
+    Graphics2D g = (Graphics2D) gr.create();
+    g.translate(staticLayerArea.x, staticLayerArea.y);
+    g.scale(1 / staticLayerDeviceScale, 1 / staticLayerDeviceScale);
+    g.drawImage(staticLayer, 0, 0, null);
+    g.dispose();
+  }
+
+  private void redrawStaticLayer(Rectangle visibleRect, double deviceScale) {
+    // Cover a bit more than the visible area, so that the image can be reused when scrolling by
+    // small distances.
+    Rectangle area = new Rectangle(visibleRect);
+    area.grow(visibleRect.width / 4, visibleRect.height / 4);
+    area = area.intersection(new Rectangle(0, 0, getWidth(), getHeight()));
+    area.add(visibleRect);
+
+    int imageWidth = (int) Math.ceil(area.width * deviceScale);
+    int imageHeight = (int) Math.ceil(area.height * deviceScale);
+    if (staticLayer == null
+        || staticLayer.getWidth() != imageWidth
+        || staticLayer.getHeight() != imageHeight) {
+      GraphicsConfiguration gc = getGraphicsConfiguration();
+      staticLayer = gc == null
+          ? new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB_PRE)
+          : gc.createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT);
+    }
+
+    Graphics2D g = staticLayer.createGraphics();
+    g.setComposite(AlphaComposite.Clear);
+    g.fillRect(0, 0, imageWidth, imageHeight);
+    g.setComposite(AlphaComposite.SrcOver);
+    g.scale(deviceScale, deviceScale);
+    g.translate(-area.x, -area.y);
+    g.translate(
+        getDrawingToViewTransform().getTranslateX(),
+        getDrawingToViewTransform().getTranslateY()
+    );
+    g.scale(getScaleFactor(), getScaleFactor());
+    drawFigures(g, viewToDrawing(area), false);
+    g.dispose();
+
+    staticLayerArea = area;
+    staticLayerTransform = new AffineTransform(getDrawingToViewTransform());
+    staticLayerDeviceScale = deviceScale;
+    staticLayerValid = true;
+  }
+
+  /**
+   * Draws the figures intersecting the given area.
+   *
+   * @param g The graphics context in drawing coordinates.
+   * @param area The area (in drawing coordinates) to draw the figures in.
+   * @param dynamic Whether to draw the dynamic or the static figures.
+   */
+  private void drawFigures(Graphics2D g, Rectangle2D.Double area, boolean dynamic) {
+    for (Figure figure : getDrawing().sort(getDrawing().findFigures(area))) {
+      if (figure.isVisible() && isDynamicFigure(figure) == dynamic) {
+        figure.draw(g);
+      }
+    }
+  }
+
+  private Rectangle2D.Double currentClipBounds(Graphics2D g) {
+    Rectangle clipBounds = g.getClipBounds();
+    return clipBounds == null
+        ? viewToDrawing(getVisibleRect())
+        : new Rectangle2D.Double(
+            clipBounds.x,
+            clipBounds.y,
+            clipBounds.width,
+            clipBounds.height
+        );
+  }
+
   private void handleSystemModelTransition(SystemModelTransitionEvent evt) {
     switch (evt.getStage()) {
       case UNLOADING:
@@ -681,6 +864,42 @@ public abstract class AbstractOpenTCSDrawingView
     return Double.parseDouble(twoDForm.format(value));
   }
 
+  /**
+   * Invalidates the static layer when static figures are added, removed or changed.
+   */
+  private class StaticLayerInvalidator
+      extends
+        FigureAdapter
+      implements
+        CompositeFigureListener {
+
+    @Override // FigureListener
+    public void areaInvalidated(FigureEvent evt) {
+      invalidateStaticLayer();
+    }
+
+    @Override // FigureListener
+    public void figureChanged(FigureEvent evt) {
+      invalidateStaticLayer();
+    }
+
+    @Override // CompositeFigureListener
+    public void figureAdded(CompositeFigureEvent evt) {
+      if (!isDynamicFigure(evt.getChildFigure())) {
+        evt.getChildFigure().addFigureListener(this);
+        invalidateStaticLayer();
+      }
+    }
+
+    @Override // CompositeFigureListener
+    public void figureRemoved(CompositeFigureEvent evt) {
+      if (!isDynamicFigure(evt.getChildFigure())) {
+        evt.getChildFigure().removeFigureListener(this);
+        invalidateStaticLayer();
+      }
+    }
+  }
+
   public abstract class AbstractExtendedEventHandler
       extends
         DefaultDrawingView.EventHandler {
@@ -0,0 +1,49 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.guing.common.components.drawing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LevelOfDetail}.
+ */
+class LevelOfDetailTest {
+
+  private Graphics2D g;
+
+  @BeforeEach
+  void setUp() {
+    g = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    g.dispose();
+  }
+
+  @Test
+  void drawAllDetailsAtFullScale() {
+    assertThat(LevelOfDetail.isLabelsDrawn(g), is(true));
+    assertThat(LevelOfDetail.isArrowheadsDrawn(g), is(true));
+  }
+
+  @Test
+  void omitLabelsBeforeArrowheads() {
+    g.scale(0.25, 0.25);
+
+    assertThat(LevelOfDetail.isLabelsDrawn(g), is(false));
+    assertThat(LevelOfDetail.isArrowheadsDrawn(g), is(true));
+
+    g.scale(0.5, 0.5);
+
+    assertThat(LevelOfDetail.isLabelsDrawn(g), is(false));
+    assertThat(LevelOfDetail.isArrowheadsDrawn(g), is(false));
+  }
+}
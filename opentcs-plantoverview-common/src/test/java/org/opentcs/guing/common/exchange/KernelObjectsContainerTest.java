@@ -0,0 +1,166 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.guing.common.exchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.access.Kernel;
+import org.opentcs.access.KernelServicePortal;
+import org.opentcs.access.KernelStateTransitionEvent;
+import org.opentcs.access.SharedKernelServicePortal;
+import org.opentcs.access.SharedKernelServicePortalProvider;
+import org.opentcs.common.ClientConnectionMode;
+import org.opentcs.common.KernelClientApplication;
+import org.opentcs.components.kernel.services.PlantModelService;
+import org.opentcs.components.kernel.services.VehicleService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.Vehicle;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Tests for {@link KernelObjectsContainer}.
+ */
+class KernelObjectsContainerTest {
+
+  private KernelClientApplication kernelClientApplication;
+  private Deque<Runnable> fetchTasks;
+  private Vehicle vehicle;
+  private KernelObjectsContainer container;
+
+  @BeforeEach
+  void setUp() {
+    vehicle = new Vehicle("vehicle");
+
+    PlantModelService plantModelService = mock();
+    when(plantModelService.fetchObjects(Point.class)).thenReturn(Set.of(new Point("point")));
+    when(plantModelService.fetchObjects(Path.class)).thenReturn(Set.of());
+    when(plantModelService.fetchObjects(Location.class)).thenReturn(Set.of());
+    VehicleService vehicleService = mock();
+    when(vehicleService.fetchObjects(Vehicle.class)).thenReturn(Set.of(vehicle));
+
+    KernelServicePortal portal = mock();
+    when(portal.getPlantModelService()).thenReturn(plantModelService);
+    when(portal.getVehicleService()).thenReturn(vehicleService);
+    SharedKernelServicePortal sharedPortal = mock();
+    when(sharedPortal.getPortal()).thenReturn(portal);
+    SharedKernelServicePortalProvider portalProvider = mock();
+    when(portalProvider.register()).thenReturn(sharedPortal);
+
+    kernelClientApplication = mock();
+    when(kernelClientApplication.isOnline()).thenReturn(true);
+
+    fetchTasks = new ArrayDeque<>();
+    container = new KernelObjectsContainer(
+        mock(EventSource.class),
+        portalProvider,
+        kernelClientApplication,
+        fetchTasks::add,
+        Runnable::run
+    );
+  }
+
+  @Test
+  void provideObjectsOnlyAfterConnecting() {
+    assertThat(container.isAvailable()).isFalse();
+    assertThat(container.getObject(Vehicle.class, "vehicle")).isEmpty();
+
+    container.onEvent(ClientConnectionMode.ONLINE);
+    assertThat(container.isAvailable()).isFalse();
+    runFetchTasks();
+
+    assertThat(container.isAvailable()).isTrue();
+    assertThat(container.getObject(Vehicle.class, "vehicle")).contains(vehicle);
+    assertThat(container.getObject(Point.class, "point")).isPresent();
+  }
+
+  @Test
+  void keepObjectsUpToDateWithEvents() {
+    container.onEvent(ClientConnectionMode.ONLINE);
+    runFetchTasks();
+    Vehicle pausedVehicle = vehicle.withPaused(true);
+
+    container.onEvent(
+        new TCSObjectEvent(pausedVehicle, vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+
+    assertThat(container.getObject(Vehicle.class, "vehicle"))
+        .hasValueSatisfying(replica -> assertThat(replica.isPaused()).isTrue());
+
+    container.onEvent(
+        new TCSObjectEvent(null, pausedVehicle, TCSObjectEvent.Type.OBJECT_REMOVED)
+    );
+
+    assertThat(container.getObject(Vehicle.class, "vehicle")).isEmpty();
+  }
+
+  @Test
+  void discardObjectsWhenDisconnecting() {
+    container.onEvent(ClientConnectionMode.ONLINE);
+    runFetchTasks();
+
+    container.onEvent(ClientConnectionMode.OFFLINE);
+
+    assertThat(container.isAvailable()).isFalse();
+    assertThat(container.getObject(Vehicle.class, "vehicle")).isEmpty();
+  }
+
+  @Test
+  void applyEventsReceivedWhileFetching() {
+    container.onEvent(ClientConnectionMode.ONLINE);
+
+    container.onEvent(
+        new TCSObjectEvent(vehicle.withPaused(true), vehicle, TCSObjectEvent.Type.OBJECT_MODIFIED)
+    );
+    runFetchTasks();
+
+    assertThat(container.getObject(Vehicle.class, "vehicle"))
+        .hasValueSatisfying(replica -> assertThat(replica.isPaused()).isTrue());
+  }
+
+  @Test
+  void discardObjectsOfOutdatedFetch() {
+    container.onEvent(ClientConnectionMode.ONLINE);
+
+    container.onEvent(ClientConnectionMode.OFFLINE);
+    runFetchTasks();
+
+    assertThat(container.isAvailable()).isFalse();
+    assertThat(container.getObject(Vehicle.class, "vehicle")).isEmpty();
+  }
+
+  @Test
+  void fetchObjectsAgainWhenKernelSwitchedToOperatingMode() {
+    container.onEvent(ClientConnectionMode.ONLINE);
+    runFetchTasks();
+
+    container.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.OPERATING, Kernel.State.MODELLING, false)
+    );
+    assertThat(container.isAvailable()).isFalse();
+
+    container.onEvent(
+        new KernelStateTransitionEvent(Kernel.State.MODELLING, Kernel.State.OPERATING, true)
+    );
+    assertThat(fetchTasks).hasSize(1);
+    runFetchTasks();
+
+    assertThat(container.isAvailable()).isTrue();
+    assertThat(container.getObject(Vehicle.class, "vehicle")).contains(vehicle);
+  }
+
+  private void runFetchTasks() {
+    while (!fetchTasks.isEmpty()) {
+      fetchTasks.poll().run();
+    }
+  }
+}
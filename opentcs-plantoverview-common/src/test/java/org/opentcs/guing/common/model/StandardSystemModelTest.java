@@ -0,0 +1,96 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.guing.common.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.guing.base.components.properties.event.AttributesChangeListener;
+import org.opentcs.guing.base.model.elements.BlockModel;
+import org.opentcs.guing.base.model.elements.PathModel;
+import org.opentcs.guing.base.model.elements.PointModel;
+import org.opentcs.guing.common.util.ModelComponentFactory;
+
+/**
+ * Tests for {@link StandardSystemModel}.
+ */
+class StandardSystemModelTest {
+
+  private StandardSystemModel systemModel;
+
+  @BeforeEach
+  void setUp() {
+    systemModel = new StandardSystemModel(new ModelComponentFactory());
+  }
+
+  @Test
+  void findAddedComponentsByName() {
+    PointModel point = createPoint("point");
+    PathModel path = new PathModel();
+    path.setName("path");
+    systemModel.getMainFolder(SystemModel.FolderKey.POINTS).add(point);
+    systemModel.getMainFolder(SystemModel.FolderKey.PATHS).add(path);
+
+    assertThat(systemModel.getPointModel("point")).isSameAs(point);
+    assertThat(systemModel.getPathModel("path")).isSameAs(path);
+    assertThat(systemModel.getModelComponent("path")).isSameAs(path);
+    assertThat(systemModel.getPointModel("path")).isNull();
+    assertThat(systemModel.getModelComponent("unknown")).isNull();
+  }
+
+  @Test
+  void doNotFindRemovedComponents() {
+    PointModel point = createPoint("point");
+    systemModel.getMainFolder(SystemModel.FolderKey.POINTS).add(point);
+
+    systemModel.getMainFolder(SystemModel.FolderKey.POINTS).remove(point);
+
+    assertThat(systemModel.getPointModel("point")).isNull();
+    assertThat(systemModel.getModelComponent("point")).isNull();
+  }
+
+  @Test
+  void findRenamedComponentsByNewName() {
+    PointModel point = createPoint("point");
+    systemModel.getMainFolder(SystemModel.FolderKey.POINTS).add(point);
+
+    point.setName("renamed-point");
+    point.propertiesChanged(mock(AttributesChangeListener.class));
+
+    assertThat(systemModel.getPointModel("renamed-point")).isSameAs(point);
+    assertThat(systemModel.getPointModel("point")).isNull();
+  }
+
+  @Test
+  void doNotFindComponentsByStaleNameAfterUnnotifiedRename() {
+    PointModel point = createPoint("point");
+    systemModel.getMainFolder(SystemModel.FolderKey.POINTS).add(point);
+
+    point.setName("renamed-point");
+
+    assertThat(systemModel.getPointModel("point")).isNull();
+    assertThat(systemModel.getPointModel("renamed-point")).isSameAs(point);
+  }
+
+  @Test
+  void findBlocksOnlyViaBlockLookup() {
+    PointModel point = createPoint("point");
+    BlockModel block = new BlockModel();
+    block.setName("block");
+    block.addCourseElement(point);
+    systemModel.getMainFolder(SystemModel.FolderKey.POINTS).add(point);
+    systemModel.getMainFolder(SystemModel.FolderKey.BLOCKS).add(block);
+
+    assertThat(systemModel.getBlockModel("block")).isSameAs(block);
+    assertThat(systemModel.getModelComponent("block")).isNull();
+    assertThat(systemModel.getModelComponent("point")).isSameAs(point);
+  }
+
+  private PointModel createPoint(String name) {
+    PointModel point = new PointModel();
+    point.setName(name);
+    return point;
+  }
+}
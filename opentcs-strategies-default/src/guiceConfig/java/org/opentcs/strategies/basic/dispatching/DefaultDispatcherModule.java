@@ -211,6 +211,8 @@ public class DefaultDispatcherModule
 
     bind(TransportOrderUtil.class)
         .in(Singleton.class);
+    bind(WaitingOrdersIndex.class)
+        .in(Singleton.class);
 
     bind(RouteSelector.class)
         .to(LowestCostRouteSelector.class)
@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: MIT
 package org.opentcs.strategies.basic.peripherals.dispatching;
 
+import jakarta.inject.Singleton;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
 import org.opentcs.drivers.peripherals.PeripheralJobCallback;
 
@@ -36,5 +37,6 @@ public class DefaultPeripheralJobDispatcherModule
     bind(PeripheralJobCallback.class).to(DefaultPeripheralJobDispatcher.class);
     bind(PeripheralReleaseStrategy.class).to(DefaultPeripheralReleaseStrategy.class);
     bind(JobSelectionStrategy.class).to(DefaultJobSelectionStrategy.class);
+    bind(PendingJobQueues.class).in(Singleton.class);
   }
 }
@@ -6,8 +6,11 @@ import com.google.inject.assistedinject.FactoryModuleBuilder;
 import jakarta.inject.Singleton;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.customizations.kernel.KernelInjectionModule;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionConfiguration;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionMonitor;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorBoundingBox;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorComposite;
+import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorCongestion;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorDistance;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorExplicitProperties;
 import org.opentcs.strategies.basic.routing.edgeevaluator.EdgeEvaluatorHops;
@@ -105,6 +108,9 @@ public class DefaultRouterModule
     edgeEvaluatorBinder()
         .addBinding(EdgeEvaluatorBoundingBox.CONFIGURATION_KEY)
         .to(EdgeEvaluatorBoundingBox.class);
+    edgeEvaluatorBinder()
+        .addBinding(EdgeEvaluatorCongestion.CONFIGURATION_KEY)
+        .to(EdgeEvaluatorCongestion.class);
 
     bind(EdgeEvaluatorComposite.class)
         .in(Singleton.class);
@@ -116,6 +122,15 @@ public class DefaultRouterModule
                 ExplicitPropertiesConfiguration.class
             )
         );
+    bind(CongestionConfiguration.class)
+        .toInstance(
+            getConfigBindingProvider().get(
+                CongestionConfiguration.PREFIX,
+                CongestionConfiguration.class
+            )
+        );
+    bind(CongestionMonitor.class)
+        .in(Singleton.class);
 
     bind(DefaultRoutingGroupMapper.class)
         .in(Singleton.class);
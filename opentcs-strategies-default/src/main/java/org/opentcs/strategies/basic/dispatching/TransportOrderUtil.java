@@ -55,6 +55,10 @@ public class TransportOrderUtil
    * This class's configuration.
    */
   private final DefaultDispatcherConfiguration configuration;
+  /**
+   * Keeps track of orders waiting for their dependencies.
+   */
+  private final WaitingOrdersIndex waitingOrdersIndex;
   /**
    * Whether this instance is initialized.
    */
@@ -71,13 +75,16 @@ public class TransportOrderUtil
       @Nonnull
       Router router,
       @Nonnull
-      VehicleControllerPool vehicleControllerPool
+      VehicleControllerPool vehicleControllerPool,
+      @Nonnull
+      WaitingOrdersIndex waitingOrdersIndex
   ) {
     this.transportOrderService = requireNonNull(transportOrderService, "transportOrderService");
     this.vehicleService = requireNonNull(vehicleService, "vehicleService");
     this.router = requireNonNull(router, "router");
     this.vehicleControllerPool = requireNonNull(vehicleControllerPool, "vehicleControllerPool");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.waitingOrdersIndex = requireNonNull(waitingOrdersIndex, "waitingOrdersIndex");
   }
 
   @Override
@@ -86,6 +93,8 @@ public class TransportOrderUtil
       return;
     }
 
+    waitingOrdersIndex.initialize();
+
     initialized = true;
   }
 
@@ -100,6 +109,8 @@ public class TransportOrderUtil
       return;
     }
 
+    waitingOrdersIndex.terminate();
+
     initialized = false;
   }
 
@@ -144,17 +155,20 @@ public class TransportOrderUtil
   /**
    * Finds transport orders that are ACTIVE and do not have any unfinished dependencies (any more),
    * marking them as DISPATCHABLE.
+   * <p>
+   * Only orders waiting for orders or order sequences that have changed since the last call are
+   * checked.
+   * </p>
    */
   public void markNewDispatchableOrders() {
-    transportOrderService.fetchObjects(TransportOrder.class).stream()
-        .filter(order -> order.hasState(TransportOrder.State.ACTIVE))
-        .filter(order -> !hasUnfinishedDependencies(order))
-        .forEach(
-            order -> updateTransportOrderState(
-                order.getReference(),
-                TransportOrder.State.DISPATCHABLE
-            )
-        );
+    for (String orderName : waitingOrdersIndex.pollOrdersToCheck()) {
+      TransportOrder order = transportOrderService.fetchObject(TransportOrder.class, orderName);
+      if (order != null
+          && order.hasState(TransportOrder.State.ACTIVE)
+          && !hasUnfinishedDependencies(order)) {
+        updateTransportOrderState(order.getReference(), TransportOrder.State.DISPATCHABLE);
+      }
+    }
   }
 
   public void updateTransportOrderState(
@@ -0,0 +1,222 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Keeps track of transport orders in state {@link TransportOrder.State#ACTIVE}, i.e. orders waiting
+ * for their dependencies or for their turn in their wrapping order sequence.
+ * <p>
+ * Waiting orders are indexed by the names of the orders and order sequences they are waiting for.
+ * Whenever one of these has changed in a way that may make a waiting order dispatchable (i.e. a
+ * transport order has reached a final state or has been removed, or the finished index of an order
+ * sequence has changed), the orders waiting for it are remembered, so that only these have to be
+ * checked instead of all transport orders.
+ * </p>
+ */
+public class WaitingOrdersIndex
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * The names of waiting orders, mapped to the names of the orders and order sequences they are
+   * waiting for.
+   */
+  private final Map<String, Set<String>> waitingOrdersByBlocker = new HashMap<>();
+  /**
+   * The names of waiting orders that may have become dispatchable since they were last polled.
+   */
+  private final SortedSet<String> ordersToCheck = new TreeSet<>();
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param eventSource Where this instance registers for application events.
+   */
+  @Inject
+  public WaitingOrdersIndex(
+      @Nonnull
+      TCSObjectService objectService,
+      @Nonnull
+      @ApplicationEventBus
+      EventSource eventSource
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    Set<TransportOrder> waitingOrders
+        = objectService.fetchObjects(TransportOrder.class, this::isWaiting);
+    synchronized (this) {
+      // The blockers of orders that are already waiting may have changed at any time before, so
+      // they all need to be checked once.
+      for (TransportOrder order : waitingOrders) {
+        index(order);
+        ordersToCheck.add(order.getName());
+      }
+    }
+    eventSource.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+    synchronized (this) {
+      waitingOrdersByBlocker.clear();
+      ordersToCheck.clear();
+    }
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent objectEvent)) {
+      return;
+    }
+
+    if (objectEvent.getCurrentOrPreviousObjectState() instanceof TransportOrder) {
+      onOrderChange(
+          (TransportOrder) objectEvent.getPreviousObjectState(),
+          (TransportOrder) objectEvent.getCurrentObjectState()
+      );
+    }
+    else if (objectEvent.getCurrentOrPreviousObjectState() instanceof OrderSequence) {
+      onSequenceChange(
+          (OrderSequence) objectEvent.getPreviousObjectState(),
+          (OrderSequence) objectEvent.getCurrentObjectState()
+      );
+    }
+  }
+
+  /**
+   * Returns the names of waiting orders that may have become dispatchable since this method was
+   * last called, and forgets about them.
+   *
+   * @return The names of waiting orders that may have become dispatchable, in lexicographic order.
+   */
+  @Nonnull
+  public synchronized SortedSet<String> pollOrdersToCheck() {
+    SortedSet<String> result = new TreeSet<>(ordersToCheck);
+    ordersToCheck.clear();
+    return result;
+  }
+
+  private synchronized void onOrderChange(TransportOrder previous, TransportOrder current) {
+    if (current != null && isWaiting(current)) {
+      if (previous == null || !isWaiting(previous)) {
+        index(current);
+      }
+    }
+    else if (previous != null && isWaiting(previous)) {
+      unindex(previous);
+    }
+
+    // Note that an order that has been removed no longer counts as an unfinished dependency,
+    // either.
+    if (previous != null
+        && (current == null
+            || (!previous.getState().isFinalState() && current.getState().isFinalState()))) {
+      blockerChanged(previous.getName());
+    }
+  }
+
+  private synchronized void onSequenceChange(OrderSequence previous, OrderSequence current) {
+    if (previous != null
+        && (current == null || previous.getFinishedIndex() != current.getFinishedIndex())) {
+      blockerChanged(previous.getName());
+    }
+  }
+
+  private void blockerChanged(String blockerName) {
+    Set<String> waitingOrders = waitingOrdersByBlocker.get(blockerName);
+    if (waitingOrders != null) {
+      ordersToCheck.addAll(waitingOrders);
+    }
+  }
+
+  private void index(TransportOrder order) {
+    for (String blockerName : blockerNames(order)) {
+      waitingOrdersByBlocker.computeIfAbsent(blockerName, name -> new HashSet<>())
+          .add(order.getName());
+    }
+  }
+
+  private void unindex(TransportOrder order) {
+    for (String blockerName : blockerNames(order)) {
+      Set<String> waitingOrders = waitingOrdersByBlocker.get(blockerName);
+      if (waitingOrders != null) {
+        waitingOrders.remove(order.getName());
+        if (waitingOrders.isEmpty()) {
+          waitingOrdersByBlocker.remove(blockerName);
+        }
+      }
+    }
+    ordersToCheck.remove(order.getName());
+  }
+
+  private Set<String> blockerNames(TransportOrder order) {
+    Set<String> result = new HashSet<>();
+    for (TCSObjectReference<TransportOrder> dependency : order.getDependencies()) {
+      result.add(dependency.getName());
+    }
+    if (order.getWrappingSequence() != null) {
+      result.add(order.getWrappingSequence().getName());
+    }
+    return result;
+  }
+
+  private boolean isWaiting(TransportOrder order) {
+    return order.hasState(TransportOrder.State.ACTIVE);
+  }
+}
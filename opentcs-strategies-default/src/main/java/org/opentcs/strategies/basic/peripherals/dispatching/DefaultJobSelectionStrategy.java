@@ -37,8 +37,13 @@ public class DefaultJobSelectionStrategy
     );
 
     return jobs.stream()
-        .sorted(Comparators.jobsByAge())
-        .findFirst();
+        .min(Comparators.jobsByAge());
+  }
+
+  @Override
+  public Optional<PeripheralJob> select(PendingJobQueues pendingJobQueues, Location location) {
+    // The queues are already ordered by age, so the oldest job is simply the first one.
+    return pendingJobQueues.peekNext(location.getReference());
   }
 
   private boolean matchesLocation(PeripheralJob job, Location location) {
@@ -3,6 +3,7 @@
 package org.opentcs.strategies.basic.peripherals.dispatching;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.peripherals.PeripheralJob;
@@ -21,4 +22,24 @@ public interface JobSelectionStrategy {
    * @return The selected peripheral job.
    */
   Optional<PeripheralJob> select(Collection<PeripheralJob> jobs, Location location);
+
+  /**
+   * Selects a peripheral job to be processed next by the given location out of the peripheral jobs
+   * pending for it.
+   * <p>
+   * This default implementation selects out of all pending jobs for the given location. Strategies
+   * that do not need to look at all of them may override it to avoid copying the location's queue.
+   * </p>
+   *
+   * @param pendingJobQueues The queues of pending peripheral jobs.
+   * @param location The location to select a peripheral job for.
+   * @return The selected peripheral job.
+   */
+  default Optional<PeripheralJob> select(PendingJobQueues pendingJobQueues, Location location) {
+    List<PeripheralJob> pendingJobs = pendingJobQueues.getPendingJobs(location.getReference());
+    if (pendingJobs.isEmpty()) {
+      return Optional.empty();
+    }
+    return select(pendingJobs, location);
+  }
 }
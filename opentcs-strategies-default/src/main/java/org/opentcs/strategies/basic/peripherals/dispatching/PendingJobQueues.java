@@ -0,0 +1,213 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.opentcs.components.Lifecycle;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.ApplicationEventBus;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.util.Comparators;
+import org.opentcs.util.event.EventHandler;
+import org.opentcs.util.event.EventSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of peripheral jobs in state {@link PeripheralJob.State#TO_BE_PROCESSED}, grouped by
+ * the location they are to be processed at and ordered by their age.
+ * <p>
+ * The queues are kept up to date by processing object events for peripheral jobs, so the set of
+ * pending jobs for a location can be looked up without filtering all peripheral jobs.
+ * </p>
+ */
+public class PendingJobQueues
+    implements
+      EventHandler,
+      Lifecycle {
+
+  /**
+   * This class's Logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(PendingJobQueues.class);
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * Where we register for application events.
+   */
+  private final EventSource eventSource;
+  /**
+   * The pending jobs, mapped to the locations they are to be processed at, oldest ones first.
+   */
+  private final Map<TCSObjectReference<Location>, SortedSet<PeripheralJob>> queues
+      = new HashMap<>();
+  /**
+   * Indicates whether this component is initialized.
+   */
+  private boolean initialized;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param eventSource Where this instance registers for application events.
+   */
+  @Inject
+  public PendingJobQueues(
+      @Nonnull
+      TCSObjectService objectService,
+      @Nonnull
+      @ApplicationEventBus
+      EventSource eventSource
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.eventSource = requireNonNull(eventSource, "eventSource");
+  }
+
+  @Override
+  public void initialize() {
+    if (isInitialized()) {
+      return;
+    }
+
+    objectService.fetchObjects(PeripheralJob.class, this::toBeProcessed)
+        .forEach(this::enqueue);
+    eventSource.subscribe(this);
+
+    initialized = true;
+  }
+
+  @Override
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  @Override
+  public void terminate() {
+    if (!isInitialized()) {
+      return;
+    }
+
+    eventSource.unsubscribe(this);
+    synchronized (this) {
+      queues.clear();
+    }
+
+    initialized = false;
+  }
+
+  @Override
+  public void onEvent(Object event) {
+    if (!(event instanceof TCSObjectEvent)) {
+      return;
+    }
+
+    TCSObjectEvent objectEvent = (TCSObjectEvent) event;
+    if (!(objectEvent.getCurrentOrPreviousObjectState() instanceof PeripheralJob)) {
+      return;
+    }
+
+    if (objectEvent.getType() == TCSObjectEvent.Type.OBJECT_REMOVED) {
+      dequeue((PeripheralJob) objectEvent.getPreviousObjectState());
+      return;
+    }
+
+    PeripheralJob job = (PeripheralJob) objectEvent.getCurrentObjectState();
+    if (toBeProcessed(job)) {
+      enqueue(job);
+    }
+    else {
+      dequeue(job);
+    }
+  }
+
+  /**
+   * Returns the peripheral jobs to be processed at the referenced location, oldest ones first.
+   *
+   * @param location A reference to the location.
+   * @return The peripheral jobs to be processed at the referenced location, oldest ones first.
+   * May be empty.
+   */
+  @Nonnull
+  public synchronized List<PeripheralJob> getPendingJobs(
+      @Nonnull
+      TCSObjectReference<Location> location
+  ) {
+    requireNonNull(location, "location");
+
+    SortedSet<PeripheralJob> queue = queues.get(location);
+    return queue == null ? List.of() : new ArrayList<>(queue);
+  }
+
+  /**
+   * Returns the oldest peripheral job to be processed at the referenced location.
+   *
+   * @param location A reference to the location.
+   * @return The oldest peripheral job to be processed at the referenced location, or an empty
+   * {@code Optional}, if there is none.
+   */
+  @Nonnull
+  public synchronized Optional<PeripheralJob> peekNext(
+      @Nonnull
+      TCSObjectReference<Location> location
+  ) {
+    requireNonNull(location, "location");
+
+    SortedSet<PeripheralJob> queue = queues.get(location);
+    return queue == null ? Optional.empty() : Optional.of(queue.first());
+  }
+
+  /**
+   * Returns the number of peripheral jobs to be processed at all locations.
+   *
+   * @return The number of peripheral jobs to be processed at all locations.
+   */
+  public synchronized int getPendingJobCount() {
+    return queues.values().stream()
+        .mapToInt(SortedSet::size)
+        .sum();
+  }
+
+  private synchronized void enqueue(PeripheralJob job) {
+    SortedSet<PeripheralJob> queue = queues.computeIfAbsent(
+        job.getPeripheralOperation().getLocation(),
+        location -> new TreeSet<>(Comparators.jobsByAge())
+    );
+    // Replace any previous state of the job.
+    queue.remove(job);
+    queue.add(job);
+    LOG.debug("Job '{}' enqueued, {} pending for location.", job.getName(), queue.size());
+  }
+
+  private synchronized void dequeue(PeripheralJob job) {
+    TCSObjectReference<Location> location = job.getPeripheralOperation().getLocation();
+    SortedSet<PeripheralJob> queue = queues.get(location);
+    if (queue == null) {
+      return;
+    }
+
+    queue.remove(job);
+    if (queue.isEmpty()) {
+      queues.remove(location);
+    }
+  }
+
+  private boolean toBeProcessed(PeripheralJob job) {
+    return job.getState() == PeripheralJob.State.TO_BE_PROCESSED;
+  }
+}
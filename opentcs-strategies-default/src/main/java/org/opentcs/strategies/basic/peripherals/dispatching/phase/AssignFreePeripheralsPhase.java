@@ -5,16 +5,14 @@ package org.opentcs.strategies.basic.peripherals.dispatching.phase;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.inject.Inject;
-import java.util.Collection;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.PeripheralInformation;
 import org.opentcs.data.peripherals.PeripheralJob;
 import org.opentcs.drivers.peripherals.PeripheralControllerPool;
 import org.opentcs.strategies.basic.peripherals.dispatching.JobSelectionStrategy;
+import org.opentcs.strategies.basic.peripherals.dispatching.PendingJobQueues;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralDispatcherPhase;
 import org.opentcs.strategies.basic.peripherals.dispatching.PeripheralJobUtil;
 import org.opentcs.util.ExplainedBoolean;
@@ -49,6 +47,10 @@ public class AssignFreePeripheralsPhase
    * Provides service functions for working with peripheral jobs and their states.
    */
   private final PeripheralJobUtil peripheralJobUtil;
+  /**
+   * Keeps track of the jobs to be processed, per location.
+   */
+  private final PendingJobQueues pendingJobQueues;
   /**
    * Indicates whether this component is initialized.
    */
@@ -59,7 +61,8 @@ public class AssignFreePeripheralsPhase
       TCSObjectService objectService,
       JobSelectionStrategy jobSelectionStrategy,
       PeripheralControllerPool peripheralControllerPool,
-      PeripheralJobUtil peripheralJobUtil
+      PeripheralJobUtil peripheralJobUtil,
+      PendingJobQueues pendingJobQueues
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.jobSelectionStrategy = requireNonNull(jobSelectionStrategy, "jobSelectionStrategy");
@@ -68,6 +71,7 @@ public class AssignFreePeripheralsPhase
         "peripheralControllerPool"
     );
     this.peripheralJobUtil = requireNonNull(peripheralJobUtil, "peripheralJobUtil");
+    this.pendingJobQueues = requireNonNull(pendingJobQueues, "pendingJobQueues");
   }
 
   @Override
@@ -75,6 +79,7 @@ public class AssignFreePeripheralsPhase
     if (isInitialized()) {
       return;
     }
+    pendingJobQueues.initialize();
     initialized = true;
   }
 
@@ -88,6 +93,7 @@ public class AssignFreePeripheralsPhase
     if (!isInitialized()) {
       return;
     }
+    pendingJobQueues.terminate();
     initialized = false;
   }
 
@@ -98,21 +104,17 @@ public class AssignFreePeripheralsPhase
         this::availableForAnyJob
     );
     if (availablePeripherals.isEmpty()) {
-      LOG.debug("No peripherals available, skipping potentially expensive fetching of jobs.");
+      LOG.debug("No peripherals available, skipping assignment of jobs.");
       return;
     }
-    Set<PeripheralJob> jobsToBeProcessed = objectService.fetchObjects(
-        PeripheralJob.class,
-        this::toBeProcessed
-    );
     LOG.debug(
         "Available for dispatching: {} peripheral jobs and {} peripheral devices.",
-        jobsToBeProcessed.size(),
+        pendingJobQueues.getPendingJobCount(),
         availablePeripherals.size()
     );
 
     for (Location location : availablePeripherals) {
-      tryAssignJob(location, jobsToBeProcessed);
+      tryAssignJob(location);
     }
   }
 
@@ -130,30 +132,12 @@ public class AssignFreePeripheralsPhase
     return location.getPeripheralInformation().getReservationToken() != null;
   }
 
-  private boolean toBeProcessed(PeripheralJob job) {
-    return job.getState() == PeripheralJob.State.TO_BE_PROCESSED;
-  }
-
-  private void tryAssignJob(Location location, Collection<PeripheralJob> availableJobs) {
-    LOG.debug("Trying to find job for peripheral '{}'...", location.getName());
-    jobSelectionStrategy
-        .select(
-            availableJobs.stream()
-                .filter(job -> matchesLocation(job, location))
-                .collect(Collectors.toList()),
-            location
-        )
+  private void tryAssignJob(Location location) {
+    jobSelectionStrategy.select(pendingJobQueues, location)
         .filter(job -> canProcess(location, job))
         .ifPresent(job -> assignJob(job, location));
   }
 
-  private boolean matchesLocation(PeripheralJob job, Location location) {
-    return Objects.equals(
-        job.getPeripheralOperation().getLocation(),
-        location.getReference()
-    );
-  }
-
   private boolean canProcess(Location location, PeripheralJob job) {
     ExplainedBoolean canProcess
         = peripheralControllerPool.getPeripheralController(location.getReference()).canProcess(job);
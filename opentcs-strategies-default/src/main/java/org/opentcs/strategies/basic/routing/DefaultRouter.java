@@ -10,15 +10,21 @@ import jakarta.inject.Inject;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.opentcs.components.kernel.Router;
 import org.opentcs.components.kernel.routing.GroupMapper;
 import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.model.Location;
 import org.opentcs.data.model.LocationType;
 import org.opentcs.data.model.Path;
@@ -29,6 +35,8 @@ import org.opentcs.data.order.DriveOrder;
 import org.opentcs.data.order.DriveOrder.Destination;
 import org.opentcs.data.order.Route;
 import org.opentcs.data.order.TransportOrder;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionConfiguration;
+import org.opentcs.strategies.basic.routing.edgeevaluator.CongestionMonitor;
 import org.opentcs.strategies.basic.routing.jgrapht.PointRouterProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,10 +68,26 @@ public class DefaultRouter
    * Used to map vehicles to their routing groups.
    */
   private final GroupMapper routingGroupMapper;
+  /**
+   * Executes the periodic update of congestion costs.
+   */
+  private final ScheduledExecutorService kernelExecutor;
+  /**
+   * Provides congestion costs for paths.
+   */
+  private final CongestionMonitor congestionMonitor;
+  /**
+   * The configuration for congestion costs.
+   */
+  private final CongestionConfiguration congestionConfiguration;
   /**
    * The routes selected for each vehicle.
    */
   private final Map<Vehicle, List<DriveOrder>> routesByVehicle = new ConcurrentHashMap<>();
+  /**
+   * The future for the periodic update of congestion costs, if any.
+   */
+  private ScheduledFuture<?> congestionUpdateFuture;
   /**
    * Indicates whether this component is enabled.
    */
@@ -76,18 +100,31 @@ public class DefaultRouter
    * @param pointRouterProvider Provides point routers for vehicles.
    * @param routingGroupMapper Used to map vehicles to their routing groups.
    * @param configuration This class's configuration.
+   * @param kernelExecutor Executes the periodic update of congestion costs.
+   * @param congestionMonitor Provides congestion costs for paths.
+   * @param congestionConfiguration The configuration for congestion costs.
    */
   @Inject
   public DefaultRouter(
       TCSObjectService objectService,
       PointRouterProvider pointRouterProvider,
       GroupMapper routingGroupMapper,
-      DefaultRouterConfiguration configuration
+      DefaultRouterConfiguration configuration,
+      @KernelExecutor
+      ScheduledExecutorService kernelExecutor,
+      CongestionMonitor congestionMonitor,
+      CongestionConfiguration congestionConfiguration
   ) {
     this.objectService = requireNonNull(objectService, "objectService");
     this.pointRouterProvider = requireNonNull(pointRouterProvider, "pointRouterProvider");
     this.routingGroupMapper = requireNonNull(routingGroupMapper, "routingGroupMapper");
     this.configuration = requireNonNull(configuration, "configuration");
+    this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
+    this.congestionMonitor = requireNonNull(congestionMonitor, "congestionMonitor");
+    this.congestionConfiguration = requireNonNull(
+        congestionConfiguration,
+        "congestionConfiguration"
+    );
   }
 
   @Override
@@ -98,9 +135,24 @@ public class DefaultRouter
 
     synchronized (this) {
       routesByVehicle.clear();
+      congestionMonitor.clear();
       pointRouterProvider.invalidate();
+      pointRouterProvider.computeRoutingGraphs();
       initialized = true;
     }
+
+    if (congestionMonitor.isEnabled()) {
+      LOG.debug(
+          "Scheduling periodic congestion update with interval of {} ms...",
+          congestionConfiguration.samplingInterval()
+      );
+      congestionUpdateFuture = kernelExecutor.scheduleAtFixedRate(
+          this::updateCongestionCosts,
+          congestionConfiguration.samplingInterval(),
+          congestionConfiguration.samplingInterval(),
+          TimeUnit.MILLISECONDS
+      );
+    }
   }
 
   @Override
@@ -114,8 +166,14 @@ public class DefaultRouter
       return;
     }
 
+    if (congestionUpdateFuture != null) {
+      congestionUpdateFuture.cancel(false);
+      congestionUpdateFuture = null;
+    }
+
     synchronized (this) {
       routesByVehicle.clear();
+      congestionMonitor.clear();
       pointRouterProvider.invalidate();
       initialized = false;
     }
@@ -235,20 +293,25 @@ public class DefaultRouter
     checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
 
     synchronized (this) {
-      // TODO: Once maxRouteCount is actually used, ensure to cap it at
-      //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
       List<DriveOrder> driveOrderList = transportOrder.getFutureDriveOrders();
       DriveOrder[] driveOrders = driveOrderList.toArray(new DriveOrder[driveOrderList.size()]);
       PointRouter pointRouter = pointRouterProvider.getPointRouterForVehicle(
           vehicle,
           transportOrder
       );
-      OrderRouteParameterStruct params = new OrderRouteParameterStruct(driveOrders, pointRouter);
-      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(driveOrderList.size());
-      computeCheapestOrderRoute(sourcePoint, params, 0, resultStruct);
-      return (resultStruct.bestCosts == Long.MAX_VALUE)
-          ? Set.of()
-          : Set.of(List.of(resultStruct.bestRoute));
+      OrderRouteParameterStruct params = new OrderRouteParameterStruct(
+          driveOrders,
+          pointRouter,
+          effectiveRouteCount(maxRouteCount)
+      );
+      OrderRouteResultStruct resultStruct = new OrderRouteResultStruct(
+          driveOrderList.size(),
+          params.routeCount
+      );
+      computeCheapestOrderRoutes(sourcePoint, params, 0, resultStruct);
+      return resultStruct.bestRoutes.stream()
+          .map(candidate -> List.of(candidate.routes()))
+          .collect(Collectors.toCollection(LinkedHashSet::new));
     }
   }
 
@@ -267,27 +330,20 @@ public class DefaultRouter
     checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
 
     synchronized (this) {
-      // TODO: Once maxRouteCount is actually used, ensure to cap it at
-      //       DefaultRouterConfiguration.routeComputationLimit() using Math.min().
-      return Optional.ofNullable(
-          pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid)
-              .getRouteSteps(sourcePoint, destinationPoint)
-      )
-          .map(steps -> {
-            if (steps.isEmpty()) {
-              return List.of(
-                  // If the list of steps is empty, we're already at the destination point create a
-                  // single step without a path.
-                  new Route.Step(null, null, sourcePoint, Vehicle.Orientation.UNDEFINED, 0, 0)
-              );
-            }
-            else {
-              return steps;
-            }
-          })
-          .map(Route::new)
-          .map(Set::of)
-          .orElse(Set.of());
+      int routeCount = effectiveRouteCount(maxRouteCount);
+      PointRouter pointRouter
+          = pointRouterProvider.getPointRouterForVehicle(vehicle, resourcesToAvoid);
+
+      if (routeCount == 1) {
+        return Optional.ofNullable(pointRouter.getRouteSteps(sourcePoint, destinationPoint))
+            .map(steps -> toRoute(steps, sourcePoint))
+            .map(Set::of)
+            .orElse(Set.of());
+      }
+
+      return pointRouter.getRouteSteps(sourcePoint, destinationPoint, routeCount).stream()
+          .map(steps -> toRoute(steps, sourcePoint))
+          .collect(Collectors.toCollection(LinkedHashSet::new));
     }
   }
 
@@ -392,14 +448,14 @@ public class DefaultRouter
   }
 
   /**
-   * Compute the cheapest route along a list of drive orders/checkpoints.
+   * Compute the cheapest routes along a list of drive orders/checkpoints.
    *
    * @param startPoint The current checkpoint which to start at.
-   * @param params A struct describing parameters for the route to be computed.
+   * @param params A struct describing parameters for the routes to be computed.
    * @param hopIndex The current index in the list of drive orders/checkpoints.
    * @param result A struct for keeping the (partial) result in.
    */
-  private void computeCheapestOrderRoute(
+  private void computeCheapestOrderRoutes(
       Point startPoint,
       OrderRouteParameterStruct params,
       int hopIndex,
@@ -423,28 +479,22 @@ public class DefaultRouter
       }
       boolean routable = false;
       for (Point curDestPoint : destPoints) {
-        final long hopCosts = params.pointRouter.getCosts(startPoint, curDestPoint);
-        if (hopCosts == INFINITE_COSTS) {
-          continue;
-        }
-        // Get the list of steps for the route of the current drive order.
-        List<Route.Step> steps = params.pointRouter.getRouteSteps(startPoint, curDestPoint);
-        if (steps.isEmpty()) {
-          // If the list of steps returned is empty, we're already at the
-          // destination point of the drive order - create a single step
-          // without a path.
-          steps = new ArrayList<>(1);
-          steps.add(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0));
+        for (List<Route.Step> steps : computeHopRouteSteps(startPoint, curDestPoint, params)) {
+          // Create a route from the list of steps gathered.
+          Route hopRoute = toRoute(steps, startPoint);
+          // Remember that we did find at least one route that works.
+          routable = true;
+          // Since costs never decrease along the remaining hops, there is no need to look any
+          // further if the route so far is already too expensive.
+          if (!result.isCandidate(currentRouteCosts + hopRoute.getCosts())) {
+            continue;
+          }
+          // Place the computed route in the result struct.
+          result.currentRoute[hopIndex] = hopRoute;
+          // Calculate the costs for the route so far, too.
+          result.currentCosts = currentRouteCosts + hopRoute.getCosts();
+          computeCheapestOrderRoutes(curDestPoint, params, hopIndex + 1, result);
         }
-        // Create a route from the list of steps gathered.
-        Route hopRoute = new Route(steps);
-        // Place the computed route in the result struct.
-        result.currentRoute[hopIndex] = hopRoute;
-        // Calculate the costs for the route so far, too.
-        result.currentCosts = currentRouteCosts + hopRoute.getCosts();
-        computeCheapestOrderRoute(curDestPoint, params, hopIndex + 1, result);
-        // Remember that we did find at least one route that works.
-        routable = true;
       }
       if (!routable) {
         // Setting currentCosts is not strictly necessary for this algorithm,
@@ -452,13 +502,65 @@ public class DefaultRouter
         result.currentCosts = Long.MAX_VALUE;
       }
     }
-    // If we have reached the final drive order, ...
-    else // If the route computed is cheaper than the best route found so far,
-      // replace the latter.
-      if (result.currentCosts < result.bestCosts) {
-        System.arraycopy(result.currentRoute, 0, result.bestRoute, 0, result.currentRoute.length);
-        result.bestCosts = result.currentCosts;
-      }
+    // If we have reached the final drive order, remember the computed route if it is cheaper than
+    // any of the best routes found so far.
+    else {
+      result.offerCurrentRoute();
+    }
+  }
+
+  /**
+   * Returns the lists of steps for the cheapest routes from the given start point to the given
+   * destination point.
+   *
+   * @param startPoint The start point.
+   * @param destPoint The destination point.
+   * @param params A struct describing parameters for the routes to be computed.
+   * @return The lists of steps for the cheapest routes, or an empty list, if the destination point
+   * is not reachable.
+   */
+  private List<List<Route.Step>> computeHopRouteSteps(
+      Point startPoint,
+      Point destPoint,
+      OrderRouteParameterStruct params
+  ) {
+    if (params.routeCount > 1) {
+      return params.pointRouter.getRouteSteps(startPoint, destPoint, params.routeCount);
+    }
+
+    if (params.pointRouter.getCosts(startPoint, destPoint) == INFINITE_COSTS) {
+      return List.of();
+    }
+    // Get the list of steps for the route of the current drive order.
+    return List.of(params.pointRouter.getRouteSteps(startPoint, destPoint));
+  }
+
+  /**
+   * Creates a route from the given steps.
+   *
+   * @param steps The steps.
+   * @param startPoint The point the route starts at.
+   * @return The route.
+   */
+  private Route toRoute(List<Route.Step> steps, Point startPoint) {
+    if (steps.isEmpty()) {
+      // If the list of steps is empty, we're already at the destination point - create a single
+      // step without a path.
+      return new Route(
+          List.of(new Route.Step(null, null, startPoint, Vehicle.Orientation.UNDEFINED, 0, 0))
+      );
+    }
+    return new Route(steps);
+  }
+
+  /**
+   * Returns the number of routes to actually compute for a request for the given number of routes.
+   *
+   * @param maxRouteCount The requested maximum number of routes.
+   * @return The requested number of routes, capped at the configured route computation limit.
+   */
+  private int effectiveRouteCount(int maxRouteCount) {
+    return Math.max(1, Math.min(maxRouteCount, configuration.routeComputationLimit()));
   }
 
   /**
@@ -536,6 +638,17 @@ public class DefaultRouter
     return result;
   }
 
+  /**
+   * Updates the congestion costs and the routing graphs' edges for paths whose costs changed.
+   */
+  private void updateCongestionCosts() {
+    Set<Path> changedPaths = congestionMonitor.updateCosts();
+    // An empty set would lead to the routing topology being rebuilt from scratch.
+    if (!changedPaths.isEmpty()) {
+      updateRoutingTopology(changedPaths);
+    }
+  }
+
   /**
    * Contains parameters for a route to be computed.
    */
@@ -549,6 +662,10 @@ public class DefaultRouter
      * The point router for the vehicle type.
      */
     private final PointRouter pointRouter;
+    /**
+     * The maximum number of routes to compute.
+     */
+    private final int routeCount;
 
     /**
      * Creates a new OrderRouteParameterStruct.
@@ -556,13 +673,16 @@ public class DefaultRouter
      * @param driveOrders A list of drive orders to be processed as checkpoints
      * of the route to be computed.
      * @param pointRouter The point router for the vehicle type.
+     * @param routeCount The maximum number of routes to compute.
      */
     OrderRouteParameterStruct(
         DriveOrder[] driveOrders,
-        PointRouter pointRouter
+        PointRouter pointRouter,
+        int routeCount
     ) {
       this.driveOrders = requireNonNull(driveOrders, "driveOrders");
       this.pointRouter = requireNonNull(pointRouter, "pointRouter");
+      this.routeCount = routeCount;
     }
   }
 
@@ -574,19 +694,19 @@ public class DefaultRouter
     /**
      * The (possibly partial) route currently being examined.
      */
-    private Route[] currentRoute;
+    private final Route[] currentRoute;
     /**
      * The costs of the route currently being examined.
      */
     private long currentCosts;
     /**
-     * The best route found so far.
+     * The maximum number of routes to keep.
      */
-    private Route[] bestRoute;
+    private final int maxRouteCount;
     /**
-     * The costs of the best route found so far.
+     * The best routes found so far, cheapest first.
      */
-    private long bestCosts;
+    private final List<RouteCandidate> bestRoutes;
 
     /**
      * Creates a new OrderRouteResultStruct.
@@ -594,12 +714,52 @@ public class DefaultRouter
      * @param driveOrderCount The number of <code>DriveOrder</code>s in the
      * <code>TransportOrder</code> for which this struct is to store the
      * routing result.
+     * @param maxRouteCount The maximum number of routes to keep.
      */
-    OrderRouteResultStruct(int driveOrderCount) {
+    OrderRouteResultStruct(int driveOrderCount, int maxRouteCount) {
       currentRoute = new Route[driveOrderCount];
       currentCosts = 0;
-      bestRoute = new Route[driveOrderCount];
-      bestCosts = Long.MAX_VALUE;
+      this.maxRouteCount = maxRouteCount;
+      bestRoutes = new ArrayList<>(maxRouteCount + 1);
     }
+
+    /**
+     * Checks whether a route with the given costs could be one of the best routes.
+     *
+     * @param costs The costs.
+     * @return {@code true} if, and only if, a route with the given costs could be one of the best
+     * routes.
+     */
+    boolean isCandidate(long costs) {
+      return bestRoutes.size() < maxRouteCount
+          || costs < bestRoutes.get(bestRoutes.size() - 1).costs();
+    }
+
+    /**
+     * Remembers the route currently being examined, if it is one of the best routes.
+     */
+    void offerCurrentRoute() {
+      if (!isCandidate(currentCosts)) {
+        return;
+      }
+
+      int index = 0;
+      while (index < bestRoutes.size() && bestRoutes.get(index).costs() <= currentCosts) {
+        index++;
+      }
+      bestRoutes.add(index, new RouteCandidate(currentRoute.clone(), currentCosts));
+      if (bestRoutes.size() > maxRouteCount) {
+        bestRoutes.remove(bestRoutes.size() - 1);
+      }
+    }
+  }
+
+  /**
+   * A route sequence found for a transport order.
+   *
+   * @param routes The routes, one for each drive order.
+   * @param costs The total costs of the routes.
+   */
+  private record RouteCandidate(Route[] routes, long costs) {
   }
 }
@@ -3,6 +3,7 @@
 package org.opentcs.strategies.basic.routing;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
 
 import java.util.List;
 import org.opentcs.data.TCSObjectReference;
@@ -32,6 +33,32 @@ public interface PointRouter {
    */
   List<Route.Step> getRouteSteps(Point srcPoint, Point destPoint);
 
+  /**
+   * Returns lists of route steps for (up to) the given number of cheapest routes to travel from a
+   * given source point to a given destination point.
+   * <p>
+   * The default implementation returns only the cheapest route, regardless of the given maximum
+   * number of routes.
+   * </p>
+   *
+   * @param srcPoint The source point.
+   * @param destPoint The destination point.
+   * @param maxRouteCount The maximum number of routes to return. Must be greater than zero.
+   * @return A list of alternative routes, ordered by their costs, cheapest first. Each route is
+   * represented by a list of steps as returned by {@link #getRouteSteps(Point, Point)}.
+   * If no route exists, the returned list will be empty.
+   */
+  default List<List<Route.Step>> getRouteSteps(
+      Point srcPoint,
+      Point destPoint,
+      int maxRouteCount
+  ) {
+    checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
+
+    List<Route.Step> steps = getRouteSteps(srcPoint, destPoint);
+    return steps == null ? List.of() : List.of(steps);
+  }
+
   /**
    * Returns the costs for travelling the shortest route from one point to another.
    *
@@ -0,0 +1,67 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import org.opentcs.configuration.ConfigurationEntry;
+import org.opentcs.configuration.ConfigurationPrefix;
+
+/**
+ * Provides methods to configure {@link EdgeEvaluatorCongestion}.
+ */
+@ConfigurationPrefix(CongestionConfiguration.PREFIX)
+public interface CongestionConfiguration {
+
+  /**
+   * This configuration's prefix.
+   */
+  String PREFIX = "defaultrouter.edgeevaluator.congestion";
+
+  @ConfigurationEntry(
+      type = "Long",
+      description = "The interval (in ms) in which path occupancy and wait times are sampled and "
+          + "routing costs of congested paths are updated.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_sampling_0"
+  )
+  long samplingInterval();
+
+  @ConfigurationEntry(
+      type = "Double",
+      description = {
+          "The weight (between 0.0 and 1.0) of a new sample in the rolling averages of path "
+              + "occupancy and wait times.",
+          "Greater values let the routing costs follow changes in congestion more quickly."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "0_sampling_1"
+  )
+  double smoothingFactor();
+
+  @ConfigurationEntry(
+      type = "Double",
+      description = "The routing costs added for a path that is occupied all the time.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_costs_0"
+  )
+  double occupancyCosts();
+
+  @ConfigurationEntry(
+      type = "Double",
+      description = "The routing costs added for a path per millisecond vehicles had to wait for "
+          + "it to be allocated, on average.",
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_costs_1"
+  )
+  double waitTimeCostFactor();
+
+  @ConfigurationEntry(
+      type = "Double",
+      description = {
+          "The minimum change of a path's routing costs for the routing graph to be updated.",
+          "Smaller changes are ignored to avoid updating the routing graph too often."
+      },
+      changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START,
+      orderKey = "1_costs_2"
+  )
+  double minimumCostChange();
+}
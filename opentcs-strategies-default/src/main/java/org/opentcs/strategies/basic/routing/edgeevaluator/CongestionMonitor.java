@@ -0,0 +1,231 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Inject;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.customizations.kernel.GlobalSyncObject;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.opentcs.strategies.basic.scheduling.ReservationPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps rolling averages of the occupancy of paths and the times vehicles had to wait for them to
+ * be allocated, and derives routing costs for congested paths from them.
+ * <p>
+ * The data is sampled from the scheduler's {@link ReservationPool} whenever
+ * {@link #updateCosts()} is called. The costs provided via {@link #getCosts(String)} are only
+ * updated for paths whose costs changed significantly, so that only the routing graph's edges for
+ * these paths need to be updated.
+ * </p>
+ */
+public class CongestionMonitor {
+
+  /**
+   * This class's logger.
+   */
+  private static final Logger LOG = LoggerFactory.getLogger(CongestionMonitor.class);
+  /**
+   * Averages below this value are considered irrelevant.
+   */
+  private static final double NEGLIGIBLE_AVERAGE = 0.001;
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
+  /**
+   * The scheduler's reservation pool, providing the occupancy data.
+   */
+  private final ReservationPool reservationPool;
+  /**
+   * The kernel's global synchronization object.
+   */
+  private final Object globalSyncObject;
+  /**
+   * The shortest path configuration.
+   */
+  private final ShortestPathConfiguration shortestPathConfiguration;
+  /**
+   * This class's configuration.
+   */
+  private final CongestionConfiguration configuration;
+  /**
+   * The rolling averages, mapped to the names of the paths they belong to.
+   */
+  private final Map<String, PathStatistics> statisticsByPath = new HashMap<>();
+  /**
+   * The current congestion costs, mapped to the names of the paths they belong to.
+   */
+  private volatile Map<String, Double> costsByPath = Map.of();
+
+  /**
+   * Creates a new instance.
+   *
+   * @param objectService The object service.
+   * @param reservationPool The scheduler's reservation pool.
+   * @param globalSyncObject The kernel's global synchronization object.
+   * @param shortestPathConfiguration The shortest path configuration.
+   * @param configuration This class's configuration.
+   */
+  @Inject
+  public CongestionMonitor(
+      TCSObjectService objectService,
+      ReservationPool reservationPool,
+      @GlobalSyncObject
+      Object globalSyncObject,
+      ShortestPathConfiguration shortestPathConfiguration,
+      CongestionConfiguration configuration
+  ) {
+    this.objectService = requireNonNull(objectService, "objectService");
+    this.reservationPool = requireNonNull(reservationPool, "reservationPool");
+    this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
+    this.shortestPathConfiguration = requireNonNull(
+        shortestPathConfiguration,
+        "shortestPathConfiguration"
+    );
+    this.configuration = requireNonNull(configuration, "configuration");
+  }
+
+  /**
+   * Indicates whether congestion costs are used for routing, i.e. whether
+   * {@link EdgeEvaluatorCongestion} is one of the configured edge evaluators.
+   *
+   * @return {@code true} if, and only if, congestion costs are used for routing.
+   */
+  public boolean isEnabled() {
+    return shortestPathConfiguration.edgeEvaluators()
+        .contains(EdgeEvaluatorCongestion.CONFIGURATION_KEY);
+  }
+
+  /**
+   * Returns the current congestion costs for the path with the given name.
+   *
+   * @param pathName The name of the path.
+   * @return The current congestion costs for the path, or 0.0 if the path is not congested.
+   */
+  public double getCosts(
+      @Nonnull
+      String pathName
+  ) {
+    requireNonNull(pathName, "pathName");
+
+    return costsByPath.getOrDefault(pathName, 0.0);
+  }
+
+  /**
+   * Samples the current path occupancy and the wait times recorded since the last call, updates
+   * the rolling averages and the congestion costs derived from them.
+   *
+   * @return The paths whose congestion costs have changed.
+   */
+  @Nonnull
+  public synchronized Set<Path> updateCosts() {
+    Set<String> occupiedPaths;
+    Map<String, Long> waitTimes;
+    synchronized (globalSyncObject) {
+      occupiedPaths = reservationPool.getAllocatedResources().stream()
+          .filter(resource -> resource instanceof Path)
+          .map(TCSResource::getName)
+          .collect(Collectors.toSet());
+      waitTimes = reservationPool.fetchAndResetWaitTimes().entrySet().stream()
+          .filter(entry -> entry.getKey() instanceof Path)
+          .collect(Collectors.toMap(entry -> entry.getKey().getName(), Map.Entry::getValue));
+    }
+
+    // Paths that are neither occupied nor waited for are sampled, too, so their averages decay.
+    Set<String> sampledPaths = new HashSet<>(statisticsByPath.keySet());
+    sampledPaths.addAll(occupiedPaths);
+    sampledPaths.addAll(waitTimes.keySet());
+
+    Map<String, Double> newCostsByPath = new HashMap<>(costsByPath);
+    Set<String> changedPaths = new HashSet<>();
+    for (String pathName : sampledPaths) {
+      PathStatistics statistics = statisticsByPath.computeIfAbsent(
+          pathName,
+          name -> new PathStatistics()
+      );
+      statistics.addSample(
+          occupiedPaths.contains(pathName) ? 1.0 : 0.0,
+          waitTimes.getOrDefault(pathName, 0L),
+          configuration.smoothingFactor()
+      );
+
+      double oldCosts = newCostsByPath.getOrDefault(pathName, 0.0);
+      if (statistics.isNegligible()) {
+        statisticsByPath.remove(pathName);
+        if (oldCosts != 0.0) {
+          newCostsByPath.remove(pathName);
+          changedPaths.add(pathName);
+        }
+        continue;
+      }
+
+      double newCosts = statistics.averageOccupancy * configuration.occupancyCosts()
+          + statistics.averageWaitTime * configuration.waitTimeCostFactor();
+      if (Math.abs(newCosts - oldCosts) >= configuration.minimumCostChange()) {
+        newCostsByPath.put(pathName, newCosts);
+        changedPaths.add(pathName);
+      }
+    }
+
+    costsByPath = Map.copyOf(newCostsByPath);
+
+    LOG.debug(
+        "Congestion costs changed for {} of {} monitored paths.",
+        changedPaths.size(),
+        statisticsByPath.size()
+    );
+
+    return changedPaths.stream()
+        .map(pathName -> objectService.fetchObject(Path.class, pathName))
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Discards all rolling averages and congestion costs.
+   */
+  public synchronized void clear() {
+    statisticsByPath.clear();
+    costsByPath = Map.of();
+  }
+
+  /**
+   * The rolling averages for a single path.
+   */
+  private static class PathStatistics {
+
+    /**
+     * The average fraction of samples in which the path was occupied.
+     */
+    private double averageOccupancy;
+    /**
+     * The average time (in ms) vehicles had to wait for the path.
+     */
+    private double averageWaitTime;
+
+    PathStatistics() {
+    }
+
+    void addSample(double occupancy, long waitTime, double smoothingFactor) {
+      averageOccupancy += smoothingFactor * (occupancy - averageOccupancy);
+      averageWaitTime += smoothingFactor * (waitTime - averageWaitTime);
+    }
+
+    boolean isNegligible() {
+      return averageOccupancy < NEGLIGIBLE_AVERAGE && averageWaitTime < NEGLIGIBLE_AVERAGE;
+    }
+  }
+}
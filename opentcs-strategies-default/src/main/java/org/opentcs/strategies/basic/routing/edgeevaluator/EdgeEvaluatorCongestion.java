@@ -0,0 +1,55 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.inject.Inject;
+import org.opentcs.components.kernel.routing.Edge;
+import org.opentcs.components.kernel.routing.EdgeEvaluator;
+import org.opentcs.data.model.Vehicle;
+
+/**
+ * Evaluates edges according to the congestion of the corresponding paths, i.e. according to how
+ * often they are occupied and how long vehicles had to wait for them recently.
+ * <p>
+ * The costs are provided by the {@link CongestionMonitor}.
+ * </p>
+ */
+public class EdgeEvaluatorCongestion
+    implements
+      EdgeEvaluator {
+
+  /**
+   * A key used for selecting this evaluator in a configuration setting.
+   * Should be unique among all keys.
+   */
+  public static final String CONFIGURATION_KEY = "CONGESTION";
+  /**
+   * Provides the congestion costs for paths.
+   */
+  private final CongestionMonitor congestionMonitor;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param congestionMonitor Provides the congestion costs for paths.
+   */
+  @Inject
+  public EdgeEvaluatorCongestion(CongestionMonitor congestionMonitor) {
+    this.congestionMonitor = requireNonNull(congestionMonitor, "congestionMonitor");
+  }
+
+  @Override
+  public void onGraphComputationStart(Vehicle vehicle) {
+  }
+
+  @Override
+  public void onGraphComputationEnd(Vehicle vehicle) {
+  }
+
+  @Override
+  public double computeWeight(Edge edge, Vehicle vehicle) {
+    return congestionMonitor.getCosts(edge.getPath().getName());
+  }
+}
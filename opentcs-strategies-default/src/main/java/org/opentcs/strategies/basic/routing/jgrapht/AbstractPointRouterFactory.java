@@ -10,6 +10,7 @@ import java.util.Iterator;
 import java.util.Set;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.shortestpath.YenKShortestPath;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.Point;
@@ -122,6 +123,7 @@ public abstract class AbstractPointRouterFactory
 
     PointRouter router = new ShortestPathPointRouter(
         createShortestPathAlgorithm(graphResult.getGraph()),
+        new YenKShortestPath<>(graphResult.getGraph()),
         points,
         graphResult.getGraph().vertexSet()
     );
@@ -13,6 +13,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 import org.jgrapht.Graph;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.components.kernel.routing.GroupMapper;
@@ -112,21 +113,55 @@ public class GraphProvider {
   public GraphResult getGraphResult(Vehicle vehicle) {
     return graphResultsByRoutingGroup.computeIfAbsent(
         routingGroupMapper.apply(vehicle),
-        routingGroup -> new GraphResult(
+        routingGroup -> createGraphResult(
             vehicle,
             getCurrentPointBase().getResources(),
-            getCurrentPathBase().getResources(),
-            Set.of(),
-            Set.of(),
-            defaultModelGraphMapper.translateModel(
-                getCurrentPointBase().getResources(),
-                getCurrentPathBase().getResources(),
-                vehicle
-            )
+            getCurrentPathBase().getResources()
         )
     );
   }
 
+  /**
+   * Computes the routing graphs for the routing groups of the given vehicles, unless they have
+   * already been computed.
+   * <p>
+   * As the routing graphs for different routing groups do not depend on each other, they are
+   * computed in parallel.
+   * </p>
+   *
+   * @param vehicles The vehicles.
+   */
+  public void computeGraphResults(
+      @Nonnull
+      Collection<Vehicle> vehicles
+  ) {
+    requireNonNull(vehicles, "vehicles");
+
+    Map<String, Vehicle> vehiclesByMissingRoutingGroup = new HashMap<>();
+    for (Vehicle vehicle : vehicles) {
+      String routingGroup = routingGroupMapper.apply(vehicle);
+      if (!graphResultsByRoutingGroup.containsKey(routingGroup)) {
+        vehiclesByMissingRoutingGroup.putIfAbsent(routingGroup, vehicle);
+      }
+    }
+
+    if (vehiclesByMissingRoutingGroup.isEmpty()) {
+      return;
+    }
+
+    Set<Point> pointBase = getCurrentPointBase().getResources();
+    Set<Path> pathBase = getCurrentPathBase().getResources();
+    graphResultsByRoutingGroup.putAll(
+        vehiclesByMissingRoutingGroup.entrySet().parallelStream()
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> createGraphResult(entry.getValue(), pointBase, pathBase)
+                )
+            )
+    );
+  }
+
   /**
    * Returns a {@link GraphResult} containing a general routing graph that is not affected by any
    * path properties or any configured edge evaluators.
@@ -240,6 +275,17 @@ public class GraphProvider {
     }
   }
 
+  private GraphResult createGraphResult(Vehicle vehicle, Set<Point> pointBase, Set<Path> pathBase) {
+    return new GraphResult(
+        vehicle,
+        pointBase,
+        pathBase,
+        Set.of(),
+        Set.of(),
+        defaultModelGraphMapper.translateModel(pointBase, pathBase, vehicle)
+    );
+  }
+
   private String derivedGraphResultCacheKey(
       Vehicle vehicle,
       Set<Point> pointsToExclude,
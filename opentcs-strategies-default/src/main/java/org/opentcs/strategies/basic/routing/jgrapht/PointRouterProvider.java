@@ -76,6 +76,14 @@ public class PointRouterProvider {
     graphProvider.invalidate();
   }
 
+  /**
+   * Computes the routing graphs for the routing groups of all vehicles in advance, so they do not
+   * have to be computed when a route is requested for the first time.
+   */
+  public void computeRoutingGraphs() {
+    graphProvider.computeGraphResults(objectService.fetchObjects(Vehicle.class));
+  }
+
   /**
    * Updates the routing topology with respect to the given paths.
    *
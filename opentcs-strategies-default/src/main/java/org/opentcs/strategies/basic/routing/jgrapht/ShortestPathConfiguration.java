@@ -40,7 +40,9 @@ public interface ShortestPathConfiguration {
           "'HOPS': A route's cost equals the number of paths it consists of.",
           "'BOUNDING_BOX': A route's cost equals 0 if the vehicle's bounding box does not protrude "
               + "beyond _any_ bounding boxes of points along the route. Otherwise, a route's cost "
-              + "is considered infinitely high, resulting in the route to be effectively discarded."
+              + "is considered infinitely high, resulting in the route to be effectively discarded.",
+          "'CONGESTION': A route's cost equals the sum of the paths' congestion costs, derived from "
+              + "how often they were occupied and how long vehicles had to wait for them recently."
       },
       changesApplied = ConfigurationEntry.ChangesApplied.ON_APPLICATION_START
   )
@@ -3,6 +3,7 @@
 package org.opentcs.strategies.basic.routing.jgrapht;
 
 import static java.util.Objects.requireNonNull;
+import static org.opentcs.util.Assertions.checkArgument;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -11,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.KShortestPathAlgorithm;
 import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
 import org.opentcs.components.kernel.routing.Edge;
 import org.opentcs.data.TCSObjectReference;
@@ -37,6 +39,10 @@ public class ShortestPathPointRouter
   private static final Logger LOG = LoggerFactory.getLogger(ShortestPathPointRouter.class);
 
   private final ShortestPathAlgorithm<Vertex, Edge> algo;
+  /**
+   * The algorithm used for computing alternative routes, if more than one route is requested.
+   */
+  private final KShortestPathAlgorithm<Vertex, Edge> kShortestPathAlgo;
 
   private final Map<String, Point> points = new HashMap<>();
 
@@ -44,10 +50,12 @@ public class ShortestPathPointRouter
 
   public ShortestPathPointRouter(
       ShortestPathAlgorithm<Vertex, Edge> algo,
+      KShortestPathAlgorithm<Vertex, Edge> kShortestPathAlgo,
       Collection<Point> points,
       Collection<Vertex> vertices
   ) {
     this.algo = requireNonNull(algo, "algo");
+    this.kShortestPathAlgo = requireNonNull(kShortestPathAlgo, "kShortestPathAlgo");
     requireNonNull(points, "points");
     requireNonNull(vertices, "vertexSet");
 
@@ -90,6 +98,46 @@ public class ShortestPathPointRouter
     return result;
   }
 
+  @Override
+  public List<List<Route.Step>> getRouteSteps(
+      Point srcPoint,
+      Point destPoint,
+      int maxRouteCount
+  ) {
+    requireNonNull(srcPoint, "srcPoint");
+    requireNonNull(destPoint, "destPoint");
+    checkArgument(maxRouteCount > 0, "maxRouteCount must be greater than zero");
+
+    if (maxRouteCount == 1 || Objects.equals(srcPoint.getName(), destPoint.getName())) {
+      List<Route.Step> steps = getRouteSteps(srcPoint, destPoint);
+      return steps == null ? List.of() : List.of(steps);
+    }
+
+    long timeBefore = System.currentTimeMillis();
+
+    List<GraphPath<Vertex, Edge>> graphPaths = kShortestPathAlgo.getPaths(
+        pointVertexMap.get(srcPoint.getName()),
+        pointVertexMap.get(destPoint.getName()),
+        maxRouteCount
+    );
+
+    List<List<Route.Step>> result = new ArrayList<>(graphPaths.size());
+    for (GraphPath<Vertex, Edge> graphPath : graphPaths) {
+      result.add(translateToSteps(graphPath));
+    }
+
+    LOG.debug(
+        "Looking up {} (max. {}) routes from {} to {} took {} milliseconds.",
+        result.size(),
+        maxRouteCount,
+        srcPoint.getName(),
+        destPoint.getName(),
+        System.currentTimeMillis() - timeBefore
+    );
+
+    return result;
+  }
+
   @Override
   public long getCosts(
       TCSObjectReference<Point> srcPointRef,
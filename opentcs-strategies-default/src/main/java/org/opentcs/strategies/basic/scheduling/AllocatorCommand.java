@@ -60,6 +60,15 @@ abstract class AllocatorCommand
     }
   }
 
+  /**
+   * Returns the point of time at which this command was created.
+   *
+   * @return The point of time at which this command was created (in ms since the epoch).
+   */
+  public long getCreationTime() {
+    return creationTime;
+  }
+
   /**
    * Returns the scheduler client this command is associated with.
    *
@@ -187,16 +196,22 @@ abstract class AllocatorCommand
      * The resources to be allocated.
      */
     private final Set<TCSResource<?>> resources;
+    /**
+     * The resource set containing the resources to be allocated.
+     */
+    private final ResourceSet resourceSet;
 
     /**
      * Creates a new instance.
      *
      * @param client The scheduler client this command is associated with.
      * @param resources The resources to be allocated.
+     * @param resourceSet The resource set containing the resources to be allocated.
      */
-    Allocate(Client client, Set<TCSResource<?>> resources) {
+    Allocate(Client client, Set<TCSResource<?>> resources, ResourceSet resourceSet) {
       super(5, client);
       this.resources = requireNonNull(resources, "resources");
+      this.resourceSet = requireNonNull(resourceSet, "resourceSet");
     }
 
     /**
@@ -208,6 +223,15 @@ abstract class AllocatorCommand
       return resources;
     }
 
+    /**
+     * Returns the resource set containing the resources to be allocated.
+     *
+     * @return The resource set containing the resources to be allocated.
+     */
+    public ResourceSet getResourceSet() {
+      return resourceSet;
+    }
+
     @Override
     public String toString() {
       return "Allocate{"
@@ -166,7 +166,7 @@ class AllocatorTask
       }
 
       LOG.debug("{}: Checking resource availability: {}...", client.getId(), resources);
-      if (!reservationPool.resourcesAvailableForUser(resources, client)) {
+      if (!reservationPool.resourcesAvailableForUser(command.getResourceSet(), client)) {
         LOG.debug("{}: Resources unavailable.", client.getId());
         return false;
       }
@@ -182,12 +182,14 @@ class AllocatorTask
 
       LOG.debug("{}: All resources available, allocating...", client.getId());
       // Allocate resources.
-      for (TCSResource<?> curRes : command.getResources()) {
-        reservationPool.getReservationEntry(curRes).allocate(client);
-      }
+      reservationPool.allocate(command.getResourceSet(), client);
 
       LOG.debug("{}: Removing resources claim: {}...", client.getId(), resources);
       reservationPool.unclaim(client, resources);
+      reservationPool.recordWaitTime(
+          resources,
+          System.currentTimeMillis() - command.getCreationTime()
+      );
 
       return true;
     }
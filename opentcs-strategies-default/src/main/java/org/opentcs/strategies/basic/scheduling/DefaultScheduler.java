@@ -20,11 +20,15 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.ResourceAllocationException;
 import org.opentcs.components.kernel.Scheduler;
+import org.opentcs.components.kernel.services.TCSObjectService;
 import org.opentcs.customizations.ApplicationEventBus;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.customizations.kernel.KernelExecutor;
 import org.opentcs.data.TCSObjectEvent;
 import org.opentcs.data.TCSObjectReference;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.scheduling.AllocatorCommand.Allocate;
@@ -57,6 +61,10 @@ public class DefaultScheduler
    * The reservation pool.
    */
   private final ReservationPool reservationPool;
+  /**
+   * The object service.
+   */
+  private final TCSObjectService objectService;
   /**
    * Allocations deferred because they couldn't be granted, yet.
    */
@@ -87,6 +95,7 @@ public class DefaultScheduler
    *
    * @param allocationAdvisor Takes care of modules.
    * @param reservationPool The reservation pool to be used.
+   * @param objectService The object service.
    * @param kernelExecutor Executes scheduling tasks.
    * @param eventBus The kernel's event bus.
    * @param globalSyncObject The kernel threads' global synchronization object.
@@ -95,6 +104,7 @@ public class DefaultScheduler
   public DefaultScheduler(
       AllocationAdvisor allocationAdvisor,
       ReservationPool reservationPool,
+      TCSObjectService objectService,
       @KernelExecutor
       ScheduledExecutorService kernelExecutor,
       @ApplicationEventBus
@@ -104,6 +114,7 @@ public class DefaultScheduler
   ) {
     this.allocationAdvisor = requireNonNull(allocationAdvisor, "allocationAdvisor");
     this.reservationPool = requireNonNull(reservationPool, "reservationPool");
+    this.objectService = requireNonNull(objectService, "objectService");
     this.kernelExecutor = requireNonNull(kernelExecutor, "kernelExecutor");
     this.eventBus = requireNonNull(eventBus, "eventBus");
     this.globalSyncObject = requireNonNull(globalSyncObject, "globalSyncObject");
@@ -116,6 +127,11 @@ public class DefaultScheduler
     }
 
     reservationPool.clear();
+    // Assign dense IDs to all resources of the plant model, with the points (which are the
+    // resources most frequently allocated) getting the lowest IDs.
+    reservationPool.registerResources(objectService.fetchObjects(Point.class));
+    reservationPool.registerResources(objectService.fetchObjects(Path.class));
+    reservationPool.registerResources(objectService.fetchObjects(Location.class));
     allocationAdvisor.initialize();
 
     eventBus.subscribe(this);
@@ -176,7 +192,7 @@ public class DefaultScheduler
               allocationAdvisor,
               kernelExecutor,
               globalSyncObject,
-              new Allocate(client, resources)
+              new Allocate(client, resources, reservationPool.getNextClaimedResourceSet(client))
           )
       );
 
@@ -25,6 +25,15 @@ public class ReservationEntry {
    * Instance of resource that vehicle may claim for exclusive usage.
    */
   private final TCSResource<?> resource;
+  /**
+   * The resource's ID, as assigned by the reservation pool.
+   */
+  private final int resourceId;
+  /**
+   * The reservation pool to be notified about changes of the allocating client, or
+   * {@code null}.
+   */
+  private final ReservationPool reservationPool;
   /**
    * The client for which the resource is currently reserved.
    */
@@ -42,7 +51,25 @@ public class ReservationEntry {
    * @param reqResource The resource.
    */
   public ReservationEntry(final TCSResource<?> reqResource) {
+    this(reqResource, -1, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param reqResource The resource.
+   * @param resourceId The resource's ID, as assigned by the reservation pool.
+   * @param reservationPool The reservation pool to be notified about changes of the allocating
+   * client, or {@code null}.
+   */
+  ReservationEntry(
+      TCSResource<?> reqResource,
+      int resourceId,
+      ReservationPool reservationPool
+  ) {
     this.resource = requireNonNull(reqResource, "reqResource");
+    this.resourceId = resourceId;
+    this.reservationPool = reservationPool;
   }
 
   /**
@@ -54,6 +81,15 @@ public class ReservationEntry {
     return resource;
   }
 
+  /**
+   * Returns the resource's ID, as assigned by the reservation pool.
+   *
+   * @return The resource's ID, or -1, if it was not assigned by a reservation pool.
+   */
+  int getResourceId() {
+    return resourceId;
+  }
+
   /**
    * Returns the client currently allocating the resource.
    *
@@ -75,6 +111,9 @@ public class ReservationEntry {
     if (this.client == null) {
       LOG.debug("Allocating resource {} for client {}", resource, client.getId());
       this.client = client;
+      if (reservationPool != null) {
+        reservationPool.entryAllocated(this, client);
+      }
     }
     else if (this.client != client) {
       // The resource is already allocated by someone else - may not happen.
@@ -102,7 +141,7 @@ public class ReservationEntry {
     checkState(counter > 0, "counter is already less than 1");
     counter--;
     if (counter == 0) {
-      client = null;
+      release();
     }
   }
 
@@ -112,7 +151,15 @@ public class ReservationEntry {
    */
   void freeCompletely() {
     counter = 0;
+    release();
+  }
+
+  private void release() {
+    Client previousClient = client;
     client = null;
+    if (reservationPool != null && previousClient != null) {
+      reservationPool.entryFreed(this, previousClient);
+    }
   }
 
   /**
@@ -5,8 +5,12 @@ package org.opentcs.strategies.basic.scheduling;
 import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -21,6 +25,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Keeps track of the resources claimed and allocated by scheduler clients.
+ * <p>
+ * Resources are assigned dense integer IDs (see {@link #registerResources(Collection)}), and the
+ * resources allocated are tracked in bit sets indexed by these IDs, so that checking the
+ * availability of resources does not require looking up every single resource in a hash map.
+ * </p>
  */
 public class ReservationPool {
 
@@ -28,15 +38,36 @@ public class ReservationPool {
    * This class's Logger.
    */
   private static final Logger LOG = LoggerFactory.getLogger(ReservationPool.class);
+  /**
+   * An empty set of resource IDs.
+   */
+  private static final BitSet EMPTY_IDS = new BitSet();
   /**
    * All claims.
    */
-  private final Map<Scheduler.Client, Queue<Set<TCSResource<?>>>> claimsByClient
-      = new HashMap<>();
+  private final Map<Scheduler.Client, Queue<ClaimedResources>> claimsByClient = new HashMap<>();
+  /**
+   * Assigns IDs to resources.
+   */
+  private final ResourceIndex resourceIndex = new ResourceIndex();
+  /**
+   * <code>ReservationEntry</code> instances for each <code>TCSResource</code>, indexed by the
+   * resources' IDs. Entries not created, yet, are <code>null</code>.
+   */
+  private final List<ReservationEntry> reservations = new ArrayList<>();
+  /**
+   * The IDs of all resources currently allocated by any client.
+   */
+  private final BitSet allocatedIds = new BitSet();
+  /**
+   * The IDs of the resources currently allocated, mapped to the respective clients.
+   */
+  private final Map<Scheduler.Client, BitSet> allocatedIdsByClient = new HashMap<>();
   /**
-   * <code>ReservationEntry</code> instances for each <code>TCSResource</code>.
+   * The longest time (in ms) clients had to wait for each resource since the wait times were last
+   * retrieved.
    */
-  private final Map<TCSResource<?>, ReservationEntry> reservations = new HashMap<>();
+  private final Map<TCSResource<?>, Long> maxWaitTimes = new HashMap<>();
 
   /**
    * Creates a new instance.
@@ -55,12 +86,43 @@ public class ReservationPool {
   public ReservationEntry getReservationEntry(TCSResource<?> resource) {
     requireNonNull(resource, "resource");
 
-    ReservationEntry entry = reservations.get(resource);
-    if (entry == null) {
-      entry = new ReservationEntry(resource);
-      reservations.put(resource, entry);
+    return getReservationEntry(resourceIndex.idOf(resource));
+  }
+
+  /**
+   * Assigns IDs to the given resources, in the order they are given.
+   * <p>
+   * This is expected to be called with all resources of a plant model after it has been loaded,
+   * so that the IDs of the resources are dense and stable. Resources that already have an ID keep
+   * it.
+   * </p>
+   *
+   * @param <R> The resources' type.
+   * @param resources The resources.
+   */
+  public <R extends TCSResource<R>> void registerResources(
+      @Nonnull
+      Collection<R> resources
+  ) {
+    requireNonNull(resources, "resources");
+
+    for (R resource : resources) {
+      resourceIndex.idOf(resource);
     }
-    return entry;
+  }
+
+  /**
+   * Returns a resource set containing the given resources.
+   *
+   * @param resources The resources.
+   * @return A resource set containing the given resources.
+   */
+  @Nonnull
+  public ResourceSet toResourceSet(
+      @Nonnull
+      Set<? extends TCSResource<?>> resources
+  ) {
+    return resourceIndex.toResourceSet(resources);
   }
 
   /**
@@ -77,7 +139,7 @@ public class ReservationPool {
     requireNonNull(client, "client");
 
     return claimsByClient.getOrDefault(client, new ArrayDeque<>()).stream()
-        .map(resourceSet -> Set.copyOf(resourceSet))
+        .map(claimedResources -> Set.copyOf(claimedResources.getResources()))
         .collect(Collectors.toList());
   }
 
@@ -96,7 +158,12 @@ public class ReservationPool {
     requireNonNull(client, "client");
     requireNonNull(resources, "resources");
 
-    claimsByClient.put(client, new ArrayDeque<>(resources));
+    claimsByClient.put(
+        client,
+        resources.stream()
+            .map(ClaimedResources::new)
+            .collect(Collectors.toCollection(ArrayDeque::new))
+    );
   }
 
   /**
@@ -127,7 +194,7 @@ public class ReservationPool {
           String.format(
               "Resources to unclaim and head of claimed resource don't match: %s != %s",
               resources,
-              claimsByClient.get(client).peek()
+              claimsByClient.get(client).peek().getResources()
           )
       );
     }
@@ -156,13 +223,41 @@ public class ReservationPool {
       return false;
     }
 
-    if (!Objects.equals(resources, claimsByClient.get(client).peek())) {
+    if (!Objects.equals(resources, claimsByClient.get(client).peek().getResources())) {
       return false;
     }
 
     return true;
   }
 
+  /**
+   * Returns the resource set at the head of the given client's claim sequence.
+   * <p>
+   * The resource set is created only once per claimed set of resources.
+   * </p>
+   *
+   * @param client The client.
+   * @return The resource set at the head of the given client's claim sequence.
+   * @throws IllegalArgumentException If the given client's claim sequence is empty.
+   */
+  @Nonnull
+  public ResourceSet getNextClaimedResourceSet(
+      @Nonnull
+      Scheduler.Client client
+  )
+      throws IllegalArgumentException {
+    requireNonNull(client, "client");
+
+    ClaimedResources next = claimsByClient.getOrDefault(client, new ArrayDeque<>()).peek();
+    if (next == null) {
+      throw new IllegalArgumentException("No resources claimed by " + client.getId());
+    }
+    if (next.getResourceSet() == null) {
+      next.setResourceSet(toResourceSet(next.getResources()));
+    }
+    return next.getResourceSet();
+  }
+
   /**
    * Returns all resources allocated by the given client.
    *
@@ -176,10 +271,8 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    return reservations.entrySet().stream()
-        .filter(entry -> entry.getValue().isAllocatedBy(client))
-        .map(entry -> entry.getKey())
-        .collect(Collectors.toSet());
+    BitSet clientIds = allocatedIdsByClient.get(client);
+    return clientIds == null ? new HashSet<>() : resourceIndex.toResources(clientIds);
   }
 
   /**
@@ -199,22 +292,82 @@ public class ReservationPool {
     requireNonNull(resources, "resources");
     requireNonNull(client, "client");
 
-    for (TCSResource<?> curResource : resources) {
-      // Check if the resource is available.
-      ReservationEntry entry = getReservationEntry(curResource);
-      if (!entry.isFree() && !entry.isAllocatedBy(client)) {
-        LOG.debug(
-            "{}: Resource {} unavailable, reserved by {}",
-            client.getId(),
-            curResource.getName(),
-            entry.getClient().getId()
-        );
-        return false;
-      }
+    return resourcesAvailableForUser(toResourceSet(resources), client);
+  }
+
+  /**
+   * Checks if all resources in the given set of resources are be available for the given client.
+   *
+   * @param resources The set of resources to be checked.
+   * @param client The client for which to check.
+   * @return <code>true</code> if, and only if, all resources in the given set
+   * are available for the given client.
+   */
+  public boolean resourcesAvailableForUser(
+      @Nonnull
+      ResourceSet resources,
+      @Nonnull
+      Scheduler.Client client
+  ) {
+    requireNonNull(resources, "resources");
+    requireNonNull(client, "client");
+
+    // A resource is unavailable if it is allocated by any client other than the given one.
+    int unavailableId = resources.firstIntersectionExcluding(
+        allocatedIds,
+        allocatedIdsByClient.getOrDefault(client, EMPTY_IDS)
+    );
+    if (unavailableId >= 0) {
+      ReservationEntry entry = getReservationEntry(unavailableId);
+      LOG.debug(
+          "{}: Resource {} unavailable, reserved by {}",
+          client.getId(),
+          entry.getResource().getName(),
+          entry.getClient().getId()
+      );
+      return false;
     }
     return true;
   }
 
+  /**
+   * Allocates all resources in the given resource set for the given client.
+   *
+   * @param resources The resources to be allocated.
+   * @param client The client.
+   */
+  public void allocate(
+      @Nonnull
+      ResourceSet resources,
+      @Nonnull
+      Scheduler.Client client
+  ) {
+    requireNonNull(resources, "resources");
+    requireNonNull(client, "client");
+
+    resources.ids().forEach(id -> getReservationEntry(id).allocate(client));
+  }
+
+  /**
+   * Checks if any resource in the given resource set is allocated by the given client.
+   *
+   * @param resources The resources to be checked.
+   * @param client The client.
+   * @return <code>true</code> if, and only if, at least one resource in the given resource set is
+   * allocated by the given client.
+   */
+  public boolean anyAllocatedBy(
+      @Nonnull
+      ResourceSet resources,
+      @Nonnull
+      Scheduler.Client client
+  ) {
+    requireNonNull(resources, "resources");
+    requireNonNull(client, "client");
+
+    return resources.intersects(allocatedIdsByClient.getOrDefault(client, EMPTY_IDS));
+  }
+
   public void free(
       @Nonnull
       Scheduler.Client client,
@@ -236,32 +389,114 @@ public class ReservationPool {
   ) {
     requireNonNull(client, "client");
 
-    reservations.values().stream()
-        .filter(reservationEntry -> reservationEntry.isAllocatedBy(client))
-        .forEach(reservationEntry -> reservationEntry.freeCompletely());
+    BitSet clientIds = allocatedIdsByClient.get(client);
+    if (clientIds == null) {
+      return;
+    }
+    // Freeing the entries modifies the client's bit set, so iterate over a copy of it.
+    ((BitSet) clientIds.clone()).stream()
+        .forEach(id -> getReservationEntry(id).freeCompletely());
   }
 
   @Nonnull
   public Map<String, Set<TCSResource<?>>> getAllocations() {
     final Map<String, Set<TCSResource<?>>> result = new HashMap<>();
-    for (Map.Entry<TCSResource<?>, ReservationEntry> curEntry : reservations.entrySet()) {
-      final TCSResource<?> curResource = curEntry.getKey();
-      final Scheduler.Client curUser = curEntry.getValue().getClient();
-      if (curUser != null) {
-        Set<TCSResource<?>> userResources = result.get(curUser.getId());
-        if (userResources == null) {
-          userResources = new HashSet<>();
-        }
-        userResources.add(curResource);
-        result.put(curUser.getId(), userResources);
-      }
+    for (Map.Entry<Scheduler.Client, BitSet> curEntry : allocatedIdsByClient.entrySet()) {
+      result.put(curEntry.getKey().getId(), resourceIndex.toResources(curEntry.getValue()));
     }
     return result;
   }
 
+  /**
+   * Returns all resources that are currently allocated by any client.
+   *
+   * @return All resources that are currently allocated by any client.
+   */
+  @Nonnull
+  public Set<TCSResource<?>> getAllocatedResources() {
+    return resourceIndex.toResources(allocatedIds);
+  }
+
+  /**
+   * Records the time a client had to wait for the given resources to be allocated.
+   *
+   * @param resources The allocated resources.
+   * @param waitTime The time (in ms) between the allocation request and the actual allocation.
+   */
+  public void recordWaitTime(
+      @Nonnull
+      Set<TCSResource<?>> resources,
+      long waitTime
+  ) {
+    requireNonNull(resources, "resources");
+
+    for (TCSResource<?> resource : resources) {
+      maxWaitTimes.merge(resource, waitTime, Math::max);
+    }
+  }
+
+  /**
+   * Returns the longest time clients had to wait for each resource since this method was last
+   * called, and resets the recorded wait times.
+   *
+   * @return The longest wait times (in ms), mapped to the respective resources. Resources for which
+   * no wait time was recorded are not contained.
+   */
+  @Nonnull
+  public Map<TCSResource<?>, Long> fetchAndResetWaitTimes() {
+    Map<TCSResource<?>, Long> result = new HashMap<>(maxWaitTimes);
+    maxWaitTimes.clear();
+    return result;
+  }
+
   public void clear() {
     claimsByClient.clear();
     reservations.clear();
+    allocatedIds.clear();
+    allocatedIdsByClient.clear();
+    resourceIndex.clear();
+    maxWaitTimes.clear();
+  }
+
+  /**
+   * Called by a reservation entry when its resource has been allocated by a client.
+   *
+   * @param entry The reservation entry.
+   * @param client The client that allocated the resource.
+   */
+  void entryAllocated(ReservationEntry entry, Scheduler.Client client) {
+    allocatedIds.set(entry.getResourceId());
+    allocatedIdsByClient.computeIfAbsent(client, c -> new BitSet()).set(entry.getResourceId());
+  }
+
+  /**
+   * Called by a reservation entry when its resource has been freed completely by a client.
+   *
+   * @param entry The reservation entry.
+   * @param client The client that had allocated the resource.
+   */
+  void entryFreed(ReservationEntry entry, Scheduler.Client client) {
+    allocatedIds.clear(entry.getResourceId());
+    BitSet clientIds = allocatedIdsByClient.get(client);
+    if (clientIds != null) {
+      clientIds.clear(entry.getResourceId());
+      if (clientIds.isEmpty()) {
+        allocatedIdsByClient.remove(client);
+      }
+    }
+  }
+
+  @Nonnull
+  private ReservationEntry getReservationEntry(int id) {
+    while (reservations.size() <= id) {
+      reservations.add(null);
+    }
+    ReservationEntry entry = reservations.get(id);
+    if (entry == null) {
+      entry = new ReservationEntry(resourceIndex.resourceOf(id), id, this);
+      reservations.set(id, entry);
+    }
+    return entry;
   }
 
   /**
@@ -293,4 +528,39 @@ public class ReservationPool {
     }
     return freeableResources;
   }
+
+  /**
+   * A set of resources claimed by a client, along with the corresponding resource set, which is
+   * created when it is first needed.
+   */
+  private static class ClaimedResources {
+
+    /**
+     * The claimed resources.
+     */
+    private final Set<TCSResource<?>> resources;
+    /**
+     * The resource set containing the claimed resources, or <code>null</code>, if it has not been
+     * created, yet.
+     */
+    @Nullable
+    private ResourceSet resourceSet;
+
+    ClaimedResources(Set<TCSResource<?>> resources) {
+      this.resources = requireNonNull(resources, "resources");
+    }
+
+    Set<TCSResource<?>> getResources() {
+      return resources;
+    }
+
+    @Nullable
+    ResourceSet getResourceSet() {
+      return resourceSet;
+    }
+
+    void setResourceSet(ResourceSet resourceSet) {
+      this.resourceSet = resourceSet;
+    }
+  }
 }
@@ -0,0 +1,138 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.opentcs.data.model.TCSResource;
+
+/**
+ * Assigns dense integer IDs to resources, starting at zero.
+ * <p>
+ * Resources are identified by their names, which are unique within a plant model. Resources are
+ * expected to be registered when a plant model is loaded, but resources not registered before are
+ * assigned an ID on their first use, too.
+ * </p>
+ */
+class ResourceIndex {
+
+  /**
+   * The IDs assigned, mapped to the names of the respective resources.
+   */
+  private final Map<String, Integer> idsByName = new HashMap<>();
+  /**
+   * The resources, indexed by their IDs.
+   */
+  private final List<TCSResource<?>> resourcesById = new ArrayList<>();
+
+  /**
+   * Creates a new instance.
+   */
+  ResourceIndex() {
+  }
+
+  /**
+   * Returns the ID of the given resource, assigning it one if it does not have one, yet.
+   *
+   * @param resource The resource.
+   * @return The ID of the given resource.
+   */
+  int idOf(
+      @Nonnull
+      TCSResource<?> resource
+  ) {
+    Integer id = idsByName.get(resource.getName());
+    if (id == null) {
+      id = resourcesById.size();
+      idsByName.put(resource.getName(), id);
+      resourcesById.add(resource);
+    }
+    return id;
+  }
+
+  /**
+   * Returns the resource with the given ID.
+   *
+   * @param id The ID.
+   * @return The resource with the given ID.
+   * @throws IndexOutOfBoundsException If no resource has been assigned the given ID.
+   */
+  @Nonnull
+  TCSResource<?> resourceOf(int id)
+      throws IndexOutOfBoundsException {
+    return resourcesById.get(id);
+  }
+
+  /**
+   * Returns the number of IDs assigned.
+   *
+   * @return The number of IDs assigned.
+   */
+  int size() {
+    return resourcesById.size();
+  }
+
+  /**
+   * Returns a resource set containing the given resources.
+   *
+   * @param resources The resources.
+   * @return A resource set containing the given resources.
+   */
+  @Nonnull
+  ResourceSet toResourceSet(
+      @Nonnull
+      Set<? extends TCSResource<?>> resources
+  ) {
+    requireNonNull(resources, "resources");
+
+    int[] resourceIds = new int[resources.size()];
+    int highestId = -1;
+    int index = 0;
+    for (TCSResource<?> resource : resources) {
+      resourceIds[index] = idOf(resource);
+      highestId = Math.max(highestId, resourceIds[index]);
+      index++;
+    }
+
+    // Size the bit set to the highest ID, not to the number of IDs assigned.
+    BitSet ids = new BitSet(highestId + 1);
+    for (int id : resourceIds) {
+      ids.set(id);
+    }
+    return new ResourceSet(ids);
+  }
+
+  /**
+   * Returns the resources with the IDs set in the given bit set.
+   *
+   * @param ids The IDs.
+   * @return The resources with the given IDs.
+   */
+  @Nonnull
+  Set<TCSResource<?>> toResources(
+      @Nonnull
+      BitSet ids
+  ) {
+    Set<TCSResource<?>> result = new HashSet<>();
+    for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+      result.add(resourceOf(id));
+    }
+    return result;
+  }
+
+  /**
+   * Removes all assigned IDs.
+   */
+  void clear() {
+    idsByName.clear();
+    resourcesById.clear();
+  }
+}
@@ -0,0 +1,147 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.scheduling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.annotation.Nonnull;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable set of resources, represented by the resources' IDs as assigned by a
+ * {@link ReservationPool}.
+ * <p>
+ * Checking resource sets for intersections is done on the bit sets' words instead of looking up
+ * every single resource.
+ * </p>
+ */
+public final class ResourceSet {
+
+  /**
+   * The empty resource set.
+   */
+  public static final ResourceSet EMPTY = new ResourceSet(new BitSet());
+  /**
+   * The IDs of the resources in this set.
+   */
+  private final BitSet ids;
+
+  /**
+   * Creates a new instance.
+   *
+   * @param ids The IDs of the resources in this set. The bit set is not copied and must not be
+   * modified afterwards.
+   */
+  ResourceSet(
+      @Nonnull
+      BitSet ids
+  ) {
+    this.ids = requireNonNull(ids, "ids");
+  }
+
+  /**
+   * Checks whether this set contains the resource with the given ID.
+   *
+   * @param id The resource ID.
+   * @return {@code true} if, and only if, this set contains the resource with the given ID.
+   */
+  public boolean contains(int id) {
+    return ids.get(id);
+  }
+
+  /**
+   * Checks whether this set and the given one have at least one resource in common.
+   *
+   * @param other The other resource set.
+   * @return {@code true} if, and only if, the sets have at least one resource in common.
+   */
+  public boolean intersects(
+      @Nonnull
+      ResourceSet other
+  ) {
+    requireNonNull(other, "other");
+
+    return intersects(other.ids);
+  }
+
+  /**
+   * Checks whether this set contains at least one of the IDs set in the given bit set.
+   *
+   * @param otherIds The bit set.
+   * @return {@code true} if, and only if, this set contains at least one of the given IDs.
+   */
+  boolean intersects(BitSet otherIds) {
+    return ids.intersects(otherIds);
+  }
+
+  /**
+   * Returns the number of resources in this set.
+   *
+   * @return The number of resources in this set.
+   */
+  public int size() {
+    return ids.cardinality();
+  }
+
+  /**
+   * Checks whether this set is empty.
+   *
+   * @return {@code true} if, and only if, this set is empty.
+   */
+  public boolean isEmpty() {
+    return ids.isEmpty();
+  }
+
+  /**
+   * Returns the IDs of the resources in this set, in ascending order.
+   *
+   * @return The IDs of the resources in this set.
+   */
+  @Nonnull
+  public IntStream ids() {
+    return ids.stream();
+  }
+
+  /**
+   * Returns the first resource ID in this set that is set in the first of the given bit sets but
+   * not in the second one.
+   *
+   * @param included The bit set whose resources are checked.
+   * @param excluded The bit set whose resources are exempted from the check.
+   * @return The first such ID, or -1, if there is none.
+   */
+  int firstIntersectionExcluding(BitSet included, BitSet excluded) {
+    // Usually, there is no intersection at all, which is checked on the bit sets' words.
+    if (!ids.intersects(included)) {
+      return -1;
+    }
+    for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+      if (included.get(id) && !excluded.get(id)) {
+        return id;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ResourceSet other)) {
+      return false;
+    }
+    return ids.equals(other.ids);
+  }
+
+  @Override
+  public int hashCode() {
+    return ids.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "ResourceSet{" + "ids=" + ids + '}';
+  }
+}
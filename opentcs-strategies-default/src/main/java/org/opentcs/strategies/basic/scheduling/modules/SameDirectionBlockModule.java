@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.stream.Collectors;
 import org.opentcs.components.kernel.Scheduler;
 import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
@@ -23,6 +24,8 @@ import org.opentcs.data.model.Block;
 import org.opentcs.data.model.Path;
 import org.opentcs.data.model.TCSResource;
 import org.opentcs.strategies.basic.scheduling.ReservationPool;
+import org.opentcs.strategies.basic.scheduling.ResourceSet;
+import org.opentcs.util.BlockMembershipIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +54,11 @@ public class SameDirectionBlockModule
    * The permissions for all {@link Block.Type#SAME_DIRECTION_ONLY} blocks in a plant model.
    */
   private final Map<Block, BlockPermission> permissions = new HashMap<>();
+  /**
+   * An index mapping resources to the {@link Block.Type#SAME_DIRECTION_ONLY} blocks they are
+   * members of.
+   */
+  private BlockMembershipIndex blockIndex = BlockMembershipIndex.empty();
   /**
    * A global object to be used for synchronization within the kernel.
    */
@@ -80,12 +88,20 @@ public class SameDirectionBlockModule
       return;
     }
 
-    Set<Block> blocks = plantModelService.fetchObjects(Block.class);
+    Set<Block> blocks = plantModelService.fetchObjects(
+        Block.class,
+        block -> block.getType() == Block.Type.SAME_DIRECTION_ONLY
+    );
     for (Block block : blocks) {
-      if (block.getType() == Block.Type.SAME_DIRECTION_ONLY) {
-        permissions.put(block, new BlockPermission(block));
-      }
+      permissions.put(
+          block,
+          new BlockPermission(
+              block,
+              reservationPool.toResourceSet(plantModelService.expandResources(block.getMembers()))
+          )
+      );
     }
+    blockIndex = new BlockMembershipIndex(blocks);
 
     initialized = true;
   }
@@ -102,6 +118,7 @@ public class SameDirectionBlockModule
     }
 
     permissions.clear();
+    blockIndex = BlockMembershipIndex.empty();
 
     initialized = false;
   }
@@ -123,10 +140,7 @@ public class SameDirectionBlockModule
       // Other modules may prevented the last allocation, discard any previous requests.
       discardPreviousRequests();
 
-      Set<Block> blocks = filterBlocksContainingResources(
-          resources,
-          Block.Type.SAME_DIRECTION_ONLY
-      );
+      Set<Block> blocks = filterBlocksContainingResources(resources);
       if (blocks.isEmpty()) {
         LOG.debug("{}: No blocks to be checked, allocation allowed.", client.getId());
         return true;
@@ -171,15 +185,12 @@ public class SameDirectionBlockModule
     requireNonNull(resources, "resources");
 
     synchronized (globalSyncObject) {
-      for (Map.Entry<Block, BlockPermission> entry : permissions.entrySet()) {
-        Block block = entry.getKey();
-        BlockPermission permission = entry.getValue();
-
+      for (BlockPermission permission : permissions.values()) {
         if (!permission.isPermissionGranted(client)) {
           continue;
         }
 
-        if (blockResourcesAllocatedByClient(block, client)) {
+        if (reservationPool.anyAllocatedBy(permission.getBlockResources(), client)) {
           continue;
         }
 
@@ -195,23 +206,13 @@ public class SameDirectionBlockModule
     permissions.values().forEach(permission -> permission.clearPendingRequests());
   }
 
-  private Set<Block> filterBlocksContainingResources(
-      Set<TCSResource<?>> resources,
-      Block.Type type
-  ) {
-    Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetchObjects(
-        Block.class,
-        block -> block.getType() == type
+  private Set<Block> filterBlocksContainingResources(Set<TCSResource<?>> resources) {
+    return blockIndex.getBlocksContaining(
+        resources.stream()
+            .map(TCSResource::getReference)
+            .collect(Collectors.toSet()),
+        Block.Type.SAME_DIRECTION_ONLY
     );
-    for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
-          result.add(block);
-        }
-      }
-    }
-    return result;
   }
 
   @Nullable
@@ -243,15 +244,6 @@ public class SameDirectionBlockModule
     return entryPermissible;
   }
 
-  private boolean blockResourcesAllocatedByClient(Block block, Scheduler.Client client) {
-    Set<Block> clientBlocks
-        = filterBlocksContainingResources(
-            reservationPool.allocatedResources(client),
-            Block.Type.SAME_DIRECTION_ONLY
-        );
-    return clientBlocks.contains(block);
-  }
-
   /**
    * Manages the clients that are permitted to drive along a block by considering the direction
    * clients request to enter the block.
@@ -262,6 +254,10 @@ public class SameDirectionBlockModule
      * The block to manage permissions for.
      */
     private final Block block;
+    /**
+     * The resource set containing the block's (expanded) members.
+     */
+    private final ResourceSet blockResources;
     /**
      * The clients permitted to drive along the block.
      */
@@ -276,8 +272,13 @@ public class SameDirectionBlockModule
      */
     private final Queue<PermissionRequest> pendingRequests = new ArrayDeque<>();
 
-    BlockPermission(Block block) {
+    BlockPermission(Block block, ResourceSet blockResources) {
       this.block = requireNonNull(block, "block");
+      this.blockResources = requireNonNull(blockResources, "blockResources");
+    }
+
+    public ResourceSet getBlockResources() {
+      return blockResources;
     }
 
     public void permitPendingRequests() {
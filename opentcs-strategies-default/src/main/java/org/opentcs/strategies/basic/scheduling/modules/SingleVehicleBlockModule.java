@@ -6,8 +6,9 @@ import static java.util.Objects.requireNonNull;
 
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Inject;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.opentcs.components.kernel.Scheduler;
@@ -15,8 +16,9 @@ import org.opentcs.components.kernel.services.InternalPlantModelService;
 import org.opentcs.customizations.kernel.GlobalSyncObject;
 import org.opentcs.data.model.Block;
 import org.opentcs.data.model.TCSResource;
-import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.strategies.basic.scheduling.ReservationPool;
+import org.opentcs.strategies.basic.scheduling.ResourceSet;
+import org.opentcs.util.BlockMembershipIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +47,16 @@ public class SingleVehicleBlockModule
    * A global object to be used for synchronization within the kernel.
    */
   private final Object globalSyncObject;
+  /**
+   * An index mapping resources to the {@link Block.Type#SINGLE_VEHICLE_ONLY} blocks they are
+   * members of.
+   */
+  private BlockMembershipIndex blockIndex = BlockMembershipIndex.empty();
+  /**
+   * The resource sets containing the (expanded) members of the
+   * {@link Block.Type#SINGLE_VEHICLE_ONLY} blocks, mapped to the respective blocks.
+   */
+  private final Map<Block, ResourceSet> blockResourceSets = new HashMap<>();
   /**
    * Whether this module is initialized.
    */
@@ -71,6 +83,18 @@ public class SingleVehicleBlockModule
       return;
     }
 
+    Set<Block> blocks = plantModelService.fetchObjects(
+        Block.class,
+        block -> block.getType() == Block.Type.SINGLE_VEHICLE_ONLY
+    );
+    for (Block block : blocks) {
+      blockResourceSets.put(
+          block,
+          reservationPool.toResourceSet(plantModelService.expandResources(block.getMembers()))
+      );
+    }
+    blockIndex = new BlockMembershipIndex(blocks);
+
     initialized = true;
   }
 
@@ -85,6 +109,9 @@ public class SingleVehicleBlockModule
       return;
     }
 
+    blockResourceSets.clear();
+    blockIndex = BlockMembershipIndex.empty();
+
     initialized = false;
   }
 
@@ -105,23 +132,19 @@ public class SingleVehicleBlockModule
     requireNonNull(resources, "resources");
 
     synchronized (globalSyncObject) {
-      Set<Block> blocks = filterBlocksContainingResources(
-          resources,
-          Block.Type.SINGLE_VEHICLE_ONLY
-      );
+      Set<Block> blocks = filterBlocksContainingResources(resources);
 
       if (blocks.isEmpty()) {
         LOG.debug("{}: No blocks to be checked, allocation allowed.", client.getId());
         return true;
       }
 
-      Set<TCSResource<?>> resourcesExpanded = expandResources(resources);
-      resourcesExpanded = filterRelevantResources(resourcesExpanded, blocks);
-
       LOG.debug("{}: Checking resource availability: {}", client.getId(), resources);
-      if (!reservationPool.resourcesAvailableForUser(resourcesExpanded, client)) {
-        LOG.debug("{}: Resources unavailable.", client.getId());
-        return false;
+      for (Block block : blocks) {
+        if (!reservationPool.resourcesAvailableForUser(blockResourceSets.get(block), client)) {
+          LOG.debug("{}: Resources of block {} unavailable.", client.getId(), block.getName());
+          return false;
+        }
       }
 
       LOG.debug("{}: Resources available, allocation allowed.", client.getId());
@@ -151,56 +174,12 @@ public class SingleVehicleBlockModule
   ) {
   }
 
-  private Set<Block> filterBlocksContainingResources(
-      Set<TCSResource<?>> resources,
-      Block.Type type
-  ) {
-    Set<Block> result = new HashSet<>();
-    Set<Block> blocks = plantModelService.fetchObjects(
-        Block.class,
-        block -> block.getType() == type
+  private Set<Block> filterBlocksContainingResources(Set<TCSResource<?>> resources) {
+    return blockIndex.getBlocksContaining(
+        resources.stream()
+            .map(TCSResource::getReference)
+            .collect(Collectors.toSet()),
+        Block.Type.SINGLE_VEHICLE_ONLY
     );
-    for (TCSResource<?> resource : resources) {
-      for (Block block : blocks) {
-        if (block.getMembers().contains(resource.getReference())) {
-          result.add(block);
-        }
-      }
-    }
-    return result;
-  }
-
-  private Set<TCSResource<?>> filterRelevantResources(
-      Set<TCSResource<?>> resources,
-      Set<Block> blocks
-  ) {
-    Set<TCSResourceReference<?>> blockResources = blocks.stream()
-        .flatMap(block -> block.getMembers().stream())
-        .collect(Collectors.toSet());
-
-    return resources.stream()
-        .filter(resource -> blockResources.contains(resource.getReference()))
-        .collect(Collectors.toSet());
-  }
-
-  /**
-   * Returns the given set of resources after expansion (by resolution of blocks, for instance) by
-   * the kernel.
-   *
-   * @param resources The set of resources to be expanded.
-   * @return The given set of resources after expansion (by resolution of
-   * blocks, for instance) by the kernel.
-   */
-  private Set<TCSResource<?>> expandResources(Set<TCSResource<?>> resources) {
-    requireNonNull(resources, "resources");
-    // Build a set of references
-    Set<TCSResourceReference<?>> refs = resources.stream()
-        .map((resource) -> resource.getReference())
-        .collect(Collectors.toSet());
-    // Let the kernel expand the resources for us.
-    Set<TCSResource<?>> result = plantModelService.expandResources(refs);
-    LOG.debug("Set {} expanded to {}", resources, result);
-    return result;
   }
-
 }
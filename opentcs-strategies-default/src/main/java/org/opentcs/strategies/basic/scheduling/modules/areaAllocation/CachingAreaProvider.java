@@ -12,6 +12,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -94,25 +96,23 @@ public class CachingAreaProvider
         Point.class,
         point -> !point.getVehicleEnvelopes().isEmpty()
     );
-    for (Point point : points) {
-      for (Map.Entry<String, Envelope> entry : point.getVehicleEnvelopes().entrySet()) {
-        String envelopeKey = entry.getKey();
-        computeArea(envelopeKey, point)
-            .ifPresent(geometry -> cache.put(new CacheKey(envelopeKey, point), geometry));
-      }
-    }
-
     Set<Path> paths = objectService.fetchObjects(
         Path.class,
         path -> !path.getVehicleEnvelopes().isEmpty()
     );
-    for (Path path : paths) {
-      for (Map.Entry<String, Envelope> entry : path.getVehicleEnvelopes().entrySet()) {
-        String envelopeKey = entry.getKey();
-        computeArea(envelopeKey, path)
-            .ifPresent(geometry -> cache.put(new CacheKey(envelopeKey, path), geometry));
-      }
-    }
+
+    // The areas for the individual resources do not depend on each other, so they are computed in
+    // parallel.
+    Map<CacheKey, Geometry> areas = new ConcurrentHashMap<>();
+    Stream.<TCSResource<?>>concat(points.stream(), paths.stream())
+        .parallel()
+        .forEach(resource -> {
+          for (String envelopeKey : extractVehicleEnvelopes(resource).keySet()) {
+            computeArea(envelopeKey, resource)
+                .ifPresent(geometry -> areas.put(new CacheKey(envelopeKey, resource), geometry));
+          }
+        });
+    cache.putAll(areas);
   }
 
   private Optional<Geometry> computeArea(String envelopeKey, TCSResource<?> resource) {
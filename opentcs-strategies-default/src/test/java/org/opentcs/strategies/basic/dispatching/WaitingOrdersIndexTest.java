@@ -0,0 +1,157 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.dispatching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.order.OrderSequence;
+import org.opentcs.data.order.TransportOrder;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Tests for {@link WaitingOrdersIndex}.
+ */
+class WaitingOrdersIndexTest {
+
+  private TCSObjectService objectService;
+  private WaitingOrdersIndex waitingOrdersIndex;
+
+  @BeforeEach
+  void setUp() {
+    objectService = mock(TCSObjectService.class);
+    waitingOrdersIndex = new WaitingOrdersIndex(objectService, mock(EventSource.class));
+  }
+
+  @Test
+  void checkAllWaitingOrdersOnInitialization() {
+    TransportOrder order1 = createOrder("order-1").withState(TransportOrder.State.ACTIVE);
+    TransportOrder order2 = createOrder("order-2").withState(TransportOrder.State.ACTIVE);
+    when(objectService.fetchObjects(eq(TransportOrder.class), any()))
+        .thenReturn(Set.of(order1, order2));
+
+    waitingOrdersIndex.initialize();
+
+    assertThat(waitingOrdersIndex.pollOrdersToCheck()).containsExactly("order-1", "order-2");
+    assertThat(waitingOrdersIndex.pollOrdersToCheck()).isEmpty();
+  }
+
+  @Test
+  void checkDependentOrdersWhenDependencyFinishes() {
+    waitingOrdersIndex.initialize();
+    TransportOrder dependency = createOrder("dependency")
+        .withState(TransportOrder.State.BEING_PROCESSED);
+    TransportOrder dependent = createOrder("dependent")
+        .withDependencies(Set.of(dependency.getReference()));
+    TransportOrder unrelated = createOrder("unrelated");
+    activate(dependent);
+    activate(unrelated);
+
+    waitingOrdersIndex.onEvent(
+        new TCSObjectEvent(
+            dependency.withState(TransportOrder.State.FINISHED),
+            dependency,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+
+    assertThat(waitingOrdersIndex.pollOrdersToCheck()).containsExactly("dependent");
+  }
+
+  @Test
+  void checkDependentOrdersWhenDependencyIsRemoved() {
+    waitingOrdersIndex.initialize();
+    TransportOrder dependency = createOrder("dependency")
+        .withState(TransportOrder.State.FINISHED);
+    TransportOrder dependent = createOrder("dependent")
+        .withDependencies(Set.of(dependency.getReference()));
+    activate(dependent);
+
+    waitingOrdersIndex.onEvent(
+        new TCSObjectEvent(null, dependency, TCSObjectEvent.Type.OBJECT_REMOVED)
+    );
+
+    assertThat(waitingOrdersIndex.pollOrdersToCheck()).containsExactly("dependent");
+  }
+
+  @Test
+  void checkSequenceOrdersWhenFinishedIndexChanges() {
+    waitingOrdersIndex.initialize();
+    OrderSequence sequence = new OrderSequence("sequence");
+    TransportOrder order = createOrder("order")
+        .withWrappingSequence(sequence.getReference());
+    sequence = sequence.withOrder(order.getReference());
+    activate(order);
+
+    waitingOrdersIndex.onEvent(
+        new TCSObjectEvent(
+            sequence.withComplete(true),
+            sequence,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+    assertThat(waitingOrdersIndex.pollOrdersToCheck()).isEmpty();
+
+    waitingOrdersIndex.onEvent(
+        new TCSObjectEvent(
+            sequence.withFinishedIndex(0),
+            sequence,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+    assertThat(waitingOrdersIndex.pollOrdersToCheck()).containsExactly("order");
+  }
+
+  @Test
+  void forgetOrdersNoLongerWaiting() {
+    waitingOrdersIndex.initialize();
+    TransportOrder dependency = createOrder("dependency")
+        .withState(TransportOrder.State.BEING_PROCESSED);
+    TransportOrder dependent = createOrder("dependent")
+        .withDependencies(Set.of(dependency.getReference()))
+        .withState(TransportOrder.State.ACTIVE);
+    waitingOrdersIndex.onEvent(
+        new TCSObjectEvent(dependent, null, TCSObjectEvent.Type.OBJECT_CREATED)
+    );
+
+    waitingOrdersIndex.onEvent(
+        new TCSObjectEvent(
+            dependent.withState(TransportOrder.State.WITHDRAWN),
+            dependent,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+    waitingOrdersIndex.onEvent(
+        new TCSObjectEvent(
+            dependency.withState(TransportOrder.State.FINISHED),
+            dependency,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+
+    assertThat(waitingOrdersIndex.pollOrdersToCheck()).isEmpty();
+  }
+
+  private TransportOrder createOrder(String name) {
+    return new TransportOrder(name, List.of());
+  }
+
+  private void activate(TransportOrder order) {
+    waitingOrdersIndex.onEvent(
+        new TCSObjectEvent(
+            order.withState(TransportOrder.State.ACTIVE),
+            order,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+  }
+}
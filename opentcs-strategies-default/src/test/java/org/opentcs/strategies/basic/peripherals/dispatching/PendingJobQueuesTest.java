@@ -0,0 +1,130 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.peripherals.dispatching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.TCSObjectEvent;
+import org.opentcs.data.model.Location;
+import org.opentcs.data.model.LocationType;
+import org.opentcs.data.peripherals.PeripheralJob;
+import org.opentcs.data.peripherals.PeripheralOperation;
+import org.opentcs.util.event.EventSource;
+
+/**
+ * Tests for {@link PendingJobQueues}.
+ */
+class PendingJobQueuesTest {
+
+  private TCSObjectService objectService;
+  private Location location1;
+  private Location location2;
+  private PendingJobQueues pendingJobQueues;
+
+  @BeforeEach
+  void setUp() {
+    objectService = mock(TCSObjectService.class);
+    LocationType locationType = new LocationType("some-location-type");
+    location1 = new Location("location-1", locationType.getReference());
+    location2 = new Location("location-2", locationType.getReference());
+    pendingJobQueues = new PendingJobQueues(objectService, mock(EventSource.class));
+  }
+
+  @Test
+  void seedPendingJobsOnInitialization() {
+    PeripheralJob job = createJob("job-1", location1, Instant.ofEpochSecond(10));
+    when(objectService.fetchObjects(eq(PeripheralJob.class), any())).thenReturn(Set.of(job));
+
+    pendingJobQueues.initialize();
+
+    assertThat(pendingJobQueues.getPendingJobs(location1.getReference())).containsExactly(job);
+    assertThat(pendingJobQueues.getPendingJobs(location2.getReference())).isEmpty();
+  }
+
+  @Test
+  void orderPendingJobsByAge() {
+    pendingJobQueues.initialize();
+    PeripheralJob youngJob = createJob("job-1", location1, Instant.ofEpochSecond(20));
+    PeripheralJob oldJob = createJob("job-2", location1, Instant.ofEpochSecond(10));
+    PeripheralJob otherLocationJob = createJob("job-3", location2, Instant.ofEpochSecond(5));
+
+    pendingJobQueues.onEvent(createdEvent(youngJob));
+    pendingJobQueues.onEvent(createdEvent(oldJob));
+    pendingJobQueues.onEvent(createdEvent(otherLocationJob));
+
+    assertThat(pendingJobQueues.getPendingJobs(location1.getReference()))
+        .containsExactly(oldJob, youngJob);
+    assertThat(pendingJobQueues.getPendingJobs(location2.getReference()))
+        .containsExactly(otherLocationJob);
+    assertThat(pendingJobQueues.getPendingJobCount()).isEqualTo(3);
+  }
+
+  @Test
+  void peekOldestPendingJob() {
+    pendingJobQueues.initialize();
+    PeripheralJob youngJob = createJob("job-1", location1, Instant.ofEpochSecond(20));
+    PeripheralJob oldJob = createJob("job-2", location1, Instant.ofEpochSecond(10));
+
+    pendingJobQueues.onEvent(createdEvent(youngJob));
+    pendingJobQueues.onEvent(createdEvent(oldJob));
+
+    assertThat(pendingJobQueues.peekNext(location1.getReference())).contains(oldJob);
+    assertThat(pendingJobQueues.peekNext(location2.getReference())).isEmpty();
+  }
+
+  @Test
+  void removeJobsNoLongerToBeProcessed() {
+    pendingJobQueues.initialize();
+    PeripheralJob job = createJob("job-1", location1, Instant.ofEpochSecond(10));
+    pendingJobQueues.onEvent(createdEvent(job));
+
+    pendingJobQueues.onEvent(
+        new TCSObjectEvent(
+            job.withState(PeripheralJob.State.BEING_PROCESSED),
+            job,
+            TCSObjectEvent.Type.OBJECT_MODIFIED
+        )
+    );
+
+    assertThat(pendingJobQueues.getPendingJobs(location1.getReference())).isEmpty();
+    assertThat(pendingJobQueues.getPendingJobCount()).isZero();
+  }
+
+  @Test
+  void removeJobsRemovedFromPool() {
+    pendingJobQueues.initialize();
+    PeripheralJob job = createJob("job-1", location1, Instant.ofEpochSecond(10));
+    pendingJobQueues.onEvent(createdEvent(job));
+
+    pendingJobQueues.onEvent(new TCSObjectEvent(null, job, TCSObjectEvent.Type.OBJECT_REMOVED));
+
+    assertThat(pendingJobQueues.getPendingJobs(location1.getReference())).isEmpty();
+  }
+
+  private PeripheralJob createJob(String name, Location location, Instant creationTime) {
+    return new PeripheralJob(
+        name,
+        "some-token",
+        new PeripheralOperation(
+            location.getReference(),
+            "some-operation",
+            PeripheralOperation.ExecutionTrigger.IMMEDIATE,
+            false
+        )
+    )
+        .withCreationTime(creationTime);
+  }
+
+  private TCSObjectEvent createdEvent(PeripheralJob job) {
+    return new TCSObjectEvent(job, null, TCSObjectEvent.Type.OBJECT_CREATED);
+  }
+}
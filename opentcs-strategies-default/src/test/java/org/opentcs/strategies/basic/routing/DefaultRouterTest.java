@@ -8,6 +8,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opentcs.strategies.basic.routing.PointRouter.INFINITE_COSTS;
@@ -53,7 +54,10 @@ class DefaultRouterTest {
         objectService,
         pointRouterProvider,
         routingGroupMapper,
-        configuration
+        configuration,
+        mock(),
+        mock(),
+        mock()
     );
 
     pointRouter = mock();
@@ -174,4 +178,34 @@ class DefaultRouterTest {
     assertThat(orderRoutes.stream().findFirst().get().get(0).getCosts(), is(11L));
     assertThat(orderRoutes.stream().findFirst().get().get(1).getCosts(), is(13L));
   }
+
+  @Test
+  void provideAlternativeRouteSequencesCappedAtComputationLimit() {
+    Vehicle vehicle = new Vehicle("V1");
+    Point pointA = new Point("A");
+
+    when(configuration.routeComputationLimit()).thenReturn(3);
+    when(pointRouterProvider.getPointRouterForVehicle(vehicle, order)).thenReturn(pointRouter);
+    when(pointRouter.getRouteSteps(any(Point.class), any(Point.class), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              Point dest = invocation.getArgument(1);
+              return List.of(
+                  List.of(new Route.Step(null, null, dest, Vehicle.Orientation.UNDEFINED, 0, 10)),
+                  List.of(new Route.Step(null, null, dest, Vehicle.Orientation.UNDEFINED, 0, 20))
+              );
+            }
+        );
+
+    List<List<Route>> orderRoutes = List.copyOf(defaultRouter.getRoutes(vehicle, pointA, order, 5));
+
+    assertThat(orderRoutes, hasSize(3));
+    assertThat(totalCosts(orderRoutes.get(0)), is(20L));
+    assertThat(totalCosts(orderRoutes.get(1)), is(30L));
+    assertThat(totalCosts(orderRoutes.get(2)), is(30L));
+  }
+
+  private long totalCosts(List<Route> routes) {
+    return routes.stream().mapToLong(Route::getCosts).sum();
+  }
 }
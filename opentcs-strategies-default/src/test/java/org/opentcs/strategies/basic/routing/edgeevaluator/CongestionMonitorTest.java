@@ -0,0 +1,115 @@
+// SPDX-FileCopyrightText: The openTCS Authors
+// SPDX-License-Identifier: MIT
+package org.opentcs.strategies.basic.routing.edgeevaluator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentcs.components.kernel.services.TCSObjectService;
+import org.opentcs.data.model.Path;
+import org.opentcs.data.model.Point;
+import org.opentcs.data.model.TCSResource;
+import org.opentcs.strategies.basic.routing.jgrapht.ShortestPathConfiguration;
+import org.opentcs.strategies.basic.scheduling.ReservationPool;
+
+/**
+ * Tests for {@link CongestionMonitor}.
+ */
+class CongestionMonitorTest {
+
+  private ReservationPool reservationPool;
+  private ShortestPathConfiguration shortestPathConfiguration;
+  private Path pathAB;
+  private Path pathBC;
+  private CongestionMonitor congestionMonitor;
+
+  @BeforeEach
+  void setUp() {
+    Point pointA = new Point("A");
+    Point pointB = new Point("B");
+    Point pointC = new Point("C");
+    pathAB = new Path("A --- B", pointA.getReference(), pointB.getReference());
+    pathBC = new Path("B --- C", pointB.getReference(), pointC.getReference());
+
+    TCSObjectService objectService = mock();
+    when(objectService.fetchObject(eq(Path.class), eq(pathAB.getName()))).thenReturn(pathAB);
+    when(objectService.fetchObject(eq(Path.class), eq(pathBC.getName()))).thenReturn(pathBC);
+
+    reservationPool = mock();
+    when(reservationPool.getAllocatedResources()).thenReturn(Set.of());
+    when(reservationPool.fetchAndResetWaitTimes()).thenReturn(Map.of());
+
+    shortestPathConfiguration = mock();
+    CongestionConfiguration configuration = mock();
+    when(configuration.smoothingFactor()).thenReturn(0.5);
+    when(configuration.occupancyCosts()).thenReturn(1000.0);
+    when(configuration.waitTimeCostFactor()).thenReturn(1.0);
+    when(configuration.minimumCostChange()).thenReturn(100.0);
+
+    congestionMonitor = new CongestionMonitor(
+        objectService,
+        reservationPool,
+        new Object(),
+        shortestPathConfiguration,
+        configuration
+    );
+  }
+
+  @Test
+  void enabledOnlyIfEvaluatorIsConfigured() {
+    when(shortestPathConfiguration.edgeEvaluators()).thenReturn(List.of("DISTANCE"));
+    assertThat(congestionMonitor.isEnabled()).isFalse();
+
+    when(shortestPathConfiguration.edgeEvaluators())
+        .thenReturn(List.of("DISTANCE", EdgeEvaluatorCongestion.CONFIGURATION_KEY));
+    assertThat(congestionMonitor.isEnabled()).isTrue();
+  }
+
+  @Test
+  void derivePathCostsFromOccupancyAndWaitTimes() {
+    when(reservationPool.getAllocatedResources())
+        .thenReturn(Set.<TCSResource<?>>of(pathAB, new Point("A")));
+    when(reservationPool.fetchAndResetWaitTimes())
+        .thenReturn(Map.<TCSResource<?>, Long>of(pathBC, 400L));
+
+    assertThat(congestionMonitor.updateCosts()).containsExactlyInAnyOrder(pathAB, pathBC);
+    // Occupancy average is 0.5 -> costs are 0.5 * 1000.
+    assertThat(congestionMonitor.getCosts(pathAB.getName())).isEqualTo(500.0);
+    // Wait time average is 200 ms -> costs are 200 * 1.0.
+    assertThat(congestionMonitor.getCosts(pathBC.getName())).isEqualTo(200.0);
+  }
+
+  @Test
+  void reportOnlySignificantlyChangedPaths() {
+    when(reservationPool.getAllocatedResources()).thenReturn(Set.<TCSResource<?>>of(pathAB));
+    when(reservationPool.fetchAndResetWaitTimes())
+        .thenReturn(Map.<TCSResource<?>, Long>of(pathBC, 400L));
+    congestionMonitor.updateCosts();
+
+    when(reservationPool.getAllocatedResources()).thenReturn(Set.of());
+    when(reservationPool.fetchAndResetWaitTimes())
+        .thenReturn(Map.<TCSResource<?>, Long>of(pathBC, 300L));
+
+    // Occupancy average for A --- B drops to 0.25, wait time average for B --- C rises to 250 ms.
+    assertThat(congestionMonitor.updateCosts()).containsExactly(pathAB);
+    assertThat(congestionMonitor.getCosts(pathAB.getName())).isEqualTo(250.0);
+    assertThat(congestionMonitor.getCosts(pathBC.getName())).isEqualTo(200.0);
+  }
+
+  @Test
+  void resetCostsOnClear() {
+    when(reservationPool.getAllocatedResources()).thenReturn(Set.<TCSResource<?>>of(pathAB));
+    congestionMonitor.updateCosts();
+
+    congestionMonitor.clear();
+
+    assertThat(congestionMonitor.getCosts(pathAB.getName())).isZero();
+  }
+}
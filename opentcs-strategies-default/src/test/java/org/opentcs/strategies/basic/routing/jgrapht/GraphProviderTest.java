@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Set;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.jupiter.api.BeforeEach;
@@ -94,4 +95,25 @@ class GraphProviderTest {
     graphProvider.getDerivedGraphResult(vehicle, Set.of(), Set.of());
     verify(graphMutator, times(2)).deriveGraph(anySet(), anySet(), any(GraphResult.class));
   }
+
+  @Test
+  void computeGraphOncePerRoutingGroup() {
+    Vehicle vehicle1 = new Vehicle("vehicle-1");
+    Vehicle vehicle2 = new Vehicle("vehicle-2");
+    Vehicle vehicle3 = new Vehicle("vehicle-3");
+    when(groupMapper.apply(vehicle1)).thenReturn("group-1");
+    when(groupMapper.apply(vehicle2)).thenReturn("group-1");
+    when(groupMapper.apply(vehicle3)).thenReturn("group-2");
+    when(defaultModelGraphMapper.translateModel(anyCollection(), anyCollection(), any()))
+        .thenReturn(new DirectedWeightedMultigraph<>(Edge.class));
+
+    graphProvider.computeGraphResults(List.of(vehicle1, vehicle2, vehicle3));
+    verify(defaultModelGraphMapper, times(2))
+        .translateModel(anyCollection(), anyCollection(), any());
+
+    graphProvider.getGraphResult(vehicle2);
+    graphProvider.getGraphResult(vehicle3);
+    graphProvider.computeGraphResults(List.of(vehicle1, vehicle2, vehicle3));
+    verifyNoMoreInteractions(defaultModelGraphMapper);
+  }
 }
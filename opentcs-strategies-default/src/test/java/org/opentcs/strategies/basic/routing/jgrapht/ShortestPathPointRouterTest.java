@@ -5,7 +5,9 @@ package org.opentcs.strategies.basic.routing.jgrapht;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -15,6 +17,7 @@ import java.util.HashSet;
 import java.util.List;
 import org.jgrapht.Graph;
 import org.jgrapht.alg.shortestpath.DijkstraShortestPath;
+import org.jgrapht.alg.shortestpath.YenKShortestPath;
 import org.jgrapht.graph.DirectedWeightedMultigraph;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -63,6 +66,7 @@ class ShortestPathPointRouterTest {
 
     pointRouter = new ShortestPathPointRouter(
         new DijkstraShortestPath<>(graph),
+        new YenKShortestPath<>(graph),
         new HashSet<>(Arrays.asList(pointA, pointB, pointC)),
         graph.vertexSet()
     );
@@ -108,4 +112,63 @@ class ShortestPathPointRouterTest {
     assertThat(steps, is(not(empty())));
   }
 
+  @Test
+  void returnNoRoutesIfNoRouteExists() {
+    assertThat(pointRouter.getRouteSteps(pointA, pointB, 3), is(empty()));
+  }
+
+  @Test
+  void returnOnlyCheapestRouteIfSingleRouteRequested() {
+    Path pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    Path pathBC = new Path("B-->C", pointB.getReference(), pointC.getReference());
+    ShortestPathPointRouter router = createRouterWithAlternativeRoute(pathAB, pathBC);
+
+    List<List<Step>> routes = router.getRouteSteps(pointA, pointC, 1);
+    assertThat(routes, hasSize(1));
+    assertThat(routes.get(0).stream().map(Step::getPath).toList(), contains(pathAC));
+  }
+
+  @Test
+  void returnAlternativeRoutesOrderedByCosts() {
+    Path pathAB = new Path("A-->B", pointA.getReference(), pointB.getReference());
+    Path pathBC = new Path("B-->C", pointB.getReference(), pointC.getReference());
+    ShortestPathPointRouter router = createRouterWithAlternativeRoute(pathAB, pathBC);
+
+    List<List<Step>> routes = router.getRouteSteps(pointA, pointC, 5);
+    assertThat(routes, hasSize(2));
+    assertThat(routes.get(0).stream().map(Step::getPath).toList(), contains(pathAC));
+    assertThat(routes.get(1).stream().map(Step::getPath).toList(), contains(pathAB, pathBC));
+  }
+
+  /**
+   * Creates a router for a graph in which C can be reached from A either directly or via B, with
+   * the direct route being the cheaper one.
+   */
+  private ShortestPathPointRouter createRouterWithAlternativeRoute(Path pathAB, Path pathBC) {
+    Vertex vertexA = new Vertex(pointA.getReference());
+    Vertex vertexB = new Vertex(pointB.getReference());
+    Vertex vertexC = new Vertex(pointC.getReference());
+    Edge edgeAB = new Edge(pathAB, false);
+    Edge edgeBC = new Edge(pathBC, false);
+
+    Graph<Vertex, Edge> graph = new DirectedWeightedMultigraph<>(Edge.class);
+
+    graph.addVertex(vertexA);
+    graph.addVertex(vertexB);
+    graph.addVertex(vertexC);
+
+    graph.addEdge(vertexA, vertexC, edgeAC);
+    graph.setEdgeWeight(edgeAC, 1234);
+    graph.addEdge(vertexA, vertexB, edgeAB);
+    graph.setEdgeWeight(edgeAB, 1000);
+    graph.addEdge(vertexB, vertexC, edgeBC);
+    graph.setEdgeWeight(edgeBC, 1000);
+
+    return new ShortestPathPointRouter(
+        new DijkstraShortestPath<>(graph),
+        new YenKShortestPath<>(graph),
+        new HashSet<>(Arrays.asList(pointA, pointB, pointC)),
+        graph.vertexSet()
+    );
+  }
 }
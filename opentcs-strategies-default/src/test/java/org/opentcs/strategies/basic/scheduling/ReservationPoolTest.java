@@ -9,10 +9,12 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsMapWithSize.anEmptyMap;
 
 import jakarta.annotation.Nonnull;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -123,6 +125,105 @@ class ReservationPoolTest {
     assertThat(reservationPool.getAllocations(), is(anEmptyMap()));
   }
 
+  @Test
+  void reflectResourcesAllocatedByAnyClient() {
+    reservationPool.getReservationEntry(new Point("point1")).allocate(client);
+    reservationPool.getReservationEntry(new Point("point2"));
+
+    assertThat(
+        reservationPool.getAllocatedResources(),
+        is(Set.<TCSResource<?>>of(new Point("point1")))
+    );
+  }
+
+  @Test
+  void considerResourcesAllocatedByOtherClientsUnavailable() {
+    Scheduler.Client otherClient = new TestClient();
+    reservationPool.getReservationEntry(new Point("point1")).allocate(otherClient);
+
+    assertThat(
+        reservationPool.resourcesAvailableForUser(Set.of(new Point("point1")), client),
+        is(false)
+    );
+    assertThat(
+        reservationPool.resourcesAvailableForUser(Set.of(new Point("point1")), otherClient),
+        is(true)
+    );
+    assertThat(
+        reservationPool.resourcesAvailableForUser(Set.of(new Point("point2")), client),
+        is(true)
+    );
+
+    reservationPool.getReservationEntry(new Point("point1")).free();
+
+    assertThat(
+        reservationPool.resourcesAvailableForUser(Set.of(new Point("point1")), client),
+        is(true)
+    );
+  }
+
+  @Test
+  void assignDenseIdsToRegisteredResources() {
+    reservationPool.registerResources(
+        List.of(new Point("point1"), new Point("point2"), new Point("point3"))
+    );
+
+    assertThat(reservationPool.getReservationEntry(new Point("point1")).getResourceId(), is(0));
+    assertThat(reservationPool.getReservationEntry(new Point("point3")).getResourceId(), is(2));
+    assertThat(reservationPool.getReservationEntry(new Point("point4")).getResourceId(), is(3));
+    assertThat(
+        reservationPool.toResourceSet(Set.of(new Point("point2"), new Point("point3"))).size(),
+        is(2)
+    );
+  }
+
+  @Test
+  void createResourceSetOncePerClaimedResources() {
+    Set<TCSResource<?>> resources = Set.of(new Point("point1"), new Point("point2"));
+    reservationPool.setClaim(client, List.of(resources, Set.of(new Point("point3"))));
+
+    ResourceSet resourceSet = reservationPool.getNextClaimedResourceSet(client);
+
+    assertThat(resourceSet, is(reservationPool.toResourceSet(resources)));
+    assertThat(reservationPool.getNextClaimedResourceSet(client), is(sameInstance(resourceSet)));
+
+    reservationPool.unclaim(client, resources);
+
+    assertThat(
+        reservationPool.getNextClaimedResourceSet(client),
+        is(reservationPool.toResourceSet(Set.of(new Point("point3"))))
+    );
+  }
+
+  @Test
+  void allocateResourcesInResourceSet() {
+    Scheduler.Client otherClient = new TestClient();
+    ResourceSet resourceSet = reservationPool.toResourceSet(
+        Set.of(new Point("point1"), new Point("point2"))
+    );
+
+    reservationPool.allocate(resourceSet, client);
+
+    assertThat(reservationPool.allocatedResources(client), hasSize(2));
+    assertThat(reservationPool.anyAllocatedBy(resourceSet, client), is(true));
+    assertThat(reservationPool.anyAllocatedBy(resourceSet, otherClient), is(false));
+    assertThat(reservationPool.resourcesAvailableForUser(resourceSet, otherClient), is(false));
+  }
+
+  @Test
+  void provideLongestWaitTimesUntilFetched() {
+    reservationPool.recordWaitTime(Set.of(new Point("point1"), new Point("point2")), 100);
+    reservationPool.recordWaitTime(Set.of(new Point("point1")), 300);
+    reservationPool.recordWaitTime(Set.of(new Point("point1")), 200);
+
+    Map<TCSResource<?>, Long> waitTimes = reservationPool.fetchAndResetWaitTimes();
+
+    assertThat(waitTimes, is(aMapWithSize(2)));
+    assertThat(waitTimes.get(new Point("point1")), is(300L));
+    assertThat(waitTimes.get(new Point("point2")), is(100L));
+    assertThat(reservationPool.fetchAndResetWaitTimes(), is(anEmptyMap()));
+  }
+
   /**
    * A dummy client for cases in which we need to provide a client but do not have a real one.
    */
@@ -25,6 +25,7 @@ import org.opentcs.data.model.TCSResource;
 import org.opentcs.data.model.TCSResourceReference;
 import org.opentcs.data.model.Vehicle;
 import org.opentcs.strategies.basic.scheduling.ReservationPool;
+import org.opentcs.strategies.basic.scheduling.ResourceSet;
 
 /**
  * Unit tests for {@link SingleVehicleBlockModule}.
@@ -53,6 +54,7 @@ class SingleVehicleBlockModuleTest {
     ModelData model = new ModelData();
 
     when(plantModelService.fetchObjects(eq(Block.class), any())).thenReturn(new HashSet<>());
+    module.initialize();
     assertTrue(module.mayAllocate(client, model.resourcesToAllocate));
   }
 
@@ -64,7 +66,9 @@ class SingleVehicleBlockModuleTest {
     when(plantModelService.fetchObjects(eq(Block.class), any()))
         .thenReturn(new HashSet<>(Arrays.asList(model.getBlock())));
     when(plantModelService.expandResources(any())).thenReturn(model.getBlockResources());
-    when(reservationPool.resourcesAvailableForUser(model.getBlockResources(), client))
+    when(reservationPool.toResourceSet(model.getBlockResources())).thenReturn(ResourceSet.EMPTY);
+    module.initialize();
+    when(reservationPool.resourcesAvailableForUser(ResourceSet.EMPTY, client))
         .thenReturn(true);
     assertTrue(module.mayAllocate(client, model.getResourcesToAllocate()));
   }
@@ -77,7 +81,9 @@ class SingleVehicleBlockModuleTest {
     when(plantModelService.fetchObjects(eq(Block.class), any()))
         .thenReturn(new HashSet<>(Arrays.asList(model.getBlock())));
     when(plantModelService.expandResources(any())).thenReturn(model.getBlockResources());
-    when(reservationPool.resourcesAvailableForUser(model.getBlockResources(), client))
+    when(reservationPool.toResourceSet(model.getBlockResources())).thenReturn(ResourceSet.EMPTY);
+    module.initialize();
+    when(reservationPool.resourcesAvailableForUser(ResourceSet.EMPTY, client))
         .thenReturn(false);
     assertFalse(module.mayAllocate(client, model.getResourcesToAllocate()));
   }